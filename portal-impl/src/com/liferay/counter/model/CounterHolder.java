@@ -24,6 +24,8 @@ public class CounterHolder {
 	public CounterHolder(long initValue, long rangeMax) {
 		_counter = new AtomicLong(initValue);
 		_rangeMax = rangeMax;
+
+		_prefetchValue = rangeMax - ((rangeMax - initValue) / 4);
 	}
 
 	public long addAndGet(long delta) {
@@ -34,11 +36,16 @@ public class CounterHolder {
 		return _counter.get();
 	}
 
+	public long getPrefetchValue() {
+		return _prefetchValue;
+	}
+
 	public long getRangeMax() {
 		return _rangeMax;
 	}
 
 	private final AtomicLong _counter;
+	private final long _prefetchValue;
 	private final long _rangeMax;
 
 }
\ No newline at end of file
@@ -16,6 +16,9 @@ package com.liferay.counter.model;
 
 import com.liferay.portal.kernel.concurrent.CompeteLatch;
 
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
  * @author Harry Mark
  * @author Shuyang Zhou
@@ -30,6 +33,9 @@ public class CounterRegister {
 		_rangeSize = rangeSize;
 		_counterHolder = counterHolder;
 		_competeLatch = new CompeteLatch();
+
+		_initialRangeSize = rangeSize;
+		_lastRangeTime = System.currentTimeMillis();
 	}
 
 	public CounterRegister(
@@ -46,6 +52,14 @@ public class CounterRegister {
 		return _counterHolder;
 	}
 
+	public int getInitialRangeSize() {
+		return _initialRangeSize;
+	}
+
+	public long getLastRangeTime() {
+		return _lastRangeTime;
+	}
+
 	public String getName() {
 		return _name;
 	}
@@ -54,17 +68,47 @@ public class CounterRegister {
 		return _rangeSize;
 	}
 
+	public boolean isPrefetchStarted() {
+		if (_prefetchFutureReference.get() != null) {
+			return true;
+		}
+		else {
+			return false;
+		}
+	}
+
 	public void setCounterHolder(CounterHolder holder) {
 		_counterHolder = holder;
 	}
 
+	public void setLastRangeTime(long lastRangeTime) {
+		_lastRangeTime = lastRangeTime;
+	}
+
 	public void setName(String name) {
 		_name = name;
 	}
 
+	public void setRangeSize(int rangeSize) {
+		_rangeSize = rangeSize;
+	}
+
+	public boolean startPrefetch(Future<CounterHolder> prefetchFuture) {
+		return _prefetchFutureReference.compareAndSet(null, prefetchFuture);
+	}
+
+	public Future<CounterHolder> takePrefetchFuture() {
+		return _prefetchFutureReference.getAndSet(null);
+	}
+
 	private final CompeteLatch _competeLatch;
 	private volatile CounterHolder _counterHolder;
+	private final int _initialRangeSize;
+	private volatile long _lastRangeTime;
 	private String _name;
-	private final int _rangeSize;
+	private final AtomicReference<Future<CounterHolder>>
+		_prefetchFutureReference =
+			new AtomicReference<Future<CounterHolder>>();
+	private volatile int _rangeSize;
 
 }
\ No newline at end of file
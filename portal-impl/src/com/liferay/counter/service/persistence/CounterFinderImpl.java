@@ -26,6 +26,9 @@ import com.liferay.portal.kernel.dao.orm.LockMode;
 import com.liferay.portal.kernel.dao.orm.ObjectNotFoundException;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.PropsKeys;
@@ -42,7 +45,18 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.interceptor.RuleBasedTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttribute;
 
 /**
  * @author Brian Wing Shun Chan
@@ -186,6 +200,12 @@ public class CounterFinderImpl
 		_counterRegisterMap.put(name, counterRegister);
 	}
 
+	public void setPlatformTransactionManager(
+		PlatformTransactionManager platformTransactionManager) {
+
+		_platformTransactionManager = platformTransactionManager;
+	}
+
 	protected CounterRegister createCounterRegister(String name)
 		throws SystemException {
 
@@ -314,6 +334,12 @@ public class CounterFinderImpl
 		long newValue = counterHolder.addAndGet(size);
 
 		if (newValue <= counterHolder.getRangeMax()) {
+			if (PropsValues.COUNTER_PREFETCH_ENABLED &&
+				(newValue >= counterHolder.getPrefetchValue())) {
+
+				_prefetchIncrement(counterRegister, counterHolder);
+			}
+
 			return newValue;
 		}
 
@@ -347,9 +373,14 @@ public class CounterFinderImpl
 			newValue = counterHolder.addAndGet(size);
 
 			if (newValue > counterHolder.getRangeMax()) {
-				CounterHolder newCounterHolder = _obtainIncrement(
-					counterRegister.getName(), counterRegister.getRangeSize(),
-					0);
+				CounterHolder newCounterHolder = _takePrefetchedIncrement(
+					counterRegister);
+
+				if (newCounterHolder == null) {
+					newCounterHolder = _obtainIncrement(
+						counterRegister.getName(),
+						_getNextRangeSize(counterRegister), 0);
+				}
 
 				newValue = newCounterHolder.addAndGet(size);
 
@@ -369,6 +400,38 @@ public class CounterFinderImpl
 		return newValue;
 	}
 
+	private int _getNextRangeSize(CounterRegister counterRegister) {
+		int rangeSize = counterRegister.getRangeSize();
+
+		int initialRangeSize = counterRegister.getInitialRangeSize();
+
+		long now = System.currentTimeMillis();
+
+		if ((initialRangeSize > 1) &&
+			(PropsValues.COUNTER_ADAPTIVE_INCREMENT_MAX_SIZE >
+				initialRangeSize)) {
+
+			long elapsedTime = now - counterRegister.getLastRangeTime();
+
+			if (elapsedTime < PropsValues.COUNTER_ADAPTIVE_INCREMENT_INTERVAL) {
+				rangeSize = Math.min(
+					rangeSize * 2,
+					PropsValues.COUNTER_ADAPTIVE_INCREMENT_MAX_SIZE);
+			}
+			else if (elapsedTime >
+						(PropsValues.COUNTER_ADAPTIVE_INCREMENT_INTERVAL * 10)) {
+
+				rangeSize = Math.max(rangeSize / 2, initialRangeSize);
+			}
+
+			counterRegister.setRangeSize(rangeSize);
+		}
+
+		counterRegister.setLastRangeTime(now);
+
+		return rangeSize;
+	}
+
 	private CounterHolder _obtainIncrement(
 			String counterName, long range, long size)
 		throws SystemException {
@@ -407,6 +470,101 @@ public class CounterFinderImpl
 		}
 	}
 
+	private CounterHolder _obtainPrefetchIncrement(
+			String counterName, long range)
+		throws SystemException {
+
+		// The prefetch runs on the portal executor, outside of the caller's
+		// transaction, so it needs its own counter transaction to hold the row
+		// lock until the new range is committed
+
+		TransactionStatus transactionStatus =
+			_platformTransactionManager.getTransaction(_transactionAttribute);
+
+		try {
+			CounterHolder counterHolder = _obtainIncrement(
+				counterName, range, 0);
+
+			_platformTransactionManager.commit(transactionStatus);
+
+			return counterHolder;
+		}
+		finally {
+			if (!transactionStatus.isCompleted()) {
+				_platformTransactionManager.rollback(transactionStatus);
+			}
+		}
+	}
+
+	private void _prefetchIncrement(
+		final CounterRegister counterRegister, CounterHolder counterHolder) {
+
+		if ((_platformTransactionManager == null) ||
+			(counterRegister.getCounterHolder() != counterHolder) ||
+			counterRegister.isPrefetchStarted()) {
+
+			return;
+		}
+
+		FutureTask<CounterHolder> futureTask = new FutureTask<CounterHolder>(
+			new Callable<CounterHolder>() {
+
+				public CounterHolder call() throws Exception {
+					return _obtainPrefetchIncrement(
+						counterRegister.getName(),
+						_getNextRangeSize(counterRegister));
+				}
+
+			});
+
+		if (!counterRegister.startPrefetch(futureTask)) {
+			return;
+		}
+
+		try {
+			ExecutorService executorService =
+				PortalExecutorManagerUtil.getPortalExecutor(
+					CounterFinderImpl.class.getName());
+
+			executorService.execute(futureTask);
+		}
+		catch (Exception e) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Unable to prefetch " + counterRegister.getName() +
+						" asynchronously",
+					e);
+			}
+
+			futureTask.run();
+		}
+	}
+
+	private CounterHolder _takePrefetchedIncrement(
+			CounterRegister counterRegister)
+		throws InterruptedException {
+
+		Future<CounterHolder> prefetchFuture =
+			counterRegister.takePrefetchFuture();
+
+		if (prefetchFuture == null) {
+			return null;
+		}
+
+		try {
+			return prefetchFuture.get();
+		}
+		catch (ExecutionException ee) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to prefetch " + counterRegister.getName(),
+					ee.getCause());
+			}
+
+			return null;
+		}
+	}
+
 	private static final int _DEFAULT_CURRENT_ID = 0;
 
 	private static final int _MINIMUM_INCREMENT_SIZE = 1;
@@ -425,8 +583,25 @@ public class CounterFinderImpl
 	private static final String _SQL_UPDATE_NAME_BY_NAME =
 		"update Counter set name = ? where name = ?";
 
+	private static Log _log = LogFactoryUtil.getLog(CounterFinderImpl.class);
+
+	private static TransactionAttribute _transactionAttribute;
+
+	static {
+		RuleBasedTransactionAttribute ruleBasedTransactionAttribute =
+			new RuleBasedTransactionAttribute();
+
+		ruleBasedTransactionAttribute.setIsolationLevel(
+			PropsValues.TRANSACTION_ISOLATION_COUNTER);
+		ruleBasedTransactionAttribute.setPropagationBehavior(
+			TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		_transactionAttribute = ruleBasedTransactionAttribute;
+	}
+
 	private Map<String, CounterRegister> _counterRegisterMap =
 		new ConcurrentHashMap<String, CounterRegister>();
+	private PlatformTransactionManager _platformTransactionManager;
 	private Map<String, Integer> _rangeSizeMap =
 		new ConcurrentHashMap<String, Integer>();
 
@@ -75,6 +75,10 @@ public class EhcachePortalCacheClusterReplicator implements CacheReplicator {
 	public void notifyElementPut(Ehcache ehcache, Element element)
 		throws CacheException {
 
+		if (_replicateVersionedCacheValue(ehcache, element)) {
+			return;
+		}
+
 		if (!_replicatePuts) {
 			return;
 		}
@@ -109,6 +113,10 @@ public class EhcachePortalCacheClusterReplicator implements CacheReplicator {
 	public void notifyElementUpdated(Ehcache ehcache, Element element)
 		throws CacheException {
 
+		if (_replicateVersionedCacheValue(ehcache, element)) {
+			return;
+		}
+
 		if (!_replicateUpdates) {
 			return;
 		}
@@ -138,6 +146,38 @@ public class EhcachePortalCacheClusterReplicator implements CacheReplicator {
 		PortalCacheClusterLinkUtil.sendEvent(portalCacheClusterEvent);
 	}
 
+	/**
+	 * Replicates a versioned cache value by copy, whatever the replication
+	 * settings, because the receiving nodes compare its version with their
+	 * own. A value that was loaded from the database is not replicated.
+	 */
+	private boolean _replicateVersionedCacheValue(
+		Ehcache ehcache, Element element) {
+
+		Object value = element.getObjectValue();
+
+		if (!(value instanceof VersionedCacheValue)) {
+			return false;
+		}
+
+		VersionedCacheValue versionedCacheValue = (VersionedCacheValue)value;
+
+		if (versionedCacheValue.isLoaded()) {
+			return true;
+		}
+
+		PortalCacheClusterEvent portalCacheClusterEvent =
+			new PortalCacheClusterEvent(
+				ehcache.getName(), element.getKey(),
+				PortalCacheClusterEventType.PUT);
+
+		portalCacheClusterEvent.setElementValue(versionedCacheValue);
+
+		PortalCacheClusterLinkUtil.sendEvent(portalCacheClusterEvent);
+
+		return true;
+	}
+
 	private static final String _REPLICATE_PUTS = "replicatePuts";
 
 	private static final String _REPLICATE_PUTS_VIA_COPY =
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.cluster;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generates cache value versions that increase monotonically on this node and
+ * move ahead of every version observed from other nodes.
+ *
+ * <p>
+ * A version holds the current time in milliseconds in its high bits and a
+ * counter in its low 16 bits, so versions from different nodes are roughly
+ * ordered by time even before they are observed.
+ * </p>
+ */
+public class VersionClock {
+
+	public VersionClock(long nodeId) {
+		_nodeId = nodeId;
+	}
+
+	/**
+	 * Returns a version that is older than every version generated from now
+	 * on by any node with a synchronized clock. A value loaded from the
+	 * database carries this version, so every write that commits after the
+	 * load started replaces it.
+	 */
+	public long getFloorVersion() {
+		return (getCurrentTimeMillis() << _COUNTER_BITS) - 1;
+	}
+
+	public long getNodeId() {
+		return _nodeId;
+	}
+
+	public long next() {
+		while (true) {
+			long lastVersion = _lastVersion.get();
+
+			long version = Math.max(
+				getCurrentTimeMillis() << _COUNTER_BITS, lastVersion + 1);
+
+			if (_lastVersion.compareAndSet(lastVersion, version)) {
+				return version;
+			}
+		}
+	}
+
+	public void observe(long version) {
+		while (true) {
+			long lastVersion = _lastVersion.get();
+
+			if ((version <= lastVersion) ||
+				_lastVersion.compareAndSet(lastVersion, version)) {
+
+				return;
+			}
+		}
+	}
+
+	protected long getCurrentTimeMillis() {
+		return System.currentTimeMillis();
+	}
+
+	private static final int _COUNTER_BITS = 16;
+
+	private final AtomicLong _lastVersion = new AtomicLong();
+	private final long _nodeId;
+
+}
\ No newline at end of file
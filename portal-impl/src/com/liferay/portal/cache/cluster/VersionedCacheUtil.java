@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.cluster;
+
+import com.liferay.portal.kernel.cache.PortalCache;
+
+import java.io.Serializable;
+
+import java.security.SecureRandom;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.Element;
+
+/**
+ * Puts versioned cache values so that every node keeps the newest value of a
+ * key.
+ *
+ * <p>
+ * Versions of different nodes are compared, so the clocks of the nodes are
+ * assumed to differ by less than the time between a database commit on one
+ * node and a read of the same row on another. The {@link VersionClock} of
+ * every node also moves ahead of the versions it observes.
+ * </p>
+ */
+public class VersionedCacheUtil {
+
+	/**
+	 * Returns the lock that serializes the version checks and writes of a
+	 * cache key on this node.
+	 */
+	public static Lock getLock(String cacheName, Serializable key) {
+		int hash = (cacheName.hashCode() * 31) + key.hashCode();
+
+		hash ^= (hash >>> 20) ^ (hash >>> 12);
+		hash ^= (hash >>> 7) ^ (hash >>> 4);
+
+		return _locks[hash & (_locks.length - 1)];
+	}
+
+	/**
+	 * Returns the cache value that a value loaded from the database must
+	 * still find when it is put. If the cache holds no value, a miss marker
+	 * with the floor version of the clock is put before the load, so that a
+	 * value pushed by another node during the load replaces the marker and
+	 * the loaded value is discarded.
+	 */
+	public static VersionedCacheValue getMissMarker(
+		VersionClock versionClock,
+		PortalCache<Serializable, ? super VersionedCacheValue> portalCache,
+		Serializable key) {
+
+		Lock lock = getLock(portalCache.getName(), key);
+
+		lock.lock();
+
+		try {
+			VersionedCacheValue missMarker = new VersionedCacheValue(
+				null, versionClock.getFloorVersion(), versionClock.getNodeId(),
+				true);
+
+			Object currentValue = portalCache.get(key);
+
+			if (currentValue instanceof VersionedCacheValue) {
+				VersionedCacheValue currentVersionedCacheValue =
+					(VersionedCacheValue)currentValue;
+
+				if ((currentVersionedCacheValue.getValue() != null) ||
+					!missMarker.isNewerThan(currentVersionedCacheValue)) {
+
+					return currentVersionedCacheValue;
+				}
+			}
+
+			portalCache.put(key, missMarker);
+
+			return missMarker;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public static VersionClock getVersionClock() {
+		return _versionClock;
+	}
+
+	/**
+	 * Returns <code>true</code> if the versioned cache value pushed by another
+	 * node may replace the current value of a cache. A key that is not cached
+	 * is loaded from the database on its next read, so a pushed value is never
+	 * accepted for it. Values that are not versioned are always replaced.
+	 */
+	public static boolean isAcceptable(
+		Object currentValue, VersionedCacheValue versionedCacheValue) {
+
+		if (currentValue == null) {
+			return false;
+		}
+
+		if (!(currentValue instanceof VersionedCacheValue)) {
+			return true;
+		}
+
+		return versionedCacheValue.isNewerThan(
+			(VersionedCacheValue)currentValue);
+	}
+
+	/**
+	 * Puts a committed cache value. A written value gets a new version and is
+	 * replicated. A loaded value carries the version of the cache value
+	 * returned by {@link #getMissMarker(VersionClock, PortalCache,
+	 * Serializable)} and is only put if that value is still current.
+	 *
+	 * @return <code>true</code> if the value was put
+	 */
+	public static boolean putCommitted(
+		VersionClock versionClock,
+		PortalCache<Serializable, ? super VersionedCacheValue> portalCache,
+		Serializable key, VersionedCacheValue versionedCacheValue) {
+
+		Lock lock = getLock(portalCache.getName(), key);
+
+		lock.lock();
+
+		try {
+			if (!versionedCacheValue.isLoaded()) {
+
+				// The clock is ahead of every version put under this lock, so
+				// a write is always newer than the current value
+
+				portalCache.put(
+					key,
+					new VersionedCacheValue(
+						versionedCacheValue.getValue(), versionClock.next(),
+						versionClock.getNodeId(), false));
+
+				return true;
+			}
+
+			Object currentValue = portalCache.get(key);
+
+			if (!(currentValue instanceof VersionedCacheValue)) {
+				return false;
+			}
+
+			VersionedCacheValue currentVersionedCacheValue =
+				(VersionedCacheValue)currentValue;
+
+			if ((currentVersionedCacheValue.getVersion() !=
+					versionedCacheValue.getVersion()) ||
+				(currentVersionedCacheValue.getNodeId() !=
+					versionedCacheValue.getNodeId())) {
+
+				return false;
+			}
+
+			portalCache.put(key, versionedCacheValue);
+
+			return true;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Puts a versioned cache value pushed by another node if it is
+	 * acceptable. The value is not replicated again.
+	 *
+	 * @return <code>true</code> if the value was put
+	 */
+	public static boolean putReplicated(
+		VersionClock versionClock, Ehcache ehcache, Serializable key,
+		VersionedCacheValue versionedCacheValue) {
+
+		versionClock.observe(versionedCacheValue.getVersion());
+
+		Lock lock = getLock(ehcache.getName(), key);
+
+		lock.lock();
+
+		try {
+			Object currentValue = null;
+
+			Element element = ehcache.get(key);
+
+			if (element != null) {
+				currentValue = element.getObjectValue();
+			}
+
+			if (!isAcceptable(currentValue, versionedCacheValue)) {
+				return false;
+			}
+
+			ehcache.put(new Element(key, versionedCacheValue), true);
+
+			return true;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private static final int _LOCK_COUNT = 256;
+
+	private static Lock[] _locks = new Lock[_LOCK_COUNT];
+	private static VersionClock _versionClock = new VersionClock(
+		new SecureRandom().nextLong());
+
+	static {
+		for (int i = 0; i < _LOCK_COUNT; i++) {
+			_locks[i] = new ReentrantLock();
+		}
+	}
+
+}
\ No newline at end of file
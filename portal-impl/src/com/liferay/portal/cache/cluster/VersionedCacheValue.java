@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.cluster;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+
+/**
+ * Wraps a cached value with the version of the write that produced it. A
+ * value of <code>null</code> marks a removal that still carries its version,
+ * so that older values pushed by other nodes are rejected after the removal.
+ *
+ * <p>
+ * Values loaded from the database are not replicated and keep the version of
+ * the miss marker or removal they replace, so any update pushed after the
+ * load started is newer than them. A version of <code>0</code> marks a write
+ * that is versioned when its transaction commits.
+ * </p>
+ */
+public class VersionedCacheValue implements Externalizable {
+
+	/**
+	 * The empty constructor is required by {@link java.io.Externalizable}. Do
+	 * not use this for any other purpose.
+	 */
+	public VersionedCacheValue() {
+	}
+
+	public VersionedCacheValue(
+		Serializable value, long version, long nodeId, boolean loaded) {
+
+		_value = value;
+		_version = version;
+		_nodeId = nodeId;
+		_loaded = loaded;
+	}
+
+	public long getNodeId() {
+		return _nodeId;
+	}
+
+	public Serializable getValue() {
+		return _value;
+	}
+
+	public long getVersion() {
+		return _version;
+	}
+
+	public boolean isLoaded() {
+		return _loaded;
+	}
+
+	public boolean isNewerThan(VersionedCacheValue versionedCacheValue) {
+		if (_version > versionedCacheValue._version) {
+			return true;
+		}
+
+		if ((_version == versionedCacheValue._version) &&
+			(_nodeId > versionedCacheValue._nodeId)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	public void readExternal(ObjectInput objectInput)
+		throws ClassNotFoundException, IOException {
+
+		_version = objectInput.readLong();
+		_nodeId = objectInput.readLong();
+		_value = (Serializable)objectInput.readObject();
+	}
+
+	public void writeExternal(ObjectOutput objectOutput) throws IOException {
+		objectOutput.writeLong(_version);
+		objectOutput.writeLong(_nodeId);
+		objectOutput.writeObject(_value);
+	}
+
+	private static final long serialVersionUID = 1L;
+
+	private transient boolean _loaded;
+	private long _nodeId;
+	private Serializable _value;
+	private long _version;
+
+}
\ No newline at end of file
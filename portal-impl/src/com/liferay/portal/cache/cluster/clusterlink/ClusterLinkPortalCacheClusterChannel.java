@@ -16,6 +16,7 @@ package com.liferay.portal.cache.cluster.clusterlink;
 
 import com.liferay.portal.kernel.cache.cluster.BasePortalCacheClusterChannel;
 import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEvent;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEventBatch;
 import com.liferay.portal.kernel.cluster.ClusterLinkUtil;
 import com.liferay.portal.kernel.cluster.Priority;
 import com.liferay.portal.kernel.messaging.Message;
@@ -43,6 +44,18 @@ public class ClusterLinkPortalCacheClusterChannel
 		ClusterLinkUtil.sendMulticastMessage(message, _priority);
 	}
 
+	@Override
+	public void dispatchEventBatch(
+		PortalCacheClusterEventBatch portalCacheClusterEventBatch) {
+
+		Message message = new Message();
+
+		message.setDestinationName(_destinationName);
+		message.setPayload(portalCacheClusterEventBatch);
+
+		ClusterLinkUtil.sendMulticastMessage(message, _priority);
+	}
+
 	private String _destinationName;
 	private Priority _priority;
 
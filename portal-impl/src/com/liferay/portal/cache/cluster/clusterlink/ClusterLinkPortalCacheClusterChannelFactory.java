@@ -18,6 +18,7 @@ import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterChannel;
 import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterChannelFactory;
 import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterException;
 import com.liferay.portal.kernel.cluster.Priority;
+import com.liferay.portal.util.PropsValues;
 
 import java.util.Collections;
 import java.util.List;
@@ -39,14 +40,24 @@ public class ClusterLinkPortalCacheClusterChannelFactory
 				"Cannot create more than " + _priorities.size() + " channels");
 		}
 
-		return new ClusterLinkPortalCacheClusterChannel(
-			_destinationName, _priorities.get(count));
+		ClusterLinkPortalCacheClusterChannel
+			clusterLinkPortalCacheClusterChannel =
+				new ClusterLinkPortalCacheClusterChannel(
+					_destinationName, _priorities.get(count));
+
+		clusterLinkPortalCacheClusterChannel.setFlushInterval(_flushInterval);
+
+		return clusterLinkPortalCacheClusterChannel;
 	}
 
 	public void setDestinationName(String destinationName) {
 		_destinationName = destinationName;
 	}
 
+	public void setFlushInterval(long flushInterval) {
+		_flushInterval = flushInterval;
+	}
+
 	public void setPriorities(List<Priority> priorities) {
 		_priorities = priorities;
 
@@ -55,6 +66,8 @@ public class ClusterLinkPortalCacheClusterChannelFactory
 
 	private AtomicInteger _counter = new AtomicInteger(0);
 	private String _destinationName;
+	private long _flushInterval =
+		PropsValues.EHCACHE_CLUSTER_LINK_FLUSH_INTERVAL;
 	private List<Priority> _priorities;
 
 }
\ No newline at end of file
@@ -14,11 +14,14 @@
 
 package com.liferay.portal.cache.cluster.clusterlink.messaging;
 
+import com.liferay.portal.cache.cluster.VersionedCacheUtil;
+import com.liferay.portal.cache.cluster.VersionedCacheValue;
 import com.liferay.portal.cache.ehcache.EhcachePortalCacheManager;
 import com.liferay.portal.dao.orm.hibernate.region.LiferayEhcacheRegionFactory;
 import com.liferay.portal.dao.orm.hibernate.region.SingletonLiferayEhcacheRegionFactory;
 import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
 import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEvent;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEventBatch;
 import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEventType;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
@@ -51,8 +54,28 @@ public class ClusterLinkPortalCacheClusterListener extends BaseMessageListener {
 
 	@Override
 	protected void doReceive(Message message) throws Exception {
+		Object payload = message.getPayload();
+
+		if (payload instanceof PortalCacheClusterEventBatch) {
+			PortalCacheClusterEventBatch portalCacheClusterEventBatch =
+				(PortalCacheClusterEventBatch)payload;
+
+			Ehcache ehcache = _getEhcache(
+				portalCacheClusterEventBatch.getCacheName());
+
+			if (ehcache != null) {
+				for (Serializable elementKey :
+						portalCacheClusterEventBatch.getElementKeys()) {
+
+					ehcache.remove(elementKey, true);
+				}
+			}
+
+			return;
+		}
+
 		PortalCacheClusterEvent portalCacheClusterEvent =
-			(PortalCacheClusterEvent)message.getPayload();
+			(PortalCacheClusterEvent)payload;
 
 		if (portalCacheClusterEvent == null) {
 			if (_log.isWarnEnabled()) {
@@ -62,13 +85,7 @@ public class ClusterLinkPortalCacheClusterListener extends BaseMessageListener {
 			return;
 		}
 
-		String cacheName = portalCacheClusterEvent.getCacheName();
-
-		Ehcache ehcache = _portalCacheManager.getEhcache(cacheName);
-
-		if (ehcache == null) {
-			ehcache = _hibernateCacheManager.getEhcache(cacheName);
-		}
+		Ehcache ehcache = _getEhcache(portalCacheClusterEvent.getCacheName());
 
 		if (ehcache != null) {
 			PortalCacheClusterEventType portalCacheClusterEventType =
@@ -93,6 +110,11 @@ public class ClusterLinkPortalCacheClusterListener extends BaseMessageListener {
 					ehcache.remove(
 						portalCacheClusterEvent.getElementKey(), true);
 				}
+				else if (elementValue instanceof VersionedCacheValue) {
+					_putVersionedCacheValue(
+						ehcache, elementKey,
+						(VersionedCacheValue)elementValue);
+				}
 				else {
 					Element oldElement = ehcache.get(elementKey);
 					Element newElement = new Element(elementKey, elementValue);
@@ -111,6 +133,31 @@ public class ClusterLinkPortalCacheClusterListener extends BaseMessageListener {
 		}
 	}
 
+	private Ehcache _getEhcache(String cacheName) {
+		Ehcache ehcache = _portalCacheManager.getEhcache(cacheName);
+
+		if (ehcache == null) {
+			ehcache = _hibernateCacheManager.getEhcache(cacheName);
+		}
+
+		return ehcache;
+	}
+
+	private void _putVersionedCacheValue(
+		Ehcache ehcache, Serializable elementKey,
+		VersionedCacheValue versionedCacheValue) {
+
+		boolean put = VersionedCacheUtil.putReplicated(
+			VersionedCacheUtil.getVersionClock(), ehcache, elementKey,
+			versionedCacheValue);
+
+		if (!put && _log.isDebugEnabled()) {
+			_log.debug(
+				"Rejected version " + versionedCacheValue.getVersion() +
+					" of " + elementKey);
+		}
+	}
+
 	private static final String _MULTI_VM_PORTAL_CACHE_MANAGER_BEAN_NAME =
 		"com.liferay.portal.kernel.cache.MultiVMPortalCacheManager";
 
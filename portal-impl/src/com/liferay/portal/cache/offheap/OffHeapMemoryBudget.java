@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the direct memory allocated by all the {@link OffHeapStore}
+ * instances that share it.
+ */
+public class OffHeapMemoryBudget {
+
+	public OffHeapMemoryBudget(long maxBytes) {
+		if (maxBytes <= 0) {
+			throw new IllegalArgumentException(
+				"Maximum bytes " + maxBytes + " is not positive");
+		}
+
+		_maxBytes = maxBytes;
+	}
+
+	public long getMaxBytes() {
+		return _maxBytes;
+	}
+
+	public long getReservedBytes() {
+		return _reservedBytes.get();
+	}
+
+	public void release(long bytes) {
+		_reservedBytes.addAndGet(-bytes);
+	}
+
+	public boolean reserve(long bytes) {
+		while (true) {
+			long reservedBytes = _reservedBytes.get();
+
+			if ((_maxBytes - reservedBytes) < bytes) {
+				return false;
+			}
+
+			if (_reservedBytes.compareAndSet(
+					reservedBytes, reservedBytes + bytes)) {
+
+				return true;
+			}
+		}
+	}
+
+	private final long _maxBytes;
+	private final AtomicLong _reservedBytes = new AtomicLong();
+
+}
\ No newline at end of file
@@ -0,0 +1,289 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import com.liferay.portal.kernel.cache.CacheListener;
+import com.liferay.portal.kernel.cache.CacheListenerScope;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.concurrent.ConcurrentHashSet;
+import com.liferay.portal.kernel.io.Deserializer;
+import com.liferay.portal.kernel.io.Serializer;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.LRUMap;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.io.Serializable;
+
+import java.nio.ByteBuffer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps serialized values in an {@link OffHeapStore} and the most recently
+ * used deserialized values in a small on-heap LRU map in front of it.
+ *
+ * <p>
+ * Updates of the two maps are guarded by a lock striped by key, so that a
+ * concurrent put, remove, or load cannot leave a stale value in either map.
+ * </p>
+ */
+public class OffHeapPortalCache<K extends Serializable, V>
+	implements PortalCache<K, V> {
+
+	public OffHeapPortalCache(
+		String name, OffHeapStore offHeapStore, int heapMaxSize) {
+
+		_name = name;
+		_offHeapStore = offHeapStore;
+
+		for (int i = 0; i < _locks.length; i++) {
+			_locks[i] = new Object();
+		}
+
+		if (heapMaxSize > 0) {
+			_heapMap = Collections.synchronizedMap(
+				new LRUMap<K, V>(heapMaxSize));
+		}
+	}
+
+	public void destroy() {
+		removeAll();
+
+		_offHeapStore.destroy();
+
+		_cacheListeners = null;
+		_heapMap = null;
+		_name = null;
+		_offHeapStore = null;
+	}
+
+	public Collection<V> get(Collection<K> keys) {
+		List<V> values = new ArrayList<V>(keys.size());
+
+		for (K key : keys) {
+			values.add(get(key));
+		}
+
+		return values;
+	}
+
+	public V get(K key) {
+		V value = null;
+
+		if (_heapMap != null) {
+			value = _heapMap.get(key);
+
+			if (value != null) {
+				return value;
+			}
+		}
+
+		synchronized (_getLock(key)) {
+			if (_heapMap != null) {
+				value = _heapMap.get(key);
+
+				if (value != null) {
+					return value;
+				}
+			}
+
+			byte[] bytes = _offHeapStore.get(key);
+
+			if (bytes == null) {
+				return null;
+			}
+
+			value = _deserialize(bytes);
+
+			if ((value != null) && (_heapMap != null)) {
+				_heapMap.put(key, value);
+			}
+		}
+
+		return value;
+	}
+
+	public String getName() {
+		return _name;
+	}
+
+	public OffHeapStore getOffHeapStore() {
+		return _offHeapStore;
+	}
+
+	public void put(K key, V value) {
+		boolean updated = _put(key, value);
+
+		notifyPutEvents(key, value, updated);
+	}
+
+	public void put(K key, V value, int timeToLive) {
+		boolean updated = _put(key, value);
+
+		notifyPutEvents(key, value, updated);
+	}
+
+	public void registerCacheListener(CacheListener<K, V> cacheListener) {
+		_cacheListeners.add(cacheListener);
+	}
+
+	public void registerCacheListener(
+		CacheListener<K, V> cacheListener,
+		CacheListenerScope cacheListenerScope) {
+
+		registerCacheListener(cacheListener);
+	}
+
+	public void remove(K key) {
+		V value = null;
+
+		synchronized (_getLock(key)) {
+			value = get(key);
+
+			if (_heapMap != null) {
+				_heapMap.remove(key);
+			}
+
+			_offHeapStore.remove(key);
+		}
+
+		for (CacheListener<K, V> cacheListener : _cacheListeners) {
+			cacheListener.notifyEntryRemoved(this, key, value);
+		}
+	}
+
+	public void removeAll() {
+		if (_heapMap != null) {
+			_heapMap.clear();
+		}
+
+		_offHeapStore.removeAll();
+
+		for (CacheListener<K, V> cacheListener : _cacheListeners) {
+			cacheListener.notifyRemoveAll(this);
+		}
+	}
+
+	public void unregisterCacheListener(CacheListener<K, V> cacheListener) {
+		_cacheListeners.remove(cacheListener);
+	}
+
+	public void unregisterCacheListeners() {
+		_cacheListeners.clear();
+	}
+
+	protected void notifyPutEvents(K key, V value, boolean updated) {
+		if (updated) {
+			for (CacheListener<K, V> cacheListener : _cacheListeners) {
+				cacheListener.notifyEntryUpdated(this, key, value);
+			}
+		}
+		else {
+			for (CacheListener<K, V> cacheListener : _cacheListeners) {
+				cacheListener.notifyEntryPut(this, key, value);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private V _deserialize(byte[] bytes) {
+		Deserializer deserializer = new Deserializer(ByteBuffer.wrap(bytes));
+
+		try {
+			Object value = deserializer.readObject();
+
+			// EntityCacheImpl marks missing entities with the StringPool.BLANK
+			// instance and compares by identity
+
+			if (StringPool.BLANK.equals(value)) {
+				value = StringPool.BLANK;
+			}
+
+			return (V)value;
+		}
+		catch (ClassNotFoundException cnfe) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to deserialize cached value from " + _name, cnfe);
+			}
+
+			return null;
+		}
+	}
+
+	private Object _getLock(K key) {
+		int hash = key.hashCode();
+
+		hash ^= (hash >>> 20) ^ (hash >>> 12);
+		hash ^= (hash >>> 7) ^ (hash >>> 4);
+
+		return _locks[hash & (_locks.length - 1)];
+	}
+
+	private boolean _put(K key, V value) {
+		byte[] bytes = null;
+
+		if (value instanceof Serializable) {
+			Serializer serializer = new Serializer();
+
+			serializer.writeObject((Serializable)value);
+
+			ByteBuffer byteBuffer = serializer.toByteBuffer();
+
+			bytes = byteBuffer.array();
+		}
+
+		synchronized (_getLock(key)) {
+			boolean updated = _offHeapStore.containsKey(key);
+
+			if (_heapMap != null) {
+				V oldValue = _heapMap.put(key, value);
+
+				if (oldValue != null) {
+					updated = true;
+				}
+			}
+
+			if (bytes == null) {
+				_offHeapStore.remove(key);
+			}
+			else if (!_offHeapStore.put(key, bytes) && _log.isDebugEnabled()) {
+				_log.debug(
+					"Value for " + key + " is too large to be stored off " +
+						"heap in " + _name);
+			}
+
+			return updated;
+		}
+	}
+
+	private static final int _LOCKS_SIZE = 64;
+
+	private static Log _log = LogFactoryUtil.getLog(OffHeapPortalCache.class);
+
+	private Set<CacheListener<K, V>> _cacheListeners =
+		new ConcurrentHashSet<CacheListener<K, V>>();
+	private Map<K, V> _heapMap;
+	private final Object[] _locks = new Object[_LOCKS_SIZE];
+	private String _name;
+	private OffHeapStore _offHeapStore;
+
+}
\ No newline at end of file
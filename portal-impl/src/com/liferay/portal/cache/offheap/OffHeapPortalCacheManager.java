@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.PortalCacheManager;
+
+import java.io.Serializable;
+
+import java.net.URL;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Creates {@link OffHeapPortalCache} instances so that cached values do not
+ * add to the garbage collection load of the Java heap.
+ *
+ * <p>
+ * The stores of all caches allocate their direct memory on demand from one
+ * budget of maximum bytes, so the number of caches does not affect how much
+ * memory is used off heap.
+ * </p>
+ *
+ * <p>
+ * The caches are local to this JVM and do not replicate removals to other
+ * cluster nodes, so this manager is only suitable for nonclustered
+ * environments.
+ * </p>
+ */
+public class OffHeapPortalCacheManager<K extends Serializable, V>
+	implements PortalCacheManager<K, V> {
+
+	public void afterPropertiesSet() {
+		_offHeapMemoryBudget = new OffHeapMemoryBudget(_maxBytes);
+		_portalCaches = new ConcurrentHashMap<String, PortalCache<K, V>>(
+			_cacheManagerInitialCapacity);
+	}
+
+	public void clearAll() {
+		for (PortalCache<K, V> portalCache : _portalCaches.values()) {
+			portalCache.removeAll();
+		}
+	}
+
+	public void destroy() {
+		for (PortalCache<K, V> portalCache : _portalCaches.values()) {
+			portalCache.destroy();
+		}
+
+		_portalCaches.clear();
+	}
+
+	public PortalCache<K, V> getCache(String name) {
+		return getCache(name, false);
+	}
+
+	public PortalCache<K, V> getCache(String name, boolean blocking) {
+		PortalCache<K, V> portalCache = _portalCaches.get(name);
+
+		if (portalCache == null) {
+			OffHeapStore offHeapStore = new OffHeapStore(
+				_cacheMaxBytes, _cacheSegmentCount, _offHeapMemoryBudget);
+
+			portalCache = new OffHeapPortalCache<K, V>(
+				name, offHeapStore, _cacheHeapMaxSize);
+
+			PortalCache<K, V> previousPortalCache = _portalCaches.putIfAbsent(
+				name, portalCache);
+
+			if (previousPortalCache != null) {
+				offHeapStore.destroy();
+
+				portalCache = previousPortalCache;
+			}
+		}
+
+		return portalCache;
+	}
+
+	public OffHeapMemoryBudget getOffHeapMemoryBudget() {
+		return _offHeapMemoryBudget;
+	}
+
+	public void reconfigureCaches(URL configurationURL) {
+	}
+
+	public void removeCache(String name) {
+		PortalCache<K, V> portalCache = _portalCaches.remove(name);
+
+		if (portalCache != null) {
+			portalCache.destroy();
+		}
+	}
+
+	public void setCacheHeapMaxSize(int cacheHeapMaxSize) {
+		_cacheHeapMaxSize = cacheHeapMaxSize;
+	}
+
+	public void setCacheManagerInitialCapacity(
+		int cacheManagerInitialCapacity) {
+
+		_cacheManagerInitialCapacity = cacheManagerInitialCapacity;
+	}
+
+	public void setCacheMaxBytes(long cacheMaxBytes) {
+		_cacheMaxBytes = cacheMaxBytes;
+	}
+
+	public void setCacheSegmentCount(int cacheSegmentCount) {
+		_cacheSegmentCount = cacheSegmentCount;
+	}
+
+	public void setMaxBytes(long maxBytes) {
+		_maxBytes = maxBytes;
+	}
+
+	private int _cacheHeapMaxSize = 100;
+	private int _cacheManagerInitialCapacity = 10000;
+	private long _cacheMaxBytes = 16 * 1024 * 1024;
+	private int _cacheSegmentCount = 16;
+	private long _maxBytes = 256 * 1024 * 1024;
+	private OffHeapMemoryBudget _offHeapMemoryBudget;
+	private ConcurrentMap<String, PortalCache<K, V>> _portalCaches;
+
+}
\ No newline at end of file
@@ -0,0 +1,391 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import java.nio.ByteBuffer;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+
+/**
+ * Stores byte arrays outside of the Java heap in direct byte buffers.
+ *
+ * <p>
+ * The store is split into segments to reduce lock contention. Each segment is
+ * a direct byte buffer that is written to as a circular log. A segment starts
+ * without a buffer and doubles its buffer on demand up to its share of the
+ * capacity, reserving the memory from an {@link OffHeapMemoryBudget} shared by
+ * all stores. When a segment cannot grow any further, the oldest entries are
+ * evicted to make room for the new ones.
+ * </p>
+ */
+public class OffHeapStore {
+
+	public OffHeapStore(long capacity, int segmentCount) {
+		this(capacity, segmentCount, new OffHeapMemoryBudget(Long.MAX_VALUE));
+	}
+
+	public OffHeapStore(
+		long capacity, int segmentCount,
+		OffHeapMemoryBudget offHeapMemoryBudget) {
+
+		if (segmentCount <= 0) {
+			throw new IllegalArgumentException(
+				"Segment count " + segmentCount + " is not positive");
+		}
+
+		long segmentCapacity = capacity / segmentCount;
+
+		if ((segmentCapacity <= 0) || (segmentCapacity > Integer.MAX_VALUE)) {
+			throw new IllegalArgumentException(
+				"Capacity " + capacity + " cannot be split into " +
+					segmentCount + " segments");
+		}
+
+		_segments = new Segment[segmentCount];
+
+		for (int i = 0; i < segmentCount; i++) {
+			_segments[i] = new Segment(
+				(int)segmentCapacity, offHeapMemoryBudget);
+		}
+	}
+
+	public boolean containsKey(Object key) {
+		Segment segment = _getSegment(key);
+
+		return segment.containsKey(key);
+	}
+
+	public void destroy() {
+		for (Segment segment : _segments) {
+			segment.destroy();
+		}
+	}
+
+	public byte[] get(Object key) {
+		Segment segment = _getSegment(key);
+
+		return segment.get(key);
+	}
+
+	public long getCapacity() {
+		long capacity = 0;
+
+		for (Segment segment : _segments) {
+			capacity += segment._capacity;
+		}
+
+		return capacity;
+	}
+
+	public long getAllocatedBytes() {
+		long allocatedBytes = 0;
+
+		for (Segment segment : _segments) {
+			allocatedBytes += segment.getAllocatedBytes();
+		}
+
+		return allocatedBytes;
+	}
+
+	public int getEntryCount() {
+		int entryCount = 0;
+
+		for (Segment segment : _segments) {
+			entryCount += segment.getEntryCount();
+		}
+
+		return entryCount;
+	}
+
+	public long getEvictionCount() {
+		long evictionCount = 0;
+
+		for (Segment segment : _segments) {
+			evictionCount += segment.getEvictionCount();
+		}
+
+		return evictionCount;
+	}
+
+	public long getUsedBytes() {
+		long usedBytes = 0;
+
+		for (Segment segment : _segments) {
+			usedBytes += segment.getUsedBytes();
+		}
+
+		return usedBytes;
+	}
+
+	public boolean put(Object key, byte[] bytes) {
+		Segment segment = _getSegment(key);
+
+		return segment.put(key, bytes);
+	}
+
+	public void remove(Object key) {
+		Segment segment = _getSegment(key);
+
+		segment.remove(key);
+	}
+
+	public void removeAll() {
+		for (Segment segment : _segments) {
+			segment.removeAll();
+		}
+	}
+
+	private Segment _getSegment(Object key) {
+		int hash = key.hashCode();
+
+		hash ^= (hash >>> 20) ^ (hash >>> 12);
+		hash ^= (hash >>> 7) ^ (hash >>> 4);
+
+		return _segments[(hash & Integer.MAX_VALUE) % _segments.length];
+	}
+
+	private final Segment[] _segments;
+
+	private static class Segment {
+
+		public Segment(
+			int capacity, OffHeapMemoryBudget offHeapMemoryBudget) {
+
+			_capacity = capacity;
+			_offHeapMemoryBudget = offHeapMemoryBudget;
+		}
+
+		public synchronized boolean containsKey(Object key) {
+			return _slots.containsKey(key);
+		}
+
+		public synchronized void destroy() {
+			removeAll();
+
+			if (_byteBuffer != null) {
+				_offHeapMemoryBudget.release(_byteBuffer.capacity());
+
+				_byteBuffer = null;
+			}
+		}
+
+		public synchronized byte[] get(Object key) {
+			Slot slot = _slots.get(key);
+
+			if (slot == null) {
+				return null;
+			}
+
+			byte[] bytes = new byte[slot._length];
+
+			_byteBuffer.position(slot._offset);
+
+			_byteBuffer.get(bytes);
+
+			return bytes;
+		}
+
+		public synchronized long getAllocatedBytes() {
+			if (_byteBuffer == null) {
+				return 0;
+			}
+
+			return _byteBuffer.capacity();
+		}
+
+		public synchronized int getEntryCount() {
+			return _slots.size();
+		}
+
+		public synchronized long getEvictionCount() {
+			return _evictionCount;
+		}
+
+		public synchronized long getUsedBytes() {
+			return _usedBytes;
+		}
+
+		public synchronized boolean put(Object key, byte[] bytes) {
+			if (bytes.length > _capacity) {
+				remove(key);
+
+				return false;
+			}
+
+			int end = _position + bytes.length;
+
+			if (((_byteBuffer == null) || (end > _byteBuffer.capacity())) &&
+				!_grow(end)) {
+
+				if ((_byteBuffer == null) ||
+					(bytes.length > _byteBuffer.capacity())) {
+
+					remove(key);
+
+					return false;
+				}
+
+				// Entries between the write position and the end of the buffer
+				// are the oldest ones, drop them and wrap around
+
+				while (!_slotQueue.isEmpty() &&
+					   (_slotQueue.peek()._offset >= _position)) {
+
+					_evict();
+				}
+
+				_position = 0;
+
+				end = bytes.length;
+			}
+
+			while (!_slotQueue.isEmpty()) {
+				Slot slot = _slotQueue.peek();
+
+				if ((slot._offset < _position) || (slot._offset >= end)) {
+					break;
+				}
+
+				_evict();
+			}
+
+			_byteBuffer.position(_position);
+
+			_byteBuffer.put(bytes);
+
+			Slot slot = new Slot(key, _position, bytes.length);
+
+			_slotQueue.offer(slot);
+
+			Slot oldSlot = _slots.put(key, slot);
+
+			if (oldSlot != null) {
+				_usedBytes -= oldSlot._length;
+			}
+
+			_usedBytes += bytes.length;
+
+			_position = end;
+
+			return true;
+		}
+
+		public synchronized void remove(Object key) {
+			Slot slot = _slots.remove(key);
+
+			if (slot != null) {
+				_usedBytes -= slot._length;
+			}
+		}
+
+		public synchronized void removeAll() {
+			_slotQueue.clear();
+			_slots.clear();
+
+			_position = 0;
+			_usedBytes = 0;
+		}
+
+		private void _evict() {
+			Slot slot = _slotQueue.poll();
+
+			if (_slots.get(slot._key) != slot) {
+
+				// The slot was already removed or replaced
+
+				return;
+			}
+
+			_slots.remove(slot._key);
+
+			_evictionCount++;
+			_usedBytes -= slot._length;
+		}
+
+		private boolean _grow(int minCapacity) {
+			int bufferCapacity = 0;
+
+			if (_byteBuffer != null) {
+				bufferCapacity = _byteBuffer.capacity();
+			}
+
+			if (bufferCapacity >= _capacity) {
+				return false;
+			}
+
+			long newBufferCapacity = Math.max(
+				bufferCapacity * 2L, _INITIAL_BUFFER_CAPACITY);
+
+			while (newBufferCapacity < minCapacity) {
+				newBufferCapacity *= 2;
+			}
+
+			newBufferCapacity = Math.min(newBufferCapacity, _capacity);
+
+			if (!_offHeapMemoryBudget.reserve(
+					newBufferCapacity - bufferCapacity)) {
+
+				return false;
+			}
+
+			ByteBuffer byteBuffer = ByteBuffer.allocateDirect(
+				(int)newBufferCapacity);
+
+			if (_byteBuffer != null) {
+
+				// Offsets of existing slots stay valid because the old buffer
+				// is copied to the start of the new one
+
+				_byteBuffer.clear();
+
+				byteBuffer.put(_byteBuffer);
+			}
+
+			_byteBuffer = byteBuffer;
+
+			return true;
+		}
+
+		private static final int _INITIAL_BUFFER_CAPACITY = 64 * 1024;
+
+		private ByteBuffer _byteBuffer;
+		private final int _capacity;
+		private long _evictionCount;
+		private final OffHeapMemoryBudget _offHeapMemoryBudget;
+		private int _position;
+		private final Queue<Slot> _slotQueue = new ArrayDeque<Slot>();
+		private final Map<Object, Slot> _slots = new HashMap<Object, Slot>();
+		private long _usedBytes;
+
+	}
+
+	private static class Slot {
+
+		public Slot(Object key, int offset, int length) {
+			_key = key;
+			_offset = offset;
+			_length = length;
+		}
+
+		private final Object _key;
+		private final int _length;
+		private final int _offset;
+
+	}
+
+}
\ No newline at end of file
@@ -71,6 +71,10 @@ public class TransactionalPortalCache<K extends Serializable, V>
 		return _portalCache.getName();
 	}
 
+	public PortalCache<K, V> getPortalCache() {
+		return _portalCache;
+	}
+
 	public void put(K key, V value) {
 		if (TransactionalPortalCacheHelper.isEnabled()) {
 			if (value == null) {
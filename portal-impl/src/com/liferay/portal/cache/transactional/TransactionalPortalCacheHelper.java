@@ -14,6 +14,8 @@
 
 package com.liferay.portal.cache.transactional;
 
+import com.liferay.portal.cache.cluster.VersionedCacheUtil;
+import com.liferay.portal.cache.cluster.VersionedCacheValue;
 import com.liferay.portal.kernel.cache.PortalCache;
 import com.liferay.portal.kernel.util.InitialThreadLocal;
 import com.liferay.portal.util.PropsValues;
@@ -59,9 +61,17 @@ public class TransactionalPortalCacheHelper {
 			for (Map.Entry<? extends Serializable, ?> uncommittedMapEntry :
 					uncommittedMap.entrySet()) {
 
-				portalCache.put(
-					uncommittedMapEntry.getKey(),
-					uncommittedMapEntry.getValue());
+				Serializable key = uncommittedMapEntry.getKey();
+				Object value = uncommittedMapEntry.getValue();
+
+				if (value instanceof VersionedCacheValue) {
+					VersionedCacheUtil.putCommitted(
+						VersionedCacheUtil.getVersionClock(), portalCache, key,
+						(VersionedCacheValue)value);
+				}
+				else {
+					portalCache.put(key, value);
+				}
 			}
 		}
 
@@ -41,6 +41,7 @@ import com.liferay.portlet.documentlibrary.service.persistence.DLFileEntryAction
 import com.liferay.portlet.documentlibrary.store.AdvancedFileSystemStore;
 import com.liferay.portlet.documentlibrary.store.CMISStore;
 import com.liferay.portlet.documentlibrary.store.DBStore;
+import com.liferay.portlet.documentlibrary.store.DeduplicatingFileSystemStore;
 import com.liferay.portlet.documentlibrary.store.FileSystemStore;
 import com.liferay.portlet.documentlibrary.store.JCRStore;
 import com.liferay.portlet.documentlibrary.store.S3Store;
@@ -297,8 +298,9 @@ public class ConvertDocumentLibrary extends ConvertProcess {
 
 	private static final String[] _HOOKS = new String[] {
 		AdvancedFileSystemStore.class.getName(), CMISStore.class.getName(),
-		DBStore.class.getName(), FileSystemStore.class.getName(),
-		JCRStore.class.getName(), S3Store.class.getName()
+		DBStore.class.getName(), DeduplicatingFileSystemStore.class.getName(),
+		FileSystemStore.class.getName(), JCRStore.class.getName(),
+		S3Store.class.getName()
 	};
 
 	private static Log _log = LogFactoryUtil.getLog(
@@ -14,6 +14,10 @@
 
 package com.liferay.portal.dao.orm.common;
 
+import com.liferay.portal.cache.cluster.VersionedCacheUtil;
+import com.liferay.portal.cache.cluster.VersionedCacheValue;
+import com.liferay.portal.cache.transactional.TransactionalPortalCache;
+import com.liferay.portal.cache.transactional.TransactionalPortalCacheHelper;
 import com.liferay.portal.kernel.cache.CacheRegistryItem;
 import com.liferay.portal.kernel.cache.CacheRegistryUtil;
 import com.liferay.portal.kernel.cache.MultiVMPool;
@@ -38,6 +42,7 @@ import java.io.ObjectInput;
 import java.io.ObjectOutput;
 import java.io.Serializable;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -114,9 +119,16 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 
 			Serializable cacheKey = _encodeCacheKey(primaryKey);
 
-			result = portalCache.get(cacheKey);
+			Serializable cachedValue = portalCache.get(cacheKey);
+
+			result = _getValue(cachedValue);
 
 			if (result == null) {
+				if (PropsValues.VALUE_OBJECT_ENTITY_CACHE_VERSIONED) {
+					_putMissMarker(
+						clazz, primaryKey, portalCache, cacheKey, cachedValue);
+				}
+
 				result = StringPool.BLANK;
 			}
 
@@ -173,7 +185,9 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 
 			Serializable cacheKey = _encodeCacheKey(primaryKey);
 
-			result = portalCache.get(cacheKey);
+			Serializable cachedValue = portalCache.get(cacheKey);
+
+			result = _getValue(cachedValue);
 
 			if (result == null) {
 				if (_log.isDebugEnabled()) {
@@ -181,6 +195,11 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 						"Load " + clazz + " " + primaryKey + " from session");
 				}
 
+				if (PropsValues.VALUE_OBJECT_ENTITY_CACHE_VERSIONED) {
+					_putMissMarker(
+						clazz, primaryKey, portalCache, cacheKey, cachedValue);
+				}
+
 				Session session = null;
 
 				try {
@@ -196,7 +215,13 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 						result = ((BaseModel<?>)loadResult).toCacheModel();
 					}
 
-					portalCache.put(cacheKey, result);
+					if (PropsValues.VALUE_OBJECT_ENTITY_CACHE_VERSIONED) {
+						_putVersionedResult(
+							clazz, primaryKey, portalCache, cacheKey, result);
+					}
+					else {
+						portalCache.put(cacheKey, result);
+					}
 
 					sessionFactory.closeSession(session);
 				}
@@ -242,7 +267,13 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 
 		Serializable cacheKey = _encodeCacheKey(primaryKey);
 
-		portalCache.put(cacheKey, result);
+		if (PropsValues.VALUE_OBJECT_ENTITY_CACHE_VERSIONED) {
+			_putVersionedResult(
+				clazz, primaryKey, portalCache, cacheKey, result);
+		}
+		else {
+			portalCache.put(cacheKey, result);
+		}
 	}
 
 	public void removeCache(String className) {
@@ -276,7 +307,12 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 
 		Serializable cacheKey = _encodeCacheKey(primaryKey);
 
-		portalCache.remove(cacheKey);
+		if (PropsValues.VALUE_OBJECT_ENTITY_CACHE_VERSIONED) {
+			_putVersionedResult(clazz, primaryKey, portalCache, cacheKey, null);
+		}
+		else {
+			portalCache.remove(cacheKey);
+		}
 	}
 
 	public void setMultiVMPool(MultiVMPool multiVMPool) {
@@ -303,9 +339,18 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 		if ((portalCache == null) && createIfAbsent) {
 			String groupKey = _GROUP_KEY_PREFIX.concat(className);
 
+			// A versioned cache holds removal markers that must be read
+			// without blocking
+
+			boolean blocking = PropsValues.VALUE_OBJECT_ENTITY_BLOCKING_CACHE;
+
+			if (PropsValues.VALUE_OBJECT_ENTITY_CACHE_VERSIONED) {
+				blocking = false;
+			}
+
 			portalCache =
 				(PortalCache<Serializable, Serializable>)_multiVMPool.getCache(
-					groupKey, PropsValues.VALUE_OBJECT_ENTITY_BLOCKING_CACHE);
+					groupKey, blocking);
 
 			PortalCache<Serializable, Serializable> previousPortalCache =
 				_portalCaches.putIfAbsent(className, portalCache);
@@ -318,6 +363,104 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 		return portalCache;
 	}
 
+	private Serializable _getValue(Serializable cachedValue) {
+		if (cachedValue instanceof VersionedCacheValue) {
+			VersionedCacheValue versionedCacheValue =
+				(VersionedCacheValue)cachedValue;
+
+			return versionedCacheValue.getValue();
+		}
+
+		return cachedValue;
+	}
+
+	/**
+	 * Remembers the value that a result loaded from the database by the
+	 * current thread must still find in the shared cache to be cached. The
+	 * next put of the result by the current thread is taken as that load. A
+	 * removal made by the current transaction is not a miss, so the next put
+	 * is a write.
+	 */
+	private void _putMissMarker(
+		Class<?> clazz, Serializable primaryKey,
+		PortalCache<Serializable, Serializable> portalCache,
+		Serializable cacheKey, Serializable cachedValue) {
+
+		Map<Serializable, VersionedCacheValue> missMarkerMap =
+			_missMarkerMap.get();
+
+		Serializable localCacheKey = _encodeLocalCacheKey(clazz, primaryKey);
+
+		if (cachedValue instanceof VersionedCacheValue) {
+			VersionedCacheValue versionedCacheValue =
+				(VersionedCacheValue)cachedValue;
+
+			if (versionedCacheValue.getVersion() == 0) {
+				missMarkerMap.remove(localCacheKey);
+
+				return;
+			}
+		}
+
+		if (portalCache instanceof TransactionalPortalCache) {
+			TransactionalPortalCache<Serializable, Serializable>
+				transactionalPortalCache =
+					(TransactionalPortalCache<Serializable, Serializable>)
+						portalCache;
+
+			portalCache = transactionalPortalCache.getPortalCache();
+		}
+
+		VersionedCacheValue missMarker = VersionedCacheUtil.getMissMarker(
+			VersionedCacheUtil.getVersionClock(), portalCache, cacheKey);
+
+		missMarkerMap.put(localCacheKey, missMarker);
+	}
+
+	/**
+	 * Puts a result into a versioned cache. A result loaded from the database
+	 * keeps the version of its miss marker and is not replicated. Any other
+	 * result is a write that gets a new version and is replicated, and a
+	 * result of <code>null</code> marks a removal. A removal that follows a
+	 * failed load only drops the miss marker. Within a transaction, the
+	 * result is put into the shared cache when the transaction commits.
+	 */
+	private void _putVersionedResult(
+		Class<?> clazz, Serializable primaryKey,
+		PortalCache<Serializable, Serializable> portalCache,
+		Serializable cacheKey, Serializable result) {
+
+		Map<Serializable, VersionedCacheValue> missMarkerMap =
+			_missMarkerMap.get();
+
+		VersionedCacheValue missMarker = missMarkerMap.remove(
+			_encodeLocalCacheKey(clazz, primaryKey));
+
+		VersionedCacheValue versionedCacheValue = null;
+
+		if (missMarker == null) {
+			versionedCacheValue = new VersionedCacheValue(result, 0, 0, false);
+		}
+		else if (result != null) {
+			versionedCacheValue = new VersionedCacheValue(
+				result, missMarker.getVersion(), missMarker.getNodeId(), true);
+		}
+		else {
+			return;
+		}
+
+		if ((portalCache instanceof TransactionalPortalCache) &&
+			TransactionalPortalCacheHelper.isEnabled()) {
+
+			portalCache.put(cacheKey, versionedCacheValue);
+		}
+		else {
+			VersionedCacheUtil.putCommitted(
+				VersionedCacheUtil.getVersionClock(), portalCache, cacheKey,
+				versionedCacheValue);
+		}
+	}
+
 	private Serializable _toEntityModel(Serializable result) {
 		if (result == StringPool.BLANK) {
 			return null;
@@ -336,10 +479,15 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 	private static final String _GROUP_KEY_PREFIX = CACHE_NAME.concat(
 		StringPool.PERIOD);
 
+	private static final int _MISS_MARKER_MAP_MAX_SIZE = 10000;
+
 	private static Log _log = LogFactoryUtil.getLog(EntityCacheImpl.class);
 
 	private static ThreadLocal<LRUMap> _localCache;
 	private static boolean _localCacheAvailable;
+	private static ThreadLocal<MissMarkerMap> _missMarkerMap =
+		new AutoResetThreadLocal<MissMarkerMap>(
+			EntityCacheImpl.class + "._missMarkerMap", new MissMarkerMap());
 
 	static {
 		if (PropsValues.VALUE_OBJECT_ENTITY_THREAD_LOCAL_CACHE_MAX_SIZE > 0) {
@@ -452,4 +600,22 @@ public class EntityCacheImpl implements CacheRegistryItem, EntityCache {
 
 	}
 
+	private static class MissMarkerMap
+		extends LinkedHashMap<Serializable, VersionedCacheValue> {
+
+		@Override
+		protected boolean removeEldestEntry(
+			Map.Entry<Serializable, VersionedCacheValue> entry) {
+
+			if (size() > _MISS_MARKER_MAP_MAX_SIZE) {
+				return true;
+			}
+
+			return false;
+		}
+
+		private static final long serialVersionUID = 1L;
+
+	}
+
 }
\ No newline at end of file
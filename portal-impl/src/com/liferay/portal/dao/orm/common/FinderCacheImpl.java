@@ -22,20 +22,28 @@ import com.liferay.portal.kernel.dao.orm.EntityCacheUtil;
 import com.liferay.portal.kernel.dao.orm.FinderCache;
 import com.liferay.portal.kernel.dao.orm.FinderPath;
 import com.liferay.portal.kernel.dao.orm.SessionFactory;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.security.pacl.DoPrivileged;
 import com.liferay.portal.kernel.util.AutoResetThreadLocal;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.model.BaseModel;
+import com.liferay.portal.service.persistence.BasePersistence;
 import com.liferay.portal.util.PropsValues;
 
 import java.io.Serializable;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.collections.map.LRUMap;
 
@@ -48,6 +56,14 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 
 	public static final String CACHE_NAME = FinderCache.class.getName();
 
+	public static long getBulkHydrationHitCount() {
+		return _bulkHydrationHitCount.get();
+	}
+
+	public static long getBulkHydrationMissCount() {
+		return _bulkHydrationMissCount.get();
+	}
+
 	public void afterPropertiesSet() {
 		CacheRegistryUtil.register(this);
 	}
@@ -229,6 +245,16 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 				return (Serializable)Collections.emptyList();
 			}
 
+			if (PropsValues.VALUE_OBJECT_FINDER_BULK_HYDRATION_ENABLED &&
+				BaseModel.class.isAssignableFrom(
+					finderPath.getResultClass()) &&
+				(sessionFactory instanceof BasePersistence<?>)) {
+
+				return _primaryKeysToResult(
+					finderPath, (BasePersistence<?>)sessionFactory,
+					cachedList);
+			}
+
 			List<Serializable> list = new ArrayList<Serializable>(
 				cachedList.size());
 
@@ -253,6 +279,83 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 		}
 	}
 
+	private Serializable _primaryKeysToResult(
+		FinderPath finderPath, BasePersistence<?> basePersistence,
+		List<Serializable> primaryKeys) {
+
+		Map<Serializable, Serializable> results =
+			new HashMap<Serializable, Serializable>();
+
+		Set<Serializable> uncachedPrimaryKeys = null;
+
+		int missCount = 0;
+
+		for (Serializable primaryKey : primaryKeys) {
+			Serializable result = EntityCacheUtil.getResult(
+				finderPath.isEntityCacheEnabled(), finderPath.getResultClass(),
+				primaryKey);
+
+			if (result != null) {
+				results.put(primaryKey, result);
+
+				continue;
+			}
+
+			if (uncachedPrimaryKeys == null) {
+				uncachedPrimaryKeys = new HashSet<Serializable>();
+			}
+
+			uncachedPrimaryKeys.add(primaryKey);
+
+			missCount++;
+		}
+
+		_bulkHydrationHitCount.addAndGet(primaryKeys.size() - missCount);
+		_bulkHydrationMissCount.addAndGet(missCount);
+
+		if (uncachedPrimaryKeys != null) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Load " + uncachedPrimaryKeys.size() + " " +
+						finderPath.getResultClass() + " in bulk for " +
+						finderPath.getCacheName());
+			}
+
+			try {
+				results.putAll(
+					basePersistence.fetchByPrimaryKeys(uncachedPrimaryKeys));
+			}
+			catch (SystemException se) {
+				if (_log.isWarnEnabled()) {
+					_log.warn(
+						"Unable to load " + finderPath.getResultClass() +
+							" in bulk",
+						se);
+				}
+
+				return null;
+			}
+		}
+
+		List<Serializable> list = new ArrayList<Serializable>(
+			primaryKeys.size());
+
+		for (Serializable primaryKey : primaryKeys) {
+			Serializable result = results.get(primaryKey);
+
+			if (result == null) {
+
+				// The cached finder result references a removed entity
+
+				return null;
+			}
+
+			list.add(result);
+		}
+
+		return (Serializable)list;
+	}
+
 	private Serializable _resultToPrimaryKey(Serializable result) {
 		if (result instanceof BaseModel<?>) {
 			BaseModel<?> model = (BaseModel<?>)result;
@@ -285,6 +388,10 @@ public class FinderCacheImpl implements CacheRegistryItem, FinderCache {
 	private static final String _GROUP_KEY_PREFIX = CACHE_NAME.concat(
 		StringPool.PERIOD);
 
+	private static Log _log = LogFactoryUtil.getLog(FinderCacheImpl.class);
+
+	private static AtomicLong _bulkHydrationHitCount = new AtomicLong();
+	private static AtomicLong _bulkHydrationMissCount = new AtomicLong();
 	private static ThreadLocal<LRUMap> _localCache;
 	private static boolean _localCacheAvailable;
 
@@ -32,7 +32,10 @@ import com.liferay.portal.kernel.template.TemplateManagerUtil;
 import com.liferay.portal.kernel.util.ReleaseInfo;
 import com.liferay.portal.plugin.PluginPackageIndexer;
 import com.liferay.portal.service.LockLocalServiceUtil;
+import com.liferay.portal.staging.StagingChangeJournalUtil;
+import com.liferay.portal.template.CompiledTemplateCache;
 import com.liferay.portal.tools.DBUpgrader;
+import com.liferay.portal.util.PropsValues;
 import com.liferay.portlet.messageboards.util.MBMessageIndexer;
 
 /**
@@ -153,6 +156,22 @@ public class StartupAction extends SimpleAction {
 		// Jericho
 
 		CachedLoggerProvider.install();
+
+		// Compiled template cache
+
+		if (PropsValues.DYNAMIC_DATA_MAPPING_TEMPLATE_WARM_UP_ENABLED) {
+			if (_log.isDebugEnabled()) {
+				_log.debug("Warm up compiled template cache");
+			}
+
+			CompiledTemplateCache.warmUp();
+		}
+
+		// Staging change journal
+
+		if (PropsValues.STAGING_CHANGE_JOURNAL_ENABLED) {
+			StagingChangeJournalUtil.registerModelListeners();
+		}
 	}
 
 	private static Log _log = LogFactoryUtil.getLog(StartupAction.class);
@@ -16,13 +16,16 @@ package com.liferay.portal.freemarker;
 
 import com.liferay.portal.kernel.cache.PortalCache;
 import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.io.unsync.UnsyncStringReader;
 import com.liferay.portal.kernel.template.TemplateConstants;
 import com.liferay.portal.kernel.template.TemplateException;
 import com.liferay.portal.kernel.template.TemplateResource;
 import com.liferay.portal.kernel.template.TemplateResourceLoaderUtil;
+import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.kernel.util.ReflectionUtil;
 import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.template.CompiledTemplateCache;
 import com.liferay.portal.template.TemplateResourceThreadLocal;
 import com.liferay.portal.util.PropsUtil;
 import com.liferay.portal.util.PropsValues;
@@ -66,6 +69,8 @@ public class LiferayTemplateCache extends TemplateCache {
 			TemplateConstants.LANG_TYPE_FTL);
 
 		_portalCache = SingleVMPoolUtil.getCache(cacheName);
+
+		_compiledTemplateCache = new FreeMarkerCompiledTemplateCache();
 	}
 
 	@Override
@@ -154,23 +159,61 @@ public class LiferayTemplateCache extends TemplateCache {
 			return (Template)object;
 		}
 
-		Template template = new Template(
-			templateResource.getTemplateId(), templateResource.getReader(),
-			_configuration, TemplateConstants.DEFAUT_ENCODING);
-
 		if (PropsValues.
-				FREEMARKER_ENGINE_RESOURCE_MODIFICATION_CHECK_INTERVAL != 0) {
+				FREEMARKER_ENGINE_RESOURCE_MODIFICATION_CHECK_INTERVAL == 0) {
 
-			_portalCache.put(templateResource, template);
+			return new Template(
+				templateResource.getTemplateId(), templateResource.getReader(),
+				_configuration, TemplateConstants.DEFAUT_ENCODING);
 		}
 
+		Template template = _compiledTemplateCache.getCompiledTemplate(
+			templateResource);
+
+		_portalCache.put(templateResource, template);
+
 		return template;
 	}
 
+	private CompiledTemplateCache<Template> _compiledTemplateCache;
 	private Configuration _configuration;
 	private Method _normalizeNameMethod;
 	private PortalCache<TemplateResource, Object> _portalCache;
 
+	private class FreeMarkerCompiledTemplateCache
+		extends CompiledTemplateCache<Template> {
+
+		public FreeMarkerCompiledTemplateCache() {
+			super(TemplateConstants.LANG_TYPE_FTL);
+		}
+
+		@Override
+		protected Template compile(String templateId, String templateContent)
+			throws IOException {
+
+			return new Template(
+				templateId, new UnsyncStringReader(templateContent),
+				_configuration, TemplateConstants.DEFAUT_ENCODING);
+		}
+
+		@Override
+		protected String getKey(String templateId, String templateContent) {
+			String key = super.getKey(templateId, templateContent);
+
+			// Relative include paths are resolved against the directory of
+			// the template ID when the template is parsed
+
+			int pos = templateId.lastIndexOf(CharPool.SLASH);
+
+			if (pos == -1) {
+				return key;
+			}
+
+			return templateId.substring(0, pos + 1).concat(key);
+		}
+
+	}
+
 	private class TemplatePrivilegedExceptionAction
 		implements PrivilegedExceptionAction<Template> {
 
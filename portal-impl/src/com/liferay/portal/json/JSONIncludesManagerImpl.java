@@ -22,9 +22,9 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Igor Spasic
@@ -40,8 +40,10 @@ public class JSONIncludesManagerImpl implements JSONIncludesManager {
 
 		List<String> list = new ArrayList<String>();
 
-		while (type != null) {
-			JSON jsonAnnotation = type.getAnnotation(JSON.class);
+		Class<?> curType = type;
+
+		while (curType != null) {
+			JSON jsonAnnotation = curType.getAnnotation(JSON.class);
 
 			if ((jsonAnnotation != null) && jsonAnnotation.strict()) {
 				list.add(_EXCLUDE_ALL);
@@ -49,10 +51,10 @@ public class JSONIncludesManagerImpl implements JSONIncludesManager {
 				break;
 			}
 			else {
-				_scanFieldsAndMethods(list, type, false);
+				_scanFieldsAndMethods(list, curType, false);
 			}
 
-			type = type.getSuperclass();
+			curType = curType.getSuperclass();
 		}
 
 		excludes = _listToArray(list);
@@ -71,10 +73,12 @@ public class JSONIncludesManagerImpl implements JSONIncludesManager {
 
 		List<String> list = new ArrayList<String>();
 
-		while (type != null) {
-			_scanFieldsAndMethods(list, type, true);
+		Class<?> curType = type;
+
+		while (curType != null) {
+			_scanFieldsAndMethods(list, curType, true);
 
-			type = type.getSuperclass();
+			curType = curType.getSuperclass();
 		}
 
 		includes = _listToArray(list);
@@ -171,8 +175,8 @@ public class JSONIncludesManagerImpl implements JSONIncludesManager {
 	private static final String _EXCLUDE_ALL = "*";
 
 	private Map<Class<?>, String[]> _excludesMap =
-		new HashMap<Class<?>, String[]>();
+		new ConcurrentHashMap<Class<?>, String[]>();
 	private Map<Class<?>, String[]> _includesMap =
-		new HashMap<Class<?>, String[]>();
+		new ConcurrentHashMap<Class<?>, String[]>();
 
 }
\ No newline at end of file
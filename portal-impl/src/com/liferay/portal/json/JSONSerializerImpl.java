@@ -16,6 +16,7 @@ package com.liferay.portal.json;
 
 import com.liferay.portal.kernel.json.JSONSerializer;
 import com.liferay.portal.kernel.json.JSONTransformer;
+import com.liferay.portal.kernel.memory.SoftReferenceThreadLocal;
 
 import flexjson.transformer.Transformer;
 
@@ -43,11 +44,25 @@ public class JSONSerializerImpl implements JSONSerializer {
 	}
 
 	public String serialize(Object target) {
-		return _jsonSerializer.serialize(target);
+		StringBuilder sb = _getStringBuilder();
+
+		try {
+			return _jsonSerializer.serialize(target, sb);
+		}
+		finally {
+			_recycleStringBuilder(sb);
+		}
 	}
 
 	public String serializeDeep(Object target) {
-		return _jsonSerializer.deepSerialize(target);
+		StringBuilder sb = _getStringBuilder();
+
+		try {
+			return _jsonSerializer.deepSerialize(target, sb);
+		}
+		finally {
+			_recycleStringBuilder(sb);
+		}
 	}
 
 	public JSONSerializerImpl transform(
@@ -84,6 +99,37 @@ public class JSONSerializerImpl implements JSONSerializer {
 		return this;
 	}
 
+	private StringBuilder _getStringBuilder() {
+		StringBuilder sb = _stringBuilderThreadLocal.get();
+
+		if (sb == null) {
+			return new StringBuilder(_STRING_BUILDER_INITIAL_CAPACITY);
+		}
+
+		// Serializations nested in a transformer must not share the buffer
+
+		_stringBuilderThreadLocal.set(null);
+
+		return sb;
+	}
+
+	private void _recycleStringBuilder(StringBuilder sb) {
+		if (sb.capacity() > _STRING_BUILDER_MAX_CAPACITY) {
+			return;
+		}
+
+		sb.setLength(0);
+
+		_stringBuilderThreadLocal.set(sb);
+	}
+
+	private static final int _STRING_BUILDER_INITIAL_CAPACITY = 1024;
+
+	private static final int _STRING_BUILDER_MAX_CAPACITY = 64 * 1024;
+
+	private static ThreadLocal<StringBuilder> _stringBuilderThreadLocal =
+		new SoftReferenceThreadLocal<StringBuilder>();
+
 	private final flexjson.JSONSerializer _jsonSerializer;
 
 }
\ No newline at end of file
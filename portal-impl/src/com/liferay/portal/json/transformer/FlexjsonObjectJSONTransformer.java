@@ -17,18 +17,20 @@ package com.liferay.portal.json.transformer;
 import com.liferay.portal.kernel.json.JSONIncludesManagerUtil;
 import com.liferay.portal.kernel.json.JSONTransformer;
 import com.liferay.portal.kernel.util.CharPool;
+import com.liferay.portal.kernel.util.ReflectionUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 
 import flexjson.JSONContext;
+import flexjson.JSONException;
 import flexjson.Path;
 import flexjson.PathExpression;
 
 import flexjson.transformer.ObjectTransformer;
 
-import java.util.List;
+import java.lang.reflect.Field;
 
-import jodd.bean.BeanUtil;
+import java.util.List;
 
 /**
  * @author Igor Spasic
@@ -40,9 +42,7 @@ public class FlexjsonObjectJSONTransformer
 	public void transform(Object object) {
 		Class<?> type = resolveClass(object);
 
-		List<PathExpression> pathExpressions =
-			(List<PathExpression>)BeanUtil.getDeclaredProperty(
-				getContext(), "pathExpressions");
+		List<PathExpression> pathExpressions = _getPathExpressions();
 
 		String path = _getPath();
 
@@ -64,11 +64,16 @@ public class FlexjsonObjectJSONTransformer
 			PathExpression pathExpression = new PathExpression(
 				path.concat(name), false);
 
+			boolean excluded = false;
+
 			for (int i = 0; i < pathExpressions.size(); i++) {
 				PathExpression curPathExpression = pathExpressions.get(i);
 
-				if (pathExpression.equals(curPathExpression) &&
-					curPathExpression.isIncluded()) {
+				if (!pathExpression.equals(curPathExpression)) {
+					continue;
+				}
+
+				if (curPathExpression.isIncluded()) {
 
 					// Same path expression found, but it was included,
 					// therefore, replace it with the excluded path expression
@@ -77,9 +82,17 @@ public class FlexjsonObjectJSONTransformer
 
 					return;
 				}
+
+				excluded = true;
 			}
 
-			pathExpressions.add(pathExpression);
+			// Every object of a type at the same path adds the same path
+			// expression. Adding it again would not change which properties
+			// are serialized, but it would make every later lookup slower.
+
+			if (!excluded) {
+				pathExpressions.add(pathExpression);
+			}
 		}
 	}
 
@@ -104,6 +117,18 @@ public class FlexjsonObjectJSONTransformer
 		return sb.toString();
 	}
 
+	@SuppressWarnings("unchecked")
+	private List<PathExpression> _getPathExpressions() {
+		try {
+			return (List<PathExpression>)_pathExpressionsField.get(
+				getContext());
+		}
+		catch (IllegalAccessException iae) {
+			throw new JSONException(
+				"Unable to get the path expressions of the context", iae);
+		}
+	}
+
 	private void _include(
 		List<PathExpression> pathExpressions, String path, String... names) {
 
@@ -117,4 +142,16 @@ public class FlexjsonObjectJSONTransformer
 		}
 	}
 
+	private static Field _pathExpressionsField;
+
+	static {
+		try {
+			_pathExpressionsField = ReflectionUtil.getDeclaredField(
+				JSONContext.class, "pathExpressions");
+		}
+		catch (Exception e) {
+			throw new ExceptionInInitializerError(e);
+		}
+	}
+
 }
\ No newline at end of file
@@ -15,6 +15,8 @@
 package com.liferay.portal.lar;
 
 import com.liferay.portal.NoSuchLayoutException;
+import com.liferay.portal.kernel.executor.CopyThreadLocalCallable;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
 import com.liferay.portal.kernel.language.LanguageUtil;
 import com.liferay.portal.kernel.lar.ExportImportPathUtil;
 import com.liferay.portal.kernel.lar.ExportImportThreadLocal;
@@ -29,6 +31,7 @@ import com.liferay.portal.kernel.staging.LayoutStagingUtil;
 import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.FileUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.KeyValuePair;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.MapUtil;
 import com.liferay.portal.kernel.util.ParamUtil;
@@ -55,6 +58,7 @@ import com.liferay.portal.model.LayoutSet;
 import com.liferay.portal.model.LayoutSetPrototype;
 import com.liferay.portal.model.LayoutStagingHandler;
 import com.liferay.portal.model.LayoutTypePortlet;
+import com.liferay.portal.model.Lock;
 import com.liferay.portal.model.Portlet;
 import com.liferay.portal.model.PortletConstants;
 import com.liferay.portal.model.Theme;
@@ -80,19 +84,32 @@ import com.liferay.portlet.asset.model.AssetCategory;
 import com.liferay.portlet.asset.model.AssetVocabulary;
 import com.liferay.portlet.asset.service.AssetVocabularyLocalServiceUtil;
 import com.liferay.portlet.asset.service.persistence.AssetCategoryUtil;
+import com.liferay.portlet.expando.model.ExpandoColumn;
 import com.liferay.portlet.journal.NoSuchArticleException;
 import com.liferay.portlet.journal.model.JournalArticle;
 import com.liferay.portlet.journal.service.JournalArticleLocalServiceUtil;
+import com.liferay.portlet.messageboards.model.MBMessage;
+import com.liferay.portlet.ratings.model.RatingsEntry;
 import com.liferay.util.ContentUtil;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 
 import javax.servlet.ServletContext;
 
@@ -457,65 +474,22 @@ public class LayoutExporter {
 
 		Element portletsElement = rootElement.addElement("portlets");
 
-		for (Map.Entry<String, Object[]> portletIdsEntry :
-				portletIds.entrySet()) {
+		if (PropsValues.STAGING_EXPORT_PORTLETS_PARALLEL_ENABLED &&
+			(portletIds.size() > 1)) {
 
-			Object[] portletObjects = portletIdsEntry.getValue();
-
-			String portletId = null;
-			plid = LayoutConstants.DEFAULT_PLID;
-			long scopeGroupId = 0;
-			String scopeType = StringPool.BLANK;
-			String scopeLayoutUuid = null;
-
-			if (portletObjects.length == 4) {
-				portletId = (String)portletIdsEntry.getValue()[0];
-				plid = (Long)portletIdsEntry.getValue()[1];
-				scopeGroupId = (Long)portletIdsEntry.getValue()[2];
-				scopeLayoutUuid = (String)portletIdsEntry.getValue()[3];
-			}
-			else {
-				portletId = (String)portletIdsEntry.getValue()[0];
-				plid = (Long)portletIdsEntry.getValue()[1];
-				scopeGroupId = (Long)portletIdsEntry.getValue()[2];
-				scopeType = (String)portletIdsEntry.getValue()[3];
-				scopeLayoutUuid = (String)portletIdsEntry.getValue()[4];
-			}
-
-			Layout layout = LayoutLocalServiceUtil.fetchLayout(plid);
-
-			if (layout == null) {
-				if (!group.isCompany() &&
-					(plid <= LayoutConstants.DEFAULT_PLID)) {
-
-					continue;
-				}
-
-				if (_log.isWarnEnabled()) {
-					_log.warn(
-						"Assuming global scope because no layout was found");
-				}
-
-				layout = new LayoutImpl();
-
-				layout.setGroupId(groupId);
-				layout.setCompanyId(companyId);
+			parallelyExportPortlets(
+				portletDataContext, portletIds, portletsElement, group, type,
+				defaultUserId, exportPermissions, exportPortletArchivedSetups,
+				exportPortletUserPreferences);
+		}
+		else {
+			for (Object[] portletObjects : portletIds.values()) {
+				exportPortlet(
+					portletDataContext, layoutCache, portletObjects,
+					portletsElement, group, type, defaultUserId,
+					exportPermissions, exportPortletArchivedSetups,
+					exportPortletUserPreferences);
 			}
-
-			portletDataContext.setPlid(plid);
-			portletDataContext.setOldPlid(plid);
-			portletDataContext.setScopeGroupId(scopeGroupId);
-			portletDataContext.setScopeType(scopeType);
-			portletDataContext.setScopeLayoutUuid(scopeLayoutUuid);
-
-			boolean[] exportPortletControls = getExportPortletControls(
-				companyId, portletId, portletDataContext, parameterMap, type);
-
-			_portletExporter.exportPortlet(
-				portletDataContext, layoutCache, portletId, layout,
-				portletsElement, defaultUserId, exportPermissions,
-				exportPortletArchivedSetups, exportPortletControls[0],
-				exportPortletControls[1], exportPortletUserPreferences);
 		}
 
 		portletDataContext.setScopeGroupId(previousScopeGroupId);
@@ -899,6 +873,72 @@ public class LayoutExporter {
 		portletDataContext.addZipEntry(path, layout);
 	}
 
+	protected void exportPortlet(
+			PortletDataContext portletDataContext, LayoutCache layoutCache,
+			Object[] portletObjects, Element portletsElement, Group group,
+			String type, long defaultUserId, boolean exportPermissions,
+			boolean exportPortletArchivedSetups,
+			boolean exportPortletUserPreferences)
+		throws Exception {
+
+		long companyId = portletDataContext.getCompanyId();
+		long groupId = portletDataContext.getGroupId();
+		Map<String, String[]> parameterMap =
+			portletDataContext.getParameterMap();
+
+		String portletId = null;
+		long plid = LayoutConstants.DEFAULT_PLID;
+		long scopeGroupId = 0;
+		String scopeType = StringPool.BLANK;
+		String scopeLayoutUuid = null;
+
+		if (portletObjects.length == 4) {
+			portletId = (String)portletObjects[0];
+			plid = (Long)portletObjects[1];
+			scopeGroupId = (Long)portletObjects[2];
+			scopeLayoutUuid = (String)portletObjects[3];
+		}
+		else {
+			portletId = (String)portletObjects[0];
+			plid = (Long)portletObjects[1];
+			scopeGroupId = (Long)portletObjects[2];
+			scopeType = (String)portletObjects[3];
+			scopeLayoutUuid = (String)portletObjects[4];
+		}
+
+		Layout layout = LayoutLocalServiceUtil.fetchLayout(plid);
+
+		if (layout == null) {
+			if (!group.isCompany() && (plid <= LayoutConstants.DEFAULT_PLID)) {
+				return;
+			}
+
+			if (_log.isWarnEnabled()) {
+				_log.warn("Assuming global scope because no layout was found");
+			}
+
+			layout = new LayoutImpl();
+
+			layout.setGroupId(groupId);
+			layout.setCompanyId(companyId);
+		}
+
+		portletDataContext.setPlid(plid);
+		portletDataContext.setOldPlid(plid);
+		portletDataContext.setScopeGroupId(scopeGroupId);
+		portletDataContext.setScopeType(scopeType);
+		portletDataContext.setScopeLayoutUuid(scopeLayoutUuid);
+
+		boolean[] exportPortletControls = getExportPortletControls(
+			companyId, portletId, portletDataContext, parameterMap, type);
+
+		_portletExporter.exportPortlet(
+			portletDataContext, layoutCache, portletId, layout,
+			portletsElement, defaultUserId, exportPermissions,
+			exportPortletArchivedSetups, exportPortletControls[0],
+			exportPortletControls[1], exportPortletUserPreferences);
+	}
+
 	protected void exportTheme(LayoutSet layoutSet, ZipWriter zipWriter)
 		throws Exception {
 
@@ -932,9 +972,7 @@ public class LayoutExporter {
 			return;
 		}
 
-		File themeZip = new File(zipWriter.getPath() + "/theme.zip");
-
-		ZipWriter themeZipWriter = ZipWriterFactoryUtil.getZipWriter(themeZip);
+		ZipWriter themeZipWriter = ZipWriterFactoryUtil.getZipWriter();
 
 		themeZipWriter.addEntry("liferay-look-and-feel.xml", lookAndFeelXML);
 
@@ -976,6 +1014,19 @@ public class LayoutExporter {
 		exportThemeFiles("images", imagesPath, themeZipWriter);
 		exportThemeFiles("javascript", javaScriptPath, themeZipWriter);
 		exportThemeFiles("templates", templatesPath, themeZipWriter);
+
+		File themeZip = themeZipWriter.getFile();
+
+		InputStream inputStream = new FileInputStream(themeZip);
+
+		try {
+			zipWriter.addEntry("theme.zip", inputStream);
+		}
+		finally {
+			inputStream.close();
+
+			FileUtil.delete(themeZip);
+		}
 	}
 
 	protected void exportThemeFiles(String path, File dir, ZipWriter zipWriter)
@@ -1163,9 +1214,334 @@ public class LayoutExporter {
 		return sb.toString();
 	}
 
+	protected void mergePortletDataContext(
+		PortletDataContext portletDataContext,
+		PortletDataContext taskPortletDataContext) {
+
+		Map<String, long[]> assetCategoryIdsMap =
+			portletDataContext.getAssetCategoryIdsMap();
+
+		assetCategoryIdsMap.putAll(
+			taskPortletDataContext.getAssetCategoryIdsMap());
+
+		Map<String, String[]> assetCategoryUuidsMap =
+			portletDataContext.getAssetCategoryUuidsMap();
+
+		assetCategoryUuidsMap.putAll(
+			taskPortletDataContext.getAssetCategoryUuidsMap());
+
+		Map<String, String[]> assetLinkUuidsMap =
+			portletDataContext.getAssetLinkUuidsMap();
+
+		assetLinkUuidsMap.putAll(taskPortletDataContext.getAssetLinkUuidsMap());
+
+		Map<String, String[]> assetTagNamesMap =
+			portletDataContext.getAssetTagNamesMap();
+
+		assetTagNamesMap.putAll(taskPortletDataContext.getAssetTagNamesMap());
+
+		Map<String, List<MBMessage>> comments =
+			portletDataContext.getComments();
+
+		comments.putAll(taskPortletDataContext.getComments());
+
+		Map<String, List<ExpandoColumn>> expandoColumns =
+			portletDataContext.getExpandoColumns();
+
+		expandoColumns.putAll(taskPortletDataContext.getExpandoColumns());
+
+		Map<String, Lock> locks = portletDataContext.getLocks();
+
+		locks.putAll(taskPortletDataContext.getLocks());
+
+		Map<String, List<KeyValuePair>> permissions =
+			portletDataContext.getPermissions();
+
+		permissions.putAll(taskPortletDataContext.getPermissions());
+
+		Map<String, List<RatingsEntry>> ratingsEntries =
+			portletDataContext.getRatingsEntries();
+
+		ratingsEntries.putAll(taskPortletDataContext.getRatingsEntries());
+
+		Set<String> primaryKeys = portletDataContext.getPrimaryKeys();
+
+		primaryKeys.addAll(taskPortletDataContext.getPrimaryKeys());
+	}
+
+	protected void parallelyExportPortlets(
+			PortletDataContext portletDataContext,
+			Map<String, Object[]> portletIds, Element portletsElement,
+			Group group, String type, long defaultUserId,
+			boolean exportPermissions, boolean exportPortletArchivedSetups,
+			boolean exportPortletUserPreferences)
+		throws Exception {
+
+		// Portlets with the same portlet ID are exported in their original
+		// order by the same task because the first one exports the data of
+		// portlets that are not unique per layout
+
+		// Each task tracks its own processed paths, starting from the paths
+		// processed before the portlets. A staged model referenced by several
+		// portlets is therefore written into the data of each of them, so
+		// every portlet's references resolve within its own data regardless
+		// of the order in which the tasks run. Its zip entries are identical
+		// and only written once.
+
+		Map<String, List<Object[]>> portletObjectsListMap =
+			new LinkedHashMap<String, List<Object[]>>();
+
+		Map<Object[], Element> portletsElements =
+			new HashMap<Object[], Element>();
+
+		for (Object[] portletObjects : portletIds.values()) {
+			String portletId = (String)portletObjects[0];
+
+			List<Object[]> portletObjectsList = portletObjectsListMap.get(
+				portletId);
+
+			if (portletObjectsList == null) {
+				portletObjectsList = new ArrayList<Object[]>();
+
+				portletObjectsListMap.put(portletId, portletObjectsList);
+			}
+
+			portletObjectsList.add(portletObjects);
+
+			portletsElements.put(
+				portletObjects, SAXReaderUtil.createElement("portlets"));
+		}
+
+		ZipWriter zipWriter = new SynchronizedZipWriter(
+			portletDataContext.getZipWriter());
+
+		ExecutorService executorService =
+			PortalExecutorManagerUtil.getPortalExecutor(
+				LayoutExporter.class.getName());
+
+		List<PortletExportCallable> portletExportCallables =
+			new ArrayList<PortletExportCallable>(portletObjectsListMap.size());
+		List<Future<PortletDataContext>> futures =
+			new ArrayList<Future<PortletDataContext>>(
+				portletObjectsListMap.size());
+
+		for (List<Object[]> portletObjectsList :
+				portletObjectsListMap.values()) {
+
+			PortletDataContext taskPortletDataContext =
+				new PortletDataContextImpl(
+					portletDataContext.getCompanyId(),
+					portletDataContext.getGroupId(),
+					portletDataContext.getParameterMap(),
+					new HashSet<String>(portletDataContext.getPrimaryKeys()),
+					portletDataContext.getStartDate(),
+					portletDataContext.getEndDate(), zipWriter);
+
+			taskPortletDataContext.setPortetDataContextListener(
+				new PortletDataContextListenerImpl(taskPortletDataContext));
+
+			PortletExportCallable portletExportCallable =
+				new PortletExportCallable(
+					taskPortletDataContext, portletObjectsList,
+					portletsElements, group, type, defaultUserId,
+					exportPermissions, exportPortletArchivedSetups,
+					exportPortletUserPreferences);
+
+			Future<PortletDataContext> future = null;
+
+			try {
+				future = executorService.submit(portletExportCallable);
+			}
+			catch (RejectedExecutionException ree) {
+
+				// Export the portlets in the current thread once the submitted
+				// tasks are collected
+
+			}
+
+			portletExportCallables.add(portletExportCallable);
+			futures.add(future);
+		}
+
+		List<PortletDataContext> taskPortletDataContexts =
+			new ArrayList<PortletDataContext>(futures.size());
+
+		try {
+			for (int i = 0; i < futures.size(); i++) {
+				Future<PortletDataContext> future = futures.get(i);
+
+				if (future == null) {
+					PortletExportCallable portletExportCallable =
+						portletExportCallables.get(i);
+
+					taskPortletDataContexts.add(portletExportCallable.doCall());
+
+					continue;
+				}
+
+				try {
+					taskPortletDataContexts.add(future.get());
+				}
+				catch (ExecutionException ee) {
+					Throwable cause = ee.getCause();
+
+					if (cause instanceof Exception) {
+						throw (Exception)cause;
+					}
+
+					throw ee;
+				}
+			}
+		}
+		finally {
+			if (taskPortletDataContexts.size() < futures.size()) {
+				for (Future<PortletDataContext> future : futures) {
+					if (future != null) {
+						future.cancel(true);
+					}
+				}
+			}
+		}
+
+		// Add the portlet elements and the collected references in the
+		// original order so that the manifest does not depend on the order in
+		// which the tasks finish
+
+		for (Object[] portletObjects : portletIds.values()) {
+			Element tempPortletsElement = portletsElements.get(portletObjects);
+
+			for (Element portletElement : tempPortletsElement.elements()) {
+				portletElement.detach();
+
+				portletsElement.add(portletElement);
+			}
+		}
+
+		for (PortletDataContext taskPortletDataContext :
+				taskPortletDataContexts) {
+
+			mergePortletDataContext(portletDataContext, taskPortletDataContext);
+		}
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(LayoutExporter.class);
 
 	private PermissionExporter _permissionExporter = new PermissionExporter();
 	private PortletExporter _portletExporter = new PortletExporter();
 
+	private class PortletExportCallable
+		extends CopyThreadLocalCallable<PortletDataContext> {
+
+		public PortletExportCallable(
+			PortletDataContext portletDataContext,
+			List<Object[]> portletObjectsList,
+			Map<Object[], Element> portletsElements, Group group, String type,
+			long defaultUserId, boolean exportPermissions,
+			boolean exportPortletArchivedSetups,
+			boolean exportPortletUserPreferences) {
+
+			super(false, true);
+
+			_portletDataContext = portletDataContext;
+			_portletObjectsList = portletObjectsList;
+			_portletsElements = portletsElements;
+			_group = group;
+			_type = type;
+			_defaultUserId = defaultUserId;
+			_exportPermissions = exportPermissions;
+			_exportPortletArchivedSetups = exportPortletArchivedSetups;
+			_exportPortletUserPreferences = exportPortletUserPreferences;
+		}
+
+		@Override
+		public PortletDataContext doCall() throws Exception {
+			LayoutCache layoutCache = new LayoutCache();
+
+			for (Object[] portletObjects : _portletObjectsList) {
+				exportPortlet(
+					_portletDataContext, layoutCache, portletObjects,
+					_portletsElements.get(portletObjects), _group, _type,
+					_defaultUserId, _exportPermissions,
+					_exportPortletArchivedSetups,
+					_exportPortletUserPreferences);
+			}
+
+			return _portletDataContext;
+		}
+
+		private final long _defaultUserId;
+		private final boolean _exportPermissions;
+		private final boolean _exportPortletArchivedSetups;
+		private final boolean _exportPortletUserPreferences;
+		private final Group _group;
+		private final PortletDataContext _portletDataContext;
+		private final List<Object[]> _portletObjectsList;
+		private final Map<Object[], Element> _portletsElements;
+		private final String _type;
+
+	}
+
+	private static class SynchronizedZipWriter implements ZipWriter {
+
+		public SynchronizedZipWriter(ZipWriter zipWriter) {
+			_zipWriter = zipWriter;
+		}
+
+		public synchronized void addEntry(String name, byte[] bytes)
+			throws IOException {
+
+			if (_isNewEntry(name)) {
+				_zipWriter.addEntry(name, bytes);
+			}
+		}
+
+		public synchronized void addEntry(String name, InputStream inputStream)
+			throws IOException {
+
+			if (_isNewEntry(name)) {
+				_zipWriter.addEntry(name, inputStream);
+			}
+		}
+
+		public synchronized void addEntry(String name, String s)
+			throws IOException {
+
+			if (_isNewEntry(name)) {
+				_zipWriter.addEntry(name, s);
+			}
+		}
+
+		public synchronized void addEntry(String name, StringBuilder sb)
+			throws IOException {
+
+			if (_isNewEntry(name)) {
+				_zipWriter.addEntry(name, sb);
+			}
+		}
+
+		public synchronized byte[] finish() throws IOException {
+			return _zipWriter.finish();
+		}
+
+		public synchronized File getFile() {
+			return _zipWriter.getFile();
+		}
+
+		public String getPath() {
+			return _zipWriter.getPath();
+		}
+
+		private boolean _isNewEntry(String name) {
+			if (name.startsWith(StringPool.SLASH)) {
+				name = name.substring(1);
+			}
+
+			return _names.add(name);
+		}
+
+		private final Set<String> _names = new HashSet<String>();
+		private final ZipWriter _zipWriter;
+
+	}
+
 }
\ No newline at end of file
@@ -573,13 +573,7 @@ public class PortletDataContextImpl implements PortletDataContext {
 	}
 
 	public boolean addPrimaryKey(Class<?> clazz, String primaryKey) {
-		boolean value = hasPrimaryKey(clazz, primaryKey);
-
-		if (!value) {
-			_primaryKeys.add(getPrimaryKeyString(clazz, primaryKey));
-		}
-
-		return value;
+		return !_primaryKeys.add(getPrimaryKeyString(clazz, primaryKey));
 	}
 
 	public void addRatingsEntries(Class<?> clazz, long classPK)
@@ -50,6 +50,7 @@ import com.liferay.portal.model.LayoutConstants;
 import com.liferay.portal.model.LayoutTypePortlet;
 import com.liferay.portal.model.Lock;
 import com.liferay.portal.model.Portlet;
+import com.liferay.portal.model.PortletApp;
 import com.liferay.portal.model.PortletConstants;
 import com.liferay.portal.model.PortletItem;
 import com.liferay.portal.model.PortletPreferences;
@@ -61,8 +62,10 @@ import com.liferay.portal.service.PortletItemLocalServiceUtil;
 import com.liferay.portal.service.PortletLocalServiceUtil;
 import com.liferay.portal.service.PortletPreferencesLocalServiceUtil;
 import com.liferay.portal.service.UserLocalServiceUtil;
+import com.liferay.portal.staging.StagingChangeJournalUtil;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PortletKeys;
+import com.liferay.portal.util.PropsValues;
 import com.liferay.portlet.PortletPreferencesFactoryUtil;
 import com.liferay.portlet.asset.model.AssetCategory;
 import com.liferay.portlet.asset.model.AssetCategoryConstants;
@@ -1041,6 +1044,21 @@ public class PortletExporter {
 			portletDataContext.setStartDate(new Date(lastPublishDate));
 		}
 
+		if (!isPortletDataChanged(portletDataContext, portlet)) {
+			portletDataContext.setStartDate(startDate);
+
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Not exporting data for " + portletId +
+						" because its scope group did not change");
+			}
+
+			// The last publish date is not advanced, so a change that is not
+			// journaled on this node yet is exported by the next publication
+
+			return;
+		}
+
 		String data = null;
 
 		long groupId = portletDataContext.getGroupId();
@@ -1075,27 +1093,7 @@ public class PortletExporter {
 
 		portletDataContext.addZipEntry(path, data);
 
-		Date endDate = portletDataContext.getEndDate();
-
-		if (endDate != null) {
-			try {
-				jxPreferences.setValue(
-					"last-publish-date", String.valueOf(endDate.getTime()));
-
-				jxPreferences.store();
-			}
-			catch (UnsupportedOperationException uoe) {
-				if (_log.isDebugEnabled()) {
-					_log.debug(
-						"Not updating the portlet setup for " + portletId +
-							" because no setup was returned for the current " +
-								"page");
-				}
-			}
-			catch (Exception e) {
-				_log.error(e, e);
-			}
-		}
+		updateLastPublishDate(portletDataContext, portletId, jxPreferences);
 	}
 
 	protected void exportPortletPreference(
@@ -1428,6 +1426,54 @@ public class PortletExporter {
 		return sb.toString();
 	}
 
+	protected boolean isPortletDataChanged(
+			PortletDataContext portletDataContext, Portlet portlet)
+		throws Exception {
+
+		if (!PropsValues.STAGING_CHANGE_JOURNAL_ENABLED) {
+			return true;
+		}
+
+		Date startDate = portletDataContext.getStartDate();
+
+		if (startDate == null) {
+			return true;
+		}
+
+		// Only the models of the portal are journaled, and only the data of
+		// the scope group is checked
+
+		PortletApp portletApp = portlet.getPortletApp();
+
+		if (portletApp.isWARFile()) {
+			return true;
+		}
+
+		PortletDataHandler portletDataHandler =
+			portlet.getPortletDataHandlerInstance();
+
+		if (portletDataHandler.isDataPortalLevel()) {
+			return true;
+		}
+
+		String[] dataPortletPreferences =
+			portletDataHandler.getDataPortletPreferences();
+
+		if (dataPortletPreferences.length > 0) {
+			return true;
+		}
+
+		if (MapUtil.getBoolean(
+				portletDataContext.getParameterMap(),
+				PortletDataHandlerKeys.DELETE_PORTLET_DATA)) {
+
+			return true;
+		}
+
+		return StagingChangeJournalUtil.hasChanges(
+			portletDataContext.getScopeGroupId(), startDate);
+	}
+
 	protected String updateAssetCategoriesNavigationPortletPreferences(
 			String xml, long plid)
 		throws Exception {
@@ -1598,6 +1644,35 @@ public class PortletExporter {
 		jxPreferences.setValues(key, newValues);
 	}
 
+	protected void updateLastPublishDate(
+		PortletDataContext portletDataContext, String portletId,
+		javax.portlet.PortletPreferences jxPreferences) {
+
+		Date endDate = portletDataContext.getEndDate();
+
+		if (endDate == null) {
+			return;
+		}
+
+		try {
+			jxPreferences.setValue(
+				"last-publish-date", String.valueOf(endDate.getTime()));
+
+			jxPreferences.store();
+		}
+		catch (UnsupportedOperationException uoe) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Not updating the portlet setup for " + portletId +
+						" because no setup was returned for the current " +
+							"page");
+			}
+		}
+		catch (Exception e) {
+			_log.error(e, e);
+		}
+	}
+
 	protected void updatePreferencesClassPKs(
 			javax.portlet.PortletPreferences jxPreferences, String key,
 			String className)
@@ -0,0 +1,493 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.layoutconfiguration.util;
+
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.io.Deserializer;
+import com.liferay.portal.kernel.io.Serializer;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.portlet.RestrictPortletServletRequest;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.ParamUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.model.Group;
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.model.Portlet;
+import com.liferay.portal.model.PublicRenderParameter;
+import com.liferay.portal.monitoring.statistics.portlet.FragmentCacheStatistics;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.servlet.filters.cache.CacheUtil;
+import com.liferay.portal.theme.ThemeDisplay;
+import com.liferay.portal.util.PropsValues;
+import com.liferay.portal.util.WebKeys;
+import com.liferay.portlet.PortletPreferencesFactoryUtil;
+import com.liferay.portlet.PortletQName;
+import com.liferay.portlet.PortletQNameUtil;
+import com.liferay.portlet.PublicRenderParametersPool;
+
+import java.io.Serializable;
+
+import java.nio.ByteBuffer;
+
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import javax.portlet.PortletPreferences;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Caches the rendered output of portlets that are declared fragment cacheable
+ * in liferay-portlet.xml.
+ *
+ * <p>
+ * A fragment is cached per company, layout, portlet, theme, color scheme, and
+ * signed in state, and additionally per the request dimensions that the
+ * portlet declares in its fragment-cache-vary-by element. The surrogate keys
+ * of the models that the portlet is rendered from are recorded through {@link
+ * CacheUtil}, so that a fragment is invalidated together with the cached
+ * pages that depend on the same models.
+ * </p>
+ */
+public class PortletFragmentCacheUtil {
+
+	public static final String VARY_BY_LOCALE = "locale";
+
+	public static final String VARY_BY_PREFERENCES = "preferences";
+
+	public static final String VARY_BY_PUBLIC_RENDER_PARAMETERS =
+		"public-render-parameters";
+
+	public static final String VARY_BY_ROLES = "roles";
+
+	/**
+	 * Returns the key of the portlet's fragment for the request, or
+	 * <code>null</code> if the portlet cannot be served from the fragment
+	 * cache for the request.
+	 */
+	public static String getKey(HttpServletRequest request, Portlet portlet) {
+		if (!PropsValues.LAYOUT_PORTLET_FRAGMENT_CACHE_ENABLED ||
+			!portlet.isFragmentCacheable()) {
+
+			return null;
+		}
+
+		ThemeDisplay themeDisplay = (ThemeDisplay)request.getAttribute(
+			WebKeys.THEME_DISPLAY);
+
+		if ((themeDisplay == null) || !_isCacheableRequest(request, portlet)) {
+			return null;
+		}
+
+		Set<String> fragmentCacheVaryBy = portlet.getFragmentCacheVaryBy();
+
+		StringBundler sb = new StringBundler(19);
+
+		sb.append(StringUtil.toHexString(themeDisplay.getCompanyId()));
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.toHexString(themeDisplay.getPlid()));
+		sb.append(StringPool.POUND);
+		sb.append(portlet.getPortletId());
+		sb.append(StringPool.POUND);
+		sb.append(themeDisplay.getThemeId());
+		sb.append(StringPool.POUND);
+		sb.append(themeDisplay.getColorSchemeId());
+		sb.append(StringPool.POUND);
+		sb.append(themeDisplay.isSignedIn());
+		sb.append(StringPool.POUND);
+		sb.append(themeDisplay.isSecure());
+
+		try {
+			if (fragmentCacheVaryBy.contains(VARY_BY_LOCALE)) {
+				sb.append(StringPool.POUND);
+				sb.append(themeDisplay.getLanguageId());
+			}
+
+			if (fragmentCacheVaryBy.contains(VARY_BY_PREFERENCES)) {
+				PortletPreferences portletPreferences =
+					PortletPreferencesFactoryUtil.getPortletSetup(
+						request, portlet.getPortletId());
+
+				sb.append(StringPool.POUND);
+				sb.append(
+					DigesterUtil.digestHex(
+						Digester.MD5,
+						PortletPreferencesFactoryUtil.toXML(
+							portletPreferences)));
+			}
+
+			if (fragmentCacheVaryBy.contains(
+					VARY_BY_PUBLIC_RENDER_PARAMETERS)) {
+
+				sb.append(StringPool.POUND);
+				sb.append(
+					_getPublicRenderParametersKey(
+						request, portlet, themeDisplay.getPlid()));
+			}
+
+			if (fragmentCacheVaryBy.contains(VARY_BY_ROLES)) {
+				PermissionChecker permissionChecker =
+					themeDisplay.getPermissionChecker();
+
+				long[] roleIds = permissionChecker.getRoleIds(
+					themeDisplay.getUserId(), themeDisplay.getScopeGroupId());
+
+				roleIds = roleIds.clone();
+
+				Arrays.sort(roleIds);
+
+				sb.append(StringPool.POUND);
+				sb.append(StringUtil.merge(roleIds));
+			}
+		}
+		catch (Exception e) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to get the fragment cache key of portlet " +
+						portlet.getPortletId(),
+					e);
+			}
+
+			return null;
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the cached fragment for the key, or <code>null</code> if it is
+	 * not cached, has expired, or depends on a model that has changed. The
+	 * attributes that the portlet shared with the page when the fragment was
+	 * rendered are merged into the request again.
+	 */
+	public static String getPortletFragment(
+		HttpServletRequest request, Portlet portlet, String key) {
+
+		FragmentCacheStatistics fragmentCacheStatistics =
+			FragmentCacheStatistics.getInstance();
+
+		PortletFragment portletFragment = _portalCache.get(key);
+
+		if ((portletFragment != null) &&
+			((portletFragment._expirationTime < System.currentTimeMillis()) ||
+			 !CacheUtil.isCurrent(portletFragment._surrogateKeyVersions))) {
+
+			_portalCache.remove(key);
+
+			portletFragment = null;
+		}
+
+		if (portletFragment == null) {
+			fragmentCacheStatistics.processMiss(portlet.getRootPortletId());
+
+			return null;
+		}
+
+		fragmentCacheStatistics.processHit(portlet.getRootPortletId());
+
+		// The page that includes the fragment depends on the same models
+
+		CacheUtil.addSurrogateKeys(portletFragment._surrogateKeyVersions);
+
+		if (portletFragment._sharedAttributes != null) {
+			_mergeSharedAttributes(request, portletFragment._sharedAttributes);
+		}
+
+		return portletFragment._content;
+	}
+
+	public static void putPortletFragment(
+		Portlet portlet, String key, String content,
+		Map<String, Long> surrogateKeyVersions, byte[] sharedAttributes) {
+
+		long maxAge = PropsValues.LAYOUT_PORTLET_FRAGMENT_CACHE_MAX_AGE;
+
+		Integer expCache = portlet.getExpCache();
+
+		if ((expCache != null) && (expCache.intValue() > 0)) {
+			maxAge = expCache.intValue() * 1000L;
+		}
+
+		_portalCache.put(
+			key,
+			new PortletFragment(
+				content, System.currentTimeMillis() + maxAge,
+				surrogateKeyVersions, sharedAttributes));
+	}
+
+	/**
+	 * Returns a request that keeps the attributes that the portlet shares with
+	 * the page, such as its scripts and its html-top and body-bottom output,
+	 * apart from those of the other portlets. The request has to be passed to
+	 * {@link #stopSharedAttributes(RestrictPortletServletRequest)}.
+	 */
+	public static RestrictPortletServletRequest startSharedAttributes(
+		HttpServletRequest request) {
+
+		RestrictPortletServletRequest restrictPortletServletRequest =
+			new RestrictPortletServletRequest(request);
+
+		// Taglibs append to these attributes when they exist, so the portlet
+		// has to start without them
+
+		for (String name : _MERGEABLE_ATTRIBUTE_NAMES) {
+			restrictPortletServletRequest.setAttribute(name, null);
+		}
+
+		return restrictPortletServletRequest;
+	}
+
+	/**
+	 * Starts recording the surrogate keys of the portlet's fragment. The
+	 * fragment always depends on the layout and the group of the layout, so
+	 * that changes to the layout and its portlet preferences invalidate it.
+	 */
+	public static Map<String, Long> startSurrogateKeys(
+		HttpServletRequest request) {
+
+		Map<String, Long> surrogateKeyVersions =
+			CacheUtil.startFragmentSurrogateKeys();
+
+		ThemeDisplay themeDisplay = (ThemeDisplay)request.getAttribute(
+			WebKeys.THEME_DISPLAY);
+
+		Layout layout = themeDisplay.getLayout();
+
+		CacheUtil.addSurrogateKey(Group.class.getName(), layout.getGroupId());
+		CacheUtil.addSurrogateKey(Layout.class.getName(), layout.getPlid());
+
+		return surrogateKeyVersions;
+	}
+
+	/**
+	 * Merges the attributes that the portlet shared with the page into the
+	 * page's request, and returns them serialized so that they can be cached
+	 * with the fragment. Returns <code>null</code> if the portlet removed a
+	 * shared attribute or shared a value that cannot be serialized.
+	 */
+	public static byte[] stopSharedAttributes(
+		RestrictPortletServletRequest restrictPortletServletRequest) {
+
+		Map<String, Object> attributes =
+			restrictPortletServletRequest.getAttributes();
+
+		for (String name : _MERGEABLE_ATTRIBUTE_NAMES) {
+			if (restrictPortletServletRequest.getAttribute(name) == null) {
+				attributes.remove(name);
+			}
+		}
+
+		HashMap<String, Serializable> sharedAttributes =
+			new HashMap<String, Serializable>();
+
+		for (String name : attributes.keySet()) {
+			if (!_isSharedAttribute(name)) {
+				continue;
+			}
+
+			Object value = restrictPortletServletRequest.getAttribute(name);
+
+			if (!(value instanceof Serializable)) {
+				sharedAttributes = null;
+
+				break;
+			}
+
+			sharedAttributes.put(name, (Serializable)value);
+		}
+
+		byte[] bytes = null;
+
+		// Serialize before merging, because merging shares the values with
+		// the page's request
+
+		if (sharedAttributes != null) {
+			try {
+				Serializer serializer = new Serializer();
+
+				serializer.writeObject(sharedAttributes);
+
+				ByteBuffer byteBuffer = serializer.toByteBuffer();
+
+				bytes = byteBuffer.array();
+			}
+			catch (RuntimeException re) {
+				if (_log.isDebugEnabled()) {
+					_log.debug("Unable to serialize shared attributes", re);
+				}
+			}
+		}
+
+		restrictPortletServletRequest.mergeSharedAttributes();
+
+		return bytes;
+	}
+
+	public static Map<String, Long> stopSurrogateKeys(
+		Map<String, Long> surrogateKeyVersions) {
+
+		return CacheUtil.stopFragmentSurrogateKeys(surrogateKeyVersions);
+	}
+
+	private static String _getPublicRenderParametersKey(
+		HttpServletRequest request, Portlet portlet, long plid) {
+
+		Map<String, String[]> publicRenderParameters =
+			PublicRenderParametersPool.get(request, plid);
+
+		StringBundler sb = new StringBundler();
+
+		for (PublicRenderParameter publicRenderParameter :
+				portlet.getPublicRenderParameters()) {
+
+			String[] values = publicRenderParameters.get(
+				PortletQNameUtil.getPublicRenderParameterName(
+					publicRenderParameter.getQName()));
+
+			if (values == null) {
+				continue;
+			}
+
+			sb.append(publicRenderParameter.getIdentifier());
+			sb.append(StringPool.EQUAL);
+			sb.append(StringUtil.merge(values));
+			sb.append(StringPool.AMPERSAND);
+		}
+
+		return sb.toString();
+	}
+
+	private static boolean _isCacheableRequest(
+		HttpServletRequest request, Portlet portlet) {
+
+		// The portlet has to be rendered when it is the target of the request
+		// or when an action may have changed its state through events or
+		// public render parameters
+
+		String portletId = ParamUtil.getString(request, "p_p_id");
+
+		if (portletId.equals(portlet.getPortletId())) {
+			return false;
+		}
+
+		String lifecycle = ParamUtil.getString(request, "p_p_lifecycle");
+
+		if (lifecycle.equals("1")) {
+			return false;
+		}
+
+		Enumeration<?> enu = request.getParameterNames();
+
+		while (enu.hasMoreElements()) {
+			String name = (String)enu.nextElement();
+
+			if (name.startsWith(
+					PortletQName.PUBLIC_RENDER_PARAMETER_NAMESPACE)) {
+
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean _isSharedAttribute(String name) {
+		for (String requestSharedAttribute :
+				PropsValues.REQUEST_SHARED_ATTRIBUTES) {
+
+			if (name.startsWith(requestSharedAttribute)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static void _mergeSharedAttributes(
+		HttpServletRequest request, byte[] bytes) {
+
+		// Every hit gets its own copy because merging changes the values
+
+		Deserializer deserializer = new Deserializer(ByteBuffer.wrap(bytes));
+
+		Map<String, Serializable> sharedAttributes = null;
+
+		try {
+			sharedAttributes = deserializer.readObject();
+		}
+		catch (ClassNotFoundException cnfe) {
+			if (_log.isWarnEnabled()) {
+				_log.warn("Unable to deserialize shared attributes", cnfe);
+			}
+
+			return;
+		}
+
+		RestrictPortletServletRequest restrictPortletServletRequest =
+			new RestrictPortletServletRequest(request);
+
+		for (Map.Entry<String, Serializable> entry :
+				sharedAttributes.entrySet()) {
+
+			restrictPortletServletRequest.setAttribute(
+				entry.getKey(), entry.getValue());
+		}
+
+		restrictPortletServletRequest.mergeSharedAttributes();
+	}
+
+	private static final String _CACHE_NAME =
+		PortletFragmentCacheUtil.class.getName();
+
+	private static final String[] _MERGEABLE_ATTRIBUTE_NAMES = {
+		WebKeys.AUI_SCRIPT_DATA, WebKeys.OUTPUT_DATA
+	};
+
+	private static Log _log = LogFactoryUtil.getLog(
+		PortletFragmentCacheUtil.class);
+
+	private static PortalCache<String, PortletFragment> _portalCache =
+		SingleVMPoolUtil.getCache(_CACHE_NAME);
+
+	private static class PortletFragment implements Serializable {
+
+		public PortletFragment(
+			String content, long expirationTime,
+			Map<String, Long> surrogateKeyVersions, byte[] sharedAttributes) {
+
+			_content = content;
+			_expirationTime = expirationTime;
+			_surrogateKeyVersions = surrogateKeyVersions;
+			_sharedAttributes = sharedAttributes;
+		}
+
+		private static final long serialVersionUID = 1L;
+
+		private String _content;
+		private long _expirationTime;
+		private byte[] _sharedAttributes;
+		private Map<String, Long> _surrogateKeyVersions;
+
+	}
+
+}
\ No newline at end of file
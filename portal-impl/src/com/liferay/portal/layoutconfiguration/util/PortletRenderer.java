@@ -26,6 +26,7 @@ import com.liferay.portal.util.WebKeys;
 
 import java.io.IOException;
 
+import java.util.Map;
 import java.util.concurrent.Callable;
 
 import javax.servlet.http.HttpServletRequest;
@@ -55,6 +56,8 @@ public class PortletRenderer {
 	public Callable<StringBundler> getCallable(
 		HttpServletRequest request, HttpServletResponse response) {
 
+		_submitTime = System.currentTimeMillis();
+
 		return new PortletRendererCallable(request, response);
 	}
 
@@ -62,6 +65,36 @@ public class PortletRenderer {
 		return _portlet;
 	}
 
+	/**
+	 * Returns the time in milliseconds that the callable returned by {@link
+	 * #getCallable(HttpServletRequest, HttpServletResponse)} waited in the
+	 * executor's queue, or <code>-1</code> if it has not started.
+	 */
+	public long getQueueTime() {
+		if (_startTime == 0) {
+			return -1;
+		}
+
+		return _startTime - _submitTime;
+	}
+
+	/**
+	 * Returns the time in milliseconds that the callable returned by {@link
+	 * #getCallable(HttpServletRequest, HttpServletResponse)} took to render
+	 * the portlet, or <code>-1</code> if it has not finished.
+	 */
+	public long getRenderTime() {
+		if (_finishTime == 0) {
+			return -1;
+		}
+
+		return _finishTime - _startTime;
+	}
+
+	public long getSubmitTime() {
+		return _submitTime;
+	}
+
 	public StringBundler render(
 			HttpServletRequest request, HttpServletResponse response)
 		throws PortletContainerException {
@@ -69,7 +102,7 @@ public class PortletRenderer {
 		request = PortletContainerUtil.setupOptionalRenderParameters(
 			request, null, _columnId, _columnPos, _columnCount);
 
-		return _render(request, response);
+		return _renderFragment(request, response);
 	}
 
 	public StringBundler renderAjax(
@@ -132,14 +165,62 @@ public class PortletRenderer {
 
 	}
 
+	private StringBundler _renderFragment(
+			HttpServletRequest request, HttpServletResponse response)
+		throws PortletContainerException {
+
+		String key = PortletFragmentCacheUtil.getKey(request, _portlet);
+
+		if (key == null) {
+			return _render(request, response);
+		}
+
+		String content = PortletFragmentCacheUtil.getPortletFragment(
+			request, _portlet, key);
+
+		if (content != null) {
+			return new StringBundler(content);
+		}
+
+		Map<String, Long> surrogateKeyVersions =
+			PortletFragmentCacheUtil.startSurrogateKeys(request);
+
+		RestrictPortletServletRequest restrictPortletServletRequest =
+			PortletFragmentCacheUtil.startSharedAttributes(request);
+
+		StringBundler sb = null;
+		byte[] sharedAttributes = null;
+
+		try {
+			sb = _render(restrictPortletServletRequest, response);
+		}
+		finally {
+			surrogateKeyVersions = PortletFragmentCacheUtil.stopSurrogateKeys(
+				surrogateKeyVersions);
+			sharedAttributes = PortletFragmentCacheUtil.stopSharedAttributes(
+				restrictPortletServletRequest);
+		}
+
+		if (sharedAttributes != null) {
+			PortletFragmentCacheUtil.putPortletFragment(
+				_portlet, key, sb.toString(), surrogateKeyVersions,
+				sharedAttributes);
+		}
+
+		return sb;
+	}
+
 	private static final String _RENDER_PATH =
 		"/html/portal/load_render_portlet.jsp";
 
 	private Integer _columnCount;
 	private String _columnId;
 	private Integer _columnPos;
+	private volatile long _finishTime;
 	private Portlet _portlet;
 	private RestrictPortletServletRequest _restrictPortletServletRequest;
+	private volatile long _startTime;
+	private long _submitTime;
 
 	private class PortletRendererCallable
 		extends CopyThreadLocalCallable<StringBundler> {
@@ -157,6 +238,8 @@ public class PortletRenderer {
 
 		@Override
 		public StringBundler doCall() throws Exception {
+			_startTime = System.currentTimeMillis();
+
 			ThemeDisplay themeDisplay = (ThemeDisplay)_request.getAttribute(
 				WebKeys.THEME_DISPLAY);
 
@@ -172,7 +255,11 @@ public class PortletRenderer {
 
 				request.setAttribute(WebKeys.THEME_DISPLAY, themeDisplay);
 
-				return _render(request, _response);
+				StringBundler sb = _renderFragment(request, _response);
+
+				_finishTime = System.currentTimeMillis();
+
+				return sb;
 			}
 			catch (Exception e) {
 
@@ -44,6 +44,7 @@ import com.liferay.portal.model.LayoutTemplate;
 import com.liferay.portal.model.LayoutTemplateConstants;
 import com.liferay.portal.model.Portlet;
 import com.liferay.portal.model.PortletConstants;
+import com.liferay.portal.monitoring.statistics.portlet.ParallelRenderStatistics;
 import com.liferay.portal.service.LayoutTemplateLocalServiceUtil;
 import com.liferay.portal.servlet.ThreadLocalFacadeServletRequestWrapperUtil;
 import com.liferay.portal.util.ClassLoaderUtil;
@@ -56,6 +57,7 @@ import com.liferay.taglib.util.VelocityTaglibImpl;
 import java.io.Closeable;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Callable;
@@ -377,6 +379,14 @@ public class RuntimePageImpl implements RuntimePage {
 
 		Lock lock = null;
 
+		long deadline = 0;
+
+		if (portletParallelRender) {
+			deadline =
+				System.currentTimeMillis() +
+					PropsValues.LAYOUT_PARALLEL_RENDER_TIMEOUT;
+		}
+
 		Map<String, StringBundler> contentsMap =
 			new HashMap<String, StringBundler>();
 
@@ -417,7 +427,7 @@ public class RuntimePageImpl implements RuntimePage {
 				try {
 					parallelyRenderPortlets(
 						objectValuePair.getKey(), response, processor,
-						contentsMap, portletRenderers);
+						contentsMap, portletRenderers, deadline);
 				}
 				finally {
 					Closeable closeable = objectValuePair.getValue();
@@ -467,10 +477,6 @@ public class RuntimePageImpl implements RuntimePage {
 			}
 		}
 
-		if (portletParallelRender && (_waitTime == Integer.MAX_VALUE)) {
-			_waitTime = PropsValues.LAYOUT_PARALLEL_RENDER_TIMEOUT;
-		}
-
 		StringBundler sb = StringUtil.replaceWithStringBundler(
 			unsyncStringWriter.toString(), "[$TEMPLATE_PORTLET_", "$]",
 			contentsMap);
@@ -517,18 +523,38 @@ public class RuntimePageImpl implements RuntimePage {
 			layoutTemplateId, standard, themeId);
 	}
 
+	protected long getPortletDeadline(
+		PortletRenderer portletRenderer, long deadline) {
+
+		if (PropsValues.LAYOUT_PARALLEL_RENDER_PORTLET_TIMEOUT <= 0) {
+			return deadline;
+		}
+
+		// The render budget of a portlet includes the time it spends waiting
+		// in the executor's queue
+
+		long portletDeadline =
+			portletRenderer.getSubmitTime() +
+				PropsValues.LAYOUT_PARALLEL_RENDER_PORTLET_TIMEOUT;
+
+		return Math.min(portletDeadline, deadline);
+	}
+
 	protected void parallelyRenderPortlets(
 			HttpServletRequest request, HttpServletResponse response,
 			TemplateProcessor processor, Map<String, StringBundler> contentsMap,
-			List<PortletRenderer> portletRenderers)
+			List<PortletRenderer> portletRenderers, long deadline)
 		throws Exception {
 
 		ExecutorService executorService =
 			PortalExecutorManagerUtil.getPortalExecutor(
 				RuntimePageImpl.class.getName());
 
+		ParallelRenderStatistics parallelRenderStatistics =
+			ParallelRenderStatistics.getInstance();
+
 		Map<Future<StringBundler>, PortletRenderer> futures =
-			new HashMap<Future<StringBundler>, PortletRenderer>(
+			new LinkedHashMap<Future<StringBundler>, PortletRenderer>(
 				portletRenderers.size());
 
 		for (PortletRenderer portletRenderer : portletRenderers) {
@@ -567,7 +593,7 @@ public class RuntimePageImpl implements RuntimePage {
 			futures.put(future, portletRenderer);
 		}
 
-		long waitTime = _waitTime;
+		boolean interrupted = false;
 
 		for (Map.Entry<Future<StringBundler>, PortletRenderer> entry :
 				futures.entrySet()) {
@@ -577,7 +603,17 @@ public class RuntimePageImpl implements RuntimePage {
 
 			Portlet portlet = portletRenderer.getPortlet();
 
+			long waitTime = 0;
+
+			if (!interrupted) {
+				waitTime =
+					getPortletDeadline(portletRenderer, deadline) -
+						System.currentTimeMillis();
+			}
+
 			if (future.isCancelled()) {
+				parallelRenderStatistics.processRejection();
+
 				if (_log.isDebugEnabled()) {
 					_log.debug(
 						"Reject portlet " + portlet.getPortletId() +
@@ -586,24 +622,22 @@ public class RuntimePageImpl implements RuntimePage {
 			}
 			else if ((waitTime > 0) || future.isDone()) {
 				try {
-					long startTime = System.currentTimeMillis();
-
 					StringBundler sb = future.get(
-						waitTime, TimeUnit.MILLISECONDS);
-
-					long duration = System.currentTimeMillis() - startTime;
-
-					waitTime -= duration;
+						Math.max(waitTime, 0), TimeUnit.MILLISECONDS);
 
 					contentsMap.put(portlet.getPortletId(), sb);
 
 					portletRenderer.finishParallelRender();
 
+					parallelRenderStatistics.processRender(
+						portlet.getPortletId(), portletRenderer.getQueueTime(),
+						portletRenderer.getRenderTime());
+
 					if (_log.isDebugEnabled()) {
 						_log.debug(
 							"Parallely rendered portlet " +
-								portlet.getPortletId() + " in " + duration +
-									" ms");
+								portlet.getPortletId() + " in " +
+									portletRenderer.getRenderTime() + " ms");
 					}
 
 					continue;
@@ -616,14 +650,19 @@ public class RuntimePageImpl implements RuntimePage {
 					// On interruption, stop waiting, force all pending portlets
 					// to fall back to ajax loading or an error message.
 
-					waitTime = -1;
+					interrupted = true;
 				}
 				catch (TimeoutException te) {
 
-					// On timeout, stop waiting, force all pending portlets to
-					// fall back to ajax loading or an error message.
+					// On timeout, only this portlet falls back to ajax loading
+					// or an error message. The other pending portlets are still
+					// given the rest of their own render budgets.
 
-					waitTime = -1;
+					if (_log.isDebugEnabled()) {
+						_log.debug(
+							"Portlet " + portlet.getPortletId() +
+								" exceeded its parallel render budget");
+					}
 				}
 				catch (CancellationException ce) {
 
@@ -644,6 +683,17 @@ public class RuntimePageImpl implements RuntimePage {
 				// Cancel by interrupting rendering thread
 
 				future.cancel(true);
+
+				parallelRenderStatistics.processTimeout(portlet.getPortletId());
+			}
+			else {
+
+				// The render budget is already used up, cancel the rendering
+				// even if it has not started yet
+
+				future.cancel(true);
+
+				parallelRenderStatistics.processTimeout(portlet.getPortletId());
 			}
 
 			StringBundler sb = null;
@@ -684,6 +734,4 @@ public class RuntimePageImpl implements RuntimePage {
 
 	private static Log _log = LogFactoryUtil.getLog(RuntimePageImpl.class);
 
-	private int _waitTime = Integer.MAX_VALUE;
-
 }
\ No newline at end of file
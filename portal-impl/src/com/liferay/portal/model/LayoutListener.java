@@ -68,7 +68,7 @@ public class LayoutListener extends BaseModelListener<Layout> {
 
 	protected void clearCache(Layout layout) {
 		if (!layout.isPrivateLayout()) {
-			CacheUtil.clearCache(layout.getCompanyId());
+			CacheUtil.clearCache(Group.class.getName(), layout.getGroupId());
 		}
 	}
 
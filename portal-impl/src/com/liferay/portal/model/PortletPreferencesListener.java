@@ -45,28 +45,27 @@ public class PortletPreferencesListener
 
 	protected void clearCache(PortletPreferences portletPreferences) {
 		try {
-			long companyId = 0;
-
 			Layout layout = LayoutUtil.fetchByPrimaryKey(
 				portletPreferences.getPlid());
 
-			if ((layout != null) && !layout.isPrivateLayout()) {
-				companyId = layout.getCompanyId();
+			if (layout != null) {
+				if (!layout.isPrivateLayout()) {
+					CacheUtil.clearCache(
+						Layout.class.getName(), layout.getPlid());
+				}
+
+				return;
 			}
-			else {
-				LayoutRevision layoutRevision =
-					LayoutRevisionUtil.fetchByPrimaryKey(
-						portletPreferences.getPlid());
 
-				if ((layoutRevision != null) &&
-					!layoutRevision.isPrivateLayout()) {
+			LayoutRevision layoutRevision =
+				LayoutRevisionUtil.fetchByPrimaryKey(
+					portletPreferences.getPlid());
 
-					companyId = layoutRevision.getCompanyId();
-				}
-			}
+			if ((layoutRevision != null) &&
+				!layoutRevision.isPrivateLayout()) {
 
-			if (companyId > 0) {
-				CacheUtil.clearCache(companyId);
+				CacheUtil.clearCache(
+					Layout.class.getName(), layoutRevision.getPlid());
 			}
 		}
 		catch (Exception e) {
@@ -20,6 +20,7 @@ import com.liferay.portal.kernel.json.JSON;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.LocalizationUtil;
+import com.liferay.portal.kernel.util.LocalizedValues;
 import com.liferay.portal.kernel.util.ProxyUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
@@ -622,12 +623,19 @@ public class LayoutModelImpl extends BaseModelImpl<Layout>
 	}
 
 	public String getName(String languageId) {
-		return LocalizationUtil.getLocalization(getName(), languageId);
+		return getName(languageId, true);
 	}
 
 	public String getName(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getName(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _nameLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(getName());
+
+			_nameLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getNameCurrentLanguageId() {
@@ -647,6 +655,8 @@ public class LayoutModelImpl extends BaseModelImpl<Layout>
 
 	public void setName(String name) {
 		_name = name;
+
+		_nameLocalizedValues = null;
 	}
 
 	public void setName(String name, Locale locale) {
@@ -707,12 +717,19 @@ public class LayoutModelImpl extends BaseModelImpl<Layout>
 	}
 
 	public String getTitle(String languageId) {
-		return LocalizationUtil.getLocalization(getTitle(), languageId);
+		return getTitle(languageId, true);
 	}
 
 	public String getTitle(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getTitle(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _titleLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(getTitle());
+
+			_titleLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getTitleCurrentLanguageId() {
@@ -732,6 +749,8 @@ public class LayoutModelImpl extends BaseModelImpl<Layout>
 
 	public void setTitle(String title) {
 		_title = title;
+
+		_titleLocalizedValues = null;
 	}
 
 	public void setTitle(String title, Locale locale) {
@@ -792,12 +811,20 @@ public class LayoutModelImpl extends BaseModelImpl<Layout>
 	}
 
 	public String getDescription(String languageId) {
-		return LocalizationUtil.getLocalization(getDescription(), languageId);
+		return getDescription(languageId, true);
 	}
 
 	public String getDescription(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getDescription(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _descriptionLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(
+				getDescription());
+
+			_descriptionLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getDescriptionCurrentLanguageId() {
@@ -817,6 +844,8 @@ public class LayoutModelImpl extends BaseModelImpl<Layout>
 
 	public void setDescription(String description) {
 		_description = description;
+
+		_descriptionLocalizedValues = null;
 	}
 
 	public void setDescription(String description, Locale locale) {
@@ -881,12 +910,20 @@ public class LayoutModelImpl extends BaseModelImpl<Layout>
 	}
 
 	public String getKeywords(String languageId) {
-		return LocalizationUtil.getLocalization(getKeywords(), languageId);
+		return getKeywords(languageId, true);
 	}
 
 	public String getKeywords(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getKeywords(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _keywordsLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(
+				getKeywords());
+
+			_keywordsLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getKeywordsCurrentLanguageId() {
@@ -906,6 +943,8 @@ public class LayoutModelImpl extends BaseModelImpl<Layout>
 
 	public void setKeywords(String keywords) {
 		_keywords = keywords;
+
+		_keywordsLocalizedValues = null;
 	}
 
 	public void setKeywords(String keywords, Locale locale) {
@@ -968,12 +1007,19 @@ public class LayoutModelImpl extends BaseModelImpl<Layout>
 	}
 
 	public String getRobots(String languageId) {
-		return LocalizationUtil.getLocalization(getRobots(), languageId);
+		return getRobots(languageId, true);
 	}
 
 	public String getRobots(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getRobots(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _robotsLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(getRobots());
+
+			_robotsLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getRobotsCurrentLanguageId() {
@@ -993,6 +1039,8 @@ public class LayoutModelImpl extends BaseModelImpl<Layout>
 
 	public void setRobots(String robots) {
 		_robots = robots;
+
+		_robotsLocalizedValues = null;
 	}
 
 	public void setRobots(String robots, Locale locale) {
@@ -1862,14 +1910,19 @@ public class LayoutModelImpl extends BaseModelImpl<Layout>
 	private boolean _setOriginalParentLayoutId;
 	private String _name;
 	private String _nameCurrentLanguageId;
+	private transient LocalizedValues _nameLocalizedValues;
 	private String _title;
 	private String _titleCurrentLanguageId;
+	private transient LocalizedValues _titleLocalizedValues;
 	private String _description;
 	private String _descriptionCurrentLanguageId;
+	private transient LocalizedValues _descriptionLocalizedValues;
 	private String _keywords;
 	private String _keywordsCurrentLanguageId;
+	private transient LocalizedValues _keywordsLocalizedValues;
 	private String _robots;
 	private String _robotsCurrentLanguageId;
+	private transient LocalizedValues _robotsLocalizedValues;
 	private String _type;
 	private String _originalType;
 	private String _typeSettings;
@@ -22,6 +22,7 @@ import com.liferay.portal.kernel.util.DateUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.LocalizationUtil;
+import com.liferay.portal.kernel.util.LocalizedValues;
 import com.liferay.portal.kernel.util.ProxyUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
@@ -690,12 +691,19 @@ public class LayoutRevisionModelImpl extends BaseModelImpl<LayoutRevision>
 	}
 
 	public String getName(String languageId) {
-		return LocalizationUtil.getLocalization(getName(), languageId);
+		return getName(languageId, true);
 	}
 
 	public String getName(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getName(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _nameLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(getName());
+
+			_nameLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getNameCurrentLanguageId() {
@@ -715,6 +723,8 @@ public class LayoutRevisionModelImpl extends BaseModelImpl<LayoutRevision>
 
 	public void setName(String name) {
 		_name = name;
+
+		_nameLocalizedValues = null;
 	}
 
 	public void setName(String name, Locale locale) {
@@ -775,12 +785,19 @@ public class LayoutRevisionModelImpl extends BaseModelImpl<LayoutRevision>
 	}
 
 	public String getTitle(String languageId) {
-		return LocalizationUtil.getLocalization(getTitle(), languageId);
+		return getTitle(languageId, true);
 	}
 
 	public String getTitle(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getTitle(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _titleLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(getTitle());
+
+			_titleLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getTitleCurrentLanguageId() {
@@ -800,6 +817,8 @@ public class LayoutRevisionModelImpl extends BaseModelImpl<LayoutRevision>
 
 	public void setTitle(String title) {
 		_title = title;
+
+		_titleLocalizedValues = null;
 	}
 
 	public void setTitle(String title, Locale locale) {
@@ -860,12 +879,20 @@ public class LayoutRevisionModelImpl extends BaseModelImpl<LayoutRevision>
 	}
 
 	public String getDescription(String languageId) {
-		return LocalizationUtil.getLocalization(getDescription(), languageId);
+		return getDescription(languageId, true);
 	}
 
 	public String getDescription(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getDescription(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _descriptionLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(
+				getDescription());
+
+			_descriptionLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getDescriptionCurrentLanguageId() {
@@ -885,6 +912,8 @@ public class LayoutRevisionModelImpl extends BaseModelImpl<LayoutRevision>
 
 	public void setDescription(String description) {
 		_description = description;
+
+		_descriptionLocalizedValues = null;
 	}
 
 	public void setDescription(String description, Locale locale) {
@@ -949,12 +978,20 @@ public class LayoutRevisionModelImpl extends BaseModelImpl<LayoutRevision>
 	}
 
 	public String getKeywords(String languageId) {
-		return LocalizationUtil.getLocalization(getKeywords(), languageId);
+		return getKeywords(languageId, true);
 	}
 
 	public String getKeywords(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getKeywords(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _keywordsLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(
+				getKeywords());
+
+			_keywordsLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getKeywordsCurrentLanguageId() {
@@ -974,6 +1011,8 @@ public class LayoutRevisionModelImpl extends BaseModelImpl<LayoutRevision>
 
 	public void setKeywords(String keywords) {
 		_keywords = keywords;
+
+		_keywordsLocalizedValues = null;
 	}
 
 	public void setKeywords(String keywords, Locale locale) {
@@ -1036,12 +1075,19 @@ public class LayoutRevisionModelImpl extends BaseModelImpl<LayoutRevision>
 	}
 
 	public String getRobots(String languageId) {
-		return LocalizationUtil.getLocalization(getRobots(), languageId);
+		return getRobots(languageId, true);
 	}
 
 	public String getRobots(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getRobots(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _robotsLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(getRobots());
+
+			_robotsLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getRobotsCurrentLanguageId() {
@@ -1061,6 +1107,8 @@ public class LayoutRevisionModelImpl extends BaseModelImpl<LayoutRevision>
 
 	public void setRobots(String robots) {
 		_robots = robots;
+
+		_robotsLocalizedValues = null;
 	}
 
 	public void setRobots(String robots, Locale locale) {
@@ -1917,14 +1965,19 @@ public class LayoutRevisionModelImpl extends BaseModelImpl<LayoutRevision>
 	private boolean _privateLayout;
 	private String _name;
 	private String _nameCurrentLanguageId;
+	private transient LocalizedValues _nameLocalizedValues;
 	private String _title;
 	private String _titleCurrentLanguageId;
+	private transient LocalizedValues _titleLocalizedValues;
 	private String _description;
 	private String _descriptionCurrentLanguageId;
+	private transient LocalizedValues _descriptionLocalizedValues;
 	private String _keywords;
 	private String _keywordsCurrentLanguageId;
+	private transient LocalizedValues _keywordsLocalizedValues;
 	private String _robots;
 	private String _robotsCurrentLanguageId;
+	private transient LocalizedValues _robotsLocalizedValues;
 	private String _typeSettings;
 	private boolean _iconImage;
 	private long _iconImageId;
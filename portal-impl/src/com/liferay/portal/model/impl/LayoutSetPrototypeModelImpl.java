@@ -21,6 +21,7 @@ import com.liferay.portal.kernel.json.JSON;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.LocalizationUtil;
+import com.liferay.portal.kernel.util.LocalizedValues;
 import com.liferay.portal.kernel.util.ProxyUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
@@ -393,12 +394,19 @@ public class LayoutSetPrototypeModelImpl extends BaseModelImpl<LayoutSetPrototyp
 	}
 
 	public String getName(String languageId) {
-		return LocalizationUtil.getLocalization(getName(), languageId);
+		return getName(languageId, true);
 	}
 
 	public String getName(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getName(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _nameLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(getName());
+
+			_nameLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getNameCurrentLanguageId() {
@@ -418,6 +426,8 @@ public class LayoutSetPrototypeModelImpl extends BaseModelImpl<LayoutSetPrototyp
 
 	public void setName(String name) {
 		_name = name;
+
+		_nameLocalizedValues = null;
 	}
 
 	public void setName(String name, Locale locale) {
@@ -799,6 +809,7 @@ public class LayoutSetPrototypeModelImpl extends BaseModelImpl<LayoutSetPrototyp
 	private Date _modifiedDate;
 	private String _name;
 	private String _nameCurrentLanguageId;
+	private transient LocalizedValues _nameLocalizedValues;
 	private String _description;
 	private String _settings;
 	private boolean _active;
@@ -117,6 +117,7 @@ public class PortletImpl extends PortletBaseImpl {
 		_trashHandlerClasses = new ArrayList<String>();
 		_workflowHandlerClasses = new ArrayList<String>();
 		_autopropagatedParameters = new LinkedHashSet<String>();
+		_fragmentCacheVaryBy = new LinkedHashSet<String>();
 		_headerPortalCss = new ArrayList<String>();
 		_headerPortletCss = new ArrayList<String>();
 		_headerPortalJavaScript = new ArrayList<String>();
@@ -168,7 +169,8 @@ public class PortletImpl extends PortletBaseImpl {
 		boolean useDefaultTemplate, boolean showPortletAccessDenied,
 		boolean showPortletInactive, boolean actionURLRedirect,
 		boolean restoreCurrentView, boolean maximizeEdit, boolean maximizeHelp,
-		boolean popUpPrint, boolean layoutCacheable, boolean instanceable,
+		boolean popUpPrint, boolean layoutCacheable, boolean fragmentCacheable,
+		Set<String> fragmentCacheVaryBy, boolean instanceable,
 		boolean remoteable, boolean scopeable, String userPrincipalStrategy,
 		boolean privateRequestAttributes, boolean privateSessionAttributes,
 		Set<String> autopropagatedParameters, int actionTimeout,
@@ -247,6 +249,8 @@ public class PortletImpl extends PortletBaseImpl {
 		_maximizeHelp = maximizeHelp;
 		_popUpPrint = popUpPrint;
 		_layoutCacheable = layoutCacheable;
+		_fragmentCacheable = fragmentCacheable;
+		_fragmentCacheVaryBy = fragmentCacheVaryBy;
 		_instanceable = instanceable;
 		_remoteable = remoteable;
 		_scopeable = scopeable;
@@ -373,8 +377,9 @@ public class PortletImpl extends PortletBaseImpl {
 			isUseDefaultTemplate(), isShowPortletAccessDenied(),
 			isShowPortletInactive(), isActionURLRedirect(),
 			isRestoreCurrentView(), isMaximizeEdit(), isMaximizeHelp(),
-			isPopUpPrint(), isLayoutCacheable(), isInstanceable(),
-			isRemoteable(), isScopeable(), getUserPrincipalStrategy(),
+			isPopUpPrint(), isLayoutCacheable(), isFragmentCacheable(),
+			getFragmentCacheVaryBy(), isInstanceable(), isRemoteable(),
+			isScopeable(), getUserPrincipalStrategy(),
 			isPrivateRequestAttributes(), isPrivateSessionAttributes(),
 			getAutopropagatedParameters(), getActionTimeout(),
 			getRenderTimeout(), getRenderWeight(), isAjaxable(),
@@ -828,6 +833,28 @@ public class PortletImpl extends PortletBaseImpl {
 		return _footerPortletJavaScript;
 	}
 
+	/**
+	 * Returns <code>true</code> to allow the rendered portlet to be cached as
+	 * a fragment of the layout and shared between requests.
+	 *
+	 * @return <code>true</code> if the rendered portlet can be cached as a
+	 *         fragment of the layout
+	 */
+	public boolean getFragmentCacheable() {
+		return _fragmentCacheable;
+	}
+
+	/**
+	 * Returns the names of the request dimensions that the cached fragments of
+	 * the portlet vary by.
+	 *
+	 * @return the names of the request dimensions that the cached fragments of
+	 *         the portlet vary by
+	 */
+	public Set<String> getFragmentCacheVaryBy() {
+		return _fragmentCacheVaryBy;
+	}
+
 	/**
 	 * Returns the name of the friendly URL mapper class of the portlet.
 	 *
@@ -2098,6 +2125,17 @@ public class PortletImpl extends PortletBaseImpl {
 		return _ajaxable;
 	}
 
+	/**
+	 * Returns <code>true</code> to allow the rendered portlet to be cached as
+	 * a fragment of the layout and shared between requests.
+	 *
+	 * @return <code>true</code> if the rendered portlet can be cached as a
+	 *         fragment of the layout
+	 */
+	public boolean isFragmentCacheable() {
+		return _fragmentCacheable;
+	}
+
 	/**
 	 * Returns <code>true</code> to include the portlet and make it available to
 	 * be made active.
@@ -2635,6 +2673,28 @@ public class PortletImpl extends PortletBaseImpl {
 		_footerPortletJavaScript = footerPortletJavaScript;
 	}
 
+	/**
+	 * Set to <code>true</code> to allow the rendered portlet to be cached as a
+	 * fragment of the layout and shared between requests.
+	 *
+	 * @param fragmentCacheable boolean value for whether the rendered portlet
+	 *        can be cached as a fragment of the layout
+	 */
+	public void setFragmentCacheable(boolean fragmentCacheable) {
+		_fragmentCacheable = fragmentCacheable;
+	}
+
+	/**
+	 * Sets the names of the request dimensions that the cached fragments of
+	 * the portlet vary by.
+	 *
+	 * @param fragmentCacheVaryBy the names of the request dimensions that the
+	 *        cached fragments of the portlet vary by
+	 */
+	public void setFragmentCacheVaryBy(Set<String> fragmentCacheVaryBy) {
+		_fragmentCacheVaryBy = fragmentCacheVaryBy;
+	}
+
 	/**
 	 * Sets the name of the friendly URL mapper class of the portlet.
 	 *
@@ -3575,6 +3635,18 @@ public class PortletImpl extends PortletBaseImpl {
 	 */
 	private List<String> _footerPortletJavaScript;
 
+	/**
+	 * <code>True</code> if the rendered portlet can be cached as a fragment of
+	 * the layout.
+	 */
+	private boolean _fragmentCacheable;
+
+	/**
+	 * The names of the request dimensions that the cached fragments of the
+	 * portlet vary by.
+	 */
+	private Set<String> _fragmentCacheVaryBy;
+
 	/**
 	 * The name of the friendly URL mapper class of the portlet.
 	 */
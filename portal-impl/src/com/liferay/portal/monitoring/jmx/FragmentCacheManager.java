@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+import com.liferay.portal.monitoring.statistics.portlet.FragmentCacheStatistics;
+
+import java.util.Set;
+
+public class FragmentCacheManager implements FragmentCacheManagerMBean {
+
+	public long getHitCount() {
+		return _fragmentCacheStatistics.getHitCount();
+	}
+
+	public long getHitCountByPortlet(String portletId) {
+		return _fragmentCacheStatistics.getHitCountByPortlet(portletId);
+	}
+
+	public double getHitRatio() {
+		return _fragmentCacheStatistics.getHitRatio();
+	}
+
+	public double getHitRatioByPortlet(String portletId) {
+		return _fragmentCacheStatistics.getHitRatioByPortlet(portletId);
+	}
+
+	public long getMissCount() {
+		return _fragmentCacheStatistics.getMissCount();
+	}
+
+	public long getMissCountByPortlet(String portletId) {
+		return _fragmentCacheStatistics.getMissCountByPortlet(portletId);
+	}
+
+	public String[] getPortletIds() {
+		Set<String> portletIds = _fragmentCacheStatistics.getPortletIds();
+
+		return portletIds.toArray(new String[portletIds.size()]);
+	}
+
+	public void reset() {
+		_fragmentCacheStatistics.reset();
+	}
+
+	public void setFragmentCacheStatistics(
+		FragmentCacheStatistics fragmentCacheStatistics) {
+
+		_fragmentCacheStatistics = fragmentCacheStatistics;
+	}
+
+	private FragmentCacheStatistics _fragmentCacheStatistics;
+
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+import com.liferay.portal.monitoring.statistics.portlet.ParallelRenderStatistics;
+
+import java.util.Set;
+
+public class ParallelRenderManager implements ParallelRenderManagerMBean {
+
+	public int getActiveCount() {
+		return _parallelRenderStatistics.getActiveCount();
+	}
+
+	public long getAverageQueueTime() {
+		return _parallelRenderStatistics.getAverageQueueTime();
+	}
+
+	public long getAverageRenderTime() {
+		return _parallelRenderStatistics.getAverageRenderTime();
+	}
+
+	public long getAverageRenderTimeByPortlet(String portletId) {
+		return _parallelRenderStatistics.getAverageRenderTimeByPortlet(
+			portletId);
+	}
+
+	public long getMaxQueueTime() {
+		return _parallelRenderStatistics.getMaxQueueTime();
+	}
+
+	public long getMaxRenderTimeByPortlet(String portletId) {
+		return _parallelRenderStatistics.getMaxRenderTimeByPortlet(portletId);
+	}
+
+	public int getPendingTaskCount() {
+		return _parallelRenderStatistics.getPendingTaskCount();
+	}
+
+	public String[] getPortletIds() {
+		Set<String> portletIds = _parallelRenderStatistics.getPortletIds();
+
+		return portletIds.toArray(new String[portletIds.size()]);
+	}
+
+	public long getRejectionCount() {
+		return _parallelRenderStatistics.getRejectionCount();
+	}
+
+	public long getRenderCount() {
+		return _parallelRenderStatistics.getRenderCount();
+	}
+
+	public long getRenderCountByPortlet(String portletId) {
+		return _parallelRenderStatistics.getRenderCountByPortlet(portletId);
+	}
+
+	public long getTimeoutCount() {
+		return _parallelRenderStatistics.getTimeoutCount();
+	}
+
+	public long getTimeoutCountByPortlet(String portletId) {
+		return _parallelRenderStatistics.getTimeoutCountByPortlet(portletId);
+	}
+
+	public void reset() {
+		_parallelRenderStatistics.reset();
+	}
+
+	public void setParallelRenderStatistics(
+		ParallelRenderStatistics parallelRenderStatistics) {
+
+		_parallelRenderStatistics = parallelRenderStatistics;
+	}
+
+	private ParallelRenderStatistics _parallelRenderStatistics;
+
+}
\ No newline at end of file
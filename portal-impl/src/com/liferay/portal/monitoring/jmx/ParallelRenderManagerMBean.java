@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+public interface ParallelRenderManagerMBean {
+
+	public int getActiveCount();
+
+	public long getAverageQueueTime();
+
+	public long getAverageRenderTime();
+
+	public long getAverageRenderTimeByPortlet(String portletId);
+
+	public long getMaxQueueTime();
+
+	public long getMaxRenderTimeByPortlet(String portletId);
+
+	public int getPendingTaskCount();
+
+	public String[] getPortletIds();
+
+	public long getRejectionCount();
+
+	public long getRenderCount();
+
+	public long getRenderCountByPortlet(String portletId);
+
+	public long getTimeoutCount();
+
+	public long getTimeoutCountByPortlet(String portletId);
+
+	public void reset();
+
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+import com.liferay.portal.kernel.search.ReindexStatus;
+import com.liferay.portal.kernel.search.ReindexStatusUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public class ReindexManager implements ReindexManagerMBean {
+
+	public long[] getCompanyIds() {
+		Set<Long> companyIds = ReindexStatusUtil.getCompanyIds();
+
+		return ArrayUtil.toArray(companyIds.toArray(new Long[0]));
+	}
+
+	public long getDocumentCount(long companyId, String name) {
+		ReindexStatus reindexStatus = _getReindexStatus(companyId, name);
+
+		if (reindexStatus == null) {
+			return 0;
+		}
+
+		return reindexStatus.getDocumentCount();
+	}
+
+	public long getDocumentsPerSecond(long companyId, String name) {
+		ReindexStatus reindexStatus = _getReindexStatus(companyId, name);
+
+		if (reindexStatus == null) {
+			return 0;
+		}
+
+		return reindexStatus.getDocumentsPerSecond();
+	}
+
+	public long getElapsedTime(long companyId, String name) {
+		ReindexStatus reindexStatus = _getReindexStatus(companyId, name);
+
+		if (reindexStatus == null) {
+			return 0;
+		}
+
+		return reindexStatus.getElapsedTime();
+	}
+
+	public String[] getNames(long companyId) {
+		List<String> names = new ArrayList<String>();
+
+		for (ReindexStatus reindexStatus :
+				ReindexStatusUtil.getReindexStatuses(companyId)) {
+
+			names.add(reindexStatus.getName());
+		}
+
+		return names.toArray(new String[names.size()]);
+	}
+
+	public int getPercentage(long companyId, String name) {
+		ReindexStatus reindexStatus = _getReindexStatus(companyId, name);
+
+		if (reindexStatus == null) {
+			return 0;
+		}
+
+		return reindexStatus.getPercentage();
+	}
+
+	public boolean isFinished(long companyId, String name) {
+		ReindexStatus reindexStatus = _getReindexStatus(companyId, name);
+
+		if (reindexStatus == null) {
+			return false;
+		}
+
+		return reindexStatus.isFinished();
+	}
+
+	public boolean isReindexing(long companyId) {
+		return ReindexStatusUtil.isReindexing(companyId);
+	}
+
+	private ReindexStatus _getReindexStatus(long companyId, String name) {
+		Collection<ReindexStatus> reindexStatuses =
+			ReindexStatusUtil.getReindexStatuses(companyId);
+
+		for (ReindexStatus reindexStatus : reindexStatuses) {
+			if (name.equals(reindexStatus.getName())) {
+				return reindexStatus;
+			}
+		}
+
+		return null;
+	}
+
+}
\ No newline at end of file
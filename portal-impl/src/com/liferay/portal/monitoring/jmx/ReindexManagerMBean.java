@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.jmx;
+
+public interface ReindexManagerMBean {
+
+	public long[] getCompanyIds();
+
+	public long getDocumentCount(long companyId, String name);
+
+	public long getDocumentsPerSecond(long companyId, String name);
+
+	public long getElapsedTime(long companyId, String name);
+
+	public String[] getNames(long companyId);
+
+	public int getPercentage(long companyId, String name);
+
+	public boolean isFinished(long companyId, String name);
+
+	public boolean isReindexing(long companyId);
+
+}
\ No newline at end of file
@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.statistics.portlet;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the hit and miss counts of the portlet fragment cache. Like the
+ * parallel render statistics, these are updated directly by the rendering
+ * threads.
+ */
+public class FragmentCacheStatistics {
+
+	public static FragmentCacheStatistics getInstance() {
+		return _instance;
+	}
+
+	public long getHitCount() {
+		return _hitCount.get();
+	}
+
+	public long getHitCountByPortlet(String portletId) {
+		FragmentCachePortletStatistics fragmentCachePortletStatistics =
+			_fragmentCachePortletStatistics.get(portletId);
+
+		if (fragmentCachePortletStatistics == null) {
+			return 0;
+		}
+
+		return fragmentCachePortletStatistics._hitCount.get();
+	}
+
+	/**
+	 * Returns the percentage of fragment cache lookups that were hits.
+	 */
+	public double getHitRatio() {
+		return _ratio(_hitCount.get(), _missCount.get());
+	}
+
+	public double getHitRatioByPortlet(String portletId) {
+		FragmentCachePortletStatistics fragmentCachePortletStatistics =
+			_fragmentCachePortletStatistics.get(portletId);
+
+		if (fragmentCachePortletStatistics == null) {
+			return 0;
+		}
+
+		return _ratio(
+			fragmentCachePortletStatistics._hitCount.get(),
+			fragmentCachePortletStatistics._missCount.get());
+	}
+
+	public long getMissCount() {
+		return _missCount.get();
+	}
+
+	public long getMissCountByPortlet(String portletId) {
+		FragmentCachePortletStatistics fragmentCachePortletStatistics =
+			_fragmentCachePortletStatistics.get(portletId);
+
+		if (fragmentCachePortletStatistics == null) {
+			return 0;
+		}
+
+		return fragmentCachePortletStatistics._missCount.get();
+	}
+
+	public Set<String> getPortletIds() {
+		return _fragmentCachePortletStatistics.keySet();
+	}
+
+	public void processHit(String portletId) {
+		_hitCount.incrementAndGet();
+
+		FragmentCachePortletStatistics fragmentCachePortletStatistics =
+			_getFragmentCachePortletStatistics(portletId);
+
+		fragmentCachePortletStatistics._hitCount.incrementAndGet();
+	}
+
+	public void processMiss(String portletId) {
+		_missCount.incrementAndGet();
+
+		FragmentCachePortletStatistics fragmentCachePortletStatistics =
+			_getFragmentCachePortletStatistics(portletId);
+
+		fragmentCachePortletStatistics._missCount.incrementAndGet();
+	}
+
+	public void reset() {
+		_fragmentCachePortletStatistics.clear();
+		_hitCount.set(0);
+		_missCount.set(0);
+	}
+
+	private FragmentCacheStatistics() {
+	}
+
+	private FragmentCachePortletStatistics _getFragmentCachePortletStatistics(
+		String portletId) {
+
+		FragmentCachePortletStatistics fragmentCachePortletStatistics =
+			_fragmentCachePortletStatistics.get(portletId);
+
+		if (fragmentCachePortletStatistics == null) {
+			fragmentCachePortletStatistics =
+				new FragmentCachePortletStatistics();
+
+			FragmentCachePortletStatistics
+				previousFragmentCachePortletStatistics =
+					_fragmentCachePortletStatistics.putIfAbsent(
+						portletId, fragmentCachePortletStatistics);
+
+			if (previousFragmentCachePortletStatistics != null) {
+				fragmentCachePortletStatistics =
+					previousFragmentCachePortletStatistics;
+			}
+		}
+
+		return fragmentCachePortletStatistics;
+	}
+
+	private double _ratio(long hitCount, long missCount) {
+		long count = hitCount + missCount;
+
+		if (count == 0) {
+			return 0;
+		}
+
+		return (hitCount * 100.0) / count;
+	}
+
+	private static FragmentCacheStatistics _instance =
+		new FragmentCacheStatistics();
+
+	private ConcurrentMap<String, FragmentCachePortletStatistics>
+		_fragmentCachePortletStatistics =
+			new ConcurrentHashMap<String, FragmentCachePortletStatistics>();
+	private AtomicLong _hitCount = new AtomicLong();
+	private AtomicLong _missCount = new AtomicLong();
+
+	private static class FragmentCachePortletStatistics {
+
+		private AtomicLong _hitCount = new AtomicLong();
+		private AtomicLong _missCount = new AtomicLong();
+
+	}
+
+}
\ No newline at end of file
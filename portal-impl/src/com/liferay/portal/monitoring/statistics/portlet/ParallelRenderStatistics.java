@@ -0,0 +1,252 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.monitoring.statistics.portlet;
+
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.layoutconfiguration.util.RuntimePageImpl;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Collects the statistics of server side parallel rendering. Unlike the other
+ * portlet statistics, these are updated directly by the rendering threads and
+ * do not depend on the monitoring message bus destination.
+ */
+public class ParallelRenderStatistics {
+
+	public static ParallelRenderStatistics getInstance() {
+		return _instance;
+	}
+
+	public int getActiveCount() {
+		ThreadPoolExecutor threadPoolExecutor = _getThreadPoolExecutor();
+
+		if (threadPoolExecutor == null) {
+			return 0;
+		}
+
+		return threadPoolExecutor.getActiveCount();
+	}
+
+	public long getAverageQueueTime() {
+		return _average(_queueTime.get(), _renderCount.get());
+	}
+
+	public long getAverageRenderTime() {
+		return _average(_renderTime.get(), _renderCount.get());
+	}
+
+	public long getAverageRenderTimeByPortlet(String portletId) {
+		PortletRenderStatistics portletRenderStatistics =
+			_portletRenderStatistics.get(portletId);
+
+		if (portletRenderStatistics == null) {
+			return 0;
+		}
+
+		return _average(
+			portletRenderStatistics._renderTime.get(),
+			portletRenderStatistics._renderCount.get());
+	}
+
+	public long getMaxQueueTime() {
+		return _maxQueueTime.get();
+	}
+
+	public long getMaxRenderTimeByPortlet(String portletId) {
+		PortletRenderStatistics portletRenderStatistics =
+			_portletRenderStatistics.get(portletId);
+
+		if (portletRenderStatistics == null) {
+			return 0;
+		}
+
+		return portletRenderStatistics._maxRenderTime.get();
+	}
+
+	public int getPendingTaskCount() {
+		ThreadPoolExecutor threadPoolExecutor = _getThreadPoolExecutor();
+
+		if (threadPoolExecutor == null) {
+			return 0;
+		}
+
+		return threadPoolExecutor.getPendingTaskCount();
+	}
+
+	public Set<String> getPortletIds() {
+		return _portletRenderStatistics.keySet();
+	}
+
+	public long getRejectionCount() {
+		return _rejectionCount.get();
+	}
+
+	public long getRenderCount() {
+		return _renderCount.get();
+	}
+
+	public long getRenderCountByPortlet(String portletId) {
+		PortletRenderStatistics portletRenderStatistics =
+			_portletRenderStatistics.get(portletId);
+
+		if (portletRenderStatistics == null) {
+			return 0;
+		}
+
+		return portletRenderStatistics._renderCount.get();
+	}
+
+	public long getTimeoutCount() {
+		return _timeoutCount.get();
+	}
+
+	public long getTimeoutCountByPortlet(String portletId) {
+		PortletRenderStatistics portletRenderStatistics =
+			_portletRenderStatistics.get(portletId);
+
+		if (portletRenderStatistics == null) {
+			return 0;
+		}
+
+		return portletRenderStatistics._timeoutCount.get();
+	}
+
+	public void processRejection() {
+		_rejectionCount.incrementAndGet();
+	}
+
+	public void processRender(
+		String portletId, long queueTime, long renderTime) {
+
+		_renderCount.incrementAndGet();
+
+		if (queueTime > 0) {
+			_queueTime.addAndGet(queueTime);
+
+			_setMax(_maxQueueTime, queueTime);
+		}
+
+		if (renderTime > 0) {
+			_renderTime.addAndGet(renderTime);
+		}
+
+		PortletRenderStatistics portletRenderStatistics =
+			_getPortletRenderStatistics(portletId);
+
+		portletRenderStatistics._renderCount.incrementAndGet();
+
+		if (renderTime > 0) {
+			portletRenderStatistics._renderTime.addAndGet(renderTime);
+
+			_setMax(portletRenderStatistics._maxRenderTime, renderTime);
+		}
+	}
+
+	public void processTimeout(String portletId) {
+		_timeoutCount.incrementAndGet();
+
+		PortletRenderStatistics portletRenderStatistics =
+			_getPortletRenderStatistics(portletId);
+
+		portletRenderStatistics._timeoutCount.incrementAndGet();
+	}
+
+	public void reset() {
+		_maxQueueTime.set(0);
+		_portletRenderStatistics.clear();
+		_queueTime.set(0);
+		_rejectionCount.set(0);
+		_renderCount.set(0);
+		_renderTime.set(0);
+		_timeoutCount.set(0);
+	}
+
+	private ParallelRenderStatistics() {
+	}
+
+	private long _average(long total, long count) {
+		if (count == 0) {
+			return 0;
+		}
+
+		return total / count;
+	}
+
+	private PortletRenderStatistics _getPortletRenderStatistics(
+		String portletId) {
+
+		PortletRenderStatistics portletRenderStatistics =
+			_portletRenderStatistics.get(portletId);
+
+		if (portletRenderStatistics == null) {
+			portletRenderStatistics = new PortletRenderStatistics();
+
+			PortletRenderStatistics previousPortletRenderStatistics =
+				_portletRenderStatistics.putIfAbsent(
+					portletId, portletRenderStatistics);
+
+			if (previousPortletRenderStatistics != null) {
+				portletRenderStatistics = previousPortletRenderStatistics;
+			}
+		}
+
+		return portletRenderStatistics;
+	}
+
+	private ThreadPoolExecutor _getThreadPoolExecutor() {
+		return PortalExecutorManagerUtil.getPortalExecutor(
+			RuntimePageImpl.class.getName(), false);
+	}
+
+	private void _setMax(AtomicLong atomicLong, long value) {
+		while (true) {
+			long currentValue = atomicLong.get();
+
+			if ((currentValue >= value) ||
+				atomicLong.compareAndSet(currentValue, value)) {
+
+				return;
+			}
+		}
+	}
+
+	private static ParallelRenderStatistics _instance =
+		new ParallelRenderStatistics();
+
+	private AtomicLong _maxQueueTime = new AtomicLong();
+	private ConcurrentMap<String, PortletRenderStatistics>
+		_portletRenderStatistics =
+			new ConcurrentHashMap<String, PortletRenderStatistics>();
+	private AtomicLong _queueTime = new AtomicLong();
+	private AtomicLong _rejectionCount = new AtomicLong();
+	private AtomicLong _renderCount = new AtomicLong();
+	private AtomicLong _renderTime = new AtomicLong();
+	private AtomicLong _timeoutCount = new AtomicLong();
+
+	private static class PortletRenderStatistics {
+
+		private AtomicLong _maxRenderTime = new AtomicLong();
+		private AtomicLong _renderCount = new AtomicLong();
+		private AtomicLong _renderTime = new AtomicLong();
+		private AtomicLong _timeoutCount = new AtomicLong();
+
+	}
+
+}
\ No newline at end of file
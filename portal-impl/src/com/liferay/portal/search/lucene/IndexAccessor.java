@@ -18,8 +18,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
+import java.util.Map;
+
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
 
 /**
@@ -30,8 +34,13 @@ public interface IndexAccessor {
 
 	public static final long DEFAULT_LAST_GENERATION = -1;
 
+	public IndexSearcher acquireIndexSearcher() throws IOException;
+
 	public void addDocument(Document document) throws IOException;
 
+	public void addDocuments(Collection<Document> documents)
+		throws IOException;
+
 	public void close();
 
 	public void delete();
@@ -48,6 +57,12 @@ public interface IndexAccessor {
 
 	public void loadIndex(InputStream inputStream) throws IOException;
 
+	public void releaseIndexSearcher(IndexSearcher indexSearcher)
+		throws IOException;
+
 	public void updateDocument(Term term, Document document) throws IOException;
 
+	public void updateDocuments(Map<Term, Document> documents)
+		throws IOException;
+
 }
\ No newline at end of file
@@ -30,6 +30,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
@@ -50,6 +51,7 @@ import org.apache.lucene.index.Term;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.store.FSDirectory;
@@ -71,6 +73,17 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_checkLuceneDir();
 		_initIndexWriter();
 		_initCommitScheduler();
+		_initSearcherManager();
+	}
+
+	public IndexSearcher acquireIndexSearcher() throws IOException {
+		if (_searcherManager != null) {
+			return _searcherManager.acquire();
+		}
+
+		IndexReader indexReader = IndexReader.open(getLuceneDir(), true);
+
+		return new IndexSearcher(indexReader);
 	}
 
 	public void addDocument(Document document) throws IOException {
@@ -81,7 +94,45 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_write(null, document);
 	}
 
+	public void addDocuments(Collection<Document> documents)
+		throws IOException {
+
+		if (SearchEngineUtil.isIndexReadOnly()) {
+			return;
+		}
+
+		try {
+			for (Document document : documents) {
+				if (_log.isDebugEnabled()) {
+					_log.debug("Indexing " + document);
+				}
+
+				_indexWriter.addDocument(document);
+
+				_batchCount++;
+			}
+
+			_refreshNeeded = true;
+		}
+		finally {
+			_commit();
+		}
+	}
+
 	public void close() {
+		if (_searcherManager != null) {
+			_refreshScheduledExecutorService.shutdownNow();
+
+			try {
+				_searcherManager.close();
+			}
+			catch (Exception e) {
+				_log.error(
+					"Closing Lucene searcher manager failed for " + _companyId,
+					e);
+			}
+		}
+
 		try {
 			_indexWriter.close();
 		}
@@ -107,6 +158,7 @@ public class IndexAccessorImpl implements IndexAccessor {
 			_indexWriter.deleteDocuments(term);
 
 			_batchCount++;
+			_refreshNeeded = true;
 		}
 		finally {
 			_commit();
@@ -190,6 +242,25 @@ public class IndexAccessorImpl implements IndexAccessor {
 		FileUtil.deltree(tempFile);
 	}
 
+	public void releaseIndexSearcher(IndexSearcher indexSearcher)
+		throws IOException {
+
+		if (_searcherManager != null) {
+			_searcherManager.release(indexSearcher);
+
+			return;
+		}
+
+		IndexReader indexReader = indexSearcher.getIndexReader();
+
+		try {
+			indexSearcher.close();
+		}
+		finally {
+			indexReader.close();
+		}
+	}
+
 	public void updateDocument(Term term, Document document)
 		throws IOException {
 
@@ -204,6 +275,33 @@ public class IndexAccessorImpl implements IndexAccessor {
 		_write(term, document);
 	}
 
+	public void updateDocuments(Map<Term, Document> documents)
+		throws IOException {
+
+		if (SearchEngineUtil.isIndexReadOnly()) {
+			return;
+		}
+
+		try {
+			for (Map.Entry<Term, Document> entry : documents.entrySet()) {
+				Document document = entry.getValue();
+
+				if (_log.isDebugEnabled()) {
+					_log.debug("Indexing " + document);
+				}
+
+				_indexWriter.updateDocument(entry.getKey(), document);
+
+				_batchCount++;
+			}
+
+			_refreshNeeded = true;
+		}
+		finally {
+			_commit();
+		}
+	}
+
 	private void _checkLuceneDir() {
 		if (SearchEngineUtil.isIndexReadOnly()) {
 			return;
@@ -261,6 +359,8 @@ public class IndexAccessorImpl implements IndexAccessor {
 			// Ensuring that all the changes has been applied to the index
 
 			_indexWriter.commit();
+
+			_refreshNeeded = true;
 		}
 		catch (Exception e) {
 			if (_log.isWarnEnabled()) {
@@ -414,6 +514,56 @@ public class IndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	private void _initSearcherManager() {
+		if (!PropsValues.LUCENE_NRT_ENABLED || (_indexWriter == null)) {
+			return;
+		}
+
+		try {
+			_searcherManager = new SearcherManager(
+				_indexWriter, true, null, null);
+		}
+		catch (IOException ioe) {
+			_log.error(
+				"Initializing Lucene searcher manager failed for " + _companyId,
+				ioe);
+
+			return;
+		}
+
+		// Readers are reopened from the index writer in the background so
+		// that searches never wait for a reopen and a burst of writes causes
+		// at most one reopen per interval
+
+		_refreshScheduledExecutorService =
+			Executors.newSingleThreadScheduledExecutor();
+
+		Runnable runnable = new Runnable() {
+
+			public void run() {
+				if (!_refreshNeeded) {
+					return;
+				}
+
+				_refreshNeeded = false;
+
+				try {
+					_searcherManager.maybeReopen();
+				}
+				catch (Exception e) {
+					_refreshNeeded = true;
+
+					_log.error("Could not refresh Lucene searcher", e);
+				}
+			}
+
+		};
+
+		_refreshScheduledExecutorService.scheduleWithFixedDelay(
+			runnable, PropsValues.LUCENE_NRT_REFRESH_INTERVAL,
+			PropsValues.LUCENE_NRT_REFRESH_INTERVAL, TimeUnit.MILLISECONDS);
+	}
+
 	private void _write(Term term, Document document) throws IOException {
 		try {
 			if (term != null) {
@@ -424,6 +574,7 @@ public class IndexAccessorImpl implements IndexAccessor {
 			}
 
 			_batchCount++;
+			_refreshNeeded = true;
 		}
 		finally {
 			_commit();
@@ -446,5 +597,8 @@ public class IndexAccessorImpl implements IndexAccessor {
 	private IndexWriter _indexWriter;
 	private Map<String, Directory> _ramDirectories =
 		new ConcurrentHashMap<String, Directory>();
+	private volatile boolean _refreshNeeded;
+	private ScheduledExecutorService _refreshScheduledExecutorService;
+	private SearcherManager _searcherManager;
 
 }
\ No newline at end of file
@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -42,6 +44,9 @@ public interface LuceneHelper {
 	public void addDocument(long companyId, Document document)
 		throws IOException;
 
+	public void addDocuments(long companyId, Collection<Document> documents)
+		throws IOException;
+
 	public void addExactTerm(
 		BooleanQuery booleanQuery, String field, String value);
 
@@ -105,6 +110,9 @@ public interface LuceneHelper {
 
 	public void loadIndexesFromCluster(long companyId) throws SystemException;
 
+	public void releaseSearcher(long companyId, IndexSearcher indexSearcher)
+		throws IOException;
+
 	public void shutdown();
 
 	public void startup(long companyId);
@@ -112,4 +120,8 @@ public interface LuceneHelper {
 	public void updateDocument(long companyId, Term term, Document document)
 		throws IOException;
 
+	public void updateDocuments(
+			long companyId, Map<Term, Document> documents)
+		throws IOException;
+
 }
\ No newline at end of file
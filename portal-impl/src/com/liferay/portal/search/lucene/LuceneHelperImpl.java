@@ -61,6 +61,7 @@ import java.net.InetAddress;
 import java.net.URL;
 import java.net.URLConnection;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -111,6 +112,14 @@ public class LuceneHelperImpl implements LuceneHelper {
 		indexAccessor.addDocument(document);
 	}
 
+	public void addDocuments(long companyId, Collection<Document> documents)
+		throws IOException {
+
+		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
+
+		indexAccessor.addDocuments(documents);
+	}
+
 	public void addExactTerm(
 		BooleanQuery booleanQuery, String field, String value) {
 
@@ -414,10 +423,17 @@ public class LuceneHelperImpl implements LuceneHelper {
 
 		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
 
-		IndexReader indexReader = IndexReader.open(
-			indexAccessor.getLuceneDir(), readOnly);
+		IndexSearcher indexSearcher = null;
 
-		IndexSearcher indexSearcher = new IndexSearcher(indexReader);
+		if (readOnly) {
+			indexSearcher = indexAccessor.acquireIndexSearcher();
+		}
+		else {
+			IndexReader indexReader = IndexReader.open(
+				indexAccessor.getLuceneDir(), false);
+
+			indexSearcher = new IndexSearcher(indexReader);
+		}
 
 		indexSearcher.setDefaultFieldSortScoring(true, true);
 		indexSearcher.setSimilarity(new FieldWeightSimilarity());
@@ -530,6 +546,14 @@ public class LuceneHelperImpl implements LuceneHelper {
 		_loadIndexFromCluster(indexAccessor, localLastGeneration);
 	}
 
+	public void releaseSearcher(long companyId, IndexSearcher indexSearcher)
+		throws IOException {
+
+		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
+
+		indexAccessor.releaseIndexSearcher(indexSearcher);
+	}
+
 	public void setAnalyzer(Analyzer analyzer) {
 		_analyzer = analyzer;
 	}
@@ -567,7 +591,8 @@ public class LuceneHelperImpl implements LuceneHelper {
 				_log.info("Indexing Lucene on startup");
 			}
 
-			LuceneIndexer luceneIndexer = new LuceneIndexer(companyId);
+			LuceneIndexer luceneIndexer = new LuceneIndexer(
+				companyId, PropsValues.INDEX_REINDEX_RESUME_ENABLED);
 
 			if (PropsValues.INDEX_WITH_THREAD) {
 				if (_luceneIndexThreadPoolExecutor == null) {
@@ -597,6 +622,15 @@ public class LuceneHelperImpl implements LuceneHelper {
 		indexAccessor.updateDocument(term, document);
 	}
 
+	public void updateDocuments(
+			long companyId, Map<Term, Document> documents)
+		throws IOException {
+
+		IndexAccessor indexAccessor = _getIndexAccessor(companyId);
+
+		indexAccessor.updateDocuments(documents);
+	}
+
 	private LuceneHelperImpl() {
 		if (PropsValues.INDEX_ON_STARTUP && PropsValues.INDEX_WITH_THREAD) {
 			_luceneIndexThreadPoolExecutor =
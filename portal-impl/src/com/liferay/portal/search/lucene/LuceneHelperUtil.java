@@ -23,7 +23,9 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.lucene.analysis.Analyzer;
@@ -54,6 +56,13 @@ public class LuceneHelperUtil {
 		getLuceneHelper().addDocument(companyId, document);
 	}
 
+	public static void addDocuments(
+			long companyId, Collection<Document> documents)
+		throws IOException {
+
+		getLuceneHelper().addDocuments(companyId, documents);
+	}
+
 	public static void addExactTerm(
 		BooleanQuery booleanQuery, String field, boolean value) {
 
@@ -382,6 +391,13 @@ public class LuceneHelperUtil {
 		getLuceneHelper().loadIndexesFromCluster(companyId);
 	}
 
+	public static void releaseSearcher(
+			long companyId, IndexSearcher indexSearcher)
+		throws IOException {
+
+		getLuceneHelper().releaseSearcher(companyId, indexSearcher);
+	}
+
 	public static void shutdown() {
 		getLuceneHelper().shutdown();
 	}
@@ -397,6 +413,13 @@ public class LuceneHelperUtil {
 		getLuceneHelper().updateDocument(companyId, term, document);
 	}
 
+	public static void updateDocuments(
+			long companyId, Map<Term, Document> documents)
+		throws IOException {
+
+		getLuceneHelper().updateDocuments(companyId, documents);
+	}
+
 	public void setLuceneHelper(LuceneHelper luceneHelper) {
 		_luceneHelper = luceneHelper;
 	}
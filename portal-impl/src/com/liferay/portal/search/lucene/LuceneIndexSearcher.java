@@ -299,7 +299,8 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 
 			if (indexSearcher != null) {
 				try {
-					indexSearcher.close();
+					LuceneHelperUtil.releaseSearcher(
+						searchContext.getCompanyId(), indexSearcher);
 				}
 				catch (IOException ioe) {
 					_log.error(ioe, ioe);
@@ -403,7 +404,7 @@ public class LuceneIndexSearcher extends BaseIndexSearcher {
 		finally {
 			if (indexSearcher != null) {
 				try {
-					indexSearcher.close();
+					LuceneHelperUtil.releaseSearcher(companyId, indexSearcher);
 				}
 				catch (IOException ioe) {
 					_log.error(ioe, ioe);
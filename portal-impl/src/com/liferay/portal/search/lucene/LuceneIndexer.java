@@ -18,6 +18,8 @@ import com.liferay.portal.kernel.dao.shard.ShardUtil;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.search.Indexer;
+import com.liferay.portal.kernel.search.ReindexStatus;
+import com.liferay.portal.kernel.search.ReindexStatusUtil;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.util.ListUtil;
 import com.liferay.portal.kernel.util.Time;
@@ -38,7 +40,12 @@ import org.apache.commons.lang.time.StopWatch;
 public class LuceneIndexer implements Runnable {
 
 	public LuceneIndexer(long companyId) {
+		this(companyId, false);
+	}
+
+	public LuceneIndexer(long companyId, boolean resume) {
 		_companyId = companyId;
+		_resume = resume;
 		_usedSearchEngineIds = new HashSet<String>();
 	}
 
@@ -101,8 +108,24 @@ public class LuceneIndexer implements Runnable {
 			stopWatch.start();
 		}
 
+		boolean resume =
+			_resume && ReindexStatusUtil.hasCheckpoints(_companyId);
+
+		ReindexStatusUtil.startReindex(_companyId, resume);
+
+		boolean completed = false;
+
 		try {
-			LuceneHelperUtil.delete(_companyId);
+			if (resume) {
+				if (_log.isInfoEnabled()) {
+					_log.info(
+						"Resuming interrupted reindex of company " +
+							_companyId);
+				}
+			}
+			else {
+				LuceneHelperUtil.delete(_companyId);
+			}
 
 			List<Portlet> portlets = PortletLocalServiceUtil.getPortlets(
 				_companyId);
@@ -125,6 +148,8 @@ public class LuceneIndexer implements Runnable {
 				}
 			}
 
+			completed = true;
+
 			if (_log.isInfoEnabled()) {
 				_log.info(
 					"Reindexing Lucene completed in " +
@@ -138,11 +163,33 @@ public class LuceneIndexer implements Runnable {
 				_log.info("Reindexing Lucene failed");
 			}
 		}
+		finally {
+			ReindexStatusUtil.finishReindex(_companyId, completed);
+		}
 
 		_finished = true;
 	}
 
 	protected void reindex(Indexer indexer) throws Exception {
+		Class<?> clazz = indexer.getClass();
+
+		ReindexStatus reindexStatus = ReindexStatusUtil.getReindexStatus(
+			_companyId, clazz.getName());
+
+		if (reindexStatus.isFinished()) {
+			if (_log.isInfoEnabled()) {
+				_log.info(
+					"Skipping " + indexer.getClass() +
+						" because it completed before the interruption");
+			}
+
+			_usedSearchEngineIds.add(indexer.getSearchEngineId());
+
+			return;
+		}
+
+		reindexStatus.start(0, 0);
+
 		StopWatch stopWatch = null;
 
 		if (_log.isInfoEnabled()) {
@@ -157,6 +204,8 @@ public class LuceneIndexer implements Runnable {
 
 		indexer.reindex(new String[] {String.valueOf(_companyId)});
 
+		reindexStatus.finish();
+
 		_usedSearchEngineIds.add(indexer.getSearchEngineId());
 
 		if (_log.isInfoEnabled()) {
@@ -171,6 +220,7 @@ public class LuceneIndexer implements Runnable {
 
 	private long _companyId;
 	private boolean _finished;
+	private boolean _resume;
 	private Set<String> _usedSearchEngineIds;
 
 }
\ No newline at end of file
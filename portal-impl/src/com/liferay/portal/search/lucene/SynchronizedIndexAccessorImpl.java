@@ -18,12 +18,15 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
 
 /**
@@ -40,6 +43,17 @@ public class SynchronizedIndexAccessorImpl implements IndexAccessor {
 		_writeLock = readWriteLock.writeLock();
 	}
 
+	public IndexSearcher acquireIndexSearcher() throws IOException {
+		_readLock.lock();
+
+		try {
+			return _indexAccessor.acquireIndexSearcher();
+		}
+		finally {
+			_readLock.unlock();
+		}
+	}
+
 	public void addDocument(Document document) throws IOException {
 		_readLock.lock();
 
@@ -51,6 +65,19 @@ public class SynchronizedIndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	public void addDocuments(Collection<Document> documents)
+		throws IOException {
+
+		_readLock.lock();
+
+		try {
+			_indexAccessor.addDocuments(documents);
+		}
+		finally {
+			_readLock.unlock();
+		}
+	}
+
 	public void close() {
 		_readLock.lock();
 
@@ -118,6 +145,12 @@ public class SynchronizedIndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	public void releaseIndexSearcher(IndexSearcher indexSearcher)
+		throws IOException {
+
+		_indexAccessor.releaseIndexSearcher(indexSearcher);
+	}
+
 	public void updateDocument(Term term, Document document)
 		throws IOException {
 
@@ -131,6 +164,19 @@ public class SynchronizedIndexAccessorImpl implements IndexAccessor {
 		}
 	}
 
+	public void updateDocuments(Map<Term, Document> documents)
+		throws IOException {
+
+		_readLock.lock();
+
+		try {
+			_indexAccessor.updateDocuments(documents);
+		}
+		finally {
+			_readLock.unlock();
+		}
+	}
+
 	private IndexAccessor _indexAccessor;
 	private Lock _readLock;
 	private Lock _writeLock;
@@ -560,9 +560,11 @@ public class AdvancedPermissionChecker extends BasePermissionChecker {
 			_log.error(e, e);
 		}
 
+		long generation = PermissionCacheUtil.getPermissionGeneration(name);
+
 		Boolean value = PermissionCacheUtil.getPermission(
 			user.getUserId(), signedIn, checkGuest, groupId, name, primKey,
-			actionId);
+			actionId, generation);
 
 		if (value == null) {
 			try {
@@ -583,7 +585,7 @@ public class AdvancedPermissionChecker extends BasePermissionChecker {
 
 				PermissionCacheUtil.putPermission(
 					user.getUserId(), signedIn, checkGuest, groupId, name,
-					primKey, actionId, value);
+					primKey, actionId, generation, value);
 			}
 		}
 
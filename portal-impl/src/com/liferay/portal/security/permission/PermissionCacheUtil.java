@@ -19,12 +19,16 @@ import com.liferay.portal.kernel.cache.PortalCache;
 import com.liferay.portal.kernel.lar.ExportImportThreadLocal;
 import com.liferay.portal.kernel.util.AutoResetThreadLocal;
 import com.liferay.portal.kernel.util.HashUtil;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.util.PropsValues;
 
 import java.io.Serializable;
 
+import java.security.SecureRandom;
+
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.collections.map.LRUMap;
 
@@ -36,9 +40,16 @@ import org.apache.commons.collections.map.LRUMap;
  */
 public class PermissionCacheUtil {
 
+	/**
+	 * @deprecated As of 6.2.0, replaced by {@link
+	 *             #PERMISSION_GENERATION_CACHE_NAME}
+	 */
 	public static final String PERMISSION_CACHE_NAME =
 		PermissionCacheUtil.class.getName() + "_PERMISSION";
 
+	public static final String PERMISSION_GENERATION_CACHE_NAME =
+		PermissionCacheUtil.class.getName() + "_PERMISSION_GENERATION";
+
 	public static final String PERMISSION_CHECKER_BAG_CACHE_NAME =
 		PermissionCacheUtil.class.getName() + "_PERMISSION_CHECKER_BAG";
 
@@ -55,10 +66,37 @@ public class PermissionCacheUtil {
 		clearLocalCache();
 
 		_permissionCheckerBagPortalCache.removeAll();
-		_permissionPortalCache.removeAll();
+		_permissionGenerationPortalCache.removeAll();
+		_permissionResultCache.clear();
 		_resourceBlockIdsBagCache.removeAll();
 	}
 
+	/**
+	 * Invalidates the cached permission check results for the resource name
+	 * without clearing the results for other resources or the cached bags.
+	 * This is sufficient when only the resource permissions of the name have
+	 * changed, because the results of permission checks on one resource name
+	 * do not depend on the resource permissions of other names.
+	 *
+	 * @param name the resource's name, which can be either a class name or a
+	 *        portlet ID
+	 */
+	public static void clearCache(String name) {
+		if (ExportImportThreadLocal.isImportInProcess() ||
+			!PermissionThreadLocal.isFlushEnabled()) {
+
+			return;
+		}
+
+		if (_localCacheAvailable) {
+			Map<String, Object> localCache = _localCache.get();
+
+			localCache.remove(name);
+		}
+
+		_permissionGenerationPortalCache.remove(name);
+	}
+
 	public static void clearLocalCache() {
 		if (_localCacheAvailable) {
 			Map<String, Object> localCache = _localCache.get();
@@ -89,22 +127,67 @@ public class PermissionCacheUtil {
 		long userId, boolean signedIn, boolean checkGuest, long groupId,
 		String name, String primKey, String actionId) {
 
-		Boolean value = null;
+		return getPermission(
+			userId, signedIn, checkGuest, groupId, name, primKey, actionId,
+			getPermissionGeneration(name));
+	}
+
+	public static Boolean getPermission(
+		long userId, boolean signedIn, boolean checkGuest, long groupId,
+		String name, String primKey, String actionId, long generation) {
+
+		return _permissionResultCache.get(
+			userId, signedIn, checkGuest, groupId, name, primKey, actionId,
+			generation);
+	}
+
+	/**
+	 * Returns the generation of the cached permission check results for the
+	 * resource name. Callers that compute a permission check on a cache miss
+	 * must obtain the generation before computing it and pass the same
+	 * generation to {@link #putPermission(long, boolean, boolean, long, String,
+	 * String, String, long, Boolean)}, so that a result computed while the
+	 * resource permissions of the name changed is never cached as current.
+	 *
+	 * @param  name the resource's name, which can be either a class name or a
+	 *         portlet ID
+	 * @return the generation of the cached permission check results
+	 */
+	public static long getPermissionGeneration(String name) {
+		if (name == null) {
+			name = StringPool.BLANK;
+		}
 
-		PermissionKey permissionKey = new PermissionKey(
-			userId, signedIn, checkGuest, groupId, name, primKey, actionId);
+		Long generation = null;
 
 		if (_localCacheAvailable) {
 			Map<String, Object> localCache = _localCache.get();
 
-			value = (Boolean)localCache.get(permissionKey);
+			generation = (Long)localCache.get(name);
 		}
 
-		if (value == null) {
-			value = _permissionPortalCache.get(permissionKey);
+		if (generation == null) {
+			generation = _permissionGenerationPortalCache.get(name);
+
+			if (generation == null) {
+
+				// The generation counter starts at a random value so that a
+				// new generation never matches one that was assigned before
+				// the name was invalidated, not even by another cluster node
+
+				generation = _generationCounter.incrementAndGet();
+
+				_permissionGenerationPortalCache.put(name, generation);
+			}
+
+			if (_localCacheAvailable) {
+				Map<String, Object> localCache = _localCache.get();
+
+				localCache.put(name, generation);
+			}
 		}
 
-		return value;
+		return generation;
 	}
 
 	public static ResourceBlockIdsBag getResourceBlockIdsBag(
@@ -152,24 +235,32 @@ public class PermissionCacheUtil {
 		return bag;
 	}
 
+	/**
+	 * @deprecated As of 6.2.0, replaced by {@link #putPermission(long,
+	 *             boolean, boolean, long, String, String, String, long,
+	 *             Boolean)}
+	 */
 	public static Boolean putPermission(
 		long userId, boolean signedIn, boolean checkGuest, long groupId,
 		String name, String primKey, String actionId, Boolean value) {
 
-		if (value == null) {
-			return null;
-		}
-
-		PermissionKey permissionKey = new PermissionKey(
-			userId, signedIn, checkGuest, groupId, name, primKey, actionId);
+		return putPermission(
+			userId, signedIn, checkGuest, groupId, name, primKey, actionId,
+			getPermissionGeneration(name), value);
+	}
 
-		if (_localCacheAvailable) {
-			Map<Serializable, Object> localCache = _localCache.get();
+	public static Boolean putPermission(
+		long userId, boolean signedIn, boolean checkGuest, long groupId,
+		String name, String primKey, String actionId, long generation,
+		Boolean value) {
 
-			localCache.put(permissionKey, value);
+		if (value == null) {
+			return null;
 		}
 
-		_permissionPortalCache.put(permissionKey, value);
+		_permissionResultCache.put(
+			userId, signedIn, checkGuest, groupId, name, primKey, actionId,
+			generation, value);
 
 		return value;
 	}
@@ -198,16 +289,20 @@ public class PermissionCacheUtil {
 		return resourceBlockIdsBag;
 	}
 
+	private static AtomicLong _generationCounter = new AtomicLong(
+		new SecureRandom().nextLong());
 	private static ThreadLocal<LRUMap> _localCache;
 	private static boolean _localCacheAvailable;
 	private static PortalCache<BagKey, PermissionCheckerBag>
 		_permissionCheckerBagPortalCache = MultiVMPoolUtil.getCache(
 			PERMISSION_CHECKER_BAG_CACHE_NAME,
 			PropsValues.PERMISSIONS_OBJECT_BLOCKING_CACHE);
-	private static PortalCache<PermissionKey, Boolean> _permissionPortalCache =
-		MultiVMPoolUtil.getCache(
-			PERMISSION_CACHE_NAME,
-			PropsValues.PERMISSIONS_OBJECT_BLOCKING_CACHE);
+	private static PortalCache<String, Long> _permissionGenerationPortalCache =
+		MultiVMPoolUtil.getCache(PERMISSION_GENERATION_CACHE_NAME);
+	private static PermissionResultCache _permissionResultCache =
+		new PermissionResultCache(
+			PropsValues.PERMISSIONS_RESULT_CACHE_CAPACITY,
+			PropsValues.PERMISSIONS_RESULT_CACHE_MAX_SIZE);
 	private static PortalCache<ResourceBlockIdsBagKey, ResourceBlockIdsBag>
 		_resourceBlockIdsBagCache = MultiVMPoolUtil.getCache(
 			RESOURCE_BLOCK_IDS_BAG_CACHE_NAME,
@@ -244,66 +339,6 @@ public class PermissionCacheUtil {
 
 	}
 
-	private static class PermissionKey implements Serializable {
-
-		public PermissionKey(
-			long userId, boolean signedIn, boolean checkGuest, long groupId,
-			String name, String primKey, String actionId) {
-
-			_userId = userId;
-			_signedIn = signedIn;
-			_checkGuest = checkGuest;
-			_groupId = groupId;
-			_name = name;
-			_primKey = primKey;
-			_actionId = actionId;
-		}
-
-		@Override
-		public boolean equals(Object obj) {
-			PermissionKey permissionKey = (PermissionKey)obj;
-
-			if ((permissionKey._userId == _userId) &&
-				(permissionKey._signedIn == _signedIn) &&
-				(permissionKey._checkGuest == _checkGuest) &&
-				(permissionKey._groupId == _groupId) &&
-				Validator.equals(permissionKey._name, _name) &&
-				Validator.equals(permissionKey._primKey, _primKey) &&
-				Validator.equals(permissionKey._actionId, _actionId)) {
-
-				return true;
-			}
-			else {
-				return false;
-			}
-		}
-
-		@Override
-		public int hashCode() {
-			int hashCode = HashUtil.hash(0, _userId);
-
-			hashCode = HashUtil.hash(hashCode, _signedIn);
-			hashCode = HashUtil.hash(hashCode, _checkGuest);
-			hashCode = HashUtil.hash(hashCode, _groupId);
-			hashCode = HashUtil.hash(hashCode, _name);
-			hashCode = HashUtil.hash(hashCode, _primKey);
-			hashCode = HashUtil.hash(hashCode, _actionId);
-
-			return hashCode;
-		}
-
-		private static final long serialVersionUID = 1L;
-
-		private final String _actionId;
-		private final boolean _checkGuest;
-		private final long _groupId;
-		private final String _name;
-		private final String _primKey;
-		private final boolean _signedIn;
-		private final long _userId;
-
-	}
-
 	private static class ResourceBlockIdsBagKey implements Serializable {
 
 		public ResourceBlockIdsBagKey(
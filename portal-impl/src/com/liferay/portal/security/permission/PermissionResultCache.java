@@ -0,0 +1,302 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.security.permission;
+
+import com.liferay.portal.kernel.util.Validator;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Caches the results of permission checks in a fixed size, open addressing
+ * hash table.
+ *
+ * <p>
+ * Lookups do not lock and do not allocate. Each key is reduced to a 64 bit
+ * hash that selects a short probe window in the table, and the full key is
+ * compared only when the hashes match. Every result is stored with the
+ * generation of its resource name, so that all results for a name become
+ * stale at once when the generation changes.
+ * </p>
+ *
+ * <p>
+ * The estimated retained size of the cached results is tracked. Once it
+ * exceeds the maximum size, new results replace existing ones instead of
+ * filling empty slots.
+ * </p>
+ */
+public class PermissionResultCache {
+
+	public PermissionResultCache(int capacity, long maxSize) {
+		if (capacity < _PROBE_LENGTH) {
+			throw new IllegalArgumentException(
+				"Capacity " + capacity + " is less than " + _PROBE_LENGTH);
+		}
+
+		int tableSize = Integer.highestOneBit(capacity);
+
+		if (tableSize < capacity) {
+			tableSize <<= 1;
+		}
+
+		_entries = new AtomicReferenceArray<Entry>(tableSize);
+		_mask = tableSize - 1;
+		_maxSize = maxSize;
+	}
+
+	public void clear() {
+		for (int i = 0; i < _entries.length(); i++) {
+			Entry entry = _entries.getAndSet(i, null);
+
+			if (entry != null) {
+				_size.addAndGet(-entry._size);
+			}
+		}
+	}
+
+	public Boolean get(
+		long userId, boolean signedIn, boolean checkGuest, long groupId,
+		String name, String primKey, String actionId, long generation) {
+
+		long hash = _hash(
+			userId, signedIn, checkGuest, groupId, name, primKey, actionId);
+
+		int index = (int)hash;
+
+		for (int i = 0; i < _PROBE_LENGTH; i++) {
+			Entry entry = _entries.get((index + i) & _mask);
+
+			if ((entry != null) && (entry._hash == hash) &&
+				entry.matches(
+					userId, signedIn, checkGuest, groupId, name, primKey,
+					actionId)) {
+
+				if (entry._generation == generation) {
+					return entry._value;
+				}
+
+				return null;
+			}
+		}
+
+		return null;
+	}
+
+	public int getCapacity() {
+		return _entries.length();
+	}
+
+	public int getEntryCount() {
+		int entryCount = 0;
+
+		for (int i = 0; i < _entries.length(); i++) {
+			if (_entries.get(i) != null) {
+				entryCount++;
+			}
+		}
+
+		return entryCount;
+	}
+
+	public long getMaxSize() {
+		return _maxSize;
+	}
+
+	public long getSize() {
+		return _size.get();
+	}
+
+	public void put(
+		long userId, boolean signedIn, boolean checkGuest, long groupId,
+		String name, String primKey, String actionId, long generation,
+		Boolean value) {
+
+		long hash = _hash(
+			userId, signedIn, checkGuest, groupId, name, primKey, actionId);
+
+		Entry newEntry = new Entry(
+			hash, userId, signedIn, checkGuest, groupId, name, primKey,
+			actionId, generation, value);
+
+		int index = (int)hash;
+
+		int emptyIndex = -1;
+		int victimIndex = -1;
+
+		for (int i = 0; i < _PROBE_LENGTH; i++) {
+			int slotIndex = (index + i) & _mask;
+
+			Entry entry = _entries.get(slotIndex);
+
+			if (entry == null) {
+				if (emptyIndex < 0) {
+					emptyIndex = slotIndex;
+				}
+
+				continue;
+			}
+
+			if ((entry._hash == hash) &&
+				entry.matches(
+					userId, signedIn, checkGuest, groupId, name, primKey,
+					actionId)) {
+
+				_replace(slotIndex, newEntry);
+
+				return;
+			}
+
+			if (victimIndex < 0) {
+				victimIndex = slotIndex;
+			}
+		}
+
+		if ((emptyIndex >= 0) &&
+			((victimIndex < 0) ||
+			 ((_size.get() + newEntry._size) <= _maxSize))) {
+
+			if (_entries.compareAndSet(emptyIndex, null, newEntry)) {
+				_size.addAndGet(newEntry._size);
+
+				return;
+			}
+		}
+
+		// Replace an entry at a rotating position in the probe window. The
+		// counter is updated without synchronization because any position in
+		// the window is acceptable.
+
+		int rotation = _rotation++;
+
+		int slotIndex = (index + (rotation & (_PROBE_LENGTH - 1))) & _mask;
+
+		if ((_entries.get(slotIndex) == null) && (victimIndex >= 0)) {
+			slotIndex = victimIndex;
+		}
+
+		_replace(slotIndex, newEntry);
+	}
+
+	private static int _estimateSize(String s) {
+		if (s == null) {
+			return 0;
+		}
+
+		return _STRING_SIZE + (s.length() * 2);
+	}
+
+	private static long _hash(
+		long userId, boolean signedIn, boolean checkGuest, long groupId,
+		String name, String primKey, String actionId) {
+
+		long hash = userId;
+
+		hash = (hash * 31) + groupId;
+		hash = (hash * 31) + (signedIn ? 1231 : 1237);
+		hash = (hash * 31) + (checkGuest ? 1231 : 1237);
+		hash = (hash * 31) + ((name == null) ? 0 : name.hashCode());
+		hash = (hash * 31) + ((primKey == null) ? 0 : primKey.hashCode());
+		hash = (hash * 31) + ((actionId == null) ? 0 : actionId.hashCode());
+
+		// Spread the bits so that the low bits used for the slot index depend
+		// on every field
+
+		hash ^= hash >>> 33;
+		hash *= 0xff51afd7ed558ccdL;
+		hash ^= hash >>> 33;
+		hash *= 0xc4ceb9fe1a85ec53L;
+		hash ^= hash >>> 33;
+
+		return hash;
+	}
+
+	private void _replace(int slotIndex, Entry newEntry) {
+		Entry oldEntry = _entries.getAndSet(slotIndex, newEntry);
+
+		if (oldEntry == null) {
+			_size.addAndGet(newEntry._size);
+		}
+		else {
+			_size.addAndGet(newEntry._size - oldEntry._size);
+		}
+	}
+
+	private static final int _ENTRY_SIZE = 72;
+
+	private static final int _PROBE_LENGTH = 8;
+
+	private static final int _STRING_SIZE = 40;
+
+	private final AtomicReferenceArray<Entry> _entries;
+	private final int _mask;
+	private final long _maxSize;
+	private int _rotation;
+	private final AtomicLong _size = new AtomicLong();
+
+	private static class Entry {
+
+		public Entry(
+			long hash, long userId, boolean signedIn, boolean checkGuest,
+			long groupId, String name, String primKey, String actionId,
+			long generation, Boolean value) {
+
+			_hash = hash;
+			_userId = userId;
+			_signedIn = signedIn;
+			_checkGuest = checkGuest;
+			_groupId = groupId;
+			_name = name;
+			_primKey = primKey;
+			_actionId = actionId;
+			_generation = generation;
+			_value = value;
+
+			_size =
+				_ENTRY_SIZE + _estimateSize(name) + _estimateSize(primKey) +
+					_estimateSize(actionId);
+		}
+
+		public boolean matches(
+			long userId, boolean signedIn, boolean checkGuest, long groupId,
+			String name, String primKey, String actionId) {
+
+			if ((_userId == userId) && (_groupId == groupId) &&
+				(_signedIn == signedIn) && (_checkGuest == checkGuest) &&
+				Validator.equals(_primKey, primKey) &&
+				Validator.equals(_name, name) &&
+				Validator.equals(_actionId, actionId)) {
+
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		private final String _actionId;
+		private final boolean _checkGuest;
+		private final long _generation;
+		private final long _groupId;
+		private final long _hash;
+		private final String _name;
+		private final String _primKey;
+		private final boolean _signedIn;
+		private final int _size;
+		private final long _userId;
+		private final Boolean _value;
+
+	}
+
+}
\ No newline at end of file
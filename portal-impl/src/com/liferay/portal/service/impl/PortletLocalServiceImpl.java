@@ -1512,6 +1512,27 @@ public class PortletLocalServiceImpl extends PortletLocalServiceBaseImpl {
 			GetterUtil.getBoolean(
 				portletElement.elementText("layout-cacheable"),
 				portletModel.isLayoutCacheable()));
+		portletModel.setFragmentCacheable(
+			GetterUtil.getBoolean(
+				portletElement.elementText("fragment-cacheable"),
+				portletModel.isFragmentCacheable()));
+
+		Element fragmentCacheVaryByElement = portletElement.element(
+			"fragment-cache-vary-by");
+
+		if (fragmentCacheVaryByElement != null) {
+			Set<String> fragmentCacheVaryBy = new LinkedHashSet<String>();
+
+			String[] fragmentCacheVaryByArray = StringUtil.split(
+				fragmentCacheVaryByElement.getText());
+
+			for (String fragmentCacheVaryByName : fragmentCacheVaryByArray) {
+				fragmentCacheVaryBy.add(fragmentCacheVaryByName);
+			}
+
+			portletModel.setFragmentCacheVaryBy(fragmentCacheVaryBy);
+		}
+
 		portletModel.setInstanceable(
 			GetterUtil.getBoolean(
 				portletElement.elementText("instanceable"),
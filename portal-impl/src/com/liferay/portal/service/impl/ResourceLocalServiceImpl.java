@@ -778,7 +778,7 @@ public class ResourceLocalServiceImpl extends ResourceLocalServiceBaseImpl {
 		finally {
 			PermissionThreadLocal.setIndexEnabled(flushEnabled);
 
-			PermissionCacheUtil.clearCache();
+			PermissionCacheUtil.clearCache(name);
 
 			SearchEngineUtil.updatePermissionFields(name, primKey);
 		}
@@ -890,7 +890,7 @@ public class ResourceLocalServiceImpl extends ResourceLocalServiceBaseImpl {
 
 			PermissionThreadLocal.setIndexEnabled(flushEnabled);
 
-			PermissionCacheUtil.clearCache();
+			PermissionCacheUtil.clearCache(name);
 
 			SearchEngineUtil.updatePermissionFields(name, primKey);
 		}
@@ -319,6 +319,10 @@ public class CacheFilter extends BasePortalFilter {
 				return false;
 			}
 
+			CacheUtil.addSurrogateKey(
+				Group.class.getName(), layout.getGroupId());
+			CacheUtil.addSurrogateKey(Layout.class.getName(), plid);
+
 			UnicodeProperties properties = layout.getTypeSettingsProperties();
 
 			for (int i = 0; i < 10; i++) {
@@ -425,55 +429,69 @@ public class CacheFilter extends BasePortalFilter {
 			companyId, key);
 
 		if (cacheResponseData == null) {
-			if (!isCacheableData(companyId, request)) {
-				if (_log.isDebugEnabled()) {
-					_log.debug("Request is not cacheable " + key);
-				}
 
-				processFilter(
-					CacheFilter.class, request, response, filterChain);
+			// Record the surrogate keys of the models that the response is
+			// generated from so that it can be invalidated when one of them
+			// changes
 
-				return;
-			}
+			CacheUtil.startSurrogateKeys(companyId);
 
-			if (_log.isInfoEnabled()) {
-				_log.info("Caching request " + key);
-			}
+			try {
+				if (!isCacheableData(companyId, request)) {
+					if (_log.isDebugEnabled()) {
+						_log.debug("Request is not cacheable " + key);
+					}
 
-			BufferCacheServletResponse bufferCacheServletResponse =
-				new BufferCacheServletResponse(response);
+					CacheUtil.stopSurrogateKeys();
 
-			processFilter(
-				CacheFilter.class, request, bufferCacheServletResponse,
-				filterChain);
+					processFilter(
+						CacheFilter.class, request, response, filterChain);
 
-			cacheResponseData = new CacheResponseData(
-				bufferCacheServletResponse);
+					return;
+				}
 
-			LastPath lastPath = (LastPath)request.getAttribute(
-				WebKeys.LAST_PATH);
+				if (_log.isInfoEnabled()) {
+					_log.info("Caching request " + key);
+				}
 
-			if (lastPath != null) {
-				cacheResponseData.setAttribute(WebKeys.LAST_PATH, lastPath);
-			}
+				BufferCacheServletResponse bufferCacheServletResponse =
+					new BufferCacheServletResponse(response);
+
+				processFilter(
+					CacheFilter.class, request, bufferCacheServletResponse,
+					filterChain);
+
+				cacheResponseData = new CacheResponseData(
+					bufferCacheServletResponse);
 
-			// Cache the result if and only if there is a result and the request
-			// is cacheable. We have to test the cacheability of a request twice
-			// because the user could have been authenticated after the initial
-			// test.
+				LastPath lastPath = (LastPath)request.getAttribute(
+					WebKeys.LAST_PATH);
 
-			String cacheControl = GetterUtil.getString(
-				bufferCacheServletResponse.getHeader(
-					HttpHeaders.CACHE_CONTROL));
+				if (lastPath != null) {
+					cacheResponseData.setAttribute(WebKeys.LAST_PATH, lastPath);
+				}
+
+				// Cache the result if and only if there is a result and the
+				// request is cacheable. We have to test the cacheability of a
+				// request twice because the user could have been authenticated
+				// after the initial test.
+
+				String cacheControl = GetterUtil.getString(
+					bufferCacheServletResponse.getHeader(
+						HttpHeaders.CACHE_CONTROL));
 
-			if ((bufferCacheServletResponse.getStatus() ==
-					HttpServletResponse.SC_OK) &&
-				!cacheControl.contains(HttpHeaders.PRAGMA_NO_CACHE_VALUE) &&
-				isCacheableRequest(request) &&
-				isCacheableResponse(bufferCacheServletResponse)) {
+				if ((bufferCacheServletResponse.getStatus() ==
+						HttpServletResponse.SC_OK) &&
+					!cacheControl.contains(HttpHeaders.PRAGMA_NO_CACHE_VALUE) &&
+					isCacheableRequest(request) &&
+					isCacheableResponse(bufferCacheServletResponse)) {
 
-				CacheUtil.putCacheResponseData(
-					companyId, key, cacheResponseData);
+					CacheUtil.putCacheResponseData(
+						companyId, key, cacheResponseData);
+				}
+			}
+			finally {
+				CacheUtil.stopSurrogateKeys();
 			}
 		}
 		else {
@@ -17,13 +17,37 @@ package com.liferay.portal.servlet.filters.cache;
 import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
 import com.liferay.portal.kernel.cache.PortalCache;
 import com.liferay.portal.kernel.lar.ExportImportThreadLocal;
+import com.liferay.portal.kernel.util.CentralizedThreadLocal;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
 import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.model.Company;
 import com.liferay.util.servlet.filters.CacheResponseData;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
+ * Caches whole responses together with the surrogate keys they depend on.
+ *
+ * <p>
+ * While a cacheable response is generated, the code that reads a model calls
+ * {@link #addSurrogateKey(String, long)} with the model's class name and
+ * primary key. The current version of each surrogate key is recorded with the
+ * cached response, and the response is only served while all of those
+ * versions are unchanged. Model listeners call {@link #clearCache(String,
+ * long)} to drop the version of a surrogate key, which invalidates
+ * exactly the responses that depend on it on every cluster node.
+ * </p>
+ *
+ * <p>
+ * Every response also depends on its company, so that {@link
+ * #clearCache(long)} still invalidates all responses of a company.
+ * </p>
+ *
  * @author Alexander Chow
  * @author Michael Young
  */
@@ -31,6 +55,41 @@ public class CacheUtil {
 
 	public static final String CACHE_NAME = CacheUtil.class.getName();
 
+	public static void addSurrogateKey(String className, long classPK) {
+		Map<String, Long> surrogateKeyVersions =
+			_surrogateKeyVersionsThreadLocal.get();
+
+		if (surrogateKeyVersions == null) {
+			return;
+		}
+
+		String surrogateKey = _encodeSurrogateKey(className, classPK);
+
+		if (!surrogateKeyVersions.containsKey(surrogateKey)) {
+			surrogateKeyVersions.put(
+				surrogateKey, _getSurrogateKeyVersion(surrogateKey));
+		}
+	}
+
+	public static void addSurrogateKeys(
+		Map<String, Long> fragmentSurrogateKeyVersions) {
+
+		Map<String, Long> surrogateKeyVersions =
+			_surrogateKeyVersionsThreadLocal.get();
+
+		if (surrogateKeyVersions == null) {
+			return;
+		}
+
+		for (Map.Entry<String, Long> entry :
+				fragmentSurrogateKeyVersions.entrySet()) {
+
+			if (!surrogateKeyVersions.containsKey(entry.getKey())) {
+				surrogateKeyVersions.put(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
 	public static void clearCache() {
 		if (ExportImportThreadLocal.isImportInProcess()) {
 			return;
@@ -40,7 +99,20 @@ public class CacheUtil {
 	}
 
 	public static void clearCache(long companyId) {
-		clearCache();
+		if (ExportImportThreadLocal.isImportInProcess()) {
+			return;
+		}
+
+		_versionPortalCache.remove(
+			_encodeSurrogateKey(Company.class.getName(), companyId));
+	}
+
+	public static void clearCache(String className, long classPK) {
+		if (ExportImportThreadLocal.isImportInProcess()) {
+			return;
+		}
+
+		_versionPortalCache.remove(_encodeSurrogateKey(className, classPK));
 	}
 
 	public static CacheResponseData getCacheResponseData(
@@ -52,19 +124,140 @@ public class CacheUtil {
 
 		key = _encodeKey(companyId, key);
 
-		return _portalCache.get(key);
+		CacheResponseData cacheResponseData = _portalCache.get(key);
+
+		if (cacheResponseData == null) {
+			return null;
+		}
+
+		String[] surrogateKeys = (String[])cacheResponseData.getAttribute(
+			_SURROGATE_KEYS);
+		long[] surrogateKeyVersions = (long[])cacheResponseData.getAttribute(
+			_SURROGATE_KEY_VERSIONS);
+
+		if ((surrogateKeys != null) &&
+			!_isCurrent(surrogateKeys, surrogateKeyVersions)) {
+
+			_portalCache.remove(key);
+
+			return null;
+		}
+
+		return cacheResponseData;
+	}
+
+	/**
+	 * Returns <code>true</code> if none of the surrogate keys has been cleared
+	 * since the versions were recorded.
+	 */
+	public static boolean isCurrent(Map<String, Long> surrogateKeyVersions) {
+		for (Map.Entry<String, Long> entry : surrogateKeyVersions.entrySet()) {
+			Long version = _versionPortalCache.get(entry.getKey());
+
+			if ((version == null) || !version.equals(entry.getValue())) {
+				return false;
+			}
+		}
+
+		return true;
 	}
 
 	public static void putCacheResponseData(
 		long companyId, String key, CacheResponseData data) {
 
 		if (data != null) {
+			Map<String, Long> surrogateKeyVersions =
+				_surrogateKeyVersionsThreadLocal.get();
+
+			if (surrogateKeyVersions != null) {
+
+				// Parallel render threads may still add keys
+
+				surrogateKeyVersions = new HashMap<String, Long>(
+					surrogateKeyVersions);
+
+				int size = surrogateKeyVersions.size();
+
+				String[] surrogateKeys = new String[size];
+				long[] versions = new long[size];
+
+				int i = 0;
+
+				for (Map.Entry<String, Long> entry :
+						surrogateKeyVersions.entrySet()) {
+
+					surrogateKeys[i] = entry.getKey();
+					versions[i] = entry.getValue();
+
+					i++;
+				}
+
+				data.setAttribute(_SURROGATE_KEYS, surrogateKeys);
+				data.setAttribute(_SURROGATE_KEY_VERSIONS, versions);
+			}
+
 			key = _encodeKey(companyId, key);
 
 			_portalCache.put(key, data);
 		}
 	}
 
+	/**
+	 * Starts recording the surrogate keys of a fragment of the response, such
+	 * as a single portlet, separately from the keys recorded so far. The
+	 * returned keys recorded so far have to be passed to {@link
+	 * #stopFragmentSurrogateKeys(Map)}.
+	 */
+	public static Map<String, Long> startFragmentSurrogateKeys() {
+		Map<String, Long> surrogateKeyVersions =
+			_surrogateKeyVersionsThreadLocal.get();
+
+		_surrogateKeyVersionsThreadLocal.set(
+			new ConcurrentHashMap<String, Long>());
+
+		return surrogateKeyVersions;
+	}
+
+	/**
+	 * Starts recording the surrogate keys of the response generated by the
+	 * current request. The recorded keys are shared with the threads that
+	 * copy the current thread's locals, such as parallel portlet rendering
+	 * threads.
+	 */
+	public static void startSurrogateKeys(long companyId) {
+		_surrogateKeyVersionsThreadLocal.set(
+			new ConcurrentHashMap<String, Long>());
+
+		addSurrogateKey(Company.class.getName(), companyId);
+	}
+
+	/**
+	 * Stops recording the surrogate keys of a fragment of the response and
+	 * returns them. The fragment's keys are added to the keys recorded before
+	 * the fragment.
+	 */
+	public static Map<String, Long> stopFragmentSurrogateKeys(
+		Map<String, Long> surrogateKeyVersions) {
+
+		Map<String, Long> fragmentSurrogateKeyVersions =
+			_surrogateKeyVersionsThreadLocal.get();
+
+		if (surrogateKeyVersions == null) {
+			_surrogateKeyVersionsThreadLocal.remove();
+		}
+		else {
+			_surrogateKeyVersionsThreadLocal.set(surrogateKeyVersions);
+
+			addSurrogateKeys(fragmentSurrogateKeyVersions);
+		}
+
+		return new HashMap<String, Long>(fragmentSurrogateKeyVersions);
+	}
+
+	public static void stopSurrogateKeys() {
+		_surrogateKeyVersionsThreadLocal.remove();
+	}
+
 	private static String _encodeKey(long companyId, String key) {
 		StringBundler sb = new StringBundler(5);
 
@@ -77,7 +270,70 @@ public class CacheUtil {
 		return sb.toString();
 	}
 
+	private static String _encodeSurrogateKey(String className, long classPK) {
+		StringBundler sb = new StringBundler(3);
+
+		sb.append(className);
+		sb.append(StringPool.POUND);
+		sb.append(StringUtil.toHexString(classPK));
+
+		return sb.toString();
+	}
+
+	private static Long _getSurrogateKeyVersion(String surrogateKey) {
+		Long version = _versionPortalCache.get(surrogateKey);
+
+		if (version == null) {
+			version = _versionCounter.incrementAndGet();
+
+			_versionPortalCache.put(surrogateKey, version);
+		}
+
+		return version;
+	}
+
+	private static boolean _isCurrent(
+		String[] surrogateKeys, long[] surrogateKeyVersions) {
+
+		for (int i = 0; i < surrogateKeys.length; i++) {
+			Long version = _versionPortalCache.get(surrogateKeys[i]);
+
+			if ((version == null) || (version != surrogateKeyVersions[i])) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static final String _SURROGATE_KEYS =
+		CacheUtil.class.getName() + "_SURROGATE_KEYS";
+
+	private static final String _SURROGATE_KEY_VERSIONS =
+		CacheUtil.class.getName() + "_SURROGATE_KEY_VERSIONS";
+
+	private static final String _VERSION_CACHE_NAME =
+		CacheUtil.class.getName() + "_VERSION";
+
 	private static PortalCache<String, CacheResponseData> _portalCache =
 		MultiVMPoolUtil.getCache(CACHE_NAME);
+	private static ThreadLocal<Map<String, Long>>
+		_surrogateKeyVersionsThreadLocal =
+			new CentralizedThreadLocal<Map<String, Long>>(true) {
+
+				@Override
+				protected Map<String, Long> copy(Map<String, Long> value) {
+					return value;
+				}
+
+			};
+
+	// Versions only have to differ from the versions issued before a
+	// surrogate key was cleared, including those issued before a restart
+
+	private static AtomicLong _versionCounter = new AtomicLong(
+		System.currentTimeMillis() << 20);
+	private static PortalCache<String, Long> _versionPortalCache =
+		MultiVMPoolUtil.getCache(_VERSION_CACHE_NAME);
 
 }
\ No newline at end of file
@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.gzip;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Caches compressed response bodies by the digest of their uncompressed
+ * bytes, so the same content is compressed only once no matter which URL
+ * served it.
+ *
+ * <p>
+ * The most recently used entries are kept in memory, up to a maximum number
+ * of bytes. Every entry is also written to the cache folder, which is bounded
+ * by its own maximum number of bytes. An entry evicted from memory is read back
+ * from its file. Entries larger than the memory bound are not cached.
+ * </p>
+ */
+public class GZipCache {
+
+	public GZipCache(File cacheDir, long memoryMaxSize, long filesMaxSize) {
+		_cacheDir = cacheDir;
+		_memoryMaxSize = memoryMaxSize;
+		_filesMaxSize = filesMaxSize;
+
+		// Files left by a previous run are not tracked by this cache
+
+		FileUtil.deltree(_cacheDir);
+
+		_cacheDir.mkdirs();
+	}
+
+	public byte[] get(String key) {
+		synchronized (_memoryEntries) {
+			byte[] bytes = _memoryEntries.get(key);
+
+			if ((bytes != null) || (_filesMaxSize <= 0)) {
+				return bytes;
+			}
+		}
+
+		synchronized (_fileSizes) {
+			if (!_fileSizes.containsKey(key)) {
+				return null;
+			}
+		}
+
+		File file = new File(_cacheDir, key);
+
+		byte[] bytes = null;
+
+		try {
+			bytes = FileUtil.getBytes(file);
+		}
+		catch (IOException ioe) {
+			if (_log.isWarnEnabled()) {
+				_log.warn("Unable to read " + file, ioe);
+			}
+
+			return null;
+		}
+
+		_putMemoryEntry(key, bytes);
+
+		return bytes;
+	}
+
+	public void put(String key, byte[] bytes) {
+		if (bytes.length > _memoryMaxSize) {
+			return;
+		}
+
+		_putMemoryEntry(key, bytes);
+
+		if ((_filesMaxSize <= 0) || (bytes.length > _filesMaxSize)) {
+			return;
+		}
+
+		File file = new File(_cacheDir, key);
+
+		// Write to a temporary file first so that a concurrent reader never
+		// sees a partially written file
+
+		Thread currentThread = Thread.currentThread();
+
+		File tempFile = new File(
+			_cacheDir, key + StringPool.PERIOD + currentThread.getId());
+
+		try {
+			FileUtil.write(tempFile, bytes);
+
+			if (!tempFile.renameTo(file)) {
+				tempFile.delete();
+
+				return;
+			}
+		}
+		catch (IOException ioe) {
+			tempFile.delete();
+
+			if (_log.isWarnEnabled()) {
+				_log.warn("Unable to write " + file, ioe);
+			}
+
+			return;
+		}
+
+		synchronized (_fileSizes) {
+			Long size = _fileSizes.put(key, (long)bytes.length);
+
+			if (size != null) {
+				_filesSize -= size;
+			}
+
+			_filesSize += bytes.length;
+
+			Iterator<Map.Entry<String, Long>> iterator =
+				_fileSizes.entrySet().iterator();
+
+			while ((_filesSize > _filesMaxSize) && iterator.hasNext()) {
+				Map.Entry<String, Long> entry = iterator.next();
+
+				String evictedKey = entry.getKey();
+
+				if (evictedKey.equals(key)) {
+					continue;
+				}
+
+				_filesSize -= entry.getValue();
+
+				iterator.remove();
+
+				File evictedFile = new File(_cacheDir, evictedKey);
+
+				evictedFile.delete();
+			}
+		}
+	}
+
+	private void _putMemoryEntry(String key, byte[] bytes) {
+		synchronized (_memoryEntries) {
+			byte[] oldBytes = _memoryEntries.put(key, bytes);
+
+			if (oldBytes != null) {
+				_memorySize -= oldBytes.length;
+			}
+
+			_memorySize += bytes.length;
+
+			Iterator<Map.Entry<String, byte[]>> iterator =
+				_memoryEntries.entrySet().iterator();
+
+			while ((_memorySize > _memoryMaxSize) && iterator.hasNext()) {
+				Map.Entry<String, byte[]> entry = iterator.next();
+
+				if (key.equals(entry.getKey())) {
+					continue;
+				}
+
+				byte[] evictedBytes = entry.getValue();
+
+				_memorySize -= evictedBytes.length;
+
+				iterator.remove();
+			}
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(GZipCache.class);
+
+	private final File _cacheDir;
+	private final Map<String, Long> _fileSizes =
+		new LinkedHashMap<String, Long>(16, 0.75F, true);
+	private final long _filesMaxSize;
+	private long _filesSize;
+	private final Map<String, byte[]> _memoryEntries =
+		new LinkedHashMap<String, byte[]>(16, 0.75F, true);
+	private final long _memoryMaxSize;
+	private long _memorySize;
+
+}
\ No newline at end of file
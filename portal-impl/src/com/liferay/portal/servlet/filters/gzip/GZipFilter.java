@@ -22,8 +22,13 @@ import com.liferay.portal.kernel.util.JavaConstants;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.ServerDetector;
 import com.liferay.portal.servlet.filters.BasePortalFilter;
+import com.liferay.portal.util.PropsValues;
+
+import java.io.File;
 
 import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletContext;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -54,6 +59,20 @@ public class GZipFilter extends BasePortalFilter {
 		}
 	}
 
+	@Override
+	public void init(FilterConfig filterConfig) {
+		super.init(filterConfig);
+
+		if (PropsValues.GZIP_CACHE_ENABLED) {
+			ServletContext servletContext = filterConfig.getServletContext();
+
+			File tempDir = (File)servletContext.getAttribute(
+				JavaConstants.JAVAX_SERVLET_CONTEXT_TEMPDIR);
+
+			_initGZipCache(new File(tempDir, _TEMP_DIR));
+		}
+	}
+
 	@Override
 	public boolean isFilterEnabled() {
 		return _filterEnabled;
@@ -118,15 +137,30 @@ public class GZipFilter extends BasePortalFilter {
 
 		request.setAttribute(SKIP_FILTER, Boolean.TRUE);
 
-		GZipResponse gZipResponse = new GZipResponse(request, response);
+		GZipResponse gZipResponse = new GZipResponse(
+			request, response, _gZipCache);
 
 		processFilter(GZipFilter.class, request, gZipResponse, filterChain);
 
 		gZipResponse.finishResponse();
 	}
 
+	private static synchronized void _initGZipCache(File cacheDir) {
+
+		// The cache is shared by all instances of this filter
+
+		if (_gZipCache == null) {
+			_gZipCache = new GZipCache(
+				cacheDir, PropsValues.GZIP_CACHE_MEMORY_MAX_SIZE,
+				PropsValues.GZIP_CACHE_FILES_MAX_SIZE);
+		}
+	}
+
 	private static final String _COMPRESS = "compress";
 
+	private static final String _TEMP_DIR = "gzip";
+
+	private static volatile GZipCache _gZipCache;
 	private static Log _log = LogFactoryUtil.getLog(GZipFilter.class);
 
 	private boolean _filterEnabled;
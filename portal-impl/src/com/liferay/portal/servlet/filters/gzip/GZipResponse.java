@@ -19,10 +19,17 @@ import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.servlet.BrowserSnifferUtil;
 import com.liferay.portal.kernel.servlet.HttpHeaders;
+import com.liferay.portal.kernel.servlet.HttpMethods;
 import com.liferay.portal.kernel.servlet.MetaInfoCacheServletResponse;
 import com.liferay.portal.kernel.servlet.ServletOutputStreamAdapter;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.ContentTypes;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.UnsyncPrintWriterPool;
+import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.util.PropsValues;
 import com.liferay.util.RSSThreadLocal;
 
@@ -30,6 +37,8 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintWriter;
 
+import java.nio.ByteBuffer;
+
 import java.util.zip.GZIPOutputStream;
 
 import javax.servlet.ServletOutputStream;
@@ -46,6 +55,13 @@ public class GZipResponse extends MetaInfoCacheServletResponse {
 	public GZipResponse(
 		HttpServletRequest request, HttpServletResponse response) {
 
+		this(request, response, null);
+	}
+
+	public GZipResponse(
+		HttpServletRequest request, HttpServletResponse response,
+		GZipCache gZipCache) {
+
 		super(response);
 
 		_response = response;
@@ -61,6 +77,12 @@ public class GZipResponse extends MetaInfoCacheServletResponse {
 		_response.addHeader(HttpHeaders.CONTENT_ENCODING, _GZIP);
 
 		_firefox = BrowserSnifferUtil.isFirefox(request);
+
+		if ((gZipCache != null) && _isStaticResource(request)) {
+			_gZipCache = gZipCache;
+		}
+
+		_ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
 	}
 
 	@Override
@@ -98,7 +120,12 @@ public class GZipResponse extends MetaInfoCacheServletResponse {
 		catch (IOException ioe) {
 		}
 
-		if (_unsyncByteArrayOutputStream != null) {
+		if (_cached) {
+			if (_unsyncByteArrayOutputStream.size() > 0) {
+				_writeCachedResponse();
+			}
+		}
+		else if (_unsyncByteArrayOutputStream != null) {
 			_response.setContentLength(_unsyncByteArrayOutputStream.size());
 
 			_unsyncByteArrayOutputStream.writeTo(_response.getOutputStream());
@@ -122,6 +149,18 @@ public class GZipResponse extends MetaInfoCacheServletResponse {
 			if (_isGZipContentType()) {
 				_servletOutputStream = _response.getOutputStream();
 			}
+			else if (_isCachedContentType()) {
+
+				// Buffer the uncompressed content so that its compressed form
+				// can be looked up by its digest
+
+				_cached = true;
+				_unsyncByteArrayOutputStream =
+					new UnsyncByteArrayOutputStream();
+
+				_servletOutputStream = new ServletOutputStreamAdapter(
+					_unsyncByteArrayOutputStream);
+			}
 			else {
 				if (_firefox && RSSThreadLocal.isExportRSS()) {
 					_unsyncByteArrayOutputStream =
@@ -166,19 +205,47 @@ public class GZipResponse extends MetaInfoCacheServletResponse {
 	public void setContentLength(int contentLength) {
 	}
 
-	private ServletOutputStream _createGZipServletOutputStream(
-			OutputStream outputStream)
+	private GZIPOutputStream _createGZIPOutputStream(OutputStream outputStream)
 		throws IOException {
 
-		GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream) {
+		return new GZIPOutputStream(outputStream) {
 
 			{
 				def.setLevel(PropsValues.GZIP_COMPRESSION_LEVEL);
 			}
 
 		};
+	}
 
-		return new ServletOutputStreamAdapter(gzipOutputStream);
+	private ServletOutputStream _createGZipServletOutputStream(
+			OutputStream outputStream)
+		throws IOException {
+
+		return new ServletOutputStreamAdapter(
+			_createGZIPOutputStream(outputStream));
+	}
+
+	private boolean _isCachedContentType() {
+		if ((_gZipCache == null) ||
+			(getStatus() != HttpServletResponse.SC_OK)) {
+
+			return false;
+		}
+
+		String contentType = getContentType();
+
+		if (contentType == null) {
+			return false;
+		}
+
+		int index = contentType.indexOf(CharPool.SEMICOLON);
+
+		if (index != -1) {
+			contentType = contentType.substring(0, index);
+		}
+
+		return ArrayUtil.contains(
+			PropsValues.GZIP_CACHE_CONTENT_TYPES, contentType.trim());
 	}
 
 	private boolean _isGZipContentType() {
@@ -195,11 +262,84 @@ public class GZipResponse extends MetaInfoCacheServletResponse {
 		return false;
 	}
 
+	private boolean _isStaticResource(HttpServletRequest request) {
+		if (!HttpMethods.GET.equals(request.getMethod())) {
+			return false;
+		}
+
+		// A fingerprinted URL changes with its content, so its body is as
+		// stable as the body of a static file
+
+		if (Validator.isNotNull(request.getParameter(_FINGERPRINT))) {
+			return true;
+		}
+
+		String requestURI = request.getRequestURI();
+
+		for (String extension : PropsValues.GZIP_CACHE_EXTENSIONS) {
+			if (requestURI.endsWith(extension)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private void _writeCachedResponse() throws IOException {
+		ByteBuffer byteBuffer =
+			_unsyncByteArrayOutputStream.unsafeGetByteBuffer();
+
+		String key = DigesterUtil.digestHex(Digester.SHA_1, byteBuffer);
+
+		key = key.concat(StringPool.DASH).concat(_GZIP);
+
+		byte[] bytes = _gZipCache.get(key);
+
+		if (bytes == null) {
+			UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
+				new UnsyncByteArrayOutputStream();
+
+			GZIPOutputStream gzipOutputStream = _createGZIPOutputStream(
+				unsyncByteArrayOutputStream);
+
+			_unsyncByteArrayOutputStream.writeTo(gzipOutputStream);
+
+			gzipOutputStream.close();
+
+			bytes = unsyncByteArrayOutputStream.toByteArray();
+
+			_gZipCache.put(key, bytes);
+		}
+
+		String eTag = StringPool.QUOTE.concat(key).concat(StringPool.QUOTE);
+
+		_response.setHeader(HttpHeaders.ETAG, eTag);
+		_response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+		if (eTag.equals(_ifNoneMatch)) {
+			_response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			_response.setContentLength(0);
+
+			return;
+		}
+
+		_response.setContentLength(bytes.length);
+
+		ServletOutputStream servletOutputStream = _response.getOutputStream();
+
+		servletOutputStream.write(bytes);
+	}
+
+	private static final String _FINGERPRINT = "t";
+
 	private static final String _GZIP = "gzip";
 
 	private static Log _log = LogFactoryUtil.getLog(GZipResponse.class);
 
+	private boolean _cached;
 	private boolean _firefox;
+	private GZipCache _gZipCache;
+	private String _ifNoneMatch;
 	private PrintWriter _printWriter;
 	private HttpServletResponse _response;
 	private ServletOutputStream _servletOutputStream;
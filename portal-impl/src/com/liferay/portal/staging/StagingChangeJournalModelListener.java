@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.staging;
+
+import com.liferay.portal.ModelListenerException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.model.BaseModel;
+import com.liferay.portal.model.BaseModelListener;
+import com.liferay.portal.model.Group;
+import com.liferay.portal.model.GroupedModel;
+import com.liferay.portal.util.PropsValues;
+
+/**
+ * Records the changes of grouped models and groups in
+ * {@link StagingChangeJournalUtil}.
+ */
+public class StagingChangeJournalModelListener<T extends BaseModel<T>>
+	extends BaseModelListener<T> {
+
+	@Override
+	public void onAfterCreate(T model) throws ModelListenerException {
+		recordChange(model);
+	}
+
+	@Override
+	public void onAfterRemove(T model) throws ModelListenerException {
+		recordChange(model);
+	}
+
+	@Override
+	public void onAfterUpdate(T model) throws ModelListenerException {
+		recordChange(model);
+	}
+
+	protected void recordChange(T model) throws ModelListenerException {
+		if (model instanceof Group) {
+			StagingChangeJournalUtil.recordGroupChange();
+
+			return;
+		}
+
+		if (!(model instanceof GroupedModel) ||
+			ArrayUtil.contains(
+				PropsValues.STAGING_CHANGE_JOURNAL_IGNORED_MODEL_CLASS_NAMES,
+				model.getModelClassName())) {
+
+			return;
+		}
+
+		GroupedModel groupedModel = (GroupedModel)model;
+
+		try {
+			StagingChangeJournalUtil.recordChange(groupedModel.getGroupId());
+		}
+		catch (SystemException se) {
+			throw new ModelListenerException(se);
+		}
+	}
+
+}
\ No newline at end of file
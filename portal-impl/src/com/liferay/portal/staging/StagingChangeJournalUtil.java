@@ -0,0 +1,224 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.staging;
+
+import com.liferay.portal.kernel.bean.PortalBeanLocatorUtil;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.kernel.util.ArrayUtil;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.model.Group;
+import com.liferay.portal.model.GroupedModel;
+import com.liferay.portal.service.GroupLocalServiceUtil;
+import com.liferay.portal.service.persistence.impl.BasePersistenceImpl;
+import com.liferay.portal.util.PropsValues;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * Records the time of the last committed change to the models of each group,
+ * so that staging can skip the export of portlet data that did not change
+ * since the last publication.
+ *
+ * <p>
+ * The change times are kept in a multi VM cache. A change removes the entry
+ * of its group, which is replicated to the other cluster nodes, and then
+ * stores the new time locally. A group without an entry is treated as
+ * changed, so that an evicted entry, a restart or a change on another node
+ * always falls back to a full export of the date range. Only a recorded
+ * change creates an entry, so a group is skipped once it has changed at
+ * least once on this node since its entry was lost.
+ * </p>
+ *
+ * <p>
+ * Only changes to grouped models of staged groups are recorded, so that sites
+ * without staging do not replicate a removal for every write. Whether a group
+ * is staged is cached as well. Any change to a group, such as enabling
+ * staging, clears the whole journal.
+ * </p>
+ *
+ * <p>
+ * The journal tracks groups, not entities. It only decides whether the data
+ * of a portlet has to be exported at all. The entities to export are still
+ * selected by the date range of the portlet data handler.
+ * </p>
+ */
+public class StagingChangeJournalUtil {
+
+	public static void clearCache() {
+		_portalCache.removeAll();
+		_stagedPortalCache.removeAll();
+	}
+
+	public static boolean hasChanges(long groupId, Date startDate) {
+		if (startDate == null) {
+			return true;
+		}
+
+		Long changeTime = _portalCache.get(groupId);
+
+		if ((changeTime == null) || (changeTime >= startDate.getTime())) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public static void recordChange(final long groupId)
+		throws SystemException {
+
+		if (groupId <= 0) {
+			return;
+		}
+
+		if (!isStaged(groupId)) {
+			return;
+		}
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				public Void call() {
+					_portalCache.remove(groupId);
+					_portalCache.put(groupId, System.currentTimeMillis());
+
+					return null;
+				}
+
+			});
+	}
+
+	public static void recordGroupChange() {
+
+		// A group that is no longer staged would keep its last change time,
+		// which would be too old if the group is staged again
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				public Void call() {
+					_portalCache.removeAll();
+					_stagedPortalCache.removeAll();
+
+					return null;
+				}
+
+			});
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public static void registerModelListeners() {
+		Map<String, BasePersistenceImpl> beanPersistenceImpls =
+			PortalBeanLocatorUtil.locate(BasePersistenceImpl.class);
+
+		StagingChangeJournalModelListener stagingChangeJournalModelListener =
+			new StagingChangeJournalModelListener();
+
+		for (Map.Entry<String, BasePersistenceImpl> entry :
+				beanPersistenceImpls.entrySet()) {
+
+			BasePersistenceImpl beanPersistenceImpl = entry.getValue();
+
+			if (isRecorded(entry.getKey(), beanPersistenceImpl)) {
+				beanPersistenceImpl.registerListener(
+					stagingChangeJournalModelListener);
+			}
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the persistence with the bean name stores
+	 * groups or grouped models whose changes are recorded. Finders and the
+	 * persistences of other models get no listener.
+	 */
+	protected static boolean isRecorded(
+		String beanName, BasePersistenceImpl<?> basePersistenceImpl) {
+
+		if (!beanName.endsWith(_PERSISTENCE)) {
+			return false;
+		}
+
+		String modelClassName = StringUtil.replace(
+			beanName.substring(0, beanName.length() - _PERSISTENCE.length()),
+			".service.persistence.", ".model.");
+
+		if (ArrayUtil.contains(
+				PropsValues.STAGING_CHANGE_JOURNAL_IGNORED_MODEL_CLASS_NAMES,
+				modelClassName)) {
+
+			return false;
+		}
+
+		Class<?> clazz = basePersistenceImpl.getClass();
+
+		try {
+			ClassLoader classLoader = clazz.getClassLoader();
+
+			Class<?> modelClass = classLoader.loadClass(modelClassName);
+
+			if (Group.class.isAssignableFrom(modelClass) ||
+				GroupedModel.class.isAssignableFrom(modelClass)) {
+
+				return true;
+			}
+		}
+		catch (ClassNotFoundException cnfe) {
+			if (_log.isDebugEnabled()) {
+				_log.debug(
+					"Unable to load model " + modelClassName + " of " +
+						beanName);
+			}
+		}
+
+		return false;
+	}
+
+	protected static boolean isStaged(long groupId) throws SystemException {
+		Boolean staged = _stagedPortalCache.get(groupId);
+
+		if (staged == null) {
+			Group group = GroupLocalServiceUtil.fetchGroup(groupId);
+
+			staged = (group != null) && group.isStaged();
+
+			_stagedPortalCache.put(groupId, staged);
+		}
+
+		return staged;
+	}
+
+	private static final String _CACHE_NAME =
+		StagingChangeJournalUtil.class.getName();
+
+	private static final String _PERSISTENCE = "Persistence";
+
+	private static final String _STAGED_CACHE_NAME =
+		StagingChangeJournalUtil.class.getName() + "_STAGED";
+
+	private static Log _log = LogFactoryUtil.getLog(
+		StagingChangeJournalUtil.class);
+
+	private static PortalCache<Long, Long> _portalCache =
+		MultiVMPoolUtil.getCache(_CACHE_NAME);
+	private static PortalCache<Long, Boolean> _stagedPortalCache =
+		MultiVMPoolUtil.getCache(_STAGED_CACHE_NAME);
+
+}
\ No newline at end of file
@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.template;
+
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.io.unsync.UnsyncCharArrayWriter;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.template.StringTemplateResource;
+import com.liferay.portal.kernel.template.TemplateResource;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portlet.dynamicdatamapping.model.DDMTemplate;
+import com.liferay.portlet.dynamicdatamapping.service.DDMTemplateLocalServiceUtil;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Caches compiled templates by the digest of their content, so that identical
+ * templates loaded with different template IDs, such as a DDM template copied
+ * to many sites, are parsed only once.
+ *
+ * <p>
+ * Entries do not have to be invalidated when a template is modified because
+ * the modified content has a different key. Entries that are no longer used
+ * are evicted by the underlying cache, and clearing a template resource cache
+ * does not force unchanged templates to be parsed again.
+ * </p>
+ */
+public abstract class CompiledTemplateCache<T> {
+
+	public static CompiledTemplateCache<?> getCompiledTemplateCache(
+		String langType) {
+
+		return _compiledTemplateCaches.get(langType);
+	}
+
+	public static void warmUp() {
+		ThreadPoolExecutor threadPoolExecutor =
+			PortalExecutorManagerUtil.getPortalExecutor(
+				CompiledTemplateCache.class.getName());
+
+		threadPoolExecutor.execute(new WarmUpRunnable());
+	}
+
+	public CompiledTemplateCache(String langType) {
+		String cacheName = CompiledTemplateCache.class.getName();
+
+		cacheName = cacheName.concat(StringPool.POUND).concat(langType);
+
+		_portalCache = SingleVMPoolUtil.getCache(cacheName);
+
+		_compiledTemplateCaches.put(langType, this);
+	}
+
+	public T getCompiledTemplate(TemplateResource templateResource)
+		throws IOException {
+
+		String templateId = templateResource.getTemplateId();
+		String templateContent = _getTemplateContent(templateResource);
+
+		String key = getKey(templateId, templateContent);
+
+		T compiledTemplate = _portalCache.get(key);
+
+		if (compiledTemplate == null) {
+			compiledTemplate = compile(templateId, templateContent);
+
+			_portalCache.put(key, compiledTemplate);
+		}
+
+		return compiledTemplate;
+	}
+
+	protected abstract T compile(String templateId, String templateContent)
+		throws IOException;
+
+	protected String getKey(String templateId, String templateContent) {
+		StringBundler sb = new StringBundler(3);
+
+		sb.append(templateContent.length());
+		sb.append(StringPool.POUND);
+		sb.append(DigesterUtil.digestBase64(Digester.SHA_1, templateContent));
+
+		return sb.toString();
+	}
+
+	private static String _getTemplateContent(
+			TemplateResource templateResource)
+		throws IOException {
+
+		if (templateResource instanceof StringTemplateResource) {
+			StringTemplateResource stringTemplateResource =
+				(StringTemplateResource)templateResource;
+
+			return stringTemplateResource.getContent();
+		}
+
+		Reader reader = templateResource.getReader();
+
+		try {
+			UnsyncCharArrayWriter unsyncCharArrayWriter =
+				new UnsyncCharArrayWriter();
+
+			char[] buffer = new char[1024];
+
+			int result = -1;
+
+			while ((result = reader.read(buffer)) != -1) {
+				unsyncCharArrayWriter.write(buffer, 0, result);
+			}
+
+			return unsyncCharArrayWriter.toString();
+		}
+		finally {
+			reader.close();
+		}
+	}
+
+	private static final int _WARM_UP_BATCH_SIZE = 100;
+
+	private static Log _log = LogFactoryUtil.getLog(
+		CompiledTemplateCache.class);
+
+	private static ConcurrentMap<String, CompiledTemplateCache<?>>
+		_compiledTemplateCaches =
+			new ConcurrentHashMap<String, CompiledTemplateCache<?>>();
+
+	private PortalCache<String, T> _portalCache;
+
+	private static class WarmUpRunnable implements Runnable {
+
+		public void run() {
+			int compiledCount = 0;
+
+			try {
+				int count = DDMTemplateLocalServiceUtil.getDDMTemplatesCount();
+
+				for (int start = 0; start < count;
+						start += _WARM_UP_BATCH_SIZE) {
+
+					List<DDMTemplate> ddmTemplates =
+						DDMTemplateLocalServiceUtil.getDDMTemplates(
+							start, start + _WARM_UP_BATCH_SIZE);
+
+					for (DDMTemplate ddmTemplate : ddmTemplates) {
+						if (_compile(ddmTemplate)) {
+							compiledCount++;
+						}
+					}
+				}
+			}
+			catch (Exception e) {
+				_log.error("Unable to warm up compiled template cache", e);
+			}
+
+			if (_log.isInfoEnabled()) {
+				_log.info("Compiled " + compiledCount + " DDM templates");
+			}
+		}
+
+		private boolean _compile(DDMTemplate ddmTemplate) {
+			CompiledTemplateCache<?> compiledTemplateCache =
+				_compiledTemplateCaches.get(ddmTemplate.getLanguage());
+
+			String script = ddmTemplate.getScript();
+
+			if ((compiledTemplateCache == null) || Validator.isNull(script)) {
+				return false;
+			}
+
+			// Use the template ID format of the journal transformer so that the
+			// compiled template is shared with the rendered one
+
+			StringBundler sb = new StringBundler(5);
+
+			sb.append(ddmTemplate.getCompanyId());
+			sb.append(StringPool.POUND);
+			sb.append(ddmTemplate.getGroupId());
+			sb.append(StringPool.POUND);
+			sb.append(ddmTemplate.getTemplateKey());
+
+			try {
+				compiledTemplateCache.getCompiledTemplate(
+					new StringTemplateResource(sb.toString(), script));
+
+				return true;
+			}
+			catch (Exception e) {
+				if (_log.isDebugEnabled()) {
+					_log.debug(
+						"Unable to compile DDM template " +
+							ddmTemplate.getTemplateId(),
+						e);
+				}
+
+				return false;
+			}
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -35,6 +35,7 @@ import com.liferay.portal.kernel.util.DateUtil;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.LocalizationUtil;
+import com.liferay.portal.kernel.util.LocalizedValues;
 import com.liferay.portal.kernel.util.ProxyUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
@@ -470,11 +471,19 @@ public class ${entity.name}ModelImpl extends BaseModelImpl<${entity.name}> imple
 			}
 
 			public String get${column.methodName}(String languageId) {
-				return LocalizationUtil.getLocalization(get${column.methodName}(), languageId);
+				return get${column.methodName}(languageId, true);
 			}
 
 			public String get${column.methodName}(String languageId, boolean useDefault) {
-				return LocalizationUtil.getLocalization(get${column.methodName}(), languageId, useDefault);
+				LocalizedValues localizedValues = _${column.name}LocalizedValues;
+
+				if (localizedValues == null) {
+					localizedValues = LocalizationUtil.getLocalizedValues(get${column.methodName}());
+
+					_${column.name}LocalizedValues = localizedValues;
+				}
+
+				return localizedValues.getValue(languageId, useDefault);
 			}
 
 			public String get${column.methodName}CurrentLanguageId() {
@@ -538,6 +547,10 @@ public class ${entity.name}ModelImpl extends BaseModelImpl<${entity.name}> imple
 					}
 				<#else>
 					_${column.name} = ${column.name};
+
+					<#if column.localized>
+						_${column.name}LocalizedValues = null;
+					</#if>
 				</#if>
 			</#if>
 		}
@@ -1057,6 +1070,7 @@ public class ${entity.name}ModelImpl extends BaseModelImpl<${entity.name}> imple
 
 			<#if column.localized>
 				private String _${column.name}CurrentLanguageId;
+				private transient LocalizedValues _${column.name}LocalizedValues;
 			</#if>
 
 			<#if column.userUuid>
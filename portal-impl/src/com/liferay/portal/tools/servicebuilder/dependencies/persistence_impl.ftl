@@ -70,8 +70,10 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 <#list referenceList as tempEntity>
@@ -798,6 +800,116 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 		return fetchByPrimaryKey((Serializable)${entity.PKVarName});
 	}
 
+	<#if !entity.hasCompoundPK()>
+		/**
+		 * Returns the ${entity.humanNames} with the primary keys. Primary keys that could not be found are omitted from the returned map.
+		 *
+		 * @param primaryKeys the primary keys of the ${entity.humanNames}
+		 * @return the ${entity.humanNames}, keyed by their primary keys
+		 * @throws SystemException if a system exception occurred
+		 */
+		@Override
+		public Map<Serializable, ${entity.name}> fetchByPrimaryKeys(Set<Serializable> primaryKeys) throws SystemException {
+			if (primaryKeys.isEmpty()) {
+				return Collections.emptyMap();
+			}
+
+			Map<Serializable, ${entity.name}> map = new HashMap<Serializable, ${entity.name}>();
+
+			if (primaryKeys.size() == 1) {
+				Iterator<Serializable> iterator = primaryKeys.iterator();
+
+				Serializable primaryKey = iterator.next();
+
+				${entity.name} ${entity.varName} = fetchByPrimaryKey(primaryKey);
+
+				if (${entity.varName} != null) {
+					map.put(primaryKey, ${entity.varName});
+				}
+
+				return map;
+			}
+
+			List<Serializable> uncachedPrimaryKeys = null;
+
+			for (Serializable primaryKey : primaryKeys) {
+				${entity.name} ${entity.varName} = (${entity.name})EntityCacheUtil.getResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, primaryKey);
+
+				if (${entity.varName} == _null${entity.name}) {
+					continue;
+				}
+
+				if (${entity.varName} == null) {
+					if (uncachedPrimaryKeys == null) {
+						uncachedPrimaryKeys = new ArrayList<Serializable>();
+					}
+
+					uncachedPrimaryKeys.add(primaryKey);
+				}
+				else {
+					map.put(primaryKey, ${entity.varName});
+				}
+			}
+
+			if (uncachedPrimaryKeys == null) {
+				return map;
+			}
+
+			Session session = null;
+
+			try {
+				session = openSession();
+
+				for (int i = 0; i < uncachedPrimaryKeys.size(); i += FETCH_BY_PRIMARY_KEYS_BATCH_SIZE) {
+					List<Serializable> batchPrimaryKeys = uncachedPrimaryKeys.subList(i, Math.min(i + FETCH_BY_PRIMARY_KEYS_BATCH_SIZE, uncachedPrimaryKeys.size()));
+
+					StringBundler query = new StringBundler((batchPrimaryKeys.size() * 2) + 1);
+
+					query.append(_SQL_SELECT_${entity.alias?upper_case}_WHERE_PKS_IN);
+
+					for (int j = 0; j < batchPrimaryKeys.size(); j++) {
+						query.append(StringPool.QUESTION);
+						query.append(StringPool.COMMA);
+					}
+
+					query.setIndex(query.index() - 1);
+
+					query.append(StringPool.CLOSE_PARENTHESIS);
+
+					String sql = query.toString();
+
+					Query q = session.createQuery(sql);
+
+					QueryPos qPos = QueryPos.getInstance(q);
+
+					for (Serializable primaryKey : batchPrimaryKeys) {
+						qPos.add(primaryKey);
+					}
+
+					for (${entity.name} ${entity.varName} : (List<${entity.name}>)q.list()) {
+						map.put(${entity.varName}.getPrimaryKeyObj(), ${entity.varName});
+
+						cacheResult(${entity.varName});
+					}
+				}
+
+				for (Serializable primaryKey : uncachedPrimaryKeys) {
+					if (!map.containsKey(primaryKey)) {
+						EntityCacheUtil.putResult(${entity.name}ModelImpl.ENTITY_CACHE_ENABLED, ${entity.name}Impl.class, primaryKey, _null${entity.name});
+					}
+				}
+			}
+			catch (Exception e) {
+				throw processException(e);
+			}
+			finally {
+				closeSession(session);
+			}
+
+			return map;
+		}
+	</#if>
+
 	/**
 	 * Returns all the ${entity.humanNames}.
 	 *
@@ -2029,6 +2141,10 @@ public class ${entity.name}PersistenceImpl extends BasePersistenceImpl<${entity.
 
 	private static final String _SQL_SELECT_${entity.alias?upper_case} = "SELECT ${entity.alias} FROM ${entity.name} ${entity.alias}";
 
+	<#if !entity.hasCompoundPK()>
+		private static final String _SQL_SELECT_${entity.alias?upper_case}_WHERE_PKS_IN = "SELECT ${entity.alias} FROM ${entity.name} ${entity.alias} WHERE ${entity.alias}.${entity.getPKList()?first.name} IN (";
+	</#if>
+
 	<#if entity.getFinderList()?size != 0>
 		private static final String _SQL_SELECT_${entity.alias?upper_case}_WHERE = "SELECT ${entity.alias} FROM ${entity.name} ${entity.alias} WHERE ";
 	</#if>
@@ -24,16 +24,18 @@ import com.liferay.portal.kernel.security.pacl.DoPrivileged;
 import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.Localization;
+import com.liferay.portal.kernel.util.LocalizedValues;
 import com.liferay.portal.kernel.util.ParamUtil;
 import com.liferay.portal.kernel.util.PrefsParamUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 import com.liferay.portal.kernel.util.StringUtil;
-import com.liferay.portal.kernel.util.Tuple;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.language.LanguageResources;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.ResourceBundle;
@@ -143,153 +145,9 @@ public class LocalizationImpl implements Localization {
 	public String getLocalization(
 		String xml, String requestedLanguageId, boolean useDefault) {
 
-		String systemDefaultLanguageId = LocaleUtil.toLanguageId(
-			LocaleUtil.getDefault());
-
-		if (!Validator.isXml(xml)) {
-			if (useDefault ||
-				requestedLanguageId.equals(systemDefaultLanguageId)) {
-
-				return xml;
-			}
-			else {
-				return StringPool.BLANK;
-			}
-		}
-
-		String value = _getCachedValue(xml, requestedLanguageId, useDefault);
-
-		if (value != null) {
-			return value;
-		}
-		else {
-			value = StringPool.BLANK;
-		}
-
-		String priorityLanguageId = null;
-
-		Locale requestedLocale = LocaleUtil.fromLanguageId(requestedLanguageId);
-
-		if (useDefault &&
-			LanguageUtil.isDuplicateLanguageCode(
-				requestedLocale.getLanguage())) {
-
-			Locale priorityLocale = LanguageUtil.getLocale(
-				requestedLocale.getLanguage());
-
-			if (!requestedLanguageId.equals(priorityLanguageId)) {
-				priorityLanguageId = LocaleUtil.toLanguageId(priorityLocale);
-			}
-		}
-
-		XMLStreamReader xmlStreamReader = null;
-
-		ClassLoader portalClassLoader = ClassLoaderUtil.getPortalClassLoader();
-
-		ClassLoader contextClassLoader =
-			ClassLoaderUtil.getContextClassLoader();
-
-		try {
-			if (contextClassLoader != portalClassLoader) {
-				ClassLoaderUtil.setContextClassLoader(portalClassLoader);
-			}
-
-			XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
-
-			xmlStreamReader = xmlInputFactory.createXMLStreamReader(
-				new UnsyncStringReader(xml));
-
-			String defaultLanguageId = StringPool.BLANK;
-
-			// Skip root node
-
-			if (xmlStreamReader.hasNext()) {
-				xmlStreamReader.nextTag();
-
-				defaultLanguageId = xmlStreamReader.getAttributeValue(
-					null, _DEFAULT_LOCALE);
-
-				if (Validator.isNull(defaultLanguageId)) {
-					defaultLanguageId = systemDefaultLanguageId;
-				}
-			}
-
-			// Find specified language and/or default language
-
-			String defaultValue = StringPool.BLANK;
-			String priorityValue = StringPool.BLANK;
-
-			while (xmlStreamReader.hasNext()) {
-				int event = xmlStreamReader.next();
-
-				if (event == XMLStreamConstants.START_ELEMENT) {
-					String languageId = xmlStreamReader.getAttributeValue(
-						null, _LANGUAGE_ID);
-
-					if (Validator.isNull(languageId)) {
-						languageId = defaultLanguageId;
-					}
-
-					if (languageId.equals(defaultLanguageId) ||
-						languageId.equals(priorityLanguageId) ||
-						languageId.equals(requestedLanguageId)) {
-
-						String text = xmlStreamReader.getElementText();
-
-						if (languageId.equals(defaultLanguageId)) {
-							defaultValue = text;
-						}
-
-						if (languageId.equals(priorityLanguageId)) {
-							priorityValue = text;
-						}
-
-						if (languageId.equals(requestedLanguageId)) {
-							value = text;
-						}
-
-						if (Validator.isNotNull(value)) {
-							break;
-						}
-					}
-				}
-				else if (event == XMLStreamConstants.END_DOCUMENT) {
-					break;
-				}
-			}
-
-			if (useDefault && Validator.isNotNull(priorityLanguageId) &&
-				Validator.isNull(value) && Validator.isNotNull(priorityValue)) {
-
-				value = priorityValue;
-			}
-
-			if (useDefault && Validator.isNull(value)) {
-				value = defaultValue;
-			}
-		}
-		catch (Exception e) {
-			if (_log.isWarnEnabled()) {
-				_log.warn(e, e);
-			}
-		}
-		finally {
-			if (contextClassLoader != portalClassLoader) {
-				ClassLoaderUtil.setContextClassLoader(contextClassLoader);
-			}
-
-			if (xmlStreamReader != null) {
-				try {
-					xmlStreamReader.close();
-				}
-				catch (Exception e) {
-				}
-			}
-		}
+		LocalizedValues localizedValues = getLocalizedValues(xml);
 
-		_setCachedValue(xml, requestedLanguageId, useDefault, value);
-
-		return value;
+		return localizedValues.getValue(requestedLanguageId, useDefault);
 	}
 
 	public Map<Locale, String> getLocalizationMap(
@@ -470,6 +328,30 @@ public class LocalizationImpl implements Localization {
 		return getLocalizationMap(portletRequest, parameter);
 	}
 
+	public LocalizedValues getLocalizedValues(String xml) {
+		if (!Validator.isXml(xml)) {
+			return new LocalizedValues(xml);
+		}
+
+		LocalizedValues localizedValues = null;
+
+		synchronized (_cache) {
+			localizedValues = _cache.get(xml);
+		}
+
+		if (localizedValues != null) {
+			return localizedValues;
+		}
+
+		localizedValues = _parseLocalizedValues(xml);
+
+		synchronized (_cache) {
+			_cache.put(xml, localizedValues);
+		}
+
+		return localizedValues;
+	}
+
 	public String getPreferencesKey(String key, String languageId) {
 		String defaultLanguageId = LocaleUtil.toLanguageId(
 			LocaleUtil.getDefault());
@@ -917,22 +799,6 @@ public class LocalizationImpl implements Localization {
 		}
 	}
 
-	private String _getCachedValue(
-		String xml, String requestedLanguageId, boolean useDefault) {
-
-		String value = null;
-
-		Map<Tuple, String> valueMap = _cache.get(xml);
-
-		if (valueMap != null) {
-			Tuple subkey = new Tuple(useDefault, requestedLanguageId);
-
-			value = valueMap.get(subkey);
-		}
-
-		return value;
-	}
-
 	private String _getLocalization(
 		String bundleName, Locale locale, ClassLoader classLoader, String key,
 		String defaultValue) {
@@ -1016,33 +882,99 @@ public class LocalizationImpl implements Localization {
 		return value;
 	}
 
-	private String _sanitizeXML(String xml) {
-		if (Validator.isNull(xml) || !xml.contains("<root")) {
-			xml = _EMPTY_ROOT_NODE;
-		}
+	private LocalizedValues _parseLocalizedValues(String xml) {
+		String defaultLanguageId = LocaleUtil.toLanguageId(
+			LocaleUtil.getDefault());
 
-		return xml;
-	}
+		List<String> languageIds = new ArrayList<String>();
+		List<String> values = new ArrayList<String>();
+
+		XMLStreamReader xmlStreamReader = null;
 
-	private void _setCachedValue(
-		String xml, String requestedLanguageId, boolean useDefault,
-		String value) {
+		ClassLoader portalClassLoader = ClassLoaderUtil.getPortalClassLoader();
 
-		if (Validator.isNotNull(xml) && !xml.equals(_EMPTY_ROOT_NODE)) {
-			synchronized (_cache) {
-				Map<Tuple, String> map = _cache.get(xml);
+		ClassLoader contextClassLoader =
+			ClassLoaderUtil.getContextClassLoader();
 
-				if (map == null) {
-					map = new HashMap<Tuple, String>();
+		try {
+			if (contextClassLoader != portalClassLoader) {
+				ClassLoaderUtil.setContextClassLoader(portalClassLoader);
+			}
+
+			XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+
+			xmlStreamReader = xmlInputFactory.createXMLStreamReader(
+				new UnsyncStringReader(xml));
+
+			// Skip root node
+
+			if (xmlStreamReader.hasNext()) {
+				xmlStreamReader.nextTag();
+
+				String rootDefaultLanguageId =
+					xmlStreamReader.getAttributeValue(null, _DEFAULT_LOCALE);
+
+				if (Validator.isNotNull(rootDefaultLanguageId)) {
+					defaultLanguageId = rootDefaultLanguageId;
 				}
+			}
+
+			// Keep the first value of each language
+
+			while (xmlStreamReader.hasNext()) {
+				int event = xmlStreamReader.next();
+
+				if (event == XMLStreamConstants.START_ELEMENT) {
+					String languageId = xmlStreamReader.getAttributeValue(
+						null, _LANGUAGE_ID);
 
-				Tuple subkey = new Tuple(useDefault, requestedLanguageId);
+					if (Validator.isNull(languageId)) {
+						languageId = defaultLanguageId;
+					}
 
-				map.put(subkey, value);
+					String text = xmlStreamReader.getElementText();
 
-				_cache.put(xml, map);
+					if (!languageIds.contains(languageId)) {
+						languageIds.add(languageId);
+						values.add(text);
+					}
+				}
+				else if (event == XMLStreamConstants.END_DOCUMENT) {
+					break;
+				}
 			}
 		}
+		catch (Exception e) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(e, e);
+			}
+		}
+		finally {
+			if (contextClassLoader != portalClassLoader) {
+				ClassLoaderUtil.setContextClassLoader(contextClassLoader);
+			}
+
+			if (xmlStreamReader != null) {
+				try {
+					xmlStreamReader.close();
+				}
+				catch (Exception e) {
+				}
+			}
+		}
+
+		return new LocalizedValues(
+			defaultLanguageId,
+			languageIds.toArray(new String[languageIds.size()]),
+			values.toArray(new String[values.size()]));
+	}
+
+	private String _sanitizeXML(String xml) {
+		if (Validator.isNull(xml) || !xml.contains("<root")) {
+			xml = _EMPTY_ROOT_NODE;
+		}
+
+		return xml;
 	}
 
 	private static final String _AVAILABLE_LOCALES = "available-locales";
@@ -1057,7 +989,7 @@ public class LocalizationImpl implements Localization {
 
 	private static Log _log = LogFactoryUtil.getLog(LocalizationImpl.class);
 
-	private Map<String, Map<Tuple, String>> _cache = new ReferenceMap(
+	private Map<String, LocalizedValues> _cache = new ReferenceMap(
 		ReferenceMap.SOFT, ReferenceMap.HARD);
 
 }
\ No newline at end of file
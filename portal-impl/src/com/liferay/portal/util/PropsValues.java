@@ -84,6 +84,10 @@ public class PropsValues {
 
 	public static final boolean ASSET_ENTRY_BUFFERED_INCREMENT_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.BUFFERED_INCREMENT_ENABLED, new Filter("AssetEntry")));
 
+	public static final boolean ASSET_ENTRY_QUERY_BITMAP_INDEX_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.ASSET_ENTRY_QUERY_BITMAP_INDEX_ENABLED));
+
+	public static final int ASSET_ENTRY_QUERY_BITMAP_INDEX_MAX_ENTRY_IDS = GetterUtil.getInteger(PropsUtil.get(PropsKeys.ASSET_ENTRY_QUERY_BITMAP_INDEX_MAX_ENTRY_IDS));
+
 	public static final String ASSET_ENTRY_VALIDATOR = PropsUtil.get(PropsKeys.ASSET_ENTRY_VALIDATOR);
 
 	public static final int ASSET_FILTER_SEARCH_LIMIT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.ASSET_FILTER_SEARCH_LIMIT));
@@ -388,8 +392,14 @@ public class PropsValues {
 
 	public static String[] CONVERT_PROCESSES = PropsUtil.getArray(PropsKeys.CONVERT_PROCESSES);
 
+	public static final long COUNTER_ADAPTIVE_INCREMENT_INTERVAL = GetterUtil.getLong(PropsUtil.get(PropsKeys.COUNTER_ADAPTIVE_INCREMENT_INTERVAL));
+
+	public static final int COUNTER_ADAPTIVE_INCREMENT_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.COUNTER_ADAPTIVE_INCREMENT_MAX_SIZE));
+
 	public static final int COUNTER_INCREMENT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.COUNTER_INCREMENT));
 
+	public static final boolean COUNTER_PREFETCH_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.COUNTER_PREFETCH_ENABLED));
+
 	public static final String CUSTOM_SQL_FUNCTION_ISNOTNULL = PropsUtil.get(PropsKeys.CUSTOM_SQL_FUNCTION_ISNOTNULL);
 
 	public static final String CUSTOM_SQL_FUNCTION_ISNULL = PropsUtil.get(PropsKeys.CUSTOM_SQL_FUNCTION_ISNULL);
@@ -606,6 +616,8 @@ public class PropsValues {
 
 	public static final String DL_STORE_CMIS_SYSTEM_ROOT_DIR = PropsUtil.get(PropsKeys.DL_STORE_CMIS_SYSTEM_ROOT_DIR);
 
+	public static final int DL_STORE_DEDUPLICATING_FILE_SYSTEM_CHUNK_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.DL_STORE_DEDUPLICATING_FILE_SYSTEM_CHUNK_SIZE));
+
 	public static final String DL_STORE_FILE_SYSTEM_ROOT_DIR = PropsUtil.get(PropsKeys.DL_STORE_FILE_SYSTEM_ROOT_DIR);
 
 	public static String DL_STORE_IMPL = PropsUtil.get(PropsKeys.DL_STORE_IMPL);
@@ -636,6 +648,8 @@ public class PropsValues {
 
 	public static final String DYNAMIC_DATA_MAPPING_TEMPLATE_LANGUAGE_DEFAULT = PropsUtil.get(PropsKeys.DYNAMIC_DATA_MAPPING_TEMPLATE_LANGUAGE_DEFAULT);
 
+	public static final boolean DYNAMIC_DATA_MAPPING_TEMPLATE_WARM_UP_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.DYNAMIC_DATA_MAPPING_TEMPLATE_WARM_UP_ENABLED));
+
 	public static final String[] DYNAMIC_RESOURCE_SERVLET_ALLOWED_PATHS = PropsUtil.getArray(PropsKeys.DYNAMIC_RESOURCE_SERVLET_ALLOWED_PATHS);
 
 	public static final String EDITOR_WYSIWYG_DEFAULT = PropsUtil.get(PropsKeys.EDITOR_WYSIWYG_DEFAULT);
@@ -648,6 +662,8 @@ public class PropsValues {
 
 	public static final String EHCACHE_CACHE_MANAGER_PEER_PROVIDER_FACTORY = PropsUtil.get(PropsKeys.EHCACHE_CACHE_MANAGER_PEER_PROVIDER_FACTORY);
 
+	public static final long EHCACHE_CLUSTER_LINK_FLUSH_INTERVAL = GetterUtil.getLong(PropsUtil.get(PropsKeys.EHCACHE_CLUSTER_LINK_FLUSH_INTERVAL));
+
 	public static final boolean EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED));
 
 	public static final boolean EHCACHE_PORTAL_CACHE_MANAGER_JMX_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.EHCACHE_PORTAL_CACHE_MANAGER_JMX_ENABLED));
@@ -704,6 +720,16 @@ public class PropsValues {
 
 	public static final String GOOGLE_GADGET_SERVLET_MAPPING = PropsUtil.get(PropsKeys.GOOGLE_GADGET_SERVLET_MAPPING);
 
+	public static final String[] GZIP_CACHE_CONTENT_TYPES = PropsUtil.getArray(PropsKeys.GZIP_CACHE_CONTENT_TYPES);
+
+	public static final boolean GZIP_CACHE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.GZIP_CACHE_ENABLED));
+
+	public static final String[] GZIP_CACHE_EXTENSIONS = PropsUtil.getArray(PropsKeys.GZIP_CACHE_EXTENSIONS);
+
+	public static final long GZIP_CACHE_FILES_MAX_SIZE = GetterUtil.getLong(PropsUtil.get(PropsKeys.GZIP_CACHE_FILES_MAX_SIZE));
+
+	public static final long GZIP_CACHE_MEMORY_MAX_SIZE = GetterUtil.getLong(PropsUtil.get(PropsKeys.GZIP_CACHE_MEMORY_MAX_SIZE));
+
 	public static final int GZIP_COMPRESSION_LEVEL = GetterUtil.getInteger(PropsUtil.get(PropsKeys.GZIP_COMPRESSION_LEVEL));
 
 	public static final boolean HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE));
@@ -744,6 +770,10 @@ public class PropsValues {
 
 	public static boolean INDEX_READ_ONLY = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.INDEX_READ_ONLY));
 
+	public static final boolean INDEX_REINDEX_RESUME_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.INDEX_REINDEX_RESUME_ENABLED));
+
+	public static final int INDEX_REINDEX_THREAD_COUNT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.INDEX_REINDEX_THREAD_COUNT));
+
 	public static final int INDEX_SEARCH_LIMIT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.INDEX_SEARCH_LIMIT));
 
 	public static final boolean INDEX_WITH_THREAD = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.INDEX_WITH_THREAD));
@@ -878,6 +908,8 @@ public class PropsValues {
 
 	public static final boolean LAYOUT_PARALLEL_RENDER_ENABLE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_ENABLE));
 
+	public static final int LAYOUT_PARALLEL_RENDER_PORTLET_TIMEOUT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_PORTLET_TIMEOUT));
+
 	public static final boolean LAYOUT_PARALLEL_RENDER_THREAD_POOL_ALLOW_CORE_THREAD_TIMEOUT = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_THREAD_POOL_ALLOW_CORE_THREAD_TIMEOUT));
 
 	public static final int LAYOUT_PARALLEL_RENDER_THREAD_POOL_CORE_THREAD_COUNT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_THREAD_POOL_CORE_THREAD_COUNT));
@@ -890,6 +922,10 @@ public class PropsValues {
 
 	public static final int LAYOUT_PARALLEL_RENDER_TIMEOUT = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LAYOUT_PARALLEL_RENDER_TIMEOUT));
 
+	public static final boolean LAYOUT_PORTLET_FRAGMENT_CACHE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_PORTLET_FRAGMENT_CACHE_ENABLED));
+
+	public static final long LAYOUT_PORTLET_FRAGMENT_CACHE_MAX_AGE = GetterUtil.getLong(PropsUtil.get(PropsKeys.LAYOUT_PORTLET_FRAGMENT_CACHE_MAX_AGE)) * Time.SECOND;
+
 	public static boolean LAYOUT_PROTOTYPE_LINK_ENABLED_DEFAULT = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LAYOUT_PROTOTYPE_LINK_ENABLED_DEFAULT));
 
 	public static final int LAYOUT_PROTOTYPE_MERGE_FAIL_THRESHOLD = GetterUtil.getInteger(PropsUtil.get(PropsKeys.LAYOUT_PROTOTYPE_MERGE_FAIL_THRESHOLD));
@@ -1026,6 +1062,10 @@ public class PropsValues {
 
 	public static String LUCENE_MERGE_POLICY = PropsUtil.get(PropsKeys.LUCENE_MERGE_POLICY);
 
+	public static final boolean LUCENE_NRT_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LUCENE_NRT_ENABLED));
+
+	public static final long LUCENE_NRT_REFRESH_INTERVAL = GetterUtil.getLong(PropsUtil.get(PropsKeys.LUCENE_NRT_REFRESH_INTERVAL));
+
 	public static final boolean LUCENE_REPLICATE_WRITE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.LUCENE_REPLICATE_WRITE));
 
 	public static final String LUCENE_STORE_TYPE = PropsUtil.get(PropsKeys.LUCENE_STORE_TYPE);
@@ -1350,6 +1390,10 @@ public class PropsValues {
 
 	public static final boolean PERMISSIONS_PROPAGATION_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.PERMISSIONS_PROPAGATION_ENABLED));
 
+	public static final int PERMISSIONS_RESULT_CACHE_CAPACITY = GetterUtil.getInteger(PropsUtil.get(PropsKeys.PERMISSIONS_RESULT_CACHE_CAPACITY));
+
+	public static final long PERMISSIONS_RESULT_CACHE_MAX_SIZE = GetterUtil.getLong(PropsUtil.get(PropsKeys.PERMISSIONS_RESULT_CACHE_MAX_SIZE));
+
 	public static final int PERMISSIONS_ROLE_RESOURCE_PERMISSION_QUERY_THRESHOLD = GetterUtil.getInteger(PropsUtil.get(PropsKeys.PERMISSIONS_ROLE_RESOURCE_PERMISSION_QUERY_THRESHOLD));
 
 	public static final int PERMISSIONS_THREAD_LOCAL_CACHE_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.PERMISSIONS_THREAD_LOCAL_CACHE_MAX_SIZE));
@@ -1656,6 +1700,12 @@ public class PropsValues {
 
 	public static final int SQL_DATA_MAX_PARAMETERS = GetterUtil.getInteger(PropsUtil.get(PropsKeys.SQL_DATA_MAX_PARAMETERS));
 
+	public static final boolean STAGING_CHANGE_JOURNAL_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.STAGING_CHANGE_JOURNAL_ENABLED));
+
+	public static final String[] STAGING_CHANGE_JOURNAL_IGNORED_MODEL_CLASS_NAMES = PropsUtil.getArray(PropsKeys.STAGING_CHANGE_JOURNAL_IGNORED_MODEL_CLASS_NAMES);
+
+	public static boolean STAGING_EXPORT_PORTLETS_PARALLEL_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.STAGING_EXPORT_PORTLETS_PARALLEL_ENABLED));
+
 	public static boolean STAGING_LOCK_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.STAGING_LOCK_ENABLED));
 
 	public static boolean STRIP_CSS_SASS_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.STRIP_CSS_SASS_ENABLED));
@@ -1804,10 +1854,14 @@ public class PropsValues {
 
 	public static final boolean VALUE_OBJECT_ENTITY_CACHE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.VALUE_OBJECT_ENTITY_CACHE_ENABLED));
 
+	public static final boolean VALUE_OBJECT_ENTITY_CACHE_VERSIONED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.VALUE_OBJECT_ENTITY_CACHE_VERSIONED));
+
 	public static final int VALUE_OBJECT_ENTITY_THREAD_LOCAL_CACHE_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.VALUE_OBJECT_ENTITY_THREAD_LOCAL_CACHE_MAX_SIZE));
 
 	public static final boolean VALUE_OBJECT_FINDER_BLOCKING_CACHE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.VALUE_OBJECT_FINDER_BLOCKING_CACHE));
 
+	public static final boolean VALUE_OBJECT_FINDER_BULK_HYDRATION_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.VALUE_OBJECT_FINDER_BULK_HYDRATION_ENABLED));
+
 	public static final boolean VALUE_OBJECT_FINDER_CACHE_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.VALUE_OBJECT_FINDER_CACHE_ENABLED));
 
 	public static final int VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE = GetterUtil.getInteger(PropsUtil.get(PropsKeys.VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE));
@@ -1894,6 +1948,8 @@ public class PropsValues {
 
 	public static final boolean YUI_COMPRESSOR_JS_VERBOSE = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.YUI_COMPRESSOR_JS_VERBOSE));
 
+	public static final boolean ZIP_WRITER_STREAMING_ENABLED = GetterUtil.getBoolean(PropsUtil.get(PropsKeys.ZIP_WRITER_STREAMING_ENABLED));
+
 	static {
 		if (!LAYOUT_USER_PRIVATE_LAYOUTS_ENABLED) {
 			LAYOUT_USER_PRIVATE_LAYOUTS_AUTO_CREATE = false;
@@ -16,12 +16,14 @@ package com.liferay.portal.velocity;
 
 import com.liferay.portal.kernel.cache.PortalCache;
 import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.io.unsync.UnsyncStringReader;
 import com.liferay.portal.kernel.template.TemplateConstants;
 import com.liferay.portal.kernel.template.TemplateResource;
 import com.liferay.portal.kernel.template.TemplateResourceLoaderUtil;
 import com.liferay.portal.kernel.util.PropsKeys;
 import com.liferay.portal.kernel.util.ReflectionUtil;
 import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.template.CompiledTemplateCache;
 import com.liferay.portal.template.TemplateResourceThreadLocal;
 import com.liferay.portal.util.PropsUtil;
 import com.liferay.portal.util.PropsValues;
@@ -58,6 +60,8 @@ public class LiferayResourceManager extends ResourceManagerImpl {
 			TemplateConstants.LANG_TYPE_VM);
 
 		_portalCache = SingleVMPoolUtil.getCache(cacheName);
+
+		_compiledTemplateCache = new VelocityCompiledTemplateCache();
 	}
 
 	@Override
@@ -123,13 +127,13 @@ public class LiferayResourceManager extends ResourceManagerImpl {
 		super.initialize(runtimeServices);
 	}
 
-	private Template _createTemplate(TemplateResource templateResource)
+	private Template _createTemplate(String templateId, Reader reader)
 		throws IOException {
 
-		Template template = new LiferayTemplate(templateResource.getReader());
+		Template template = new LiferayTemplate(reader);
 
 		template.setEncoding(TemplateConstants.DEFAUT_ENCODING);
-		template.setName(templateResource.getTemplateId());
+		template.setName(templateId);
 		template.setResourceLoader(new LiferayResourceLoader());
 		template.setRuntimeServices(rsvc);
 
@@ -171,17 +175,22 @@ public class LiferayResourceManager extends ResourceManagerImpl {
 			return (Template)object;
 		}
 
-		Template template = _createTemplate(templateResource);
-
-		if (PropsValues.VELOCITY_ENGINE_RESOURCE_MODIFICATION_CHECK_INTERVAL !=
+		if (PropsValues.VELOCITY_ENGINE_RESOURCE_MODIFICATION_CHECK_INTERVAL ==
 				0) {
 
-			_portalCache.put(templateResource, template);
+			return _createTemplate(
+				templateResource.getTemplateId(), templateResource.getReader());
 		}
 
+		Template template = _compiledTemplateCache.getCompiledTemplate(
+			templateResource);
+
+		_portalCache.put(templateResource, template);
+
 		return template;
 	}
 
+	private CompiledTemplateCache<Template> _compiledTemplateCache;
 	private PortalCache<TemplateResource, Object> _portalCache;
 
 	private class LiferayTemplate extends Template {
@@ -237,4 +246,21 @@ public class LiferayResourceManager extends ResourceManagerImpl {
 
 	}
 
+	private class VelocityCompiledTemplateCache
+		extends CompiledTemplateCache<Template> {
+
+		public VelocityCompiledTemplateCache() {
+			super(TemplateConstants.LANG_TYPE_VM);
+		}
+
+		@Override
+		protected Template compile(String templateId, String templateContent)
+			throws IOException {
+
+			return _createTemplate(
+				templateId, new UnsyncStringReader(templateContent));
+		}
+
+	}
+
 }
\ No newline at end of file
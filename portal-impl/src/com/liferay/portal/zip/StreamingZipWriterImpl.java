@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.zip;
+
+import com.liferay.portal.kernel.io.unsync.UnsyncBufferedOutputStream;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.memory.DeleteFileFinalizeAction;
+import com.liferay.portal.kernel.memory.FinalizeManager;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.SystemProperties;
+import com.liferay.portal.kernel.uuid.PortalUUIDUtil;
+import com.liferay.portal.kernel.zip.ZipWriter;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes a zip file in a single pass.
+ *
+ * <p>
+ * Unlike {@link ZipWriterImpl}, entries are not staged in a temporary archive
+ * directory. Each entry is compressed once, directly into the target file, so
+ * the cost of writing a zip file grows linearly with the size of its entries.
+ * Because entries cannot be rewritten, only the first entry added for a name
+ * is kept.
+ * </p>
+ */
+public class StreamingZipWriterImpl implements ZipWriter {
+
+	public StreamingZipWriterImpl() {
+		_file = new File(
+			SystemProperties.get(SystemProperties.TMP_DIR) + StringPool.SLASH +
+				PortalUUIDUtil.generate() + ".zip");
+
+		FinalizeManager.register(
+			_file, new DeleteFileFinalizeAction(_file.getAbsolutePath()));
+	}
+
+	public StreamingZipWriterImpl(File file) {
+		_file = file;
+	}
+
+	public void addEntry(String name, byte[] bytes) throws IOException {
+		UnsyncByteArrayInputStream unsyncByteArrayInputStream =
+			new UnsyncByteArrayInputStream(bytes);
+
+		try {
+			addEntry(name, unsyncByteArrayInputStream);
+		}
+		finally {
+			unsyncByteArrayInputStream.close();
+		}
+	}
+
+	public void addEntry(String name, InputStream inputStream)
+		throws IOException {
+
+		if (name.startsWith(StringPool.SLASH)) {
+			name = name.substring(1);
+		}
+
+		if (inputStream == null) {
+			return;
+		}
+
+		if (_closed) {
+			throw new IOException("Zip file " + _file + " is closed");
+		}
+
+		if (!_names.add(name)) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Skipping duplicate entry " + name + " because " +
+						_file + " already has an entry with that name");
+			}
+
+			return;
+		}
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("Adding " + name);
+		}
+
+		ZipOutputStream zipOutputStream = _getZipOutputStream();
+
+		zipOutputStream.putNextEntry(new ZipEntry(name));
+
+		StreamUtil.transfer(inputStream, zipOutputStream, false);
+
+		zipOutputStream.closeEntry();
+	}
+
+	public void addEntry(String name, String s) throws IOException {
+		addEntry(name, s.getBytes(StringPool.UTF8));
+	}
+
+	public void addEntry(String name, StringBuilder sb) throws IOException {
+		addEntry(name, sb.toString());
+	}
+
+	public byte[] finish() throws IOException {
+		_close();
+
+		return FileUtil.getBytes(_file);
+	}
+
+	public File getFile() {
+		try {
+			_close();
+		}
+		catch (IOException ioe) {
+			_log.error(ioe, ioe);
+		}
+
+		return _file;
+	}
+
+	public String getPath() {
+		return _file.getPath();
+	}
+
+	private void _close() throws IOException {
+		if (_closed) {
+			return;
+		}
+
+		_closed = true;
+
+		ZipOutputStream zipOutputStream = _getZipOutputStream();
+
+		zipOutputStream.close();
+	}
+
+	private ZipOutputStream _getZipOutputStream() throws IOException {
+		if (_zipOutputStream != null) {
+			return _zipOutputStream;
+		}
+
+		File parentFile = _file.getParentFile();
+
+		if (parentFile != null) {
+			parentFile.mkdirs();
+		}
+
+		_zipOutputStream = new ZipOutputStream(
+			new UnsyncBufferedOutputStream(
+				new FileOutputStream(_file), _BUFFER_SIZE));
+
+		return _zipOutputStream;
+	}
+
+	private static final int _BUFFER_SIZE = 8192;
+
+	private static Log _log = LogFactoryUtil.getLog(
+		StreamingZipWriterImpl.class);
+
+	private boolean _closed;
+	private File _file;
+	private Set<String> _names = new HashSet<String>();
+	private ZipOutputStream _zipOutputStream;
+
+}
\ No newline at end of file
@@ -17,6 +17,7 @@ package com.liferay.portal.zip;
 import com.liferay.portal.kernel.zip.ZipWriter;
 import com.liferay.portal.kernel.zip.ZipWriterFactory;
 import com.liferay.portal.util.ClassLoaderUtil;
+import com.liferay.portal.util.PropsValues;
 
 import java.io.File;
 
@@ -26,6 +27,10 @@ import java.io.File;
 public class ZipWriterFactoryImpl implements ZipWriterFactory {
 
 	public ZipWriter getZipWriter() {
+		if (PropsValues.ZIP_WRITER_STREAMING_ENABLED) {
+			return new StreamingZipWriterImpl();
+		}
+
 		ClassLoader portalClassLoader = ClassLoaderUtil.getPortalClassLoader();
 
 		ClassLoader contextClassLoader =
@@ -46,6 +51,10 @@ public class ZipWriterFactoryImpl implements ZipWriterFactory {
 	}
 
 	public ZipWriter getZipWriter(File file) {
+		if (PropsValues.ZIP_WRITER_STREAMING_ENABLED) {
+			return new StreamingZipWriterImpl(file);
+		}
+
 		ClassLoader portalClassLoader = ClassLoaderUtil.getPortalClassLoader();
 
 		ClassLoader contextClassLoader =
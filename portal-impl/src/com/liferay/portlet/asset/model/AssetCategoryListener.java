@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.asset.model;
+
+import com.liferay.portal.model.BaseModelListener;
+import com.liferay.portal.servlet.filters.cache.CacheUtil;
+
+public class AssetCategoryListener extends BaseModelListener<AssetCategory> {
+
+	@Override
+	public void onAfterAddAssociation(
+		Object classPK, String associationClassName,
+		Object associationClassPK) {
+
+		clearCache((Long)classPK);
+	}
+
+	@Override
+	public void onAfterRemove(AssetCategory category) {
+		clearCache(category.getCategoryId());
+	}
+
+	@Override
+	public void onAfterRemoveAssociation(
+		Object classPK, String associationClassName,
+		Object associationClassPK) {
+
+		clearCache((Long)classPK);
+	}
+
+	@Override
+	public void onAfterUpdate(AssetCategory category) {
+		clearCache(category.getCategoryId());
+	}
+
+	protected void clearCache(long categoryId) {
+
+		// Layout cache
+
+		CacheUtil.clearCache(AssetCategory.class.getName(), categoryId);
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.asset.model;
+
+import com.liferay.portal.ModelListenerException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.transaction.TransactionCommitCallbackRegistryUtil;
+import com.liferay.portal.model.BaseModelListener;
+import com.liferay.portal.util.PropsValues;
+import com.liferay.portlet.asset.model.impl.AssetEntryModelImpl;
+import com.liferay.portlet.asset.service.AssetEntryLocalServiceUtil;
+import com.liferay.portlet.asset.service.persistence.AssetEntryBitmapIndexUtil;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Applies committed changes of asset entries and of their categories and tags
+ * to {@link AssetEntryBitmapIndexUtil}. Groups with uncommitted changes are
+ * marked, so that the current thread does not query their indexes.
+ */
+public class AssetEntryListener extends BaseModelListener<AssetEntry> {
+
+	@Override
+	public void onAfterAddAssociation(
+			Object classPK, String associationClassName,
+			Object associationClassPK)
+		throws ModelListenerException {
+
+		updateAssociation(
+			(Long)classPK, associationClassName, (Long)associationClassPK,
+			true);
+	}
+
+	@Override
+	public void onAfterCreate(AssetEntry entry) {
+		updateEntry(entry);
+	}
+
+	@Override
+	public void onAfterRemove(final AssetEntry entry) {
+		if (!PropsValues.ASSET_ENTRY_QUERY_BITMAP_INDEX_ENABLED) {
+			return;
+		}
+
+		AssetEntryBitmapIndexUtil.addUncommittedGroupId(entry.getGroupId());
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				public Void call() {
+					AssetEntryBitmapIndexUtil.removeEntry(
+						entry.getGroupId(), entry.getEntryId());
+
+					return null;
+				}
+
+			});
+	}
+
+	@Override
+	public void onAfterRemoveAssociation(
+			Object classPK, String associationClassName,
+			Object associationClassPK)
+		throws ModelListenerException {
+
+		updateAssociation(
+			(Long)classPK, associationClassName, (Long)associationClassPK,
+			false);
+	}
+
+	@Override
+	public void onBeforeUpdate(AssetEntry entry) {
+
+		// Most updates, such as incrementing the view count, do not change
+		// indexed columns and must not invalidate the index
+
+		if (entry instanceof AssetEntryModelImpl) {
+			AssetEntryModelImpl assetEntryModelImpl =
+				(AssetEntryModelImpl)entry;
+
+			if ((assetEntryModelImpl.getOriginalClassNameId() ==
+					entry.getClassNameId()) &&
+				(assetEntryModelImpl.getOriginalVisible() ==
+					entry.isVisible())) {
+
+				return;
+			}
+		}
+
+		updateEntry(entry);
+	}
+
+	protected void updateAssociation(
+			final long entryId, final String associationClassName,
+			final long associationClassPK, final boolean add)
+		throws ModelListenerException {
+
+		if (!PropsValues.ASSET_ENTRY_QUERY_BITMAP_INDEX_ENABLED) {
+			return;
+		}
+
+		if (!associationClassName.equals(AssetCategory.class.getName()) &&
+			!associationClassName.equals(AssetTag.class.getName())) {
+
+			return;
+		}
+
+		try {
+			AssetEntry entry = AssetEntryLocalServiceUtil.fetchAssetEntry(
+				entryId);
+
+			if (entry != null) {
+				AssetEntryBitmapIndexUtil.addUncommittedGroupId(
+					entry.getGroupId());
+			}
+		}
+		catch (SystemException se) {
+			throw new ModelListenerException(se);
+		}
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				public Void call() throws Exception {
+					AssetEntry entry =
+						AssetEntryLocalServiceUtil.fetchAssetEntry(entryId);
+
+					if (entry == null) {
+						return null;
+					}
+
+					long groupId = entry.getGroupId();
+
+					if (associationClassName.equals(
+							AssetCategory.class.getName())) {
+
+						if (add) {
+							AssetEntryBitmapIndexUtil.addCategory(
+								groupId, entryId, associationClassPK);
+						}
+						else {
+							AssetEntryBitmapIndexUtil.removeCategory(
+								groupId, entryId, associationClassPK);
+						}
+					}
+					else if (add) {
+						AssetEntryBitmapIndexUtil.addTag(
+							groupId, entryId, associationClassPK);
+					}
+					else {
+						AssetEntryBitmapIndexUtil.removeTag(
+							groupId, entryId, associationClassPK);
+					}
+
+					return null;
+				}
+
+			});
+	}
+
+	protected void updateEntry(AssetEntry entry) {
+		if (!PropsValues.ASSET_ENTRY_QUERY_BITMAP_INDEX_ENABLED) {
+			return;
+		}
+
+		final long groupId = entry.getGroupId();
+		final long entryId = entry.getEntryId();
+		final long classNameId = entry.getClassNameId();
+		final boolean visible = entry.isVisible();
+
+		AssetEntryBitmapIndexUtil.addUncommittedGroupId(groupId);
+
+		TransactionCommitCallbackRegistryUtil.registerCallback(
+			new Callable<Void>() {
+
+				public Void call() {
+					AssetEntryBitmapIndexUtil.addEntry(
+						groupId, entryId, classNameId, visible);
+
+					return null;
+				}
+
+			});
+	}
+
+}
\ No newline at end of file
@@ -21,6 +21,7 @@ import com.liferay.portal.kernel.json.JSON;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.LocalizationUtil;
+import com.liferay.portal.kernel.util.LocalizedValues;
 import com.liferay.portal.kernel.util.ProxyUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
@@ -527,12 +528,19 @@ public class AssetCategoryModelImpl extends BaseModelImpl<AssetCategory>
 	}
 
 	public String getTitle(String languageId) {
-		return LocalizationUtil.getLocalization(getTitle(), languageId);
+		return getTitle(languageId, true);
 	}
 
 	public String getTitle(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getTitle(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _titleLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(getTitle());
+
+			_titleLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getTitleCurrentLanguageId() {
@@ -552,6 +560,8 @@ public class AssetCategoryModelImpl extends BaseModelImpl<AssetCategory>
 
 	public void setTitle(String title) {
 		_title = title;
+
+		_titleLocalizedValues = null;
 	}
 
 	public void setTitle(String title, Locale locale) {
@@ -612,12 +622,20 @@ public class AssetCategoryModelImpl extends BaseModelImpl<AssetCategory>
 	}
 
 	public String getDescription(String languageId) {
-		return LocalizationUtil.getLocalization(getDescription(), languageId);
+		return getDescription(languageId, true);
 	}
 
 	public String getDescription(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getDescription(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _descriptionLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(
+				getDescription());
+
+			_descriptionLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getDescriptionCurrentLanguageId() {
@@ -637,6 +655,8 @@ public class AssetCategoryModelImpl extends BaseModelImpl<AssetCategory>
 
 	public void setDescription(String description) {
 		_description = description;
+
+		_descriptionLocalizedValues = null;
 	}
 
 	public void setDescription(String description, Locale locale) {
@@ -1046,8 +1066,10 @@ public class AssetCategoryModelImpl extends BaseModelImpl<AssetCategory>
 	private String _originalName;
 	private String _title;
 	private String _titleCurrentLanguageId;
+	private transient LocalizedValues _titleLocalizedValues;
 	private String _description;
 	private String _descriptionCurrentLanguageId;
+	private transient LocalizedValues _descriptionLocalizedValues;
 	private long _vocabularyId;
 	private long _originalVocabularyId;
 	private boolean _setOriginalVocabularyId;
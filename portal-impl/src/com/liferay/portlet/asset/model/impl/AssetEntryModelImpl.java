@@ -21,6 +21,7 @@ import com.liferay.portal.kernel.json.JSON;
 import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.LocaleUtil;
 import com.liferay.portal.kernel.util.LocalizationUtil;
+import com.liferay.portal.kernel.util.LocalizedValues;
 import com.liferay.portal.kernel.util.ProxyUtil;
 import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
@@ -742,12 +743,19 @@ public class AssetEntryModelImpl extends BaseModelImpl<AssetEntry>
 	}
 
 	public String getTitle(String languageId) {
-		return LocalizationUtil.getLocalization(getTitle(), languageId);
+		return getTitle(languageId, true);
 	}
 
 	public String getTitle(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getTitle(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _titleLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(getTitle());
+
+			_titleLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getTitleCurrentLanguageId() {
@@ -767,6 +775,8 @@ public class AssetEntryModelImpl extends BaseModelImpl<AssetEntry>
 
 	public void setTitle(String title) {
 		_title = title;
+
+		_titleLocalizedValues = null;
 	}
 
 	public void setTitle(String title, Locale locale) {
@@ -827,12 +837,20 @@ public class AssetEntryModelImpl extends BaseModelImpl<AssetEntry>
 	}
 
 	public String getDescription(String languageId) {
-		return LocalizationUtil.getLocalization(getDescription(), languageId);
+		return getDescription(languageId, true);
 	}
 
 	public String getDescription(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getDescription(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _descriptionLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(
+				getDescription());
+
+			_descriptionLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getDescriptionCurrentLanguageId() {
@@ -852,6 +870,8 @@ public class AssetEntryModelImpl extends BaseModelImpl<AssetEntry>
 
 	public void setDescription(String description) {
 		_description = description;
+
+		_descriptionLocalizedValues = null;
 	}
 
 	public void setDescription(String description, Locale locale) {
@@ -916,12 +936,19 @@ public class AssetEntryModelImpl extends BaseModelImpl<AssetEntry>
 	}
 
 	public String getSummary(String languageId) {
-		return LocalizationUtil.getLocalization(getSummary(), languageId);
+		return getSummary(languageId, true);
 	}
 
 	public String getSummary(String languageId, boolean useDefault) {
-		return LocalizationUtil.getLocalization(getSummary(), languageId,
-			useDefault);
+		LocalizedValues localizedValues = _summaryLocalizedValues;
+
+		if (localizedValues == null) {
+			localizedValues = LocalizationUtil.getLocalizedValues(getSummary());
+
+			_summaryLocalizedValues = localizedValues;
+		}
+
+		return localizedValues.getValue(languageId, useDefault);
 	}
 
 	public String getSummaryCurrentLanguageId() {
@@ -941,6 +968,8 @@ public class AssetEntryModelImpl extends BaseModelImpl<AssetEntry>
 
 	public void setSummary(String summary) {
 		_summary = summary;
+
+		_summaryLocalizedValues = null;
 	}
 
 	public void setSummary(String summary, Locale locale) {
@@ -1567,10 +1596,13 @@ public class AssetEntryModelImpl extends BaseModelImpl<AssetEntry>
 	private String _mimeType;
 	private String _title;
 	private String _titleCurrentLanguageId;
+	private transient LocalizedValues _titleLocalizedValues;
 	private String _description;
 	private String _descriptionCurrentLanguageId;
+	private transient LocalizedValues _descriptionLocalizedValues;
 	private String _summary;
 	private String _summaryCurrentLanguageId;
+	private transient LocalizedValues _summaryLocalizedValues;
 	private String _url;
 	private String _layoutUuid;
 	private String _originalLayoutUuid;
@@ -38,12 +38,14 @@ import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.kernel.workflow.WorkflowConstants;
 import com.liferay.portal.model.User;
 import com.liferay.portal.service.ServiceContext;
+import com.liferay.portal.servlet.filters.cache.CacheUtil;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PortletKeys;
 import com.liferay.portal.util.PropsValues;
 import com.liferay.portlet.asset.AssetRendererFactoryRegistryUtil;
 import com.liferay.portlet.asset.NoSuchEntryException;
 import com.liferay.portlet.asset.NoSuchTagException;
+import com.liferay.portlet.asset.model.AssetCategory;
 import com.liferay.portlet.asset.model.AssetEntry;
 import com.liferay.portlet.asset.model.AssetLink;
 import com.liferay.portlet.asset.model.AssetLinkConstants;
@@ -188,25 +190,37 @@ public class AssetEntryLocalServiceImpl extends AssetEntryLocalServiceBaseImpl {
 	public List<AssetEntry> getEntries(AssetEntryQuery entryQuery)
 		throws SystemException {
 
+		addSurrogateKeys(entryQuery);
+
 		return assetEntryFinder.findEntries(entryQuery);
 	}
 
 	public int getEntriesCount(AssetEntryQuery entryQuery)
 		throws SystemException {
 
+		addSurrogateKeys(entryQuery);
+
 		return assetEntryFinder.countEntries(entryQuery);
 	}
 
 	public AssetEntry getEntry(long entryId)
 		throws PortalException, SystemException {
 
-		return assetEntryPersistence.findByPrimaryKey(entryId);
+		AssetEntry entry = assetEntryPersistence.findByPrimaryKey(entryId);
+
+		addSurrogateKey(entry);
+
+		return entry;
 	}
 
 	public AssetEntry getEntry(long groupId, String classUuid)
 		throws PortalException, SystemException {
 
-		return assetEntryPersistence.findByG_CU(groupId, classUuid);
+		AssetEntry entry = assetEntryPersistence.findByG_CU(groupId, classUuid);
+
+		addSurrogateKey(entry);
+
+		return entry;
 	}
 
 	public AssetEntry getEntry(String className, long classPK)
@@ -214,7 +228,12 @@ public class AssetEntryLocalServiceImpl extends AssetEntryLocalServiceBaseImpl {
 
 		long classNameId = PortalUtil.getClassNameId(className);
 
-		return assetEntryPersistence.findByC_C(classNameId, classPK);
+		AssetEntry entry = assetEntryPersistence.findByC_C(
+			classNameId, classPK);
+
+		addSurrogateKey(entry);
+
+		return entry;
 	}
 
 	public AssetEntry getNextEntry(long entryId)
@@ -894,6 +913,32 @@ public class AssetEntryLocalServiceImpl extends AssetEntryLocalServiceBaseImpl {
 		validator.validate(groupId, className, categoryIds, tagNames);
 	}
 
+	protected void addSurrogateKey(AssetEntry entry) {
+		CacheUtil.addSurrogateKey(entry.getClassName(), entry.getClassPK());
+	}
+
+	protected void addSurrogateKeys(AssetEntryQuery entryQuery) {
+		long[] groupIds = entryQuery.getGroupIds();
+
+		if (groupIds.length == 0) {
+			CacheUtil.addSurrogateKey(AssetEntry.class.getName(), 0);
+		}
+
+		for (long groupId : groupIds) {
+			CacheUtil.addSurrogateKey(AssetEntry.class.getName(), groupId);
+		}
+
+		for (long categoryId : entryQuery.getAllCategoryIds()) {
+			CacheUtil.addSurrogateKey(
+				AssetCategory.class.getName(), categoryId);
+		}
+
+		for (long categoryId : entryQuery.getAnyCategoryIds()) {
+			CacheUtil.addSurrogateKey(
+				AssetCategory.class.getName(), categoryId);
+		}
+	}
+
 	protected String[] getClassNames(String className) {
 		if (Validator.isNotNull(className)) {
 			return new String[] {className};
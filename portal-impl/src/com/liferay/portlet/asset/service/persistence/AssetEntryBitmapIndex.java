@@ -0,0 +1,393 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.asset.service.persistence;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Indexes the asset entries of one group by category, tag, class name, and
+ * visibility.
+ *
+ * <p>
+ * Every entry is assigned a dense position when it is added. The entries of a
+ * category, tag, or class name are kept as a sorted array of positions, which
+ * takes four bytes per assignment no matter how sparse it is. Queries expand
+ * these arrays into bit sets over the positions of the group, so that the
+ * filters of an {@link AssetEntryQuery} are answered with bitwise operations.
+ * </p>
+ */
+public class AssetEntryBitmapIndex {
+
+	public AssetEntryBitmapIndex(long version) {
+		_version = version;
+	}
+
+	public void addCategory(long entryId, long categoryId) {
+		_addPosition(_categoryPositions, categoryId, entryId);
+	}
+
+	public void addEntry(long entryId, long classNameId, boolean visible) {
+		Lock lock = _readWriteLock.writeLock();
+
+		lock.lock();
+
+		try {
+			Integer position = _positions.get(entryId);
+
+			if (position == null) {
+				position = _positions.size();
+
+				if (position == _entryIds.length) {
+					_classNameIds = Arrays.copyOf(
+						_classNameIds, position << 1);
+					_entryIds = Arrays.copyOf(_entryIds, position << 1);
+				}
+
+				_classNameIds[position] = classNameId;
+				_entryIds[position] = entryId;
+
+				_positions.put(entryId, position);
+			}
+			else if (_classNameIds[position] != classNameId) {
+				Positions positions = _classNamePositions.get(
+					_classNameIds[position]);
+
+				if (positions != null) {
+					positions.remove(position);
+				}
+
+				_classNameIds[position] = classNameId;
+			}
+
+			_getPositions(_classNamePositions, classNameId).add(position);
+
+			_entries.set(position);
+			_visibleEntries.set(position, visible);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public void addTag(long entryId, long tagId) {
+		_addPosition(_tagPositions, tagId, entryId);
+	}
+
+	/**
+	 * Returns the IDs of the entries that match the category, tag, class
+	 * name, and visibility filters of the query. The category IDs must
+	 * already be expanded to include the descendants of hierarchical
+	 * categories. An empty array of category IDs applies no filter.
+	 */
+	public long[] getEntryIds(
+		AssetEntryQuery entryQuery, long[][] allCategoryIds,
+		long[] anyCategoryIds, long[][] notAllCategoryIds,
+		long[] notAnyCategoryIds) {
+
+		Lock lock = _readWriteLock.readLock();
+
+		lock.lock();
+
+		try {
+			BitSet bitSet = (BitSet)_entries.clone();
+
+			Boolean visible = entryQuery.isVisible();
+
+			if (visible != null) {
+				if (visible) {
+					bitSet.and(_visibleEntries);
+				}
+				else {
+					bitSet.andNot(_visibleEntries);
+				}
+			}
+
+			long[] classNameIds = entryQuery.getClassNameIds();
+
+			if (classNameIds.length > 0) {
+				bitSet.and(_union(_classNamePositions, classNameIds));
+			}
+
+			// Categories
+
+			for (long[] categoryIds : allCategoryIds) {
+				bitSet.and(_union(_categoryPositions, categoryIds));
+			}
+
+			if (anyCategoryIds.length > 0) {
+				bitSet.and(_union(_categoryPositions, anyCategoryIds));
+			}
+
+			if (notAllCategoryIds.length > 0) {
+				bitSet.andNot(
+					_intersection(_categoryPositions, notAllCategoryIds));
+			}
+
+			if (notAnyCategoryIds.length > 0) {
+				bitSet.andNot(_union(_categoryPositions, notAnyCategoryIds));
+			}
+
+			// Tags
+
+			for (long[] tagIds : entryQuery.getAllTagIdsArray()) {
+				if (tagIds.length > 0) {
+					bitSet.and(_union(_tagPositions, tagIds));
+				}
+			}
+
+			if (entryQuery.getAnyTagIds().length > 0) {
+				bitSet.and(_union(_tagPositions, entryQuery.getAnyTagIds()));
+			}
+
+			if (entryQuery.getNotAllTagIds().length > 0) {
+				bitSet.andNot(
+					_intersection(
+						_tagPositions, entryQuery.getNotAllTagIdsArray()));
+			}
+
+			if (entryQuery.getNotAnyTagIds().length > 0) {
+				bitSet.andNot(
+					_union(_tagPositions, entryQuery.getNotAnyTagIds()));
+			}
+
+			long[] entryIds = new long[bitSet.cardinality()];
+
+			int index = 0;
+
+			for (int i = bitSet.nextSetBit(0); i >= 0;
+					i = bitSet.nextSetBit(i + 1)) {
+
+				entryIds[index++] = _entryIds[i];
+			}
+
+			return entryIds;
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public long getVersion() {
+		return _version;
+	}
+
+	public void removeCategory(long entryId, long categoryId) {
+		_removePosition(_categoryPositions, categoryId, entryId);
+	}
+
+	public void removeEntry(long entryId) {
+		Lock lock = _readWriteLock.writeLock();
+
+		lock.lock();
+
+		try {
+			Integer position = _positions.get(entryId);
+
+			if (position == null) {
+				return;
+			}
+
+			// The position is not reused. Removing the entry from the entries
+			// bit set is enough to exclude it from all query results.
+
+			_entries.clear(position);
+			_visibleEntries.clear(position);
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	public void removeTag(long entryId, long tagId) {
+		_removePosition(_tagPositions, tagId, entryId);
+	}
+
+	public void setVersion(long version) {
+		_version = version;
+	}
+
+	private void _addPosition(
+		Map<Long, Positions> positionsMap, long key, long entryId) {
+
+		Lock lock = _readWriteLock.writeLock();
+
+		lock.lock();
+
+		try {
+			Integer position = _positions.get(entryId);
+
+			if (position != null) {
+				_getPositions(positionsMap, key).add(position);
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private Positions _getPositions(
+		Map<Long, Positions> positionsMap, long key) {
+
+		Positions positions = positionsMap.get(key);
+
+		if (positions == null) {
+			positions = new Positions();
+
+			positionsMap.put(key, positions);
+		}
+
+		return positions;
+	}
+
+	private BitSet _intersection(
+		Map<Long, Positions> positionsMap, long[][] keysArray) {
+
+		BitSet bitSet = null;
+
+		for (long[] keys : keysArray) {
+			if (keys.length == 0) {
+				continue;
+			}
+
+			if (bitSet == null) {
+				bitSet = _union(positionsMap, keys);
+			}
+			else {
+				bitSet.and(_union(positionsMap, keys));
+			}
+		}
+
+		if (bitSet == null) {
+			return new BitSet();
+		}
+
+		return bitSet;
+	}
+
+	private void _removePosition(
+		Map<Long, Positions> positionsMap, long key, long entryId) {
+
+		Lock lock = _readWriteLock.writeLock();
+
+		lock.lock();
+
+		try {
+			Integer position = _positions.get(entryId);
+			Positions positions = positionsMap.get(key);
+
+			if ((position == null) || (positions == null)) {
+				return;
+			}
+
+			positions.remove(position);
+
+			if (positions.isEmpty()) {
+				positionsMap.remove(key);
+			}
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private BitSet _union(Map<Long, Positions> positionsMap, long[] keys) {
+		BitSet bitSet = new BitSet(_positions.size());
+
+		for (long key : keys) {
+			Positions positions = positionsMap.get(key);
+
+			if (positions != null) {
+				positions.or(bitSet);
+			}
+		}
+
+		return bitSet;
+	}
+
+	private Map<Long, Positions> _categoryPositions =
+		new HashMap<Long, Positions>();
+	private long[] _classNameIds = new long[16];
+	private Map<Long, Positions> _classNamePositions =
+		new HashMap<Long, Positions>();
+	private BitSet _entries = new BitSet();
+	private long[] _entryIds = new long[16];
+	private Map<Long, Integer> _positions = new HashMap<Long, Integer>();
+	private ReadWriteLock _readWriteLock = new ReentrantReadWriteLock();
+	private Map<Long, Positions> _tagPositions = new HashMap<Long, Positions>();
+	private volatile long _version;
+	private BitSet _visibleEntries = new BitSet();
+
+	private static class Positions {
+
+		public void add(int position) {
+			int index = Arrays.binarySearch(_positions, 0, _size, position);
+
+			if (index >= 0) {
+				return;
+			}
+
+			index = -index - 1;
+
+			if (_size == _positions.length) {
+				_positions = Arrays.copyOf(_positions, _size << 1);
+			}
+
+			System.arraycopy(
+				_positions, index, _positions, index + 1, _size - index);
+
+			_positions[index] = position;
+
+			_size++;
+		}
+
+		public boolean isEmpty() {
+			if (_size == 0) {
+				return true;
+			}
+
+			return false;
+		}
+
+		public void or(BitSet bitSet) {
+			for (int i = 0; i < _size; i++) {
+				bitSet.set(_positions[i]);
+			}
+		}
+
+		public void remove(int position) {
+			int index = Arrays.binarySearch(_positions, 0, _size, position);
+
+			if (index < 0) {
+				return;
+			}
+
+			_size--;
+
+			System.arraycopy(
+				_positions, index + 1, _positions, index, _size - index);
+		}
+
+		private int[] _positions = new int[4];
+		private int _size;
+
+	}
+
+}
\ No newline at end of file
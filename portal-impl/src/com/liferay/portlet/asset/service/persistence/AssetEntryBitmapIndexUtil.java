@@ -0,0 +1,359 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.asset.service.persistence;
+
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.dao.jdbc.DataAccess;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.AutoResetThreadLocal;
+import com.liferay.util.dao.orm.CustomSQLUtil;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds the {@link AssetEntryBitmapIndex} of each group and keeps it up to
+ * date on every cluster node.
+ *
+ * <p>
+ * Each group has a version in a multi VM cache. An index is only used while
+ * its version matches. Model listeners apply committed changes to the local
+ * index and remove the version, which makes the other cluster nodes rebuild
+ * their index of the group on the next query.
+ * </p>
+ *
+ * <p>
+ * Indexes are loaded over a separate connection, so they only contain
+ * committed rows, and concurrent requests for the same group wait for a
+ * single load. A thread that changed a group in a transaction that has not
+ * committed yet does not use the index of the group, so that it sees its own
+ * changes.
+ * </p>
+ */
+public class AssetEntryBitmapIndexUtil {
+
+	public static void addCategory(
+		long groupId, long entryId, long categoryId) {
+
+		AssetEntryBitmapIndex assetEntryBitmapIndex = _startUpdate(groupId);
+
+		if (assetEntryBitmapIndex != null) {
+			assetEntryBitmapIndex.addCategory(entryId, categoryId);
+
+			_finishUpdate(groupId, assetEntryBitmapIndex);
+		}
+	}
+
+	public static void addEntry(
+		long groupId, long entryId, long classNameId, boolean visible) {
+
+		AssetEntryBitmapIndex assetEntryBitmapIndex = _startUpdate(groupId);
+
+		if (assetEntryBitmapIndex != null) {
+			assetEntryBitmapIndex.addEntry(entryId, classNameId, visible);
+
+			_finishUpdate(groupId, assetEntryBitmapIndex);
+		}
+	}
+
+	public static void addTag(long groupId, long entryId, long tagId) {
+		AssetEntryBitmapIndex assetEntryBitmapIndex = _startUpdate(groupId);
+
+		if (assetEntryBitmapIndex != null) {
+			assetEntryBitmapIndex.addTag(entryId, tagId);
+
+			_finishUpdate(groupId, assetEntryBitmapIndex);
+		}
+	}
+
+	/**
+	 * Marks the group as changed by the current thread. The index of the group
+	 * is not used by the thread until its thread locals are reset, because the
+	 * index does not contain the uncommitted changes.
+	 */
+	public static void addUncommittedGroupId(long groupId) {
+		Set<Long> uncommittedGroupIds = _uncommittedGroupIds.get();
+
+		uncommittedGroupIds.add(groupId);
+	}
+
+	public static void clearCache() {
+		_portalCache.removeAll();
+		_versionPortalCache.removeAll();
+	}
+
+	/**
+	 * Returns the index of the group, or <code>null</code> if the index cannot
+	 * be used because the group has uncommitted changes in the current thread
+	 * or because the group changed while its index was loaded.
+	 */
+	public static AssetEntryBitmapIndex getAssetEntryBitmapIndex(long groupId)
+		throws SystemException {
+
+		Set<Long> uncommittedGroupIds = _uncommittedGroupIds.get();
+
+		if (uncommittedGroupIds.contains(groupId)) {
+			return null;
+		}
+
+		AssetEntryBitmapIndex assetEntryBitmapIndex =
+			_fetchAssetEntryBitmapIndex(groupId);
+
+		if (assetEntryBitmapIndex != null) {
+			return assetEntryBitmapIndex;
+		}
+
+		_loadAssetEntryBitmapIndex(groupId);
+
+		return _fetchAssetEntryBitmapIndex(groupId);
+	}
+
+	public static void removeCategory(
+		long groupId, long entryId, long categoryId) {
+
+		AssetEntryBitmapIndex assetEntryBitmapIndex = _startUpdate(groupId);
+
+		if (assetEntryBitmapIndex != null) {
+			assetEntryBitmapIndex.removeCategory(entryId, categoryId);
+
+			_finishUpdate(groupId, assetEntryBitmapIndex);
+		}
+	}
+
+	public static void removeEntry(long groupId, long entryId) {
+		AssetEntryBitmapIndex assetEntryBitmapIndex = _startUpdate(groupId);
+
+		if (assetEntryBitmapIndex != null) {
+			assetEntryBitmapIndex.removeEntry(entryId);
+
+			_finishUpdate(groupId, assetEntryBitmapIndex);
+		}
+	}
+
+	public static void removeTag(long groupId, long entryId, long tagId) {
+		AssetEntryBitmapIndex assetEntryBitmapIndex = _startUpdate(groupId);
+
+		if (assetEntryBitmapIndex != null) {
+			assetEntryBitmapIndex.removeTag(entryId, tagId);
+
+			_finishUpdate(groupId, assetEntryBitmapIndex);
+		}
+	}
+
+	private static AssetEntryBitmapIndex _fetchAssetEntryBitmapIndex(
+		long groupId) {
+
+		AssetEntryBitmapIndex assetEntryBitmapIndex = _portalCache.get(
+			groupId);
+
+		if (assetEntryBitmapIndex == null) {
+			return null;
+		}
+
+		Long version = _versionPortalCache.get(groupId);
+
+		if ((version == null) ||
+			(version != assetEntryBitmapIndex.getVersion())) {
+
+			return null;
+		}
+
+		return assetEntryBitmapIndex;
+	}
+
+	private static void _finishUpdate(
+		long groupId, AssetEntryBitmapIndex assetEntryBitmapIndex) {
+
+		// New puts are not replicated, so only this node keeps using its
+		// index
+
+		long version = _versionCounter.incrementAndGet();
+
+		assetEntryBitmapIndex.setVersion(version);
+
+		_versionPortalCache.put(groupId, version);
+	}
+
+	private static long _getVersion(long groupId) {
+		Long version = _versionPortalCache.get(groupId);
+
+		if (version == null) {
+			version = _versionCounter.incrementAndGet();
+
+			_versionPortalCache.put(groupId, version);
+		}
+
+		return version;
+	}
+
+	private static void _loadAssetEntryBitmapIndex(final long groupId)
+		throws SystemException {
+
+		FutureTask<Void> futureTask = new FutureTask<Void>(
+			new Callable<Void>() {
+
+				public Void call() throws Exception {
+					_readAssetEntryBitmapIndex(groupId);
+
+					return null;
+				}
+
+			});
+
+		FutureTask<Void> previousFutureTask = _futureTasks.putIfAbsent(
+			groupId, futureTask);
+
+		if (previousFutureTask == null) {
+			try {
+				futureTask.run();
+			}
+			finally {
+				_futureTasks.remove(groupId, futureTask);
+			}
+		}
+		else {
+			futureTask = previousFutureTask;
+		}
+
+		try {
+			futureTask.get();
+		}
+		catch (ExecutionException ee) {
+			throw new SystemException(ee.getCause());
+		}
+		catch (InterruptedException ie) {
+			throw new SystemException(ie);
+		}
+	}
+
+	private static void _readAssetEntryBitmapIndex(long groupId)
+		throws Exception {
+
+		// The version must be taken before the rows are read, so that changes
+		// committed while they are read make the index stale
+
+		AssetEntryBitmapIndex assetEntryBitmapIndex = new AssetEntryBitmapIndex(
+			_getVersion(groupId));
+
+		Connection con = null;
+		PreparedStatement ps = null;
+		ResultSet rs = null;
+
+		try {
+			con = DataAccess.getConnection();
+
+			ps = con.prepareStatement(
+				CustomSQLUtil.get(
+					AssetEntryFinderImpl.FIND_ENTRY_IDS_BY_GROUP_ID));
+
+			ps.setLong(1, groupId);
+
+			rs = ps.executeQuery();
+
+			while (rs.next()) {
+				assetEntryBitmapIndex.addEntry(
+					rs.getLong("entryId"), rs.getLong("classNameId"),
+					rs.getBoolean("visible"));
+			}
+
+			DataAccess.cleanUp(null, ps, rs);
+
+			ps = con.prepareStatement(
+				CustomSQLUtil.get(
+					AssetEntryFinderImpl.FIND_CATEGORY_IDS_BY_GROUP_ID));
+
+			ps.setLong(1, groupId);
+
+			rs = ps.executeQuery();
+
+			while (rs.next()) {
+				assetEntryBitmapIndex.addCategory(
+					rs.getLong("entryId"), rs.getLong("categoryId"));
+			}
+
+			DataAccess.cleanUp(null, ps, rs);
+
+			ps = con.prepareStatement(
+				CustomSQLUtil.get(
+					AssetEntryFinderImpl.FIND_TAG_IDS_BY_GROUP_ID));
+
+			ps.setLong(1, groupId);
+
+			rs = ps.executeQuery();
+
+			while (rs.next()) {
+				assetEntryBitmapIndex.addTag(
+					rs.getLong("entryId"), rs.getLong("tagId"));
+			}
+		}
+		finally {
+			DataAccess.cleanUp(con, ps, rs);
+		}
+
+		_portalCache.put(groupId, assetEntryBitmapIndex);
+	}
+
+	private static AssetEntryBitmapIndex _startUpdate(long groupId) {
+		AssetEntryBitmapIndex assetEntryBitmapIndex =
+			_fetchAssetEntryBitmapIndex(groupId);
+
+		// Removing the version invalidates the index of the group on every
+		// cluster node
+
+		_versionPortalCache.remove(groupId);
+
+		if (assetEntryBitmapIndex == null) {
+			_portalCache.remove(groupId);
+		}
+
+		return assetEntryBitmapIndex;
+	}
+
+	private static final String _CACHE_NAME =
+		AssetEntryBitmapIndexUtil.class.getName();
+
+	private static final String _VERSION_CACHE_NAME =
+		AssetEntryBitmapIndexUtil.class.getName() + "_VERSION";
+
+	private static ConcurrentMap<Long, FutureTask<Void>> _futureTasks =
+		new ConcurrentHashMap<Long, FutureTask<Void>>();
+	private static PortalCache<Long, AssetEntryBitmapIndex> _portalCache =
+		SingleVMPoolUtil.getCache(_CACHE_NAME);
+	private static ThreadLocal<Set<Long>> _uncommittedGroupIds =
+		new AutoResetThreadLocal<Set<Long>>(
+			AssetEntryBitmapIndexUtil.class + "._uncommittedGroupIds",
+			new HashSet<Long>());
+
+	// Versions only have to differ from the versions issued before a group
+	// was changed, including those issued before a restart
+
+	private static AtomicLong _versionCounter = new AtomicLong(
+		System.currentTimeMillis() << 20);
+	private static PortalCache<Long, Long> _versionPortalCache =
+		MultiVMPoolUtil.getCache(_VERSION_CACHE_NAME);
+
+}
\ No newline at end of file
@@ -20,6 +20,7 @@ import com.liferay.portal.kernel.dao.orm.SQLQuery;
 import com.liferay.portal.kernel.dao.orm.Session;
 import com.liferay.portal.kernel.dao.orm.Type;
 import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.util.ArrayUtil;
 import com.liferay.portal.kernel.util.CalendarUtil;
 import com.liferay.portal.kernel.util.CharPool;
 import com.liferay.portal.kernel.util.StringBundler;
@@ -54,13 +55,39 @@ public class AssetEntryFinderImpl
 	public static final String FIND_BY_AND_TAG_IDS =
 		AssetEntryFinder.class.getName() + ".findByAndTagIds";
 
+	public static final String FIND_CATEGORY_IDS_BY_GROUP_ID =
+		AssetEntryFinder.class.getName() + ".findCategoryIdsByGroupId";
+
+	public static final String FIND_ENTRY_IDS_BY_GROUP_ID =
+		AssetEntryFinder.class.getName() + ".findEntryIdsByGroupId";
+
+	public static final String FIND_TAG_IDS_BY_GROUP_ID =
+		AssetEntryFinder.class.getName() + ".findTagIdsByGroupId";
+
 	public int countEntries(AssetEntryQuery entryQuery) throws SystemException {
 		Session session = null;
 
 		try {
 			session = openSession();
 
-			SQLQuery q = buildAssetQuerySQL(entryQuery, true, session);
+			long[] entryIds = getIndexedEntryIds(entryQuery);
+
+			if (entryIds != null) {
+				if ((entryIds.length == 0) ||
+					!hasNonindexedConditions(entryQuery)) {
+
+					return entryIds.length;
+				}
+
+				if (entryIds.length >
+					PropsValues.ASSET_ENTRY_QUERY_BITMAP_INDEX_MAX_ENTRY_IDS) {
+
+					entryIds = null;
+				}
+			}
+
+			SQLQuery q = buildAssetQuerySQL(
+				entryQuery, entryIds, true, session);
 
 			Iterator<Long> itr = q.iterate();
 
@@ -90,7 +117,22 @@ public class AssetEntryFinderImpl
 		try {
 			session = openSession();
 
-			SQLQuery q = buildAssetQuerySQL(entryQuery, false, session);
+			long[] entryIds = getIndexedEntryIds(entryQuery);
+
+			if (entryIds != null) {
+				if (entryIds.length == 0) {
+					return new ArrayList<AssetEntry>();
+				}
+
+				if (entryIds.length >
+					PropsValues.ASSET_ENTRY_QUERY_BITMAP_INDEX_MAX_ENTRY_IDS) {
+
+					entryIds = null;
+				}
+			}
+
+			SQLQuery q = buildAssetQuerySQL(
+				entryQuery, entryIds, false, session);
 
 			return (List<AssetEntry>)QueryUtil.list(
 				q, getDialect(), entryQuery.getStart(), entryQuery.getEnd());
@@ -217,6 +259,19 @@ public class AssetEntryFinderImpl
 			AssetEntryQuery entryQuery, boolean count, Session session)
 		throws SystemException {
 
+		return buildAssetQuerySQL(entryQuery, null, count, session);
+	}
+
+	/**
+	 * Builds the query of the entries. When the entry IDs matched by the
+	 * bitmap index are specified, they replace the group, class name,
+	 * visibility, category, and tag conditions.
+	 */
+	protected SQLQuery buildAssetQuerySQL(
+			AssetEntryQuery entryQuery, long[] entryIds, boolean count,
+			Session session)
+		throws SystemException {
+
 		StringBundler sb = new StringBundler();
 
 		if (count) {
@@ -238,7 +293,7 @@ public class AssetEntryFinderImpl
 
 		sb.append("FROM AssetEntry ");
 
-		if (entryQuery.getAnyTagIds().length > 0) {
+		if ((entryIds == null) && (entryQuery.getAnyTagIds().length > 0)) {
 			sb.append("INNER JOIN ");
 			sb.append("AssetEntries_AssetTags ON ");
 			sb.append("(AssetEntries_AssetTags.entryId = ");
@@ -275,7 +330,7 @@ public class AssetEntryFinderImpl
 			sb.append(" AND (AssetEntry.entryId != ?)");
 		}
 
-		if (entryQuery.isVisible() != null) {
+		if ((entryIds == null) && (entryQuery.isVisible() != null)) {
 			sb.append(" AND (visible = ?)");
 		}
 
@@ -309,20 +364,22 @@ public class AssetEntryFinderImpl
 
 		// Category conditions
 
-		if (entryQuery.getAllCategoryIds().length > 0) {
-			buildAllCategoriesSQL(entryQuery.getAllCategoryIds(), sb);
-		}
+		if (entryIds == null) {
+			if (entryQuery.getAllCategoryIds().length > 0) {
+				buildAllCategoriesSQL(entryQuery.getAllCategoryIds(), sb);
+			}
 
-		if (entryQuery.getAnyCategoryIds().length > 0) {
-			buildAnyCategoriesSQL(entryQuery.getAnyCategoryIds(), sb);
-		}
+			if (entryQuery.getAnyCategoryIds().length > 0) {
+				buildAnyCategoriesSQL(entryQuery.getAnyCategoryIds(), sb);
+			}
 
-		if (entryQuery.getNotAllCategoryIds().length > 0) {
-			buildNotAllCategoriesSQL(entryQuery.getNotAllCategoryIds(), sb);
-		}
+			if (entryQuery.getNotAllCategoryIds().length > 0) {
+				buildNotAllCategoriesSQL(entryQuery.getNotAllCategoryIds(), sb);
+			}
 
-		if (entryQuery.getNotAnyCategoryIds().length > 0) {
-			buildNotAnyCategoriesSQL(entryQuery.getNotAnyCategoryIds(), sb);
+			if (entryQuery.getNotAnyCategoryIds().length > 0) {
+				buildNotAnyCategoriesSQL(entryQuery.getNotAnyCategoryIds(), sb);
+			}
 		}
 
 		// Asset entry subtypes
@@ -333,20 +390,22 @@ public class AssetEntryFinderImpl
 
 		// Tag conditions
 
-		if (entryQuery.getAllTagIds().length > 0) {
-			buildAllTagsSQL(entryQuery.getAllTagIdsArray(), sb);
-		}
+		if (entryIds == null) {
+			if (entryQuery.getAllTagIds().length > 0) {
+				buildAllTagsSQL(entryQuery.getAllTagIdsArray(), sb);
+			}
 
-		if (entryQuery.getAnyTagIds().length > 0) {
-			buildAnyTagsSQL(entryQuery.getAnyTagIds(), sb);
-		}
+			if (entryQuery.getAnyTagIds().length > 0) {
+				buildAnyTagsSQL(entryQuery.getAnyTagIds(), sb);
+			}
 
-		if (entryQuery.getNotAllTagIds().length > 0) {
-			buildNotAllTagsSQL(entryQuery.getNotAllTagIdsArray(), sb);
-		}
+			if (entryQuery.getNotAllTagIds().length > 0) {
+				buildNotAllTagsSQL(entryQuery.getNotAllTagIdsArray(), sb);
+			}
 
-		if (entryQuery.getNotAnyTagIds().length > 0) {
-			buildNotAnyTagsSQL(entryQuery.getNotAnyTagIds(), sb);
+			if (entryQuery.getNotAnyTagIds().length > 0) {
+				buildNotAnyTagsSQL(entryQuery.getNotAnyTagIds(), sb);
+			}
 		}
 
 		// Other conditions
@@ -354,8 +413,14 @@ public class AssetEntryFinderImpl
 		sb.append(
 			getDates(
 				entryQuery.getPublishDate(), entryQuery.getExpirationDate()));
-		sb.append(getGroupIds(entryQuery.getGroupIds()));
-		sb.append(getClassNameIds(entryQuery.getClassNameIds()));
+
+		if (entryIds == null) {
+			sb.append(getGroupIds(entryQuery.getGroupIds()));
+			sb.append(getClassNameIds(entryQuery.getClassNameIds()));
+		}
+		else {
+			sb.append(getEntryIds(entryIds));
+		}
 
 		if (!count) {
 			sb.append(" ORDER BY ");
@@ -415,7 +480,7 @@ public class AssetEntryFinderImpl
 			qPos.add(entryQuery.getLinkedAssetEntryId());
 		}
 
-		if (entryQuery.isVisible() != null) {
+		if ((entryIds == null) && (entryQuery.isVisible() != null)) {
 			qPos.add(entryQuery.isVisible());
 		}
 
@@ -440,8 +505,10 @@ public class AssetEntryFinderImpl
 		setDates(
 			qPos, entryQuery.getPublishDate(), entryQuery.getExpirationDate());
 
-		qPos.add(entryQuery.getGroupIds());
-		qPos.add(entryQuery.getClassNameIds());
+		if (entryIds == null) {
+			qPos.add(entryQuery.getGroupIds());
+			qPos.add(entryQuery.getClassNameIds());
+		}
 
 		return q;
 	}
@@ -610,6 +677,32 @@ public class AssetEntryFinderImpl
 		return sb.toString();
 	}
 
+	protected String getEntryIds(long[] entryIds) {
+		StringBundler sb = new StringBundler((entryIds.length * 2) + 3);
+
+		sb.append(" AND (AssetEntry.entryId IN (");
+
+		for (int i = 0; i < entryIds.length; i++) {
+			if (i > 0) {
+
+				// Some databases limit the number of values in an IN list
+
+				if ((i % _ENTRY_IDS_IN_LIST_SIZE) == 0) {
+					sb.append(") OR AssetEntry.entryId IN (");
+				}
+				else {
+					sb.append(StringPool.COMMA);
+				}
+			}
+
+			sb.append(entryIds[i]);
+		}
+
+		sb.append("))");
+
+		return sb.toString();
+	}
+
 	protected String getGroupIds(long[] groupIds) {
 		if (groupIds.length == 0) {
 			return StringPool.BLANK;
@@ -628,6 +721,63 @@ public class AssetEntryFinderImpl
 		return sb.toString();
 	}
 
+	/**
+	 * Returns the IDs of the entries that match the group, class name,
+	 * visibility, category, and tag conditions of the query according to the
+	 * bitmap index, or <code>null</code> if the bitmap index cannot be used.
+	 */
+	protected long[] getIndexedEntryIds(AssetEntryQuery entryQuery)
+		throws SystemException {
+
+		long[] groupIds = entryQuery.getGroupIds();
+
+		if (!PropsValues.ASSET_ENTRY_QUERY_BITMAP_INDEX_ENABLED ||
+			(groupIds.length == 0)) {
+
+			return null;
+		}
+
+		// Get the indexes before the categories are read, so that the indexes
+		// are not older than the categories
+
+		groupIds = ArrayUtil.unique(groupIds);
+
+		AssetEntryBitmapIndex[] assetEntryBitmapIndexes =
+			new AssetEntryBitmapIndex[groupIds.length];
+
+		for (int i = 0; i < groupIds.length; i++) {
+			assetEntryBitmapIndexes[i] =
+				AssetEntryBitmapIndexUtil.getAssetEntryBitmapIndex(groupIds[i]);
+
+			if (assetEntryBitmapIndexes[i] == null) {
+				return null;
+			}
+		}
+
+		long[][] allCategoryIds = getTreeCategoryIdsArray(
+			entryQuery.getAllCategoryIds());
+		long[] anyCategoryIds = getTreeCategoryIds(
+			entryQuery.getAnyCategoryIds());
+		long[][] notAllCategoryIds = getTreeCategoryIdsArray(
+			entryQuery.getNotAllCategoryIds());
+		long[] notAnyCategoryIds = getTreeCategoryIds(
+			entryQuery.getNotAnyCategoryIds());
+
+		long[] entryIds = new long[0];
+
+		for (AssetEntryBitmapIndex assetEntryBitmapIndex :
+				assetEntryBitmapIndexes) {
+
+			entryIds = ArrayUtil.append(
+				entryIds,
+				assetEntryBitmapIndex.getEntryIds(
+					entryQuery, allCategoryIds, anyCategoryIds,
+					notAllCategoryIds, notAnyCategoryIds));
+		}
+
+		return entryIds;
+	}
+
 	protected String getTagIds(long[] tagIds) {
 		StringBundler sb = new StringBundler((tagIds.length * 3) - 1);
 
@@ -643,6 +793,68 @@ public class AssetEntryFinderImpl
 		return sb.toString();
 	}
 
+	protected long[] getTreeCategoryIds(long[] categoryIds)
+		throws SystemException {
+
+		if (!PropsValues.ASSET_CATEGORIES_SEARCH_HIERARCHICAL) {
+			return categoryIds;
+		}
+
+		List<Long> treeCategoryIds = new ArrayList<Long>();
+
+		for (long categoryId : categoryIds) {
+			treeCategoryIds.addAll(
+				AssetCategoryFinderUtil.findByG_L(categoryId));
+		}
+
+		return ArrayUtil.toArray(
+			treeCategoryIds.toArray(new Long[treeCategoryIds.size()]));
+	}
+
+	protected long[][] getTreeCategoryIdsArray(long[] categoryIds)
+		throws SystemException {
+
+		long[][] treeCategoryIdsArray = new long[categoryIds.length][];
+
+		for (int i = 0; i < categoryIds.length; i++) {
+			treeCategoryIdsArray[i] = new long[] {categoryIds[i]};
+
+			if (PropsValues.ASSET_CATEGORIES_SEARCH_HIERARCHICAL) {
+				List<Long> treeCategoryIds = AssetCategoryFinderUtil.findByG_L(
+					categoryIds[i]);
+
+				if (treeCategoryIds.size() > 1) {
+					treeCategoryIdsArray[i] = ArrayUtil.toArray(
+						treeCategoryIds.toArray(
+							new Long[treeCategoryIds.size()]));
+				}
+			}
+		}
+
+		return treeCategoryIdsArray;
+	}
+
+	/**
+	 * Returns <code>true</code> if the query has conditions that are not
+	 * answered by the bitmap index.
+	 */
+	protected boolean hasNonindexedConditions(AssetEntryQuery entryQuery) {
+		if ((entryQuery.getLinkedAssetEntryId() > 0) ||
+			entryQuery.isExcludeZeroViewCount() ||
+			Validator.isNotNull(entryQuery.getKeywords()) ||
+			Validator.isNotNull(entryQuery.getTitle()) ||
+			Validator.isNotNull(entryQuery.getDescription()) ||
+			(entryQuery.getLayout() != null) ||
+			(entryQuery.getClassTypeIds().length > 0) ||
+			(entryQuery.getPublishDate() != null) ||
+			(entryQuery.getExpirationDate() != null)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
 	protected void setDates(
 		QueryPos qPos, Date publishDate, Date expirationDate) {
 
@@ -660,4 +872,6 @@ public class AssetEntryFinderImpl
 		}
 	}
 
+	private static final int _ENTRY_IDS_IN_LIST_SIZE = 1000;
+
 }
\ No newline at end of file
@@ -0,0 +1,669 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.documentlibrary.store;
+
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.io.LocalFileInputStream;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.memory.DeleteFileFinalizeAction;
+import com.liferay.portal.kernel.memory.FinalizeManager;
+import com.liferay.portal.kernel.util.CharPool;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.StringUtil;
+import com.liferay.portal.kernel.util.Validator;
+import com.liferay.portal.util.PropsValues;
+import com.liferay.portlet.documentlibrary.DuplicateFileException;
+import com.liferay.portlet.documentlibrary.NoSuchFileException;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.SequenceInputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileLock;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Stores the content of each file version as a list of chunks that are keyed
+ * by their SHA-256 hash, so that identical content is only written once.
+ *
+ * <p>
+ * The version files of {@link FileSystemStore} hold a manifest of chunk hashes
+ * instead of the content. Chunks are kept in a shared directory under the root
+ * directory together with a reference count. Adding content that is already
+ * stored, such as a copied or reuploaded file, only increments the reference
+ * counts, and copying a version only copies its manifest. Version files that
+ * were written by {@link FileSystemStore} are still read as plain content.
+ * </p>
+ *
+ * <p>
+ * Reference counts are updated under a file lock, so the root directory can
+ * be shared by the nodes of a cluster if the file system supports locking.
+ * Reference counts are incremented before a manifest is written and
+ * decremented after it is deleted. A failure in between leaves an unused
+ * chunk behind but never deletes a chunk that is still referenced.
+ * </p>
+ */
+public class DeduplicatingFileSystemStore extends FileSystemStore {
+
+	public DeduplicatingFileSystemStore() {
+		if (!_chunksDir.exists()) {
+			_chunksDir.mkdirs();
+		}
+
+		for (int i = 0; i < _locks.length; i++) {
+			_locks[i] = new Object();
+		}
+	}
+
+	@Override
+	public void addFile(
+			long companyId, long repositoryId, String fileName, InputStream is)
+		throws PortalException, SystemException {
+
+		updateFile(companyId, repositoryId, fileName, VERSION_DEFAULT, is);
+	}
+
+	@Override
+	public void copyFileVersion(
+			long companyId, long repositoryId, String fileName,
+			String fromVersionLabel, String toVersionLabel)
+		throws PortalException, SystemException {
+
+		File fromFileNameVersionFile = getFileNameVersionFile(
+			companyId, repositoryId, fileName, fromVersionLabel);
+
+		if (!fromFileNameVersionFile.exists()) {
+			throw new NoSuchFileException(fromFileNameVersionFile.getPath());
+		}
+
+		File toFileNameVersionFile = getFileNameVersionFile(
+			companyId, repositoryId, fileName, toVersionLabel);
+
+		if (toFileNameVersionFile.exists()) {
+			throw new DuplicateFileException(toFileNameVersionFile.getPath());
+		}
+
+		List<Chunk> chunks = getChunks(fromFileNameVersionFile);
+
+		if (chunks == null) {
+			super.copyFileVersion(
+				companyId, repositoryId, fileName, fromVersionLabel,
+				toVersionLabel);
+
+			return;
+		}
+
+		List<Chunk> acquiredChunks = new ArrayList<Chunk>(chunks.size());
+
+		try {
+			for (Chunk chunk : chunks) {
+				updateReferenceCount(chunk, null, 1);
+
+				acquiredChunks.add(chunk);
+			}
+
+			writeChunks(toFileNameVersionFile, chunks);
+		}
+		catch (IOException ioe) {
+			releaseChunks(acquiredChunks);
+
+			throw new SystemException(ioe);
+		}
+	}
+
+	@Override
+	public void deleteDirectory(
+			long companyId, long repositoryId, String dirName)
+		throws PortalException {
+
+		File dirNameDir = getDirNameDir(companyId, repositoryId, dirName);
+
+		List<Chunk> chunks = new ArrayList<Chunk>();
+
+		collectChunks(dirNameDir, chunks);
+
+		super.deleteDirectory(companyId, repositoryId, dirName);
+
+		releaseChunks(chunks);
+	}
+
+	@Override
+	public void deleteFile(long companyId, long repositoryId, String fileName)
+		throws PortalException {
+
+		File fileNameDir = getFileNameDir(companyId, repositoryId, fileName);
+
+		List<Chunk> chunks = new ArrayList<Chunk>();
+
+		collectChunks(fileNameDir, chunks);
+
+		super.deleteFile(companyId, repositoryId, fileName);
+
+		releaseChunks(chunks);
+	}
+
+	@Override
+	public void deleteFile(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel)
+		throws PortalException {
+
+		File fileNameVersionFile = getFileNameVersionFile(
+			companyId, repositoryId, fileName, versionLabel);
+
+		List<Chunk> chunks = new ArrayList<Chunk>();
+
+		collectChunks(fileNameVersionFile, chunks);
+
+		super.deleteFile(companyId, repositoryId, fileName, versionLabel);
+
+		releaseChunks(chunks);
+	}
+
+	@Override
+	public File getFile(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel)
+		throws PortalException {
+
+		File fileNameVersionFile = super.getFile(
+			companyId, repositoryId, fileName, versionLabel);
+
+		List<Chunk> chunks = getChunks(fileNameVersionFile);
+
+		if (chunks == null) {
+			return fileNameVersionFile;
+		}
+
+		if (chunks.size() == 1) {
+			return getChunkFile(chunks.get(0));
+		}
+
+		// The content is spread over several chunks, so return a temporary
+		// copy that is deleted once the caller no longer references it
+
+		try {
+			File tempFile = FileUtil.createTempFile();
+
+			FileUtil.write(tempFile, getChunksInputStream(chunks));
+
+			FinalizeManager.register(
+				tempFile, new DeleteFileFinalizeAction(tempFile.getPath()));
+
+			return tempFile;
+		}
+		catch (IOException ioe) {
+			throw new NoSuchFileException(fileNameVersionFile.getPath(), ioe);
+		}
+	}
+
+	@Override
+	public InputStream getFileAsStream(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel)
+		throws PortalException {
+
+		if (Validator.isNull(versionLabel)) {
+			versionLabel = getHeadVersionLabel(
+				companyId, repositoryId, fileName);
+		}
+
+		File fileNameVersionFile = getFileNameVersionFile(
+			companyId, repositoryId, fileName, versionLabel);
+
+		if (!fileNameVersionFile.exists()) {
+			throw new NoSuchFileException(fileNameVersionFile.getPath());
+		}
+
+		List<Chunk> chunks = getChunks(fileNameVersionFile);
+
+		try {
+			if (chunks == null) {
+				return new LocalFileInputStream(fileNameVersionFile);
+			}
+
+			if (chunks.size() == 1) {
+				return new LocalFileInputStream(getChunkFile(chunks.get(0)));
+			}
+
+			return getChunksInputStream(chunks);
+		}
+		catch (FileNotFoundException fnfe) {
+			throw new NoSuchFileException(fileNameVersionFile.getPath(), fnfe);
+		}
+	}
+
+	@Override
+	public long getFileSize(long companyId, long repositoryId, String fileName)
+		throws PortalException {
+
+		String versionLabel = getHeadVersionLabel(
+			companyId, repositoryId, fileName);
+
+		File fileNameVersionFile = getFileNameVersionFile(
+			companyId, repositoryId, fileName, versionLabel);
+
+		if (!fileNameVersionFile.exists()) {
+			throw new NoSuchFileException(fileNameVersionFile.getPath());
+		}
+
+		List<Chunk> chunks = getChunks(fileNameVersionFile);
+
+		if (chunks == null) {
+			return fileNameVersionFile.length();
+		}
+
+		long size = 0;
+
+		for (Chunk chunk : chunks) {
+			size += chunk._length;
+		}
+
+		return size;
+	}
+
+	@Override
+	public void updateFile(
+			long companyId, long repositoryId, String fileName,
+			String versionLabel, InputStream is)
+		throws PortalException, SystemException {
+
+		File fileNameVersionFile = getFileNameVersionFile(
+			companyId, repositoryId, fileName, versionLabel);
+
+		if (fileNameVersionFile.exists()) {
+			throw new DuplicateFileException(fileNameVersionFile.getPath());
+		}
+
+		List<Chunk> chunks = new ArrayList<Chunk>();
+
+		try {
+			byte[] bytes = new byte[_CHUNK_SIZE];
+
+			while (true) {
+				int length = read(is, bytes);
+
+				if (length == 0) {
+					break;
+				}
+
+				String hash = DigesterUtil.digestHex(
+					Digester.SHA_256, ByteBuffer.wrap(bytes, 0, length));
+
+				Chunk chunk = new Chunk(hash, length);
+
+				updateReferenceCount(chunk, bytes, 1);
+
+				chunks.add(chunk);
+
+				if (length < bytes.length) {
+					break;
+				}
+			}
+
+			writeChunks(fileNameVersionFile, chunks);
+		}
+		catch (IOException ioe) {
+			releaseChunks(chunks);
+
+			throw new SystemException(ioe);
+		}
+	}
+
+	protected void collectChunks(File file, List<Chunk> chunks) {
+		if (file.isDirectory()) {
+			File[] files = file.listFiles();
+
+			if (files == null) {
+				return;
+			}
+
+			for (File childFile : files) {
+				collectChunks(childFile, chunks);
+			}
+
+			return;
+		}
+
+		if (!file.exists()) {
+			return;
+		}
+
+		try {
+			List<Chunk> fileChunks = readChunks(file);
+
+			if (fileChunks != null) {
+				chunks.addAll(fileChunks);
+			}
+		}
+		catch (IOException ioe) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to read the chunks of " + file.getPath() +
+						". They will not be released.",
+					ioe);
+			}
+		}
+	}
+
+	protected File getChunkFile(Chunk chunk) {
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(chunk._hash.substring(0, 2));
+		sb.append(StringPool.SLASH);
+		sb.append(chunk._hash.substring(2, 4));
+		sb.append(StringPool.SLASH);
+		sb.append(chunk._hash);
+
+		return new File(_chunksDir, sb.toString());
+	}
+
+	protected List<Chunk> getChunks(File fileNameVersionFile)
+		throws NoSuchFileException {
+
+		try {
+			return readChunks(fileNameVersionFile);
+		}
+		catch (IOException ioe) {
+			throw new NoSuchFileException(fileNameVersionFile.getPath(), ioe);
+		}
+	}
+
+	protected InputStream getChunksInputStream(List<Chunk> chunks)
+		throws FileNotFoundException {
+
+		for (Chunk chunk : chunks) {
+			File chunkFile = getChunkFile(chunk);
+
+			if (!chunkFile.exists()) {
+				throw new FileNotFoundException(chunkFile.getPath());
+			}
+		}
+
+		return new SequenceInputStream(new ChunkInputStreams(chunks));
+	}
+
+	protected int read(InputStream is, byte[] bytes) throws IOException {
+		int length = 0;
+
+		while (length < bytes.length) {
+			int count = is.read(bytes, length, bytes.length - length);
+
+			if (count == -1) {
+				break;
+			}
+
+			length += count;
+		}
+
+		return length;
+	}
+
+	protected List<Chunk> readChunks(File file) throws IOException {
+		if (file.length() < _MANIFEST_HEADER_BYTES.length) {
+			return null;
+		}
+
+		byte[] bytes = new byte[_MANIFEST_HEADER_BYTES.length];
+
+		InputStream inputStream = new FileInputStream(file);
+
+		try {
+			if ((read(inputStream, bytes) < bytes.length) ||
+				!_equals(bytes, _MANIFEST_HEADER_BYTES)) {
+
+				return null;
+			}
+		}
+		finally {
+			StreamUtil.cleanUp(inputStream);
+		}
+
+		String[] lines = StringUtil.splitLines(FileUtil.read(file));
+
+		List<Chunk> chunks = new ArrayList<Chunk>(lines.length - 1);
+
+		for (int i = 1; i < lines.length; i++) {
+			String line = lines[i];
+
+			int pos = line.indexOf(CharPool.SPACE);
+
+			if (pos == -1) {
+				throw new IOException(
+					"Invalid chunk " + line + " in " + file.getPath());
+			}
+
+			chunks.add(
+				new Chunk(
+					line.substring(0, pos),
+					GetterUtil.getInteger(line.substring(pos + 1))));
+		}
+
+		return chunks;
+	}
+
+	protected void releaseChunks(List<Chunk> chunks) {
+		for (Chunk chunk : chunks) {
+			try {
+				updateReferenceCount(chunk, null, -1);
+			}
+			catch (IOException ioe) {
+				if (_log.isWarnEnabled()) {
+					_log.warn("Unable to release chunk " + chunk._hash, ioe);
+				}
+			}
+		}
+	}
+
+	protected void updateReferenceCount(Chunk chunk, byte[] bytes, int delta)
+		throws IOException {
+
+		File chunkFile = getChunkFile(chunk);
+
+		File referenceCountFile = new File(
+			chunkFile.getPath() + _REFERENCE_COUNT_FILE_EXTENSION);
+
+		int index = Integer.parseInt(chunk._hash.substring(0, 2), 16);
+
+		synchronized (_locks[index & (_locks.length - 1)]) {
+			while (true) {
+				FileUtil.mkdirs(chunkFile.getParent());
+
+				RandomAccessFile randomAccessFile = new RandomAccessFile(
+					referenceCountFile, "rw");
+
+				try {
+					FileLock fileLock = randomAccessFile.getChannel().lock();
+
+					try {
+
+						// Another node may have deleted the reference count
+						// file while this one was waiting for the lock
+
+						if (!referenceCountFile.exists()) {
+							continue;
+						}
+
+						long referenceCount = 0;
+
+						if (randomAccessFile.length() >= 8) {
+							referenceCount = randomAccessFile.readLong();
+						}
+
+						if ((delta > 0) &&
+							(chunkFile.length() != chunk._length)) {
+
+							if (bytes == null) {
+								throw new FileNotFoundException(
+									chunkFile.getPath());
+							}
+
+							writeChunk(chunkFile, bytes, chunk._length);
+						}
+
+						referenceCount += delta;
+
+						if (referenceCount > 0) {
+							randomAccessFile.seek(0);
+							randomAccessFile.writeLong(referenceCount);
+						}
+						else {
+							chunkFile.delete();
+							referenceCountFile.delete();
+						}
+
+						return;
+					}
+					finally {
+						fileLock.release();
+					}
+				}
+				finally {
+					randomAccessFile.close();
+				}
+			}
+		}
+	}
+
+	protected void writeChunk(File chunkFile, byte[] bytes, int length)
+		throws IOException {
+
+		File tempFile = new File(chunkFile.getPath() + _TEMP_FILE_EXTENSION);
+
+		FileOutputStream fileOutputStream = new FileOutputStream(tempFile);
+
+		try {
+			fileOutputStream.write(bytes, 0, length);
+		}
+		finally {
+			fileOutputStream.close();
+		}
+
+		if (chunkFile.exists()) {
+			chunkFile.delete();
+		}
+
+		if (!tempFile.renameTo(chunkFile)) {
+			tempFile.delete();
+
+			throw new IOException(
+				"Unable to rename " + tempFile.getPath() + " to " +
+					chunkFile.getPath());
+		}
+	}
+
+	protected void writeChunks(File file, List<Chunk> chunks)
+		throws IOException {
+
+		StringBundler sb = new StringBundler(chunks.size() * 4 + 2);
+
+		sb.append(_MANIFEST_HEADER);
+		sb.append(StringPool.NEW_LINE);
+
+		for (Chunk chunk : chunks) {
+			sb.append(chunk._hash);
+			sb.append(StringPool.SPACE);
+			sb.append(chunk._length);
+			sb.append(StringPool.NEW_LINE);
+		}
+
+		FileUtil.write(file, sb.toString());
+	}
+
+	private static boolean _equals(byte[] bytes1, byte[] bytes2) {
+		for (int i = 0; i < bytes1.length; i++) {
+			if (bytes1[i] != bytes2[i]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static final int _CHUNK_SIZE =
+		PropsValues.DL_STORE_DEDUPLICATING_FILE_SYSTEM_CHUNK_SIZE;
+
+	private static final String _MANIFEST_HEADER = "#liferay-dl-chunks";
+
+	private static final byte[] _MANIFEST_HEADER_BYTES =
+		_MANIFEST_HEADER.getBytes();
+
+	private static final String _REFERENCE_COUNT_FILE_EXTENSION = ".refs";
+
+	private static final String _TEMP_FILE_EXTENSION = ".tmp";
+
+	private static Log _log = LogFactoryUtil.getLog(
+		DeduplicatingFileSystemStore.class);
+
+	private File _chunksDir = new File(
+		PropsValues.DL_STORE_FILE_SYSTEM_ROOT_DIR, "chunks");
+	private Object[] _locks = new Object[256];
+
+	private static class Chunk {
+
+		public Chunk(String hash, int length) {
+			_hash = hash;
+			_length = length;
+		}
+
+		private final String _hash;
+		private final int _length;
+
+	}
+
+	private class ChunkInputStreams implements Enumeration<InputStream> {
+
+		public ChunkInputStreams(List<Chunk> chunks) {
+			_iterator = chunks.iterator();
+		}
+
+		public boolean hasMoreElements() {
+			return _iterator.hasNext();
+		}
+
+		public InputStream nextElement() {
+			File chunkFile = getChunkFile(_iterator.next());
+
+			try {
+				return new FileInputStream(chunkFile);
+			}
+			catch (FileNotFoundException fnfe) {
+				throw new IllegalStateException(fnfe);
+			}
+		}
+
+		private Iterator<Chunk> _iterator;
+
+	}
+
+}
\ No newline at end of file
@@ -14,7 +14,6 @@
 
 package com.liferay.portlet.documentlibrary.util;
 
-import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.Property;
 import com.liferay.portal.kernel.dao.orm.PropertyFactoryUtil;
@@ -33,6 +32,7 @@ import com.liferay.portal.kernel.search.DocumentImpl;
 import com.liferay.portal.kernel.search.Field;
 import com.liferay.portal.kernel.search.Indexer;
 import com.liferay.portal.kernel.search.IndexerRegistryUtil;
+import com.liferay.portal.kernel.search.ReindexActionableDynamicQuery;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.search.SearchException;
@@ -51,7 +51,6 @@ import com.liferay.portal.security.permission.ActionKeys;
 import com.liferay.portal.security.permission.PermissionChecker;
 import com.liferay.portal.service.GroupLocalServiceUtil;
 import com.liferay.portal.service.RepositoryLocalServiceUtil;
-import com.liferay.portal.service.persistence.GroupActionableDynamicQuery;
 import com.liferay.portal.util.PortalUtil;
 import com.liferay.portal.util.PortletKeys;
 import com.liferay.portal.util.PrefsPropsUtil;
@@ -66,10 +65,9 @@ import com.liferay.portlet.documentlibrary.model.DLFolderConstants;
 import com.liferay.portlet.documentlibrary.service.DLFileEntryLocalServiceUtil;
 import com.liferay.portlet.documentlibrary.service.DLFileEntryMetadataLocalServiceUtil;
 import com.liferay.portlet.documentlibrary.service.DLFileEntryTypeLocalServiceUtil;
+import com.liferay.portlet.documentlibrary.service.DLFolderLocalServiceUtil;
 import com.liferay.portlet.documentlibrary.service.DLFolderServiceUtil;
 import com.liferay.portlet.documentlibrary.service.permission.DLFileEntryPermission;
-import com.liferay.portlet.documentlibrary.service.persistence.DLFileEntryActionableDynamicQuery;
-import com.liferay.portlet.documentlibrary.service.persistence.DLFolderActionableDynamicQuery;
 import com.liferay.portlet.dynamicdatamapping.StructureFieldException;
 import com.liferay.portlet.dynamicdatamapping.model.DDMStructure;
 import com.liferay.portlet.dynamicdatamapping.service.DDMStructureLocalServiceUtil;
@@ -86,8 +84,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Serializable;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -567,10 +563,10 @@ public class DLFileEntryIndexer extends BaseIndexer {
 			long companyId, final long groupId, final long dataRepositoryId)
 		throws PortalException, SystemException {
 
-		final Collection<Document> documents = new ArrayList<Document>();
-
-		ActionableDynamicQuery actionableDynamicQuery =
-			new DLFileEntryActionableDynamicQuery() {
+		ReindexActionableDynamicQuery reindexActionableDynamicQuery =
+			new ReindexActionableDynamicQuery(
+				DLFileEntryLocalServiceUtil.getService(), DLFileEntry.class,
+				"fileEntryId") {
 
 			@Override
 			protected void addCriteria(DynamicQuery dynamicQuery) {
@@ -589,25 +585,26 @@ public class DLFileEntryIndexer extends BaseIndexer {
 				Document document = getDocument(dlFileEntry);
 
 				if (document != null) {
-					documents.add(document);
+					addDocument(document);
 				}
 			}
 
 		};
 
-		actionableDynamicQuery.setGroupId(groupId);
-
-		actionableDynamicQuery.performActions();
+		reindexActionableDynamicQuery.setCompanyId(companyId);
+		reindexActionableDynamicQuery.setGroupId(groupId);
+		reindexActionableDynamicQuery.setSearchEngineId(getSearchEngineId());
 
-		SearchEngineUtil.updateDocuments(
-			getSearchEngineId(), companyId, documents);
+		reindexActionableDynamicQuery.performActions();
 	}
 
 	protected void reindexFolders(final long companyId)
 		throws PortalException, SystemException {
 
-		ActionableDynamicQuery actionableDynamicQuery =
-			new DLFolderActionableDynamicQuery() {
+		ReindexActionableDynamicQuery reindexActionableDynamicQuery =
+			new ReindexActionableDynamicQuery(
+				DLFolderLocalServiceUtil.getService(), DLFolder.class,
+				"folderId") {
 
 			@Override
 			protected void performAction(Object object) throws PortalException {
@@ -627,16 +624,22 @@ public class DLFileEntryIndexer extends BaseIndexer {
 
 		};
 
-		actionableDynamicQuery.setCompanyId(companyId);
+		Class<?> clazz = getClass();
 
-		actionableDynamicQuery.performActions();
+		reindexActionableDynamicQuery.setCheckpointName(
+			clazz.getName() + "#folders");
+		reindexActionableDynamicQuery.setCompanyId(companyId);
+		reindexActionableDynamicQuery.setParallel(true);
+
+		reindexActionableDynamicQuery.performActions();
 	}
 
 	protected void reindexRoot(final long companyId)
 		throws PortalException, SystemException {
 
-		ActionableDynamicQuery actionableDynamicQuery =
-			new GroupActionableDynamicQuery() {
+		ReindexActionableDynamicQuery reindexActionableDynamicQuery =
+			new ReindexActionableDynamicQuery(
+				GroupLocalServiceUtil.getService(), Group.class, "groupId") {
 
 			@Override
 			protected void performAction(Object object) throws PortalException {
@@ -656,9 +659,14 @@ public class DLFileEntryIndexer extends BaseIndexer {
 
 		};
 
-		actionableDynamicQuery.setCompanyId(companyId);
+		Class<?> clazz = getClass();
+
+		reindexActionableDynamicQuery.setCheckpointName(
+			clazz.getName() + "#root");
+		reindexActionableDynamicQuery.setCompanyId(companyId);
+		reindexActionableDynamicQuery.setParallel(true);
 
-		actionableDynamicQuery.performActions();
+		reindexActionableDynamicQuery.performActions();
 	}
 
 	private static Log _log = LogFactoryUtil.getLog(DLFileEntryIndexer.class);
@@ -16,6 +16,7 @@ package com.liferay.portlet.journal.model;
 
 import com.liferay.portal.model.BaseModelListener;
 import com.liferay.portal.servlet.filters.cache.CacheUtil;
+import com.liferay.portlet.asset.model.AssetEntry;
 import com.liferay.portlet.journalcontent.util.JournalContentUtil;
 
 /**
@@ -43,7 +44,10 @@ public class JournalArticleListener extends BaseModelListener<JournalArticle> {
 
 		// Layout cache
 
-		CacheUtil.clearCache(article.getCompanyId());
+		CacheUtil.clearCache(
+			JournalArticle.class.getName(), article.getResourcePrimKey());
+		CacheUtil.clearCache(AssetEntry.class.getName(), article.getGroupId());
+		CacheUtil.clearCache(AssetEntry.class.getName(), 0);
 	}
 
 }
\ No newline at end of file
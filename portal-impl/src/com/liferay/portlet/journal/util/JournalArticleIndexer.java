@@ -14,7 +14,6 @@
 
 package com.liferay.portlet.journal.util;
 
-import com.liferay.portal.kernel.dao.orm.ActionableDynamicQuery;
 import com.liferay.portal.kernel.dao.orm.DynamicQuery;
 import com.liferay.portal.kernel.dao.orm.Junction;
 import com.liferay.portal.kernel.dao.orm.Property;
@@ -29,6 +28,7 @@ import com.liferay.portal.kernel.search.BooleanQueryFactoryUtil;
 import com.liferay.portal.kernel.search.Document;
 import com.liferay.portal.kernel.search.DocumentImpl;
 import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.ReindexActionableDynamicQuery;
 import com.liferay.portal.kernel.search.SearchContext;
 import com.liferay.portal.kernel.search.SearchEngineUtil;
 import com.liferay.portal.kernel.search.Summary;
@@ -58,13 +58,10 @@ import com.liferay.portlet.journal.model.JournalFolderConstants;
 import com.liferay.portlet.journal.service.JournalArticleLocalServiceUtil;
 import com.liferay.portlet.journal.service.JournalFolderServiceUtil;
 import com.liferay.portlet.journal.service.permission.JournalArticlePermission;
-import com.liferay.portlet.journal.service.persistence.JournalArticleActionableDynamicQuery;
 import com.liferay.portlet.trash.util.TrashUtil;
 
 import java.io.Serializable;
 
-import java.util.ArrayList;
-import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -561,10 +558,10 @@ public class JournalArticleIndexer extends BaseIndexer {
 	protected void reindexArticles(long companyId)
 		throws PortalException, SystemException {
 
-		final Collection<Document> documents = new ArrayList<Document>();
-
-		ActionableDynamicQuery actionableDynamicQuery =
-			new JournalArticleActionableDynamicQuery() {
+		ReindexActionableDynamicQuery reindexActionableDynamicQuery =
+			new ReindexActionableDynamicQuery(
+				JournalArticleLocalServiceUtil.getService(),
+				JournalArticle.class, "id") {
 
 			@Override
 			protected void addCriteria(DynamicQuery dynamicQuery) {
@@ -622,17 +619,20 @@ public class JournalArticleIndexer extends BaseIndexer {
 
 				Document document = getDocument(article);
 
-				documents.add(document);
+				addDocument(document);
 			}
 
 		};
 
-		actionableDynamicQuery.setCompanyId(companyId);
+		Class<?> clazz = getClass();
 
-		actionableDynamicQuery.performActions();
+		reindexActionableDynamicQuery.setCheckpointName(
+			clazz.getName() + "#articles");
+		reindexActionableDynamicQuery.setCompanyId(companyId);
+		reindexActionableDynamicQuery.setParallel(true);
+		reindexActionableDynamicQuery.setSearchEngineId(getSearchEngineId());
 
-		SearchEngineUtil.updateDocuments(
-			getSearchEngineId(), companyId, documents);
+		reindexActionableDynamicQuery.performActions();
 	}
 
 }
\ No newline at end of file
@@ -27,10 +27,15 @@ import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.model.Layout;
 import com.liferay.portal.model.LayoutSet;
 import com.liferay.portal.security.permission.ActionKeys;
+import com.liferay.portal.servlet.filters.cache.CacheUtil;
 import com.liferay.portal.theme.ThemeDisplay;
 import com.liferay.portal.util.PropsValues;
+import com.liferay.portlet.asset.model.AssetEntry;
+import com.liferay.portlet.journal.model.JournalArticle;
 import com.liferay.portlet.journal.model.JournalArticleDisplay;
+import com.liferay.portlet.journal.model.JournalArticleResource;
 import com.liferay.portlet.journal.service.JournalArticleLocalServiceUtil;
+import com.liferay.portlet.journal.service.JournalArticleResourceLocalServiceUtil;
 import com.liferay.portlet.journal.service.permission.JournalArticlePermission;
 
 import java.util.regex.Matcher;
@@ -147,6 +152,29 @@ public class JournalContentImpl implements JournalContent {
 			groupId, articleId, version, ddmTemplateKey, layoutSetId, viewMode,
 			languageId, page, secure);
 
+		// The article is recorded before it is read so that a change made
+		// while it is read still invalidates the cached page. An article that
+		// does not exist yet is tracked by its group.
+
+		JournalArticleResource articleResource = null;
+
+		try {
+			articleResource =
+				JournalArticleResourceLocalServiceUtil.fetchArticleResource(
+					groupId, articleId);
+		}
+		catch (Exception e) {
+		}
+
+		if (articleResource != null) {
+			CacheUtil.addSurrogateKey(
+				JournalArticle.class.getName(),
+				articleResource.getResourcePrimKey());
+		}
+		else {
+			CacheUtil.addSurrogateKey(AssetEntry.class.getName(), groupId);
+		}
+
 		JournalArticleDisplay articleDisplay = portalCache.get(key);
 
 		boolean lifecycleRender = isLifecycleRender(themeDisplay, xmlRequest);
@@ -21,6 +21,15 @@ import com.liferay.portal.service.ServiceTestUtil;
 import com.liferay.portal.test.EnvironmentExecutionTestListener;
 import com.liferay.portal.test.LiferayIntegrationJUnitTestRunner;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -45,4 +54,57 @@ public class CounterLocalServiceTest {
 		Assert.assertTrue(ServiceTestUtil.nextLong() > counterValue);
 	}
 
+	@Test
+	public void testIncrementConcurrently() throws Exception {
+		final String name = CounterLocalServiceTest.class.getName();
+
+		// Use up several ranges so that ranges are prefetched and resized
+		// while the threads increment
+
+		List<Callable<long[]>> callables = new ArrayList<Callable<long[]>>();
+
+		for (int i = 0; i < _THREAD_COUNT; i++) {
+			Callable<long[]> callable = new Callable<long[]>() {
+
+				@Override
+				public long[] call() throws Exception {
+					long[] counterValues = new long[_INCREMENT_COUNT];
+
+					for (int j = 0; j < _INCREMENT_COUNT; j++) {
+						counterValues[j] = CounterLocalServiceUtil.increment(
+							name);
+					}
+
+					return counterValues;
+				}
+
+			};
+
+			callables.add(callable);
+		}
+
+		ExecutorService executorService = Executors.newFixedThreadPool(
+			_THREAD_COUNT);
+
+		Set<Long> counterValues = new HashSet<Long>();
+
+		try {
+			for (Future<long[]> future : executorService.invokeAll(callables)) {
+				for (long counterValue : future.get()) {
+					Assert.assertTrue(counterValues.add(counterValue));
+				}
+			}
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+
+		Assert.assertEquals(
+			_THREAD_COUNT * _INCREMENT_COUNT, counterValues.size());
+	}
+
+	private static final int _INCREMENT_COUNT = 10000;
+
+	private static final int _THREAD_COUNT = 8;
+
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.lar;
+
+import com.liferay.portal.kernel.lar.PortletDataHandlerKeys;
+import com.liferay.portal.kernel.test.ExecutionTestListeners;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.xml.Document;
+import com.liferay.portal.kernel.xml.Element;
+import com.liferay.portal.kernel.xml.SAXReaderUtil;
+import com.liferay.portal.kernel.zip.ZipReader;
+import com.liferay.portal.kernel.zip.ZipReaderFactoryUtil;
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.service.LayoutLocalServiceUtil;
+import com.liferay.portal.service.ServiceTestUtil;
+import com.liferay.portal.test.LiferayIntegrationJUnitTestRunner;
+import com.liferay.portal.test.MainServletExecutionTestListener;
+import com.liferay.portal.util.LayoutTestUtil;
+import com.liferay.portal.util.PortletKeys;
+import com.liferay.portal.util.PropsValues;
+import com.liferay.portal.util.TestPropsValues;
+import com.liferay.portlet.journal.model.JournalArticle;
+import com.liferay.portlet.journal.util.JournalTestUtil;
+
+import java.io.File;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@ExecutionTestListeners(listeners = {MainServletExecutionTestListener.class})
+@RunWith(LiferayIntegrationJUnitTestRunner.class)
+public class LayoutExporterTest extends BasePortletExportImportTestCase {
+
+	@Test
+	public void testParallelExport() throws Exception {
+		JournalArticle journalArticle = JournalTestUtil.addArticle(
+			group.getGroupId(), ServiceTestUtil.randomString(),
+			ServiceTestUtil.randomString());
+
+		Map<String, String[]> preferenceMap = new HashMap<String, String[]>();
+
+		preferenceMap.put(
+			"articleId", new String[] {journalArticle.getArticleId()});
+		preferenceMap.put(
+			"groupId", new String[] {String.valueOf(group.getGroupId())});
+
+		Layout secondLayout = LayoutTestUtil.addLayout(
+			group.getGroupId(), ServiceTestUtil.randomString());
+
+		// Both journal content portlets reference the same article
+
+		for (Layout curLayout : new Layout[] {layout, secondLayout}) {
+			LayoutTestUtil.addPortletToLayout(
+				TestPropsValues.getUserId(), curLayout,
+				PortletKeys.ASSET_PUBLISHER, "column-1",
+				new HashMap<String, String[]>());
+			LayoutTestUtil.addPortletToLayout(
+				TestPropsValues.getUserId(), curLayout,
+				PortletKeys.JOURNAL_CONTENT, "column-1", preferenceMap);
+		}
+
+		Map<String, String[]> parameterMap = new HashMap<String, String[]>();
+
+		parameterMap.put(
+			PortletDataHandlerKeys.CATEGORIES,
+			new String[] {Boolean.TRUE.toString()});
+		parameterMap.put(
+			PortletDataHandlerKeys.PORTLET_DATA,
+			new String[] {Boolean.TRUE.toString()});
+		parameterMap.put(
+			PortletDataHandlerKeys.PORTLET_DATA_ALL,
+			new String[] {Boolean.TRUE.toString()});
+		parameterMap.put(
+			PortletDataHandlerKeys.PORTLET_SETUP,
+			new String[] {Boolean.TRUE.toString()});
+
+		boolean parallelEnabled =
+			PropsValues.STAGING_EXPORT_PORTLETS_PARALLEL_ENABLED;
+
+		File parallelLARFile = null;
+
+		try {
+			PropsValues.STAGING_EXPORT_PORTLETS_PARALLEL_ENABLED = false;
+
+			larFile = LayoutLocalServiceUtil.exportLayoutsAsFile(
+				group.getGroupId(), false, null, parameterMap, null, null);
+
+			PropsValues.STAGING_EXPORT_PORTLETS_PARALLEL_ENABLED = true;
+
+			parallelLARFile = LayoutLocalServiceUtil.exportLayoutsAsFile(
+				group.getGroupId(), false, null, parameterMap, null, null);
+
+			ZipReader zipReader = ZipReaderFactoryUtil.getZipReader(larFile);
+			ZipReader parallelZipReader = ZipReaderFactoryUtil.getZipReader(
+				parallelLARFile);
+
+			try {
+				Assert.assertEquals(
+					new TreeSet<String>(zipReader.getEntries()),
+					new TreeSet<String>(parallelZipReader.getEntries()));
+				Assert.assertEquals(
+					getManifest(zipReader), getManifest(parallelZipReader));
+			}
+			finally {
+				zipReader.close();
+				parallelZipReader.close();
+			}
+		}
+		finally {
+			PropsValues.STAGING_EXPORT_PORTLETS_PARALLEL_ENABLED =
+				parallelEnabled;
+
+			if (parallelLARFile != null) {
+				FileUtil.delete(parallelLARFile);
+			}
+
+			LayoutLocalServiceUtil.deleteLayout(secondLayout);
+		}
+	}
+
+	protected String getManifest(ZipReader zipReader) throws Exception {
+		Document document = SAXReaderUtil.read(
+			zipReader.getEntryAsString("/manifest.xml"));
+
+		Element rootElement = document.getRootElement();
+
+		Element headerElement = rootElement.element("header");
+
+		headerElement.remove(headerElement.attribute("export-date"));
+
+		return document.formattedString();
+	}
+
+}
\ No newline at end of file
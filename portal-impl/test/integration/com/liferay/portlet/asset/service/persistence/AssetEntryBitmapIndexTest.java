@@ -0,0 +1,299 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portlet.asset.service.persistence;
+
+import com.liferay.portal.kernel.test.ExecutionTestListeners;
+import com.liferay.portal.kernel.util.CentralizedThreadLocal;
+import com.liferay.portal.model.Group;
+import com.liferay.portal.service.GroupLocalServiceUtil;
+import com.liferay.portal.service.ServiceContext;
+import com.liferay.portal.service.ServiceTestUtil;
+import com.liferay.portal.test.LiferayIntegrationJUnitTestRunner;
+import com.liferay.portal.test.MainServletExecutionTestListener;
+import com.liferay.portal.test.Sync;
+import com.liferay.portal.test.SynchronousDestinationExecutionTestListener;
+import com.liferay.portal.util.GroupTestUtil;
+import com.liferay.portal.util.TestPropsValues;
+import com.liferay.portlet.asset.model.AssetCategory;
+import com.liferay.portlet.asset.model.AssetEntry;
+import com.liferay.portlet.asset.model.AssetVocabulary;
+import com.liferay.portlet.asset.service.AssetCategoryLocalServiceUtil;
+import com.liferay.portlet.asset.service.AssetEntryLocalServiceUtil;
+import com.liferay.portlet.asset.service.AssetTagLocalServiceUtil;
+import com.liferay.portlet.asset.service.AssetVocabularyLocalServiceUtil;
+import com.liferay.portlet.blogs.util.BlogsTestUtil;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that the bitmap index matches the same entries as the SQL joins
+ * it replaces. The entries are committed, because the index only contains
+ * committed rows.
+ */
+@ExecutionTestListeners(
+	listeners = {
+		MainServletExecutionTestListener.class,
+		SynchronousDestinationExecutionTestListener.class
+	})
+@RunWith(LiferayIntegrationJUnitTestRunner.class)
+@Sync
+public class AssetEntryBitmapIndexTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_group = GroupTestUtil.addGroup();
+
+		ServiceContext serviceContext = ServiceTestUtil.getServiceContext(
+			_group.getGroupId());
+
+		AssetVocabulary vocabulary =
+			AssetVocabularyLocalServiceUtil.addVocabulary(
+				TestPropsValues.getUserId(), ServiceTestUtil.randomString(),
+				serviceContext);
+
+		long[] categoryIds = new long[3];
+
+		for (int i = 0; i < categoryIds.length; i++) {
+			AssetCategory category = AssetCategoryLocalServiceUtil.addCategory(
+				TestPropsValues.getUserId(), ServiceTestUtil.randomString(),
+				vocabulary.getVocabularyId(), serviceContext);
+
+			categoryIds[i] = category.getCategoryId();
+		}
+
+		_categoryIdsArray = new long[][] {
+			{categoryIds[0]}, {categoryIds[0], categoryIds[1]},
+			{categoryIds[0], categoryIds[2]}, {categoryIds[1], categoryIds[2]}
+		};
+
+		addEntry(
+			new long[] {categoryIds[0], categoryIds[1]},
+			new String[] {"alpha", "beta"}, true);
+		addEntry(new long[] {categoryIds[1]}, new String[] {"beta"}, true);
+		addEntry(
+			new long[] {categoryIds[0], categoryIds[2]},
+			new String[] {"gamma"}, true);
+		addEntry(new long[] {categoryIds[2]}, new String[] {"alpha"}, false);
+		addEntry(new long[0], new String[0], true);
+
+		long[] tagIds = AssetTagLocalServiceUtil.getTagIds(
+			_group.getGroupId(), new String[] {"alpha", "beta", "gamma"});
+
+		_tagIdsArray = new long[][] {
+			{tagIds[0]}, {tagIds[0], tagIds[1]}, {tagIds[0], tagIds[2]},
+			{tagIds[1], tagIds[2]}
+		};
+
+		// Adding the entries marked the group as changed by this thread
+
+		CentralizedThreadLocal.clearShortLivedThreadLocals();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		GroupLocalServiceUtil.deleteGroup(_group);
+
+		CentralizedThreadLocal.clearShortLivedThreadLocals();
+	}
+
+	@Test
+	public void testCategories() throws Exception {
+		for (long[] categoryIds : _categoryIdsArray) {
+			for (int i = 0; i < 4; i++) {
+				AssetEntryQuery assetEntryQuery = getAssetEntryQuery();
+
+				setCategoryIds(assetEntryQuery, categoryIds, i);
+
+				assertEntryIds(assetEntryQuery);
+			}
+		}
+	}
+
+	@Test
+	public void testCategoriesAndTags() throws Exception {
+		for (int i = 0; i < 4; i++) {
+			for (int j = 0; j < 4; j++) {
+				AssetEntryQuery assetEntryQuery = getAssetEntryQuery();
+
+				setCategoryIds(assetEntryQuery, _categoryIdsArray[i], j);
+				setTagIds(assetEntryQuery, _tagIdsArray[i], 3 - j);
+
+				assertEntryIds(assetEntryQuery);
+			}
+		}
+	}
+
+	@Test
+	public void testChangedEntries() throws Exception {
+		assertEntryIds(getAssetEntryQuery());
+
+		addEntry(_categoryIdsArray[1], new String[] {"gamma"}, true);
+
+		Assert.assertNull(
+			AssetEntryBitmapIndexUtil.getAssetEntryBitmapIndex(
+				_group.getGroupId()));
+
+		CentralizedThreadLocal.clearShortLivedThreadLocals();
+
+		for (int i = 0; i < 4; i++) {
+			AssetEntryQuery assetEntryQuery = getAssetEntryQuery();
+
+			setCategoryIds(assetEntryQuery, _categoryIdsArray[1], i);
+
+			assertEntryIds(assetEntryQuery);
+		}
+	}
+
+	@Test
+	public void testTags() throws Exception {
+		for (long[] tagIds : _tagIdsArray) {
+			for (int i = 0; i < 4; i++) {
+				AssetEntryQuery assetEntryQuery = getAssetEntryQuery();
+
+				setTagIds(assetEntryQuery, tagIds, i);
+
+				assertEntryIds(assetEntryQuery);
+			}
+		}
+	}
+
+	@Test
+	public void testVisible() throws Exception {
+		AssetEntryQuery assetEntryQuery = getAssetEntryQuery();
+
+		assertEntryIds(assetEntryQuery);
+
+		assetEntryQuery.setVisible(null);
+
+		assertEntryIds(assetEntryQuery);
+
+		assetEntryQuery.setVisible(Boolean.FALSE);
+
+		assertEntryIds(assetEntryQuery);
+	}
+
+	protected void addEntry(
+			long[] assetCategoryIds, String[] assetTagNames, boolean approved)
+		throws Exception {
+
+		ServiceContext serviceContext = ServiceTestUtil.getServiceContext(
+			_group.getGroupId());
+
+		serviceContext.setAssetCategoryIds(assetCategoryIds);
+		serviceContext.setAssetTagNames(assetTagNames);
+
+		BlogsTestUtil.addEntry(
+			TestPropsValues.getUserId(), ServiceTestUtil.randomString(),
+			approved, serviceContext);
+	}
+
+	protected void assertEntryIds(AssetEntryQuery assetEntryQuery)
+		throws Exception {
+
+		// The bitmap index is disabled by default, so the finder uses SQL
+
+		List<AssetEntry> assetEntries = AssetEntryLocalServiceUtil.getEntries(
+			assetEntryQuery);
+
+		long[] expectedEntryIds = new long[assetEntries.size()];
+
+		for (int i = 0; i < expectedEntryIds.length; i++) {
+			AssetEntry assetEntry = assetEntries.get(i);
+
+			expectedEntryIds[i] = assetEntry.getEntryId();
+		}
+
+		AssetEntryBitmapIndex assetEntryBitmapIndex =
+			AssetEntryBitmapIndexUtil.getAssetEntryBitmapIndex(
+				_group.getGroupId());
+
+		Assert.assertNotNull(assetEntryBitmapIndex);
+
+		AssetEntryFinderImpl assetEntryFinderImpl = new AssetEntryFinderImpl();
+
+		long[] actualEntryIds = assetEntryBitmapIndex.getEntryIds(
+			assetEntryQuery,
+			assetEntryFinderImpl.getTreeCategoryIdsArray(
+				assetEntryQuery.getAllCategoryIds()),
+			assetEntryFinderImpl.getTreeCategoryIds(
+				assetEntryQuery.getAnyCategoryIds()),
+			assetEntryFinderImpl.getTreeCategoryIdsArray(
+				assetEntryQuery.getNotAllCategoryIds()),
+			assetEntryFinderImpl.getTreeCategoryIds(
+				assetEntryQuery.getNotAnyCategoryIds()));
+
+		Arrays.sort(expectedEntryIds);
+		Arrays.sort(actualEntryIds);
+
+		Assert.assertArrayEquals(expectedEntryIds, actualEntryIds);
+		Assert.assertEquals(
+			AssetEntryLocalServiceUtil.getEntriesCount(assetEntryQuery),
+			actualEntryIds.length);
+	}
+
+	protected AssetEntryQuery getAssetEntryQuery() {
+		AssetEntryQuery assetEntryQuery = new AssetEntryQuery();
+
+		assetEntryQuery.setGroupIds(new long[] {_group.getGroupId()});
+
+		return assetEntryQuery;
+	}
+
+	protected void setCategoryIds(
+		AssetEntryQuery assetEntryQuery, long[] categoryIds, int type) {
+
+		if (type == 0) {
+			assetEntryQuery.setAllCategoryIds(categoryIds);
+		}
+		else if (type == 1) {
+			assetEntryQuery.setAnyCategoryIds(categoryIds);
+		}
+		else if (type == 2) {
+			assetEntryQuery.setNotAllCategoryIds(categoryIds);
+		}
+		else {
+			assetEntryQuery.setNotAnyCategoryIds(categoryIds);
+		}
+	}
+
+	protected void setTagIds(
+		AssetEntryQuery assetEntryQuery, long[] tagIds, int type) {
+
+		if (type == 0) {
+			assetEntryQuery.setAllTagIds(tagIds);
+		}
+		else if (type == 1) {
+			assetEntryQuery.setAnyTagIds(tagIds);
+		}
+		else if (type == 2) {
+			assetEntryQuery.setNotAllTagIds(tagIds);
+		}
+		else {
+			assetEntryQuery.setNotAnyTagIds(tagIds);
+		}
+	}
+
+	private long[][] _categoryIdsArray;
+	private Group _group;
+	private long[][] _tagIdsArray;
+
+}
\ No newline at end of file
@@ -0,0 +1,272 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+
+package com.liferay.portlet.documentlibrary.store;
+
+import com.liferay.portal.kernel.test.ExecutionTestListeners;
+import com.liferay.portal.kernel.util.Digester;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.service.ServiceTestUtil;
+import com.liferay.portal.test.EnvironmentExecutionTestListener;
+import com.liferay.portal.test.LiferayIntegrationJUnitTestRunner;
+import com.liferay.portal.util.PropsValues;
+import com.liferay.portlet.documentlibrary.NoSuchDirectoryException;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import java.nio.ByteBuffer;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@ExecutionTestListeners(listeners = {EnvironmentExecutionTestListener.class})
+@RunWith(LiferayIntegrationJUnitTestRunner.class)
+public class DeduplicatingFileSystemStoreTest {
+
+	@Before
+	public void setUp() throws Exception {
+		_companyId = ServiceTestUtil.nextLong();
+		_repositoryId = ServiceTestUtil.nextLong();
+	}
+
+	@After
+	public void tearDown() throws Exception {
+		try {
+			_store.deleteDirectory(_companyId, _repositoryId, StringPool.BLANK);
+		}
+		catch (NoSuchDirectoryException nsde) {
+		}
+	}
+
+	@Test
+	public void testAddFileWithSameContent() throws Exception {
+		byte[] bytes = getBytes(_DATA_SIZE);
+
+		_store.addFile(_companyId, _repositoryId, "1.txt", bytes);
+		_store.addFile(_companyId, _repositoryId, "2.txt", bytes);
+
+		File chunkFile = getChunkFile(bytes, 0, bytes.length);
+
+		Assert.assertTrue(chunkFile.exists());
+		Assert.assertEquals(bytes.length, chunkFile.length());
+		Assert.assertEquals(2, getReferenceCount(chunkFile));
+
+		Assert.assertArrayEquals(
+			bytes, _store.getFileAsBytes(_companyId, _repositoryId, "1.txt"));
+		Assert.assertArrayEquals(
+			bytes, _store.getFileAsBytes(_companyId, _repositoryId, "2.txt"));
+	}
+
+	@Test
+	public void testCopyFileVersion() throws Exception {
+		byte[] bytes = getBytes(_DATA_SIZE);
+
+		_store.addFile(_companyId, _repositoryId, _FILE_NAME, bytes);
+
+		File chunkFile = getChunkFile(bytes, 0, bytes.length);
+
+		Assert.assertEquals(1, getReferenceCount(chunkFile));
+
+		_store.copyFileVersion(
+			_companyId, _repositoryId, _FILE_NAME, Store.VERSION_DEFAULT,
+			"1.1");
+
+		Assert.assertEquals(2, getReferenceCount(chunkFile));
+		Assert.assertArrayEquals(
+			bytes,
+			_store.getFileAsBytes(
+				_companyId, _repositoryId, _FILE_NAME, "1.1"));
+	}
+
+	@Test
+	public void testDeleteFile() throws Exception {
+		byte[] bytes = getBytes(_DATA_SIZE);
+
+		_store.addFile(_companyId, _repositoryId, _FILE_NAME, bytes);
+		_store.updateFile(_companyId, _repositoryId, _FILE_NAME, "1.1", bytes);
+
+		File chunkFile = getChunkFile(bytes, 0, bytes.length);
+
+		Assert.assertEquals(2, getReferenceCount(chunkFile));
+
+		_store.deleteFile(_companyId, _repositoryId, _FILE_NAME);
+
+		Assert.assertFalse(chunkFile.exists());
+		Assert.assertFalse(getReferenceCountFile(chunkFile).exists());
+	}
+
+	@Test
+	public void testDeleteFileVersion() throws Exception {
+		byte[] bytes = getBytes(_DATA_SIZE);
+
+		_store.addFile(_companyId, _repositoryId, _FILE_NAME, bytes);
+		_store.updateFile(_companyId, _repositoryId, _FILE_NAME, "1.1", bytes);
+
+		_store.deleteFile(
+			_companyId, _repositoryId, _FILE_NAME, Store.VERSION_DEFAULT);
+
+		File chunkFile = getChunkFile(bytes, 0, bytes.length);
+
+		Assert.assertTrue(chunkFile.exists());
+		Assert.assertEquals(1, getReferenceCount(chunkFile));
+		Assert.assertArrayEquals(
+			bytes,
+			_store.getFileAsBytes(
+				_companyId, _repositoryId, _FILE_NAME, "1.1"));
+
+		_store.deleteFile(_companyId, _repositoryId, _FILE_NAME, "1.1");
+
+		Assert.assertFalse(chunkFile.exists());
+		Assert.assertFalse(getReferenceCountFile(chunkFile).exists());
+	}
+
+	@Test
+	public void testGetFileWithPlainFile() throws Exception {
+		byte[] bytes = getBytes(_DATA_SIZE);
+
+		Store fileSystemStore = new FileSystemStore();
+
+		fileSystemStore.addFile(_companyId, _repositoryId, _FILE_NAME, bytes);
+
+		Assert.assertArrayEquals(
+			bytes,
+			_store.getFileAsBytes(_companyId, _repositoryId, _FILE_NAME));
+		Assert.assertEquals(
+			bytes.length,
+			_store.getFileSize(_companyId, _repositoryId, _FILE_NAME));
+
+		_store.updateFile(_companyId, _repositoryId, _FILE_NAME, "1.1", bytes);
+
+		Assert.assertEquals(
+			1, getReferenceCount(getChunkFile(bytes, 0, bytes.length)));
+		Assert.assertArrayEquals(
+			bytes,
+			_store.getFileAsBytes(
+				_companyId, _repositoryId, _FILE_NAME, Store.VERSION_DEFAULT));
+	}
+
+	@Test
+	public void testGetFileWithSeveralChunks() throws Exception {
+		int chunkSize =
+			PropsValues.DL_STORE_DEDUPLICATING_FILE_SYSTEM_CHUNK_SIZE;
+
+		byte[] bytes = getBytes(chunkSize * 2 + _DATA_SIZE);
+
+		_store.addFile(_companyId, _repositoryId, _FILE_NAME, bytes);
+
+		Assert.assertTrue(getChunkFile(bytes, 0, chunkSize).exists());
+		Assert.assertTrue(getChunkFile(bytes, chunkSize, chunkSize).exists());
+		Assert.assertTrue(
+			getChunkFile(bytes, chunkSize * 2, _DATA_SIZE).exists());
+
+		Assert.assertArrayEquals(
+			bytes,
+			_store.getFileAsBytes(_companyId, _repositoryId, _FILE_NAME));
+		Assert.assertEquals(
+			bytes.length,
+			_store.getFileSize(_companyId, _repositoryId, _FILE_NAME));
+
+		File file = _store.getFile(_companyId, _repositoryId, _FILE_NAME);
+
+		Assert.assertEquals(bytes.length, file.length());
+	}
+
+	@Test
+	public void testUpdateFileWithSameContent() throws Exception {
+		byte[] bytes = getBytes(_DATA_SIZE);
+
+		_store.addFile(_companyId, _repositoryId, _FILE_NAME, bytes);
+		_store.updateFile(_companyId, _repositoryId, _FILE_NAME, "1.1", bytes);
+
+		File chunkFile = getChunkFile(bytes, 0, bytes.length);
+
+		Assert.assertEquals(2, getReferenceCount(chunkFile));
+
+		byte[] updatedBytes = Arrays.copyOf(bytes, bytes.length);
+
+		updatedBytes[0]++;
+
+		_store.updateFile(
+			_companyId, _repositoryId, _FILE_NAME, "1.2", updatedBytes);
+
+		Assert.assertEquals(2, getReferenceCount(chunkFile));
+		Assert.assertEquals(
+			1,
+			getReferenceCount(
+				getChunkFile(updatedBytes, 0, updatedBytes.length)));
+	}
+
+	protected byte[] getBytes(int length) {
+		byte[] bytes = new byte[length];
+
+		_random.nextBytes(bytes);
+
+		return bytes;
+	}
+
+	protected File getChunkFile(byte[] bytes, int offset, int length) {
+		String hash = DigesterUtil.digestHex(
+			Digester.SHA_256, ByteBuffer.wrap(bytes, offset, length));
+
+		StringBundler sb = new StringBundler(6);
+
+		sb.append("chunks/");
+		sb.append(hash.substring(0, 2));
+		sb.append(StringPool.SLASH);
+		sb.append(hash.substring(2, 4));
+		sb.append(StringPool.SLASH);
+		sb.append(hash);
+
+		return new File(
+			PropsValues.DL_STORE_FILE_SYSTEM_ROOT_DIR, sb.toString());
+	}
+
+	protected long getReferenceCount(File chunkFile) throws Exception {
+		RandomAccessFile randomAccessFile = new RandomAccessFile(
+			getReferenceCountFile(chunkFile), "r");
+
+		try {
+			return randomAccessFile.readLong();
+		}
+		finally {
+			randomAccessFile.close();
+		}
+	}
+
+	protected File getReferenceCountFile(File chunkFile) {
+		return new File(chunkFile.getPath() + ".refs");
+	}
+
+	private static final int _DATA_SIZE = 100;
+
+	private static final String _FILE_NAME = "test.txt";
+
+	private static Random _random = new Random();
+	private static DeduplicatingFileSystemStore _store =
+		new DeduplicatingFileSystemStore();
+
+	private long _companyId;
+	private long _repositoryId;
+
+}
\ No newline at end of file
@@ -0,0 +1,498 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.cluster;
+
+import com.liferay.portal.cache.ehcache.EhcachePortalCache;
+import com.liferay.portal.kernel.cache.PortalCache;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterEvent;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLink;
+import com.liferay.portal.kernel.cache.cluster.PortalCacheClusterLinkUtil;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayInputStream;
+import com.liferay.portal.kernel.io.unsync.UnsyncByteArrayOutputStream;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.sf.ehcache.CacheManager;
+import net.sf.ehcache.Ehcache;
+import net.sf.ehcache.config.CacheConfiguration;
+import net.sf.ehcache.config.Configuration;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class VersionedCacheUtilTest {
+
+	@Before
+	public void setUp() {
+		Configuration configuration = new Configuration();
+
+		configuration.setDefaultCacheConfiguration(new CacheConfiguration());
+		configuration.setName(VersionedCacheUtilTest.class.getName());
+		configuration.setUpdateCheck(false);
+
+		_cacheManager = new CacheManager(configuration);
+
+		for (int i = 0; i < 3; i++) {
+			_nodes.add(new Node(_cacheManager, "node" + i));
+		}
+
+		PortalCacheClusterLinkUtil portalCacheClusterLinkUtil =
+			new PortalCacheClusterLinkUtil();
+
+		portalCacheClusterLinkUtil.setPortalCacheClusterLink(
+			new MockPortalCacheClusterLink());
+	}
+
+	@After
+	public void tearDown() {
+		PortalCacheClusterLinkUtil portalCacheClusterLinkUtil =
+			new PortalCacheClusterLinkUtil();
+
+		portalCacheClusterLinkUtil.setPortalCacheClusterLink(null);
+
+		_cacheManager.shutdown();
+	}
+
+	@Test
+	public void testConvergence() throws Exception {
+		final int writeCount = 2000;
+
+		final CountDownLatch startCountDownLatch = new CountDownLatch(1);
+		final CountDownLatch writeCountDownLatch = new CountDownLatch(
+			_nodes.size());
+
+		final List<Throwable> throwables = Collections.synchronizedList(
+			new ArrayList<Throwable>());
+
+		List<Thread> threads = new ArrayList<Thread>();
+
+		for (int i = 0; i < _nodes.size(); i++) {
+			final Node node = _nodes.get(i);
+			final Random random = new Random(i);
+
+			threads.add(
+				new Thread() {
+
+					@Override
+					public void run() {
+						try {
+							startCountDownLatch.await();
+
+							for (int i = 0; i < writeCount; i++) {
+								String value = null;
+
+								if (random.nextInt(5) > 0) {
+									value = node._name + "-" + i;
+								}
+
+								node.write(_randomKey(random), value);
+							}
+						}
+						catch (Throwable t) {
+							throwables.add(t);
+						}
+						finally {
+							writeCountDownLatch.countDown();
+						}
+					}
+
+				});
+
+			threads.add(
+				new Thread() {
+
+					@Override
+					public void run() {
+						Random random = new Random();
+
+						try {
+							startCountDownLatch.await();
+
+							while (writeCountDownLatch.getCount() > 0) {
+								String key = _randomKey(random);
+
+								if (random.nextInt(10) == 0) {
+									node._ehcache.remove(key, true);
+								}
+								else {
+									node.read(key);
+								}
+							}
+						}
+						catch (Throwable t) {
+							throwables.add(t);
+						}
+					}
+
+				});
+		}
+
+		threads.add(
+			new Thread() {
+
+				@Override
+				public void run() {
+					Random random = new Random();
+
+					try {
+						startCountDownLatch.await();
+
+						while (writeCountDownLatch.getCount() > 0) {
+							_deliverRandomEvent(random);
+						}
+					}
+					catch (Throwable t) {
+						throwables.add(t);
+					}
+				}
+
+			});
+
+		for (Thread thread : threads) {
+			thread.start();
+		}
+
+		startCountDownLatch.countDown();
+
+		for (Thread thread : threads) {
+			thread.join();
+		}
+
+		Collections.shuffle(_events);
+
+		_deliverEvents();
+
+		for (Throwable throwable : throwables) {
+			throw new AssertionError(throwable);
+		}
+
+		for (Node node : _nodes) {
+			for (int i = 0; i < _KEY_COUNT; i++) {
+				String key = String.valueOf(i);
+
+				Serializable value = node.getCachedValue(key);
+
+				if (value != null) {
+					Assert.assertEquals(node._name, _load(key), value);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void testLoadedValueIsNotReplicated() {
+		Node node = _nodes.get(0);
+
+		Assert.assertEquals(StringPool.BLANK, node.read(_KEY));
+		Assert.assertEquals(StringPool.BLANK, node.getCachedValue(_KEY));
+		Assert.assertTrue(_events.isEmpty());
+	}
+
+	@Test
+	public void testLoadIsDiscardedAfterReplicatedWrite() throws Exception {
+		Node node0 = _nodes.get(0);
+		Node node1 = _nodes.get(1);
+
+		VersionedCacheValue missMarker = VersionedCacheUtil.getMissMarker(
+			node1._versionClock, node1._portalCache, _KEY);
+
+		String value = _load(_KEY);
+
+		node0.write(_KEY, "1");
+
+		_deliverEvents();
+
+		Assert.assertFalse(
+			VersionedCacheUtil.putCommitted(
+				node1._versionClock, node1._portalCache, _KEY,
+				new VersionedCacheValue(
+					value, missMarker.getVersion(), missMarker.getNodeId(),
+					true)));
+		Assert.assertEquals("1", node1.getCachedValue(_KEY));
+	}
+
+	@Test
+	public void testReplicatedRemoval() throws Exception {
+		Node node0 = _nodes.get(0);
+		Node node1 = _nodes.get(1);
+
+		node0.write(_KEY, "1");
+		node1.read(_KEY);
+
+		node0.write(_KEY, null);
+
+		_deliverEvents();
+
+		Assert.assertNull(node1.getCachedValue(_KEY));
+		Assert.assertEquals(StringPool.BLANK, node1.read(_KEY));
+	}
+
+	@Test
+	public void testReplicatedWrite() throws Exception {
+		Node node0 = _nodes.get(0);
+		Node node1 = _nodes.get(1);
+
+		node1.read(_KEY);
+
+		node0.write(_KEY, "1");
+
+		_deliverEvents();
+
+		Assert.assertEquals("1", node1.getCachedValue(_KEY));
+	}
+
+	@Test
+	public void testReplicatedWriteIsIgnoredForUncachedKey() throws Exception {
+		Node node0 = _nodes.get(0);
+		Node node1 = _nodes.get(1);
+
+		node0.write(_KEY, "1");
+
+		_deliverEvents();
+
+		Assert.assertNull(node1._portalCache.get(_KEY));
+	}
+
+	@Test
+	public void testStaleReplicatedWriteIsRejected() throws Exception {
+		Node node0 = _nodes.get(0);
+		Node node1 = _nodes.get(1);
+
+		node1.read(_KEY);
+
+		node0.write(_KEY, "1");
+		node0.write(_KEY, "2");
+
+		Collections.reverse(_events);
+
+		_deliverEvents();
+
+		Assert.assertEquals("2", node1.getCachedValue(_KEY));
+	}
+
+	@Test
+	public void testStaleReplicatedWriteIsRejectedAfterEviction()
+		throws Exception {
+
+		Node node0 = _nodes.get(0);
+		Node node1 = _nodes.get(1);
+
+		node0.write(_KEY, "1");
+
+		PortalCacheClusterEvent portalCacheClusterEvent = _events.remove(0);
+
+		node0.write(_KEY, "2");
+
+		_deliverEvents();
+
+		Assert.assertEquals("2", node1.read(_KEY));
+
+		_deliverEvent(portalCacheClusterEvent);
+
+		Assert.assertEquals("2", node1.getCachedValue(_KEY));
+	}
+
+	private Serializable _copy(Serializable serializable) throws Exception {
+		UnsyncByteArrayOutputStream unsyncByteArrayOutputStream =
+			new UnsyncByteArrayOutputStream();
+
+		ObjectOutputStream objectOutputStream = new ObjectOutputStream(
+			unsyncByteArrayOutputStream);
+
+		objectOutputStream.writeObject(serializable);
+
+		objectOutputStream.close();
+
+		ObjectInputStream objectInputStream = new ObjectInputStream(
+			new UnsyncByteArrayInputStream(
+				unsyncByteArrayOutputStream.toByteArray()));
+
+		return (Serializable)objectInputStream.readObject();
+	}
+
+	private void _deliverEvent(PortalCacheClusterEvent portalCacheClusterEvent)
+		throws Exception {
+
+		for (Node node : _nodes) {
+			if (node._name.equals(portalCacheClusterEvent.getCacheName())) {
+				continue;
+			}
+
+			VersionedCacheUtil.putReplicated(
+				node._versionClock, node._ehcache,
+				portalCacheClusterEvent.getElementKey(),
+				(VersionedCacheValue)_copy(
+					portalCacheClusterEvent.getElementValue()));
+		}
+	}
+
+	private boolean _deliverRandomEvent(Random random) throws Exception {
+		PortalCacheClusterEvent portalCacheClusterEvent = null;
+
+		synchronized (_events) {
+			if (_events.isEmpty()) {
+				return false;
+			}
+
+			portalCacheClusterEvent = _events.remove(
+				random.nextInt(_events.size()));
+		}
+
+		_deliverEvent(portalCacheClusterEvent);
+
+		return true;
+	}
+
+	private void _deliverEvents() throws Exception {
+		while (!_events.isEmpty()) {
+			_deliverEvent(_events.remove(0));
+		}
+	}
+
+	private String _load(String key) {
+		String value = _database.get(key);
+
+		if (value == null) {
+			return StringPool.BLANK;
+		}
+
+		return value;
+	}
+
+	private String _randomKey(Random random) {
+		return String.valueOf(random.nextInt(_KEY_COUNT));
+	}
+
+	private static final String _KEY = "key";
+
+	private static final int _KEY_COUNT = 10;
+
+	private CacheManager _cacheManager;
+	private Map<String, String> _database =
+		new ConcurrentHashMap<String, String>();
+	private List<PortalCacheClusterEvent> _events =
+		Collections.synchronizedList(new ArrayList<PortalCacheClusterEvent>());
+	private List<Node> _nodes = new ArrayList<Node>();
+
+	// Every clock reads a shared counter, so the clocks of the nodes are
+	// synchronized and no two reads return the same time
+
+	private AtomicLong _time = new AtomicLong();
+
+	private class MockPortalCacheClusterLink extends PortalCacheClusterLink {
+
+		@Override
+		public void sendEvent(PortalCacheClusterEvent portalCacheClusterEvent) {
+			_events.add(portalCacheClusterEvent);
+		}
+
+	}
+
+	private class Node {
+
+		public Node(CacheManager cacheManager, String name) {
+			cacheManager.addCache(name);
+
+			_ehcache = cacheManager.getEhcache(name);
+
+			_ehcache.getCacheEventNotificationService().registerListener(
+				new EhcachePortalCacheClusterReplicator(null));
+
+			_name = name;
+			_portalCache = new EhcachePortalCache<Serializable, Serializable>(
+				_ehcache);
+
+			_versionClock = new VersionClock(name.hashCode()) {
+
+				@Override
+				protected long getCurrentTimeMillis() {
+					return _time.incrementAndGet();
+				}
+
+			};
+		}
+
+		public Serializable getCachedValue(String key) {
+			VersionedCacheValue versionedCacheValue =
+				(VersionedCacheValue)_portalCache.get(key);
+
+			if (versionedCacheValue == null) {
+				return null;
+			}
+
+			return versionedCacheValue.getValue();
+		}
+
+		public Serializable read(String key) {
+			Serializable value = getCachedValue(key);
+
+			if (value != null) {
+				return value;
+			}
+
+			VersionedCacheValue missMarker = VersionedCacheUtil.getMissMarker(
+				_versionClock, _portalCache, key);
+
+			value = _load(key);
+
+			VersionedCacheUtil.putCommitted(
+				_versionClock, _portalCache, key,
+				new VersionedCacheValue(
+					value, missMarker.getVersion(), missMarker.getNodeId(),
+					true));
+
+			return value;
+		}
+
+		public void write(String key, String value) {
+
+			// Commits of the same row are serialized by the database
+
+			synchronized (_database) {
+				if (value == null) {
+					_database.remove(key);
+				}
+				else {
+					_database.put(key, value);
+				}
+
+				VersionedCacheUtil.putCommitted(
+					_versionClock, _portalCache, key,
+					new VersionedCacheValue(value, 0, 0, false));
+			}
+		}
+
+		private Ehcache _ehcache;
+		private String _name;
+		private PortalCache<Serializable, Serializable> _portalCache;
+		private VersionClock _versionClock;
+
+	}
+
+}
\ No newline at end of file
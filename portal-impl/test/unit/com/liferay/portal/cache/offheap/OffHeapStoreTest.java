@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.cache.offheap;
+
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OffHeapStoreTest {
+
+	@Test
+	public void testBudget() {
+		OffHeapMemoryBudget offHeapMemoryBudget = new OffHeapMemoryBudget(
+			64 * 1024);
+
+		OffHeapStore offHeapStore1 = new OffHeapStore(
+			1024 * 1024, 1, offHeapMemoryBudget);
+
+		Assert.assertEquals(0, offHeapStore1.getAllocatedBytes());
+
+		Assert.assertTrue(offHeapStore1.put("key", _createBytes(1, 100)));
+		Assert.assertEquals(64 * 1024, offHeapStore1.getAllocatedBytes());
+		Assert.assertEquals(
+			64 * 1024, offHeapMemoryBudget.getReservedBytes());
+
+		// The budget is exhausted, so the first store wraps around and the
+		// second store cannot allocate
+
+		Assert.assertTrue(
+			offHeapStore1.put("large", _createBytes(2, 60 * 1024)));
+		Assert.assertTrue(
+			offHeapStore1.put("wrapped", _createBytes(3, 10 * 1024)));
+		Assert.assertEquals(64 * 1024, offHeapStore1.getAllocatedBytes());
+		Assert.assertNull(offHeapStore1.get("key"));
+
+		OffHeapStore offHeapStore2 = new OffHeapStore(
+			1024 * 1024, 1, offHeapMemoryBudget);
+
+		Assert.assertFalse(offHeapStore2.put("key", _createBytes(1, 100)));
+		Assert.assertNull(offHeapStore2.get("key"));
+
+		offHeapStore1.destroy();
+
+		Assert.assertEquals(0, offHeapMemoryBudget.getReservedBytes());
+		Assert.assertTrue(offHeapStore2.put("key", _createBytes(1, 100)));
+		Assert.assertArrayEquals(
+			_createBytes(1, 100), offHeapStore2.get("key"));
+	}
+
+	@Test
+	public void testConstructor() {
+		try {
+			new OffHeapStore(100, 0);
+
+			Assert.fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		try {
+			new OffHeapStore(1, 2);
+
+			Assert.fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		OffHeapStore offHeapStore = new OffHeapStore(100, 3);
+
+		Assert.assertEquals(99, offHeapStore.getCapacity());
+	}
+
+	@Test
+	public void testEviction() {
+		OffHeapStore offHeapStore = new OffHeapStore(100, 1);
+
+		for (int i = 0; i < 10; i++) {
+			Assert.assertTrue(offHeapStore.put(i, _createBytes(i, 10)));
+		}
+
+		Assert.assertEquals(10, offHeapStore.getEntryCount());
+		Assert.assertEquals(100, offHeapStore.getUsedBytes());
+		Assert.assertEquals(0, offHeapStore.getEvictionCount());
+
+		Assert.assertTrue(offHeapStore.put(10, _createBytes(10, 15)));
+
+		Assert.assertNull(offHeapStore.get(0));
+		Assert.assertNull(offHeapStore.get(1));
+		Assert.assertArrayEquals(_createBytes(2, 10), offHeapStore.get(2));
+		Assert.assertArrayEquals(_createBytes(10, 15), offHeapStore.get(10));
+		Assert.assertEquals(2, offHeapStore.getEvictionCount());
+		Assert.assertEquals(95, offHeapStore.getUsedBytes());
+
+		// Wrap around at the end of the buffer
+
+		for (int i = 11; i < 20; i++) {
+			Assert.assertTrue(offHeapStore.put(i, _createBytes(i, 10)));
+		}
+
+		for (int i = 11; i < 20; i++) {
+			Assert.assertArrayEquals(_createBytes(i, 10), offHeapStore.get(i));
+		}
+
+		Assert.assertTrue(offHeapStore.getUsedBytes() <= 100);
+	}
+
+	@Test
+	public void testPutGetRemove() {
+		OffHeapStore offHeapStore = new OffHeapStore(1024, 4);
+
+		Assert.assertNull(offHeapStore.get("key"));
+
+		byte[] bytes = _createBytes(1, 32);
+
+		Assert.assertTrue(offHeapStore.put("key", bytes));
+		Assert.assertArrayEquals(bytes, offHeapStore.get("key"));
+		Assert.assertEquals(1, offHeapStore.getEntryCount());
+		Assert.assertEquals(32, offHeapStore.getUsedBytes());
+
+		bytes = _createBytes(2, 16);
+
+		Assert.assertTrue(offHeapStore.put("key", bytes));
+		Assert.assertArrayEquals(bytes, offHeapStore.get("key"));
+		Assert.assertEquals(1, offHeapStore.getEntryCount());
+		Assert.assertEquals(16, offHeapStore.getUsedBytes());
+
+		offHeapStore.remove("key");
+
+		Assert.assertNull(offHeapStore.get("key"));
+		Assert.assertEquals(0, offHeapStore.getEntryCount());
+		Assert.assertEquals(0, offHeapStore.getUsedBytes());
+
+		Assert.assertFalse(offHeapStore.put("key", new byte[257]));
+		Assert.assertNull(offHeapStore.get("key"));
+
+		offHeapStore.put("key1", bytes);
+		offHeapStore.put("key2", bytes);
+
+		offHeapStore.removeAll();
+
+		Assert.assertNull(offHeapStore.get("key1"));
+		Assert.assertNull(offHeapStore.get("key2"));
+		Assert.assertEquals(0, offHeapStore.getEntryCount());
+	}
+
+	private byte[] _createBytes(int value, int length) {
+		byte[] bytes = new byte[length];
+
+		Arrays.fill(bytes, (byte)value);
+
+		return bytes;
+	}
+
+}
\ No newline at end of file
@@ -19,8 +19,12 @@ import com.liferay.portal.kernel.json.JSONIncludesManagerUtil;
 import com.liferay.portal.kernel.json.JSONSerializer;
 import com.liferay.portal.kernel.search.Hits;
 import com.liferay.portal.kernel.search.HitsImpl;
+import com.liferay.portal.kernel.util.StringBundler;
 import com.liferay.portal.kernel.util.StringPool;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -62,4 +66,36 @@ public class JSONSerializerTest {
 		Assert.assertTrue(json.contains("\"length\":0"));
 	}
 
+	@Test
+	public void testSerializeList() {
+		List<Object> list = new ArrayList<Object>();
+
+		list.add(new Four());
+		list.add(new One());
+
+		String json = JSONFactoryUtil.looseSerialize(list);
+
+		String elementsJSON = json.substring(1, json.length() - 1);
+
+		StringBundler sb = new StringBundler(200);
+
+		sb.append(StringPool.OPEN_BRACKET);
+		sb.append(elementsJSON);
+
+		for (int i = 1; i < 100; i++) {
+			list.add(new Four());
+			list.add(new One());
+
+			sb.append(StringPool.COMMA);
+			sb.append(elementsJSON);
+		}
+
+		sb.append(StringPool.CLOSE_BRACKET);
+
+		json = JSONFactoryUtil.looseSerialize(list);
+
+		Assert.assertEquals(sb.toString(), json);
+		Assert.assertEquals(json, JSONFactoryUtil.looseSerialize(list));
+	}
+
 }
\ No newline at end of file
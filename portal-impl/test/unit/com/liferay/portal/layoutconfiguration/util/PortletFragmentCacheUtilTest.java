@@ -0,0 +1,567 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.layoutconfiguration.util;
+
+import com.liferay.portal.cache.MultiVMPoolImpl;
+import com.liferay.portal.cache.SingleVMPoolImpl;
+import com.liferay.portal.cache.memory.MemoryPortalCacheManager;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.cache.SingleVMPoolUtil;
+import com.liferay.portal.kernel.portlet.RestrictPortletServletRequest;
+import com.liferay.portal.kernel.util.DigesterUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.kernel.xml.QName;
+import com.liferay.portal.kernel.xml.SAXReaderUtil;
+import com.liferay.portal.model.Layout;
+import com.liferay.portal.model.impl.PortletImpl;
+import com.liferay.portal.model.impl.PublicRenderParameterImpl;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.servlet.filters.cache.CacheUtil;
+import com.liferay.portal.theme.ThemeDisplay;
+import com.liferay.portal.util.DigesterImpl;
+import com.liferay.portal.util.PropsImpl;
+import com.liferay.portal.util.WebKeys;
+import com.liferay.portal.xml.SAXReaderImpl;
+import com.liferay.portlet.PortletPreferencesFactory;
+import com.liferay.portlet.PortletPreferencesFactoryUtil;
+import com.liferay.portlet.PortletQNameImpl;
+import com.liferay.portlet.PortletQNameUtil;
+import com.liferay.portlet.PublicRenderParametersPool;
+
+import java.io.Serializable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.portlet.PortletPreferences;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.mockito.Matchers;
+
+import org.powermock.api.mockito.PowerMockito;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+
+public class PortletFragmentCacheUtilTest extends PowerMockito {
+
+	@BeforeClass
+	public static void setUpClass() {
+		com.liferay.portal.util.PropsUtil.set(
+			PropsKeys.LAYOUT_PORTLET_FRAGMENT_CACHE_ENABLED, "true");
+		com.liferay.portal.util.PropsUtil.set(
+			PropsKeys.LAYOUT_PORTLET_FRAGMENT_CACHE_MAX_AGE, "0");
+		com.liferay.portal.util.PropsUtil.set(
+			PropsKeys.PORTLET_PUBLIC_RENDER_PARAMETER_DISTRIBUTION, "layout");
+
+		PropsUtil.setProps(new PropsImpl());
+
+		MemoryPortalCacheManager<Serializable, Serializable>
+			memoryPortalCacheManager =
+				new MemoryPortalCacheManager<Serializable, Serializable>();
+
+		memoryPortalCacheManager.afterPropertiesSet();
+
+		MultiVMPoolImpl multiVMPoolImpl = new MultiVMPoolImpl();
+
+		multiVMPoolImpl.setPortalCacheManager(memoryPortalCacheManager);
+
+		MultiVMPoolUtil multiVMPoolUtil = new MultiVMPoolUtil();
+
+		multiVMPoolUtil.setMultiVMPool(multiVMPoolImpl);
+
+		SingleVMPoolImpl singleVMPoolImpl = new SingleVMPoolImpl();
+
+		singleVMPoolImpl.setPortalCacheManager(memoryPortalCacheManager);
+
+		SingleVMPoolUtil singleVMPoolUtil = new SingleVMPoolUtil();
+
+		singleVMPoolUtil.setSingleVMPool(singleVMPoolImpl);
+
+		DigesterUtil digesterUtil = new DigesterUtil();
+
+		digesterUtil.setDigester(new DigesterImpl());
+
+		PortletQNameUtil portletQNameUtil = new PortletQNameUtil();
+
+		portletQNameUtil.setPortletQName(new PortletQNameImpl());
+
+		SAXReaderUtil saxReaderUtil = new SAXReaderUtil();
+
+		saxReaderUtil.setSAXReader(new SAXReaderImpl());
+
+		_qName = SAXReaderUtil.createQName(
+			"tag", SAXReaderUtil.createNamespace("http://www.liferay.com"));
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		_permissionChecker = mock(PermissionChecker.class);
+
+		when(
+			_permissionChecker.getRoleIds(_USER_ID, _GROUP_ID)
+		).thenReturn(
+			new long[] {3, 1, 2}
+		);
+
+		Layout layout = mock(Layout.class);
+
+		when(
+			layout.getGroupId()
+		).thenReturn(
+			_GROUP_ID
+		);
+
+		when(
+			layout.getPlid()
+		).thenReturn(
+			_PLID
+		);
+
+		_themeDisplay = mock(ThemeDisplay.class);
+
+		when(
+			_themeDisplay.getColorSchemeId()
+		).thenReturn(
+			"01"
+		);
+
+		when(
+			_themeDisplay.getCompanyId()
+		).thenReturn(
+			_COMPANY_ID
+		);
+
+		when(
+			_themeDisplay.getLanguageId()
+		).thenReturn(
+			"en_US"
+		);
+
+		when(
+			_themeDisplay.getLayout()
+		).thenReturn(
+			layout
+		);
+
+		when(
+			_themeDisplay.getPermissionChecker()
+		).thenReturn(
+			_permissionChecker
+		);
+
+		when(
+			_themeDisplay.getPlid()
+		).thenReturn(
+			_PLID
+		);
+
+		when(
+			_themeDisplay.getScopeGroupId()
+		).thenReturn(
+			_GROUP_ID
+		);
+
+		when(
+			_themeDisplay.getThemeId()
+		).thenReturn(
+			"classic"
+		);
+
+		when(
+			_themeDisplay.getUserId()
+		).thenReturn(
+			_USER_ID
+		);
+
+		_portletPreferencesFactory = mock(PortletPreferencesFactory.class);
+
+		PortletPreferences portletPreferences = mock(PortletPreferences.class);
+
+		when(
+			_portletPreferencesFactory.getPortletSetup(
+				Matchers.any(HttpServletRequest.class),
+				Matchers.eq(_PORTLET_ID))
+		).thenReturn(
+			portletPreferences
+		);
+
+		when(
+			_portletPreferencesFactory.toXML(portletPreferences)
+		).thenReturn(
+			"<portlet-preferences />"
+		);
+
+		PortletPreferencesFactoryUtil portletPreferencesFactoryUtil =
+			new PortletPreferencesFactoryUtil();
+
+		portletPreferencesFactoryUtil.setPortletPreferencesFactory(
+			_portletPreferencesFactory);
+
+		_portlet = new PortletImpl(_COMPANY_ID, _PORTLET_ID);
+
+		_portlet.setExpCache(60);
+		_portlet.setFragmentCacheable(true);
+		_portlet.setFragmentCacheVaryBy(Collections.<String>emptySet());
+	}
+
+	@After
+	public void tearDown() {
+		CacheUtil.stopSurrogateKeys();
+
+		MultiVMPoolUtil.clear();
+		SingleVMPoolUtil.clear();
+	}
+
+	@Test
+	public void testExpiration() throws Exception {
+		MockHttpServletRequest mockHttpServletRequest = createRequest();
+
+		String key = PortletFragmentCacheUtil.getKey(
+			mockHttpServletRequest, _portlet);
+
+		PortletFragmentCacheUtil.putPortletFragment(
+			_portlet, key, "content", Collections.<String, Long>emptyMap(),
+			null);
+
+		Assert.assertEquals(
+			"content",
+			PortletFragmentCacheUtil.getPortletFragment(
+				mockHttpServletRequest, _portlet, key));
+
+		// Without a positive expiration cache the maximum age applies, which
+		// is zero in this test
+
+		_portlet.setExpCache(0);
+
+		PortletFragmentCacheUtil.putPortletFragment(
+			_portlet, key, "content", Collections.<String, Long>emptyMap(),
+			null);
+
+		Thread.sleep(10);
+
+		Assert.assertNull(
+			PortletFragmentCacheUtil.getPortletFragment(
+				mockHttpServletRequest, _portlet, key));
+	}
+
+	@Test
+	public void testGetKeyBypassesAction() {
+		MockHttpServletRequest mockHttpServletRequest = createRequest();
+
+		mockHttpServletRequest.setParameter("p_p_id", "otherPortlet");
+		mockHttpServletRequest.setParameter("p_p_lifecycle", "1");
+
+		Assert.assertNull(
+			PortletFragmentCacheUtil.getKey(mockHttpServletRequest, _portlet));
+
+		mockHttpServletRequest.setParameter("p_p_lifecycle", "0");
+
+		Assert.assertNotNull(
+			PortletFragmentCacheUtil.getKey(mockHttpServletRequest, _portlet));
+	}
+
+	@Test
+	public void testGetKeyBypassesPublicRenderParameterChange() {
+		MockHttpServletRequest mockHttpServletRequest = createRequest();
+
+		mockHttpServletRequest.setParameter(
+			PortletQNameUtil.getPublicRenderParameterName(_qName), "value");
+
+		Assert.assertNull(
+			PortletFragmentCacheUtil.getKey(mockHttpServletRequest, _portlet));
+	}
+
+	@Test
+	public void testGetKeyBypassesTargetPortlet() {
+		MockHttpServletRequest mockHttpServletRequest = createRequest();
+
+		mockHttpServletRequest.setParameter("p_p_id", _PORTLET_ID);
+
+		Assert.assertNull(
+			PortletFragmentCacheUtil.getKey(mockHttpServletRequest, _portlet));
+	}
+
+	@Test
+	public void testGetKeyBypassesUncacheablePortlet() {
+		_portlet.setFragmentCacheable(false);
+
+		Assert.assertNull(
+			PortletFragmentCacheUtil.getKey(createRequest(), _portlet));
+	}
+
+	@Test
+	public void testGetKeyVariesByLocale() {
+		String key = PortletFragmentCacheUtil.getKey(
+			createRequest(), _portlet);
+
+		when(
+			_themeDisplay.getLanguageId()
+		).thenReturn(
+			"es_ES"
+		);
+
+		Assert.assertEquals(
+			key, PortletFragmentCacheUtil.getKey(createRequest(), _portlet));
+
+		setFragmentCacheVaryBy(PortletFragmentCacheUtil.VARY_BY_LOCALE);
+
+		String spanishKey = PortletFragmentCacheUtil.getKey(
+			createRequest(), _portlet);
+
+		when(
+			_themeDisplay.getLanguageId()
+		).thenReturn(
+			"en_US"
+		);
+
+		Assert.assertNotEquals(
+			spanishKey,
+			PortletFragmentCacheUtil.getKey(createRequest(), _portlet));
+	}
+
+	@Test
+	public void testGetKeyVariesByPreferences() throws Exception {
+		setFragmentCacheVaryBy(PortletFragmentCacheUtil.VARY_BY_PREFERENCES);
+
+		String key = PortletFragmentCacheUtil.getKey(
+			createRequest(), _portlet);
+
+		Assert.assertEquals(
+			key, PortletFragmentCacheUtil.getKey(createRequest(), _portlet));
+
+		when(
+			_portletPreferencesFactory.toXML(
+				Matchers.any(PortletPreferences.class))
+		).thenReturn(
+			"<portlet-preferences><preference /></portlet-preferences>"
+		);
+
+		Assert.assertNotEquals(
+			key, PortletFragmentCacheUtil.getKey(createRequest(), _portlet));
+	}
+
+	@Test
+	public void testGetKeyVariesByPublicRenderParameters() {
+		_portlet.addPublicRenderParameter(
+			new PublicRenderParameterImpl("tag", _qName, null));
+
+		setFragmentCacheVaryBy(
+			PortletFragmentCacheUtil.VARY_BY_PUBLIC_RENDER_PARAMETERS);
+
+		MockHttpServletRequest mockHttpServletRequest = createRequest();
+
+		String key = PortletFragmentCacheUtil.getKey(
+			mockHttpServletRequest, _portlet);
+
+		Map<String, String[]> publicRenderParameters =
+			PublicRenderParametersPool.get(mockHttpServletRequest, _PLID);
+
+		publicRenderParameters.put(
+			PortletQNameUtil.getPublicRenderParameterName(_qName),
+			new String[] {"liferay"});
+
+		Assert.assertNotEquals(
+			key,
+			PortletFragmentCacheUtil.getKey(mockHttpServletRequest, _portlet));
+	}
+
+	@Test
+	public void testGetKeyVariesByRoles() throws Exception {
+		setFragmentCacheVaryBy(PortletFragmentCacheUtil.VARY_BY_ROLES);
+
+		String key = PortletFragmentCacheUtil.getKey(
+			createRequest(), _portlet);
+
+		// The order of the role IDs does not matter
+
+		when(
+			_permissionChecker.getRoleIds(_USER_ID, _GROUP_ID)
+		).thenReturn(
+			new long[] {2, 3, 1}
+		);
+
+		Assert.assertEquals(
+			key, PortletFragmentCacheUtil.getKey(createRequest(), _portlet));
+
+		when(
+			_permissionChecker.getRoleIds(_USER_ID, _GROUP_ID)
+		).thenReturn(
+			new long[] {1, 2}
+		);
+
+		Assert.assertNotEquals(
+			key, PortletFragmentCacheUtil.getKey(createRequest(), _portlet));
+	}
+
+	@Test
+	public void testSharedAttributes() {
+		MockHttpServletRequest mockHttpServletRequest = createRequest();
+
+		RestrictPortletServletRequest restrictPortletServletRequest =
+			PortletFragmentCacheUtil.startSharedAttributes(
+				mockHttpServletRequest);
+
+		restrictPortletServletRequest.setAttribute(
+			"LIFERAY_SHARED_name", "value");
+		restrictPortletServletRequest.setAttribute("name", "value");
+
+		byte[] sharedAttributes = PortletFragmentCacheUtil.stopSharedAttributes(
+			restrictPortletServletRequest);
+
+		Assert.assertEquals(
+			"value",
+			mockHttpServletRequest.getAttribute("LIFERAY_SHARED_name"));
+		Assert.assertNull(mockHttpServletRequest.getAttribute("name"));
+
+		String key = PortletFragmentCacheUtil.getKey(
+			mockHttpServletRequest, _portlet);
+
+		PortletFragmentCacheUtil.putPortletFragment(
+			_portlet, key, "content", Collections.<String, Long>emptyMap(),
+			sharedAttributes);
+
+		mockHttpServletRequest = createRequest();
+
+		Assert.assertEquals(
+			"content",
+			PortletFragmentCacheUtil.getPortletFragment(
+				mockHttpServletRequest, _portlet, key));
+		Assert.assertEquals(
+			"value",
+			mockHttpServletRequest.getAttribute("LIFERAY_SHARED_name"));
+		Assert.assertNull(mockHttpServletRequest.getAttribute("name"));
+	}
+
+	@Test
+	public void testSharedAttributesNotSerializable() {
+		MockHttpServletRequest mockHttpServletRequest = createRequest();
+
+		RestrictPortletServletRequest restrictPortletServletRequest =
+			PortletFragmentCacheUtil.startSharedAttributes(
+				mockHttpServletRequest);
+
+		Object value = new Object();
+
+		restrictPortletServletRequest.setAttribute(
+			"LIFERAY_SHARED_name", value);
+
+		Assert.assertNull(
+			PortletFragmentCacheUtil.stopSharedAttributes(
+				restrictPortletServletRequest));
+		Assert.assertSame(
+			value, mockHttpServletRequest.getAttribute("LIFERAY_SHARED_name"));
+	}
+
+	@Test
+	public void testSurrogateKeys() {
+		MockHttpServletRequest mockHttpServletRequest = createRequest();
+
+		CacheUtil.startSurrogateKeys(_COMPANY_ID);
+
+		Map<String, Long> surrogateKeyVersions =
+			PortletFragmentCacheUtil.startSurrogateKeys(
+				mockHttpServletRequest);
+
+		CacheUtil.addSurrogateKey(_CLASS_NAME, 1);
+
+		Map<String, Long> fragmentSurrogateKeyVersions =
+			PortletFragmentCacheUtil.stopSurrogateKeys(surrogateKeyVersions);
+
+		CacheUtil.stopSurrogateKeys();
+
+		String key = PortletFragmentCacheUtil.getKey(
+			mockHttpServletRequest, _portlet);
+
+		PortletFragmentCacheUtil.putPortletFragment(
+			_portlet, key, "content", fragmentSurrogateKeyVersions, null);
+
+		Assert.assertEquals(
+			"content",
+			PortletFragmentCacheUtil.getPortletFragment(
+				mockHttpServletRequest, _portlet, key));
+
+		CacheUtil.clearCache(_CLASS_NAME, 2);
+
+		Assert.assertEquals(
+			"content",
+			PortletFragmentCacheUtil.getPortletFragment(
+				mockHttpServletRequest, _portlet, key));
+
+		CacheUtil.clearCache(_CLASS_NAME, 1);
+
+		Assert.assertNull(
+			PortletFragmentCacheUtil.getPortletFragment(
+				mockHttpServletRequest, _portlet, key));
+
+		// Changes to the layout invalidate the fragment as well
+
+		PortletFragmentCacheUtil.putPortletFragment(
+			_portlet, key, "content", fragmentSurrogateKeyVersions, null);
+
+		CacheUtil.clearCache(Layout.class.getName(), _PLID);
+
+		Assert.assertNull(
+			PortletFragmentCacheUtil.getPortletFragment(
+				mockHttpServletRequest, _portlet, key));
+	}
+
+	protected MockHttpServletRequest createRequest() {
+		MockHttpServletRequest mockHttpServletRequest =
+			new MockHttpServletRequest();
+
+		mockHttpServletRequest.setAttribute(
+			WebKeys.THEME_DISPLAY, _themeDisplay);
+
+		return mockHttpServletRequest;
+	}
+
+	protected void setFragmentCacheVaryBy(String... fragmentCacheVaryBy) {
+		Set<String> fragmentCacheVaryBySet = new HashSet<String>();
+
+		Collections.addAll(fragmentCacheVaryBySet, fragmentCacheVaryBy);
+
+		_portlet.setFragmentCacheVaryBy(fragmentCacheVaryBySet);
+	}
+
+	private static final String _CLASS_NAME = "com.liferay.Model";
+
+	private static final long _COMPANY_ID = 1;
+
+	private static final long _GROUP_ID = 2;
+
+	private static final long _PLID = 3;
+
+	private static final String _PORTLET_ID = "fragmentPortlet";
+
+	private static final long _USER_ID = 4;
+
+	private static QName _qName;
+
+	private PermissionChecker _permissionChecker;
+	private PortletImpl _portlet;
+	private PortletPreferencesFactory _portletPreferencesFactory;
+	private ThemeDisplay _themeDisplay;
+
+}
\ No newline at end of file
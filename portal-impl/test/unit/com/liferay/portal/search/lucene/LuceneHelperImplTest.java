@@ -64,6 +64,7 @@ import java.net.Socket;
 import java.nio.channels.ServerSocketChannel;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -75,6 +76,7 @@ import java.util.logging.LogRecord;
 
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.store.Directory;
 
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -783,9 +785,16 @@ public class LuceneHelperImplTest {
 
 	private class MockIndexAccessor implements IndexAccessor {
 
+		public IndexSearcher acquireIndexSearcher() {
+			return null;
+		}
+
 		public void addDocument(Document document) {
 		}
 
+		public void addDocuments(Collection<Document> documents) {
+		}
+
 		public void close() {
 		}
 
@@ -819,9 +828,15 @@ public class LuceneHelperImplTest {
 			_bytes = unsyncByteArrayOutputStream.toByteArray();
 		}
 
+		public void releaseIndexSearcher(IndexSearcher indexSearcher) {
+		}
+
 		public void updateDocument(Term term, Document document) {
 		}
 
+		public void updateDocuments(Map<Term, Document> documents) {
+		}
+
 		public byte[] getResponseMessage() {
 			return _bytes;
 		}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.security.permission;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PermissionResultCacheTest {
+
+	@Test
+	public void testConstructor() {
+		try {
+			new PermissionResultCache(4, 1024);
+
+			Assert.fail();
+		}
+		catch (IllegalArgumentException iae) {
+		}
+
+		PermissionResultCache permissionResultCache = new PermissionResultCache(
+			100, 1024);
+
+		Assert.assertEquals(128, permissionResultCache.getCapacity());
+	}
+
+	@Test
+	public void testGenerations() {
+		PermissionResultCache permissionResultCache = new PermissionResultCache(
+			64, Long.MAX_VALUE);
+
+		permissionResultCache.put(
+			1, true, false, 2, "name", "3", "VIEW", 10, Boolean.FALSE);
+
+		Assert.assertEquals(
+			Boolean.FALSE,
+			permissionResultCache.get(
+				1, true, false, 2, "name", "3", "VIEW", 10));
+		Assert.assertNull(
+			permissionResultCache.get(
+				1, true, false, 2, "name", "3", "VIEW", 11));
+
+		permissionResultCache.put(
+			1, true, false, 2, "name", "3", "VIEW", 11, Boolean.TRUE);
+
+		Assert.assertEquals(
+			Boolean.TRUE,
+			permissionResultCache.get(
+				1, true, false, 2, "name", "3", "VIEW", 11));
+		Assert.assertEquals(1, permissionResultCache.getEntryCount());
+	}
+
+	@Test
+	public void testMaxSize() {
+		PermissionResultCache permissionResultCache = new PermissionResultCache(
+			8, 1);
+
+		for (int i = 0; i < 100; i++) {
+			permissionResultCache.put(
+				i, true, false, 2, "name", "3", "VIEW", 10, Boolean.TRUE);
+
+			Assert.assertEquals(
+				Boolean.TRUE,
+				permissionResultCache.get(
+					i, true, false, 2, "name", "3", "VIEW", 10));
+			Assert.assertTrue(permissionResultCache.getEntryCount() <= 1);
+		}
+	}
+
+	@Test
+	public void testPutGetClear() {
+		PermissionResultCache permissionResultCache = new PermissionResultCache(
+			1024, Long.MAX_VALUE);
+
+		Assert.assertNull(
+			permissionResultCache.get(
+				1, true, false, 2, "name", "3", "VIEW", 10));
+
+		for (int i = 0; i < 100; i++) {
+			permissionResultCache.put(
+				1, true, false, 2, "name", String.valueOf(i), "VIEW", 10,
+				Boolean.valueOf((i % 2) == 0));
+		}
+
+		for (int i = 0; i < 100; i++) {
+			Boolean value = permissionResultCache.get(
+				1, true, false, 2, "name", String.valueOf(i), "VIEW", 10);
+
+			if (value != null) {
+				Assert.assertEquals(Boolean.valueOf((i % 2) == 0), value);
+			}
+		}
+
+		Assert.assertNull(
+			permissionResultCache.get(
+				1, false, false, 2, "name", "0", "VIEW", 10));
+		Assert.assertNull(
+			permissionResultCache.get(
+				1, true, true, 2, "name", "0", "VIEW", 10));
+		Assert.assertNull(
+			permissionResultCache.get(
+				1, true, false, 2, "name", "0", "UPDATE", 10));
+
+		Assert.assertTrue(permissionResultCache.getSize() > 0);
+
+		permissionResultCache.clear();
+
+		Assert.assertEquals(0, permissionResultCache.getEntryCount());
+		Assert.assertEquals(0, permissionResultCache.getSize());
+		Assert.assertNull(
+			permissionResultCache.get(
+				1, true, false, 2, "name", "0", "VIEW", 10));
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.servlet.filters.cache;
+
+import com.liferay.portal.cache.MultiVMPoolImpl;
+import com.liferay.portal.cache.memory.MemoryPortalCacheManager;
+import com.liferay.portal.kernel.cache.MultiVMPoolUtil;
+import com.liferay.portal.kernel.servlet.BufferCacheServletResponse;
+import com.liferay.util.servlet.filters.CacheResponseData;
+
+import java.io.Serializable;
+
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class CacheUtilTest {
+
+	@BeforeClass
+	public static void setUpClass() {
+		MemoryPortalCacheManager<Serializable, Serializable>
+			memoryPortalCacheManager =
+				new MemoryPortalCacheManager<Serializable, Serializable>();
+
+		memoryPortalCacheManager.afterPropertiesSet();
+
+		MultiVMPoolImpl multiVMPoolImpl = new MultiVMPoolImpl();
+
+		multiVMPoolImpl.setPortalCacheManager(memoryPortalCacheManager);
+
+		MultiVMPoolUtil multiVMPoolUtil = new MultiVMPoolUtil();
+
+		multiVMPoolUtil.setMultiVMPool(multiVMPoolImpl);
+	}
+
+	@After
+	public void tearDown() {
+		CacheUtil.stopSurrogateKeys();
+
+		MultiVMPoolUtil.clear();
+	}
+
+	@Test
+	public void testClearCacheWithClassName() throws Exception {
+		CacheUtil.startSurrogateKeys(_COMPANY_ID);
+
+		CacheUtil.addSurrogateKey(_CLASS_NAME, 1);
+
+		putCacheResponseData("page1");
+
+		CacheUtil.addSurrogateKey(_CLASS_NAME, 2);
+
+		putCacheResponseData("page2");
+
+		CacheUtil.stopSurrogateKeys();
+
+		Assert.assertNotNull(
+			CacheUtil.getCacheResponseData(_COMPANY_ID, "page1"));
+		Assert.assertNotNull(
+			CacheUtil.getCacheResponseData(_COMPANY_ID, "page2"));
+
+		CacheUtil.clearCache(_CLASS_NAME, 2);
+
+		Assert.assertNotNull(
+			CacheUtil.getCacheResponseData(_COMPANY_ID, "page1"));
+		Assert.assertNull(CacheUtil.getCacheResponseData(_COMPANY_ID, "page2"));
+
+		CacheUtil.clearCache(_CLASS_NAME, 1);
+
+		Assert.assertNull(CacheUtil.getCacheResponseData(_COMPANY_ID, "page1"));
+	}
+
+	@Test
+	public void testClearCacheWithCompanyId() throws Exception {
+		CacheUtil.startSurrogateKeys(_COMPANY_ID);
+
+		putCacheResponseData("page");
+
+		CacheUtil.stopSurrogateKeys();
+
+		CacheUtil.clearCache(_COMPANY_ID + 1);
+
+		Assert.assertNotNull(
+			CacheUtil.getCacheResponseData(_COMPANY_ID, "page"));
+
+		CacheUtil.clearCache(_COMPANY_ID);
+
+		Assert.assertNull(CacheUtil.getCacheResponseData(_COMPANY_ID, "page"));
+	}
+
+	@Test
+	public void testFragmentSurrogateKeys() throws Exception {
+		CacheUtil.startSurrogateKeys(_COMPANY_ID);
+
+		CacheUtil.addSurrogateKey(_CLASS_NAME, 1);
+
+		Map<String, Long> surrogateKeyVersions =
+			CacheUtil.startFragmentSurrogateKeys();
+
+		CacheUtil.addSurrogateKey(_CLASS_NAME, 2);
+
+		Map<String, Long> fragmentSurrogateKeyVersions =
+			CacheUtil.stopFragmentSurrogateKeys(surrogateKeyVersions);
+
+		Assert.assertEquals(1, fragmentSurrogateKeyVersions.size());
+		Assert.assertEquals(3, surrogateKeyVersions.size());
+
+		putCacheResponseData("page");
+
+		CacheUtil.stopSurrogateKeys();
+
+		Assert.assertTrue(CacheUtil.isCurrent(fragmentSurrogateKeyVersions));
+
+		// Keys recorded in the fragment invalidate the whole response
+
+		CacheUtil.clearCache(_CLASS_NAME, 2);
+
+		Assert.assertFalse(CacheUtil.isCurrent(fragmentSurrogateKeyVersions));
+		Assert.assertNull(CacheUtil.getCacheResponseData(_COMPANY_ID, "page"));
+	}
+
+	@Test
+	public void testIsCurrent() {
+		CacheUtil.startSurrogateKeys(_COMPANY_ID);
+
+		Map<String, Long> surrogateKeyVersions =
+			CacheUtil.startFragmentSurrogateKeys();
+
+		CacheUtil.addSurrogateKey(_CLASS_NAME, 1);
+
+		Map<String, Long> fragmentSurrogateKeyVersions =
+			CacheUtil.stopFragmentSurrogateKeys(surrogateKeyVersions);
+
+		Assert.assertTrue(CacheUtil.isCurrent(fragmentSurrogateKeyVersions));
+
+		// Clearing an unrelated key keeps the versions current
+
+		CacheUtil.clearCache(_CLASS_NAME, 2);
+
+		Assert.assertTrue(CacheUtil.isCurrent(fragmentSurrogateKeyVersions));
+
+		// A key that is recorded again after it was cleared gets a new version
+
+		CacheUtil.clearCache(_CLASS_NAME, 1);
+
+		Assert.assertFalse(CacheUtil.isCurrent(fragmentSurrogateKeyVersions));
+
+		surrogateKeyVersions = CacheUtil.startFragmentSurrogateKeys();
+
+		CacheUtil.addSurrogateKey(_CLASS_NAME, 1);
+
+		Map<String, Long> newFragmentSurrogateKeyVersions =
+			CacheUtil.stopFragmentSurrogateKeys(surrogateKeyVersions);
+
+		Assert.assertTrue(CacheUtil.isCurrent(newFragmentSurrogateKeyVersions));
+		Assert.assertFalse(CacheUtil.isCurrent(fragmentSurrogateKeyVersions));
+	}
+
+	@Test
+	public void testMergeFragmentSurrogateKeys() throws Exception {
+		CacheUtil.startSurrogateKeys(_COMPANY_ID);
+
+		Map<String, Long> surrogateKeyVersions =
+			CacheUtil.startFragmentSurrogateKeys();
+
+		CacheUtil.addSurrogateKey(_CLASS_NAME, 1);
+
+		Map<String, Long> fragmentSurrogateKeyVersions =
+			CacheUtil.stopFragmentSurrogateKeys(surrogateKeyVersions);
+
+		CacheUtil.stopSurrogateKeys();
+
+		CacheUtil.clearCache(_CLASS_NAME, 1);
+
+		// A fragment that is replayed keeps the versions it was recorded
+		// with, so a response that includes a stale fragment is never served
+
+		CacheUtil.startSurrogateKeys(_COMPANY_ID);
+
+		CacheUtil.addSurrogateKeys(fragmentSurrogateKeyVersions);
+
+		putCacheResponseData("page");
+
+		CacheUtil.stopSurrogateKeys();
+
+		Assert.assertNull(CacheUtil.getCacheResponseData(_COMPANY_ID, "page"));
+	}
+
+	@Test
+	public void testWithoutSurrogateKeys() throws Exception {
+		CacheUtil.addSurrogateKey(_CLASS_NAME, 1);
+
+		Assert.assertNull(CacheUtil.startFragmentSurrogateKeys());
+
+		CacheUtil.stopSurrogateKeys();
+
+		putCacheResponseData("page");
+
+		CacheUtil.clearCache(_CLASS_NAME, 1);
+
+		Assert.assertNotNull(
+			CacheUtil.getCacheResponseData(_COMPANY_ID, "page"));
+	}
+
+	protected void putCacheResponseData(String key) throws Exception {
+		BufferCacheServletResponse bufferCacheServletResponse =
+			new BufferCacheServletResponse(new MockHttpServletResponse());
+
+		CacheUtil.putCacheResponseData(
+			_COMPANY_ID, key,
+			new CacheResponseData(bufferCacheServletResponse));
+	}
+
+	private static final String _CLASS_NAME = "TestClass";
+
+	private static final long _COMPANY_ID = 1;
+
+}
\ No newline at end of file
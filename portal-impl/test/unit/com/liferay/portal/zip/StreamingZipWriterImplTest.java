@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.zip;
+
+import com.liferay.portal.kernel.test.JDKLoggerTestUtil;
+import com.liferay.portal.kernel.util.StreamUtil;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StreamingZipWriterImplTest {
+
+	@Before
+	public void setUp() throws IOException {
+		_file = File.createTempFile("StreamingZipWriterImplTest", ".zip");
+
+		_file.delete();
+	}
+
+	@After
+	public void tearDown() {
+		_file.delete();
+	}
+
+	@Test
+	public void testAddEntry() throws Exception {
+		StreamingZipWriterImpl streamingZipWriterImpl =
+			new StreamingZipWriterImpl(_file);
+
+		streamingZipWriterImpl.addEntry("/a.txt", "a");
+		streamingZipWriterImpl.addEntry("b/b.txt", new StringBuilder("b"));
+		streamingZipWriterImpl.addEntry("c.txt", new byte[0]);
+		streamingZipWriterImpl.addEntry("d.txt", (InputStream)null);
+
+		Assert.assertEquals(_file, streamingZipWriterImpl.getFile());
+
+		ZipFile zipFile = new ZipFile(_file);
+
+		try {
+			Assert.assertEquals(3, zipFile.size());
+
+			Assert.assertEquals("a", _read(zipFile, "a.txt"));
+			Assert.assertEquals("b", _read(zipFile, "b/b.txt"));
+			Assert.assertEquals("", _read(zipFile, "c.txt"));
+		}
+		finally {
+			zipFile.close();
+		}
+	}
+
+	@Test
+	public void testAddEntryAfterClose() throws Exception {
+		StreamingZipWriterImpl streamingZipWriterImpl =
+			new StreamingZipWriterImpl(_file);
+
+		streamingZipWriterImpl.addEntry("a.txt", "a");
+
+		streamingZipWriterImpl.getFile();
+
+		try {
+			streamingZipWriterImpl.addEntry("b.txt", "b");
+
+			Assert.fail();
+		}
+		catch (IOException ioe) {
+		}
+	}
+
+	@Test
+	public void testAddEntryWithDuplicateName() throws Exception {
+		List<LogRecord> logRecords = JDKLoggerTestUtil.configureJDKLogger(
+			StreamingZipWriterImpl.class.getName(), Level.WARNING);
+
+		StreamingZipWriterImpl streamingZipWriterImpl =
+			new StreamingZipWriterImpl(_file);
+
+		streamingZipWriterImpl.addEntry("a.txt", "first");
+		streamingZipWriterImpl.addEntry("/a.txt", "second");
+
+		streamingZipWriterImpl.getFile();
+
+		Assert.assertEquals(1, logRecords.size());
+
+		LogRecord logRecord = logRecords.get(0);
+
+		Assert.assertTrue(
+			logRecord.getMessage().startsWith(
+				"Skipping duplicate entry a.txt"));
+
+		ZipFile zipFile = new ZipFile(_file);
+
+		try {
+			List<String> names = new ArrayList<String>();
+
+			Enumeration<? extends ZipEntry> enumeration = zipFile.entries();
+
+			while (enumeration.hasMoreElements()) {
+				ZipEntry zipEntry = enumeration.nextElement();
+
+				names.add(zipEntry.getName());
+			}
+
+			Assert.assertEquals(1, names.size());
+			Assert.assertEquals("a.txt", names.get(0));
+			Assert.assertEquals("first", _read(zipFile, "a.txt"));
+		}
+		finally {
+			zipFile.close();
+		}
+	}
+
+	@Test
+	public void testGetFileWithoutEntries() throws Exception {
+		StreamingZipWriterImpl streamingZipWriterImpl =
+			new StreamingZipWriterImpl(_file);
+
+		File file = streamingZipWriterImpl.getFile();
+
+		Assert.assertTrue(file.exists());
+
+		ZipFile zipFile = new ZipFile(file);
+
+		try {
+			Assert.assertEquals(0, zipFile.size());
+		}
+		finally {
+			zipFile.close();
+		}
+	}
+
+	private String _read(ZipFile zipFile, String name) throws IOException {
+		ZipEntry zipEntry = zipFile.getEntry(name);
+
+		Assert.assertNotNull(zipEntry);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		StreamUtil.transfer(
+			zipFile.getInputStream(zipEntry), byteArrayOutputStream);
+
+		return byteArrayOutputStream.toString("UTF-8");
+	}
+
+	private File _file;
+
+}
\ No newline at end of file
@@ -44,4 +44,7 @@ public interface CounterFinder {
 
 	public void reset(java.lang.String name, long size)
 		throws com.liferay.portal.kernel.exception.SystemException;
+
+	public void setPlatformTransactionManager(
+		org.springframework.transaction.PlatformTransactionManager platformTransactionManager);
 }
\ No newline at end of file
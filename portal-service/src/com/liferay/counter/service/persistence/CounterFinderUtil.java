@@ -68,6 +68,11 @@ public class CounterFinderUtil {
 		getFinder().reset(name, size);
 	}
 
+	public static void setPlatformTransactionManager(
+		org.springframework.transaction.PlatformTransactionManager platformTransactionManager) {
+		getFinder().setPlatformTransactionManager(platformTransactionManager);
+	}
+
 	public static CounterFinder getFinder() {
 		if (_finder == null) {
 			_finder = (CounterFinder)PortalBeanLocatorUtil.locate(CounterFinder.class.getName());
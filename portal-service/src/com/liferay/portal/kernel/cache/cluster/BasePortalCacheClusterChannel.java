@@ -18,6 +18,15 @@ import com.liferay.portal.kernel.concurrent.CoalescedPipe;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 
+import java.io.Serializable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -44,14 +53,40 @@ public abstract class BasePortalCacheClusterChannel
 
 	public abstract void dispatchEvent(PortalCacheClusterEvent event);
 
+	/**
+	 * Dispatches the removals of many keys from one cache. Subclasses that
+	 * can send the batch in one message should override this method. The
+	 * default implementation dispatches one event for each key.
+	 */
+	public void dispatchEventBatch(
+		PortalCacheClusterEventBatch portalCacheClusterEventBatch) {
+
+		for (Serializable elementKey :
+				portalCacheClusterEventBatch.getElementKeys()) {
+
+			dispatchEvent(
+				new PortalCacheClusterEvent(
+					portalCacheClusterEventBatch.getCacheName(), elementKey,
+					PortalCacheClusterEventType.REMOVE));
+		}
+	}
+
 	public long getCoalescedEventNumber() {
-		return _eventQueue.coalescedCount();
+		return _eventQueue.coalescedCount() + _batchCoalescedEventCounter.get();
+	}
+
+	public long getFlushInterval() {
+		return _flushInterval;
 	}
 
 	public int getPendingEventNumber() {
 		return _eventQueue.pendingCount();
 	}
 
+	public long getSentBatchNumber() {
+		return _sentBatchCounter.get();
+	}
+
 	public long getSentEventNumber() {
 		return _sentEventCounter.get();
 	}
@@ -60,13 +95,12 @@ public abstract class BasePortalCacheClusterChannel
 		while (true) {
 			try {
 				if (_destroy) {
-					Object[] events = _eventQueue.takeSnapshot();
+					List<PortalCacheClusterEvent> portalCacheClusterEvents =
+						new ArrayList<PortalCacheClusterEvent>();
 
-					for (Object event : events) {
-						dispatchEvent((PortalCacheClusterEvent)event);
+					_eventQueue.drainTo(portalCacheClusterEvents);
 
-						_sentEventCounter.incrementAndGet();
-					}
+					_dispatchEvents(portalCacheClusterEvents);
 
 					break;
 				}
@@ -75,9 +109,28 @@ public abstract class BasePortalCacheClusterChannel
 						PortalCacheClusterEvent portalCacheClusterEvent =
 							_eventQueue.take();
 
-						dispatchEvent(portalCacheClusterEvent);
+						if (_flushInterval <= 0) {
+							dispatchEvent(portalCacheClusterEvent);
+
+							_sentEventCounter.incrementAndGet();
+
+							continue;
+						}
+
+						List<PortalCacheClusterEvent> portalCacheClusterEvents =
+							new ArrayList<PortalCacheClusterEvent>();
+
+						portalCacheClusterEvents.add(portalCacheClusterEvent);
+
+						try {
+							Thread.sleep(_flushInterval);
+						}
+						catch (InterruptedException ie) {
+						}
+
+						_eventQueue.drainTo(portalCacheClusterEvents);
 
-						_sentEventCounter.incrementAndGet();
+						_dispatchEvents(portalCacheClusterEvents);
 					}
 					catch (InterruptedException ie) {
 					}
@@ -114,14 +167,136 @@ public abstract class BasePortalCacheClusterChannel
 		}
 	}
 
+	/**
+	 * Sets the number of milliseconds to collect events before they are
+	 * sent. When the interval is positive, the removals of each cache that
+	 * are collected in one interval are sent as one {@link
+	 * PortalCacheClusterEventBatch}.
+	 */
+	public void setFlushInterval(long flushInterval) {
+		_flushInterval = flushInterval;
+	}
+
+	private void _dispatchEventBatch(
+		String cacheName, Set<Serializable> elementKeys) {
+
+		if (elementKeys.size() == 1) {
+			Iterator<Serializable> iterator = elementKeys.iterator();
+
+			dispatchEvent(
+				new PortalCacheClusterEvent(
+					cacheName, iterator.next(),
+					PortalCacheClusterEventType.REMOVE));
+		}
+		else {
+			dispatchEventBatch(
+				new PortalCacheClusterEventBatch(
+					cacheName, new ArrayList<Serializable>(elementKeys)));
+
+			_sentBatchCounter.incrementAndGet();
+		}
+
+		_sentEventCounter.addAndGet(elementKeys.size());
+	}
+
+	private void _dispatchEvents(
+		List<PortalCacheClusterEvent> portalCacheClusterEvents) {
+
+		// Removals are grouped by cache. Any other event of a cache first
+		// sends the removals of that cache that were collected before it.
+
+		Map<String, Set<Serializable>> elementKeysMap =
+			new LinkedHashMap<String, Set<Serializable>>();
+
+		for (PortalCacheClusterEvent portalCacheClusterEvent :
+				portalCacheClusterEvents) {
+
+			String cacheName = portalCacheClusterEvent.getCacheName();
+
+			if (_isRemoval(portalCacheClusterEvent)) {
+				Set<Serializable> elementKeys = elementKeysMap.get(cacheName);
+
+				if (elementKeys == null) {
+					elementKeys = new LinkedHashSet<Serializable>();
+
+					elementKeysMap.put(cacheName, elementKeys);
+				}
+
+				if (!elementKeys.add(portalCacheClusterEvent.getElementKey())) {
+					_batchCoalescedEventCounter.incrementAndGet();
+				}
+
+				continue;
+			}
+
+			Set<Serializable> elementKeys = elementKeysMap.remove(cacheName);
+
+			if (elementKeys != null) {
+				if (portalCacheClusterEvent.getEventType() ==
+						PortalCacheClusterEventType.REMOVE_ALL) {
+
+					_batchCoalescedEventCounter.addAndGet(elementKeys.size());
+				}
+				else {
+					_dispatchEventBatch(cacheName, elementKeys);
+				}
+			}
+
+			dispatchEvent(portalCacheClusterEvent);
+
+			_sentEventCounter.incrementAndGet();
+		}
+
+		for (Map.Entry<String, Set<Serializable>> entry :
+				elementKeysMap.entrySet()) {
+
+			_dispatchEventBatch(entry.getKey(), entry.getValue());
+		}
+	}
+
+	private boolean _isRemoval(
+		PortalCacheClusterEvent portalCacheClusterEvent) {
+
+		if (portalCacheClusterEvent.getElementKey() == null) {
+			return false;
+		}
+
+		PortalCacheClusterEventType portalCacheClusterEventType =
+			portalCacheClusterEvent.getEventType();
+
+		if ((portalCacheClusterEventType ==
+				PortalCacheClusterEventType.EVICTED) ||
+			(portalCacheClusterEventType ==
+				PortalCacheClusterEventType.EXPIRED) ||
+			(portalCacheClusterEventType ==
+				PortalCacheClusterEventType.REMOVE)) {
+
+			return true;
+		}
+
+		if (((portalCacheClusterEventType ==
+				PortalCacheClusterEventType.PUT) ||
+			 (portalCacheClusterEventType ==
+				PortalCacheClusterEventType.UPDATE)) &&
+			(portalCacheClusterEvent.getElementValue() == null)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(
 		BasePortalCacheClusterChannel.class);
 
 	private static AtomicInteger _dispatchThreadCounter = new AtomicInteger(0);
 
+	private final AtomicLong _batchCoalescedEventCounter = new AtomicLong(0);
 	private volatile boolean _destroy = false;
 	private final Thread _dispatchThread;
 	private final CoalescedPipe<PortalCacheClusterEvent> _eventQueue;
+	private volatile long _flushInterval;
+	private final AtomicLong _sentBatchCounter = new AtomicLong(0);
 	private final AtomicLong _sentEventCounter = new AtomicLong(0);
 	private volatile boolean _started = false;
 
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.cache.cluster;
+
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+
+import java.util.List;
+
+/**
+ * Carries the removals of many keys from one cache in a single cluster
+ * message. When all of the keys are longs, they are written as a primitive
+ * long array.
+ */
+public class PortalCacheClusterEventBatch implements Externalizable {
+
+	/**
+	 * The empty constructor is required by {@link java.io.Externalizable}. Do
+	 * not use this for any other purpose.
+	 */
+	public PortalCacheClusterEventBatch() {
+	}
+
+	public PortalCacheClusterEventBatch(
+		String cacheName, List<Serializable> elementKeys) {
+
+		_cacheName = cacheName;
+
+		boolean longElementKeys = true;
+
+		for (Serializable elementKey : elementKeys) {
+			if (!(elementKey instanceof Long)) {
+				longElementKeys = false;
+
+				break;
+			}
+		}
+
+		if (longElementKeys) {
+			_longElementKeys = new long[elementKeys.size()];
+
+			for (int i = 0; i < _longElementKeys.length; i++) {
+				_longElementKeys[i] = (Long)elementKeys.get(i);
+			}
+		}
+		else {
+			_elementKeys = elementKeys.toArray(
+				new Serializable[elementKeys.size()]);
+		}
+	}
+
+	public String getCacheName() {
+		return _cacheName;
+	}
+
+	public Serializable[] getElementKeys() {
+		if (_elementKeys != null) {
+			return _elementKeys;
+		}
+
+		Serializable[] elementKeys = new Serializable[_longElementKeys.length];
+
+		for (int i = 0; i < _longElementKeys.length; i++) {
+			elementKeys[i] = _longElementKeys[i];
+		}
+
+		return elementKeys;
+	}
+
+	public int getSize() {
+		if (_elementKeys != null) {
+			return _elementKeys.length;
+		}
+
+		return _longElementKeys.length;
+	}
+
+	public void readExternal(ObjectInput objectInput)
+		throws ClassNotFoundException, IOException {
+
+		_cacheName = objectInput.readUTF();
+
+		boolean longElementKeys = objectInput.readBoolean();
+
+		int size = objectInput.readInt();
+
+		if (longElementKeys) {
+			_longElementKeys = new long[size];
+
+			for (int i = 0; i < size; i++) {
+				_longElementKeys[i] = objectInput.readLong();
+			}
+		}
+		else {
+			_elementKeys = new Serializable[size];
+
+			for (int i = 0; i < size; i++) {
+				_elementKeys[i] = (Serializable)objectInput.readObject();
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		StringBundler sb = new StringBundler(5);
+
+		sb.append(_cacheName);
+		sb.append(StringPool.COLON);
+		sb.append(getSize());
+		sb.append(StringPool.COLON);
+		sb.append(PortalCacheClusterEventType.REMOVE.toString());
+
+		return sb.toString();
+	}
+
+	public void writeExternal(ObjectOutput objectOutput) throws IOException {
+		objectOutput.writeUTF(_cacheName);
+
+		if (_elementKeys == null) {
+			objectOutput.writeBoolean(true);
+			objectOutput.writeInt(_longElementKeys.length);
+
+			for (long longElementKey : _longElementKeys) {
+				objectOutput.writeLong(longElementKey);
+			}
+		}
+		else {
+			objectOutput.writeBoolean(false);
+			objectOutput.writeInt(_elementKeys.length);
+
+			for (Serializable elementKey : _elementKeys) {
+				objectOutput.writeObject(elementKey);
+			}
+		}
+	}
+
+	private String _cacheName;
+	private Serializable[] _elementKeys;
+	private long[] _longElementKeys;
+
+}
\ No newline at end of file
@@ -46,6 +46,31 @@ public class PortalCacheClusterLink {
 		}
 	}
 
+	public long getCoalescedEventNumber() {
+		long coalescedEventNumber = 0;
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_portalCacheClusterChannels) {
+
+			coalescedEventNumber +=
+				portalCacheClusterChannel.getCoalescedEventNumber();
+		}
+
+		return coalescedEventNumber;
+	}
+
+	public long getSentEventNumber() {
+		long sentEventNumber = 0;
+
+		for (PortalCacheClusterChannel portalCacheClusterChannel :
+				_portalCacheClusterChannels) {
+
+			sentEventNumber += portalCacheClusterChannel.getSentEventNumber();
+		}
+
+		return sentEventNumber;
+	}
+
 	public long getSubmittedEventNumber() {
 		return _portalCacheClusterChannelSelector.getSelectedNumber();
 	}
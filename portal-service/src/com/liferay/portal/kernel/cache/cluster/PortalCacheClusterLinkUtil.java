@@ -23,6 +23,17 @@ import com.liferay.portal.kernel.security.pacl.permission.PortalRuntimePermissio
  */
 public class PortalCacheClusterLinkUtil {
 
+	public static long getCoalescedEventNumber() {
+		PortalCacheClusterLink portalCacheClusterLink =
+			getPortalCacheClusterLink();
+
+		if (portalCacheClusterLink == null) {
+			return -1;
+		}
+
+		return portalCacheClusterLink.getCoalescedEventNumber();
+	}
+
 	public static PortalCacheClusterLink getPortalCacheClusterLink() {
 		PortalRuntimePermission.checkGetBeanProperty(
 			PortalCacheClusterLinkUtil.class);
@@ -39,6 +50,17 @@ public class PortalCacheClusterLinkUtil {
 		return _portalCacheClusterLink;
 	}
 
+	public static long getSentEventNumber() {
+		PortalCacheClusterLink portalCacheClusterLink =
+			getPortalCacheClusterLink();
+
+		if (portalCacheClusterLink == null) {
+			return -1;
+		}
+
+		return portalCacheClusterLink.getSentEventNumber();
+	}
+
 	public static long getSubmittedEventNumber() {
 		PortalCacheClusterLink portalCacheClusterLink =
 			getPortalCacheClusterLink();
@@ -14,6 +14,7 @@
 
 package com.liferay.portal.kernel.concurrent;
 
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
@@ -41,6 +42,38 @@ public class CoalescedPipe<E> {
 		return _coalescedCount.get();
 	}
 
+	public int drainTo(Collection<? super E> collection) {
+		_putLock.lock();
+		_takeLock.lock();
+
+		try {
+			int count = 0;
+
+			ElementLink<E> currentElementLink =
+				_headElementLink._nextElementLink;
+
+			while (currentElementLink != null) {
+				collection.add(currentElementLink._element);
+
+				count++;
+
+				currentElementLink = currentElementLink._nextElementLink;
+			}
+
+			_headElementLink = _lastElementLink;
+
+			_headElementLink._element = null;
+
+			_pendingCount.set(0);
+
+			return count;
+		}
+		finally {
+			_putLock.unlock();
+			_takeLock.unlock();
+		}
+	}
+
 	public int pendingCount() {
 		return _pendingCount.get();
 	}
@@ -62,12 +62,14 @@ public abstract class BaseActionableDynamicQuery
 		long minPrimaryKey = (Long)minAndMaxPrimaryKeys[0];
 		long maxPrimaryKey = (Long)minAndMaxPrimaryKeys[1];
 
-		long startPrimaryKey = minPrimaryKey;
+		long startPrimaryKey = getStartPrimaryKey(minPrimaryKey, maxPrimaryKey);
 		long endPrimaryKey = startPrimaryKey + _interval;
 
 		while (startPrimaryKey <= maxPrimaryKey) {
 			performActions(startPrimaryKey, endPrimaryKey);
 
+			intervalCompleted(startPrimaryKey, endPrimaryKey);
+
 			startPrimaryKey = endPrimaryKey;
 			endPrimaryKey += _interval;
 		}
@@ -90,9 +92,7 @@ public abstract class BaseActionableDynamicQuery
 
 		List<Object> objects = dynamicQuery(dynamicQuery);
 
-		for (Object object : objects) {
-			performAction(object);
-		}
+		performActions(objects);
 	}
 
 	public void setBaseLocalService(BaseLocalService baseLocalService)
@@ -177,9 +177,41 @@ public abstract class BaseActionableDynamicQuery
 		}
 	}
 
+	protected long getCompanyId() {
+		return _companyId;
+	}
+
+	protected int getInterval() {
+		return _interval;
+	}
+
+	/**
+	 * Returns the primary key to start from. Subclasses can override this to
+	 * skip primary keys that were already processed.
+	 */
+	protected long getStartPrimaryKey(long minPrimaryKey, long maxPrimaryKey) {
+		return minPrimaryKey;
+	}
+
+	/**
+	 * Called after the objects of each primary key interval have been
+	 * processed by {@link #performActions()}.
+	 */
+	protected void intervalCompleted(long startPrimaryKey, long endPrimaryKey)
+		throws PortalException, SystemException {
+	}
+
 	protected abstract void performAction(Object object)
 		throws PortalException, SystemException;
 
+	protected void performActions(List<Object> objects)
+		throws PortalException, SystemException {
+
+		for (Object object : objects) {
+			performAction(object);
+		}
+	}
+
 	private BaseLocalService _baseLocalService;
 	private ClassLoader _classLoader;
 	private Class<?> _clazz;
@@ -18,12 +18,17 @@ import com.liferay.portal.kernel.cluster.ClusterLink;
 import com.liferay.portal.kernel.concurrent.RejectedExecutionHandler;
 import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
 import com.liferay.portal.kernel.concurrent.ThreadPoolHandlerAdapter;
+import com.liferay.portal.kernel.configuration.Filter;
 import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.DestinationScheduler.DestinationQueue;
 import com.liferay.portal.kernel.messaging.proxy.MessageValuesThreadLocal;
+import com.liferay.portal.kernel.util.GetterUtil;
 import com.liferay.portal.kernel.util.NamedThreadFactory;
 import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
 import com.liferay.portal.kernel.util.Validator;
 import com.liferay.portal.model.User;
 import com.liferay.portal.security.auth.CompanyThreadLocal;
@@ -67,6 +72,14 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 
 	@Override
 	public void close(boolean force) {
+		DestinationQueue destinationQueue = _destinationQueue;
+
+		if (destinationQueue != null) {
+			_destinationScheduler.close(destinationQueue, force);
+
+			_destinationQueue = null;
+		}
+
 		PortalExecutorManagerUtil.shutdown(getName(), force);
 	}
 
@@ -74,20 +87,53 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 		DestinationStatistics destinationStatistics =
 			new DestinationStatistics();
 
+		destinationStatistics.setAverageLatency(
+			_latencyHistogram.getAverageLatency());
+		destinationStatistics.setLatencyHistogram(
+			_latencyHistogram.getCounts());
+		destinationStatistics.setMaxLatency(_latencyHistogram.getMaxLatency());
+
+		DestinationQueue destinationQueue = _destinationQueue;
+
+		if (destinationQueue != null) {
+			destinationStatistics.setActiveThreadCount(
+				destinationQueue.getActiveCount());
+			destinationStatistics.setCurrentThreadCount(
+				_destinationScheduler.getThreadCount());
+			destinationStatistics.setLargestThreadCount(
+				_destinationScheduler.getThreadCount());
+			destinationStatistics.setMaxThreadPoolSize(
+				destinationQueue.getMaxConcurrency());
+			destinationStatistics.setPendingMessageCount(
+				destinationQueue.getPendingCount());
+			destinationStatistics.setRejectedMessageCount(
+				destinationQueue.getRejectedCount());
+			destinationStatistics.setSentMessageCount(
+				destinationQueue.getCompletedCount());
+
+			return destinationStatistics;
+		}
+
+		ThreadPoolExecutor threadPoolExecutor = _threadPoolExecutor;
+
+		if (threadPoolExecutor == null) {
+			return destinationStatistics;
+		}
+
 		destinationStatistics.setActiveThreadCount(
-			_threadPoolExecutor.getActiveCount());
+			threadPoolExecutor.getActiveCount());
 		destinationStatistics.setCurrentThreadCount(
-			_threadPoolExecutor.getPoolSize());
+			threadPoolExecutor.getPoolSize());
 		destinationStatistics.setLargestThreadCount(
-			_threadPoolExecutor.getLargestPoolSize());
+			threadPoolExecutor.getLargestPoolSize());
 		destinationStatistics.setMaxThreadPoolSize(
-			_threadPoolExecutor.getMaxPoolSize());
+			threadPoolExecutor.getMaxPoolSize());
 		destinationStatistics.setMinThreadPoolSize(
-			_threadPoolExecutor.getCorePoolSize());
+			threadPoolExecutor.getCorePoolSize());
 		destinationStatistics.setPendingMessageCount(
-			_threadPoolExecutor.getPendingTaskCount());
+			threadPoolExecutor.getPendingTaskCount());
 		destinationStatistics.setSentMessageCount(
-			_threadPoolExecutor.getCompletedTaskCount());
+			threadPoolExecutor.getCompletedTaskCount());
 
 		return destinationStatistics;
 	}
@@ -96,6 +142,10 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 		return _maximumQueueSize;
 	}
 
+	public int getWeight() {
+		return _weight;
+	}
+
 	public int getWorkersCoreSize() {
 		return _workersCoreSize;
 	}
@@ -106,37 +156,16 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 
 	@Override
 	public void open() {
-		if ((_threadPoolExecutor == null) || _threadPoolExecutor.isShutdown()) {
-			ClassLoader classLoader = PortalClassLoaderUtil.getClassLoader();
-
-			if (_rejectedExecutionHandler == null) {
-				_rejectedExecutionHandler = createRejectionExecutionHandler();
+		if (DestinationScheduler.isEnabled(getName())) {
+			if (_destinationQueue == null) {
+				_openDestinationQueue();
 			}
 
-			ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
-				_workersCoreSize, _workersMaxSize, 60L, TimeUnit.SECONDS, false,
-				_maximumQueueSize, _rejectedExecutionHandler,
-				new NamedThreadFactory(
-					getName(), Thread.NORM_PRIORITY, classLoader),
-				new ThreadPoolHandlerAdapter());
-
-			ThreadPoolExecutor oldThreadPoolExecutor =
-				PortalExecutorManagerUtil.registerPortalExecutor(
-					getName(), threadPoolExecutor);
-
-			if (oldThreadPoolExecutor != null) {
-				if (_log.isWarnEnabled()) {
-					_log.warn(
-						"Abort creating a new thread pool for destination " +
-							getName() + " and reuse previous one");
-				}
-
-				threadPoolExecutor.shutdownNow();
-
-				threadPoolExecutor = oldThreadPoolExecutor;
-			}
+			return;
+		}
 
-			_threadPoolExecutor = threadPoolExecutor;
+		if ((_threadPoolExecutor == null) || _threadPoolExecutor.isShutdown()) {
+			_openThreadPoolExecutor();
 		}
 	}
 
@@ -149,9 +178,7 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 			return;
 		}
 
-		ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor();
-
-		if (threadPoolExecutor.isShutdown()) {
+		if (isShutdown()) {
 			throw new IllegalStateException(
 				"Destination " + getName() + " is shutdown and cannot " +
 					"receive more messages");
@@ -172,6 +199,10 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 		_rejectedExecutionHandler = rejectedExecutionHandler;
 	}
 
+	public void setWeight(int weight) {
+		_weight = weight;
+	}
+
 	public void setWorkersCoreSize(int workersCoreSize) {
 		_workersCoreSize = workersCoreSize;
 	}
@@ -204,10 +235,89 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 	protected abstract void dispatch(
 		Set<MessageListener> messageListeners, Message message);
 
+	/**
+	 * Runs the message runnable on the shared destination scheduler when it
+	 * is enabled, or else on the thread pool of this destination.
+	 */
+	protected void execute(final MessageRunnable messageRunnable) {
+		final long startTime = System.currentTimeMillis();
+
+		MessageRunnable latencyMessageRunnable = new MessageRunnable(
+			messageRunnable.getMessage()) {
+
+			public void run() {
+				try {
+					messageRunnable.run();
+				}
+				finally {
+					_latencyHistogram.record(
+						System.currentTimeMillis() - startTime);
+				}
+			}
+
+		};
+
+		DestinationQueue destinationQueue = _destinationQueue;
+
+		if (destinationQueue == null) {
+			ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor();
+
+			threadPoolExecutor.execute(latencyMessageRunnable);
+
+			return;
+		}
+
+		if (_destinationScheduler.execute(
+				destinationQueue, latencyMessageRunnable)) {
+
+			return;
+		}
+
+		if (_rejectedExecutionHandler != null) {
+			_rejectedExecutionHandler.rejectedExecution(
+				latencyMessageRunnable, getThreadPoolExecutor());
+		}
+		else if (_log.isWarnEnabled()) {
+			_log.warn(
+				"Discarding message " + messageRunnable.getMessage() +
+					" because destination " + getName() + " did not accept " +
+						"it within the backpressure timeout");
+		}
+	}
+
+	/**
+	 * Returns the thread pool of this destination. When the shared
+	 * destination scheduler is enabled, the thread pool is only created for
+	 * subclasses that still call this method.
+	 */
 	protected ThreadPoolExecutor getThreadPoolExecutor() {
+		if ((_threadPoolExecutor == null) && (_destinationQueue != null)) {
+			synchronized (this) {
+				if (_threadPoolExecutor == null) {
+					_openThreadPoolExecutor();
+				}
+			}
+		}
+
 		return _threadPoolExecutor;
 	}
 
+	protected boolean isShutdown() {
+		DestinationQueue destinationQueue = _destinationQueue;
+
+		if (destinationQueue != null) {
+			return destinationQueue.isClosed();
+		}
+
+		ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor();
+
+		if ((threadPoolExecutor == null) || threadPoolExecutor.isShutdown()) {
+			return true;
+		}
+
+		return false;
+	}
+
 	protected void populateMessageFromThreadLocals(Message message) {
 		if (!message.contains("companyId")) {
 			message.put("companyId", CompanyThreadLocal.getCompanyId());
@@ -276,15 +386,77 @@ public abstract class BaseAsyncDestination extends BaseDestination {
 		}
 	}
 
+	private void _openDestinationQueue() {
+		_destinationScheduler = DestinationScheduler.getInstance();
+
+		int maxQueueSize = _maximumQueueSize;
+
+		if (maxQueueSize == Integer.MAX_VALUE) {
+			maxQueueSize = _MAX_QUEUE_SIZE;
+		}
+
+		int weight = GetterUtil.getInteger(
+			PropsUtil.get(
+				PropsKeys.MESSAGE_BUS_DESTINATION_WEIGHT,
+				new Filter(getName())),
+			_weight);
+
+		_destinationQueue = _destinationScheduler.register(
+			getName(), weight, _workersMaxSize, maxQueueSize);
+	}
+
+	private void _openThreadPoolExecutor() {
+		ClassLoader classLoader = PortalClassLoaderUtil.getClassLoader();
+
+		RejectedExecutionHandler rejectedExecutionHandler =
+			_rejectedExecutionHandler;
+
+		if (rejectedExecutionHandler == null) {
+			rejectedExecutionHandler = createRejectionExecutionHandler();
+		}
+
+		ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+			_workersCoreSize, _workersMaxSize, 60L, TimeUnit.SECONDS, false,
+			_maximumQueueSize, rejectedExecutionHandler,
+			new NamedThreadFactory(
+				getName(), Thread.NORM_PRIORITY, classLoader),
+			new ThreadPoolHandlerAdapter());
+
+		ThreadPoolExecutor oldThreadPoolExecutor =
+			PortalExecutorManagerUtil.registerPortalExecutor(
+				getName(), threadPoolExecutor);
+
+		if (oldThreadPoolExecutor != null) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Abort creating a new thread pool for destination " +
+						getName() + " and reuse previous one");
+			}
+
+			threadPoolExecutor.shutdownNow();
+
+			threadPoolExecutor = oldThreadPoolExecutor;
+		}
+
+		_threadPoolExecutor = threadPoolExecutor;
+	}
+
+	private static final int _MAX_QUEUE_SIZE = GetterUtil.getInteger(
+		PropsUtil.get(PropsKeys.MESSAGE_BUS_SHARED_SCHEDULER_MAX_QUEUE_SIZE));
+
 	private static final int _WORKERS_CORE_SIZE = 2;
 
 	private static final int _WORKERS_MAX_SIZE = 5;
 
 	private static Log _log = LogFactoryUtil.getLog(BaseAsyncDestination.class);
 
+	private volatile DestinationQueue _destinationQueue;
+	private DestinationScheduler _destinationScheduler;
+	private final LatencyHistogram _latencyHistogram = new LatencyHistogram();
 	private int _maximumQueueSize = Integer.MAX_VALUE;
 	private RejectedExecutionHandler _rejectedExecutionHandler;
-	private ThreadPoolExecutor _threadPoolExecutor;
+	private volatile ThreadPoolExecutor _threadPoolExecutor;
+	private int _weight = 1;
 	private int _workersCoreSize = _WORKERS_CORE_SIZE;
 	private int _workersMaxSize = _WORKERS_MAX_SIZE;
 
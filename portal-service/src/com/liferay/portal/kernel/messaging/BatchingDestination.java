@@ -0,0 +1,365 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.messaging;
+
+import com.liferay.portal.kernel.cache.Lifecycle;
+import com.liferay.portal.kernel.cache.ThreadLocalCacheManager;
+import com.liferay.portal.kernel.cluster.ClusterLink;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.CentralizedThreadLocal;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.kernel.util.StringBundler;
+import com.liferay.portal.kernel.util.StringPool;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Accumulates messages and delivers them to the listeners as one message
+ * whose payload is a {@link MessageBatch}.
+ *
+ * <p>
+ * A batch is delivered when it holds the batch size number of messages, when
+ * its first message has waited for the batch wait time, or when a message
+ * that expects a response is added. Messages that have the same values for
+ * all of the coalescing keys replace each other, so that only the last one is
+ * delivered, in the position of the last one. Messages that have no value for
+ * any of the coalescing keys are never coalesced.
+ * </p>
+ *
+ * <p>
+ * Batches are delivered in order on a single thread by default. Listeners
+ * must expect a {@link MessageBatch} payload. A batch only holds messages
+ * that were sent with the same company, principal and cluster forward flag,
+ * and these thread local values are restored before the listeners receive
+ * the batch.
+ * </p>
+ */
+public class BatchingDestination extends BaseAsyncDestination {
+
+	public BatchingDestination() {
+		setWorkersCoreSize(_WORKERS_CORE_SIZE);
+		setWorkersMaxSize(_WORKERS_MAX_SIZE);
+	}
+
+	@Override
+	public void close(boolean force) {
+		synchronized (this) {
+			if (_scheduledFuture != null) {
+				_scheduledFuture.cancel(false);
+
+				_scheduledFuture = null;
+			}
+
+			if (force) {
+				_batchMessages.clear();
+				_messages.clear();
+			}
+		}
+
+		if (!force) {
+			_flush();
+		}
+
+		super.close(force);
+	}
+
+	public int getBatchSize() {
+		return _batchSize;
+	}
+
+	public long getBatchWaitTime() {
+		return _batchWaitTime;
+	}
+
+	public long getCoalescedMessageCount() {
+		return _coalescedMessageCount.get();
+	}
+
+	public String[] getCoalescingKeys() {
+		return _coalescingKeys;
+	}
+
+	public void setBatchSize(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException(
+				"Batch size " + batchSize + " is less than 1");
+		}
+
+		_batchSize = batchSize;
+	}
+
+	public void setBatchWaitTime(long batchWaitTime) {
+		_batchWaitTime = batchWaitTime;
+	}
+
+	public void setCoalescingKeys(String[] coalescingKeys) {
+		_coalescingKeys = coalescingKeys;
+	}
+
+	@Override
+	protected void dispatch(
+		Set<MessageListener> messageListeners, Message message) {
+
+		Object coalescingKey = getCoalescingKey(message);
+		String contextKey = _getContextKey(message);
+
+		boolean flush = false;
+
+		boolean responseExpected = Validator.isNotNull(
+			message.getResponseDestinationName());
+
+		synchronized (this) {
+
+			// A batch only holds messages that were sent with the same thread
+			// local values so that they can be restored for the whole batch
+
+			if (!_messages.isEmpty() && !contextKey.equals(_contextKey)) {
+				_batchMessages.add(_createBatchMessage());
+
+				flush = true;
+			}
+
+			_contextKey = contextKey;
+
+			if (coalescingKey == null) {
+				coalescingKey = new Object();
+			}
+			else if (_messages.remove(coalescingKey) != null) {
+				_coalescedMessageCount.incrementAndGet();
+			}
+
+			_messages.put(coalescingKey, message);
+
+			if (responseExpected || (_messages.size() >= _batchSize) ||
+				(_batchWaitTime <= 0)) {
+
+				flush = true;
+			}
+			else if (_scheduledFuture == null) {
+				_scheduledFuture = _getScheduledExecutorService().schedule(
+					_flushRunnable, _batchWaitTime, TimeUnit.MILLISECONDS);
+			}
+		}
+
+		if (flush) {
+			_flush();
+		}
+	}
+
+	/**
+	 * Returns the key that identifies messages that replace each other, or
+	 * <code>null</code> if the message must not be coalesced. The default
+	 * implementation joins the message values of the coalescing keys.
+	 */
+	protected Object getCoalescingKey(Message message) {
+		if ((_coalescingKeys == null) || (_coalescingKeys.length == 0)) {
+			return null;
+		}
+
+		StringBundler sb = new StringBundler(_coalescingKeys.length * 2);
+
+		boolean hasValue = false;
+
+		for (String coalescingKey : _coalescingKeys) {
+			Object value = message.get(coalescingKey);
+
+			if (value != null) {
+				hasValue = true;
+			}
+
+			sb.append(String.valueOf(value));
+			sb.append(StringPool.POUND);
+		}
+
+		if (!hasValue) {
+			return null;
+		}
+
+		return sb.toString();
+	}
+
+	private static synchronized ScheduledExecutorService
+		_getScheduledExecutorService() {
+
+		if (_scheduledExecutorService == null) {
+			_scheduledExecutorService =
+				Executors.newSingleThreadScheduledExecutor(
+					new NamedThreadFactory(
+						BatchingDestination.class.getName(),
+						Thread.NORM_PRIORITY,
+						PortalClassLoaderUtil.getClassLoader()));
+		}
+
+		return _scheduledExecutorService;
+	}
+
+	private Message _createBatchMessage() {
+		if (_scheduledFuture != null) {
+			_scheduledFuture.cancel(false);
+
+			_scheduledFuture = null;
+		}
+
+		MessageBatch messageBatch = new MessageBatch(
+			getName(), _messages.size());
+
+		Message lastMessage = null;
+
+		for (Message message : _messages.values()) {
+			messageBatch.addMessage(message);
+
+			lastMessage = message;
+		}
+
+		_messages.clear();
+
+		Message batchMessage = new Message();
+
+		batchMessage.setDestinationName(getName());
+		batchMessage.setPayload(messageBatch);
+
+		for (String key : _THREAD_LOCAL_KEYS) {
+			Object value = lastMessage.get(key);
+
+			if (value != null) {
+				batchMessage.put(key, value);
+			}
+		}
+
+		return batchMessage;
+	}
+
+	private MessageRunnable _createMessageRunnable(final Message batchMessage) {
+		return new MessageRunnable(batchMessage) {
+
+			public void run() {
+				try {
+					populateThreadLocalsFromMessage(batchMessage);
+
+					for (MessageListener messageListener : messageListeners) {
+						try {
+							messageListener.receive(batchMessage);
+						}
+						catch (MessageListenerException mle) {
+							_log.error(
+								"Unable to process message batch " +
+									batchMessage,
+								mle);
+						}
+					}
+				}
+				finally {
+					ThreadLocalCacheManager.clearAll(Lifecycle.REQUEST);
+
+					CentralizedThreadLocal.clearShortLivedThreadLocals();
+				}
+			}
+
+		};
+	}
+
+	private void _flush() {
+
+		// Batches are handed to the executor outside of the monitor of this
+		// destination because the executor may block, and in the order in
+		// which they were created
+
+		_flushLock.lock();
+
+		try {
+			List<Message> batchMessages = null;
+
+			synchronized (this) {
+				if (!_messages.isEmpty()) {
+					_batchMessages.add(_createBatchMessage());
+				}
+
+				if (_batchMessages.isEmpty()) {
+					return;
+				}
+
+				batchMessages = new ArrayList<Message>(_batchMessages);
+
+				_batchMessages.clear();
+			}
+
+			for (Message batchMessage : batchMessages) {
+				execute(_createMessageRunnable(batchMessage));
+			}
+		}
+		finally {
+			_flushLock.unlock();
+		}
+	}
+
+	private String _getContextKey(Message message) {
+		StringBundler sb = new StringBundler(6);
+
+		sb.append(message.get(ClusterLink.CLUSTER_FORWARD_MESSAGE));
+		sb.append(StringPool.POUND);
+		sb.append(message.get("companyId"));
+		sb.append(StringPool.POUND);
+		sb.append(message.get("principalName"));
+		sb.append(StringPool.POUND);
+
+		return sb.toString();
+	}
+
+	private static final String[] _THREAD_LOCAL_KEYS = {
+		ClusterLink.CLUSTER_FORWARD_MESSAGE, "companyId", "permissionChecker",
+		"principalName", "principalPassword"
+	};
+
+	private static final int _WORKERS_CORE_SIZE = 1;
+
+	private static final int _WORKERS_MAX_SIZE = 1;
+
+	private static Log _log = LogFactoryUtil.getLog(BatchingDestination.class);
+
+	private static ScheduledExecutorService _scheduledExecutorService;
+
+	private List<Message> _batchMessages = new ArrayList<Message>();
+	private int _batchSize = 100;
+	private long _batchWaitTime = 100;
+	private AtomicLong _coalescedMessageCount = new AtomicLong();
+	private String[] _coalescingKeys;
+	private String _contextKey;
+	private Lock _flushLock = new ReentrantLock();
+	private Runnable _flushRunnable = new Runnable() {
+
+		public void run() {
+			_flush();
+		}
+
+	};
+	private Map<Object, Message> _messages =
+		new LinkedHashMap<Object, Message>();
+	private ScheduledFuture<?> _scheduledFuture;
+
+}
\ No newline at end of file
@@ -172,6 +172,8 @@ public class DefaultMessageBus implements MessageBus {
 		for (Destination destination : _destinations.values()) {
 			destination.close(force);
 		}
+
+		DestinationScheduler.shutdownInstance(force);
 	}
 
 	public synchronized boolean unregisterMessageListener(
@@ -0,0 +1,473 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.messaging;
+
+import com.liferay.portal.kernel.concurrent.ConcurrentHashSet;
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.NamedThreadFactory;
+import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.kernel.util.SetUtil;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Runs the messages of many asynchronous destinations on one shared pool of
+ * threads.
+ *
+ * <p>
+ * Each destination has its own bounded queue. Idle threads take work from
+ * any destination, visiting the destinations in a weighted round robin so
+ * that a destination with weight <code>n</code> gets up to <code>n</code>
+ * messages dispatched per turn. A destination never runs more messages at
+ * once than its maximum concurrency, which keeps serial destinations serial.
+ * </p>
+ *
+ * <p>
+ * When a queue is full, the sending thread waits up to the backpressure
+ * timeout for space before the message is rejected. Threads of the scheduler
+ * never wait, so a listener that sends to a full destination cannot deadlock
+ * the pool.
+ * </p>
+ */
+public class DestinationScheduler {
+
+	public static synchronized DestinationScheduler getInstance() {
+		if ((_instance == null) || _instance._shutdown) {
+			_instance = new DestinationScheduler(
+				_THREAD_COUNT, _BACKPRESSURE_TIMEOUT);
+		}
+
+		return _instance;
+	}
+
+	/**
+	 * Returns <code>true</code> if the destination runs its messages on the
+	 * shared scheduler. Destinations that are called through synchronous
+	 * messaging proxies, and the destinations that deliver their responses,
+	 * are excluded by default and keep their own thread pools. A caller that
+	 * waits for their response can then never starve the shared threads.
+	 */
+	public static boolean isEnabled(String destinationName) {
+		if (_ENABLED &&
+			!_EXCLUDED_DESTINATION_NAMES.contains(destinationName)) {
+
+			return true;
+		}
+
+		return false;
+	}
+
+	public static synchronized void shutdownInstance(boolean force) {
+		if (_instance != null) {
+			_instance.shutdown(force);
+
+			_instance = null;
+		}
+	}
+
+	public DestinationScheduler(int threadCount, long backpressureTimeout) {
+		if (threadCount <= 0) {
+			throw new IllegalArgumentException(
+				"Thread count " + threadCount + " is not positive");
+		}
+
+		_backpressureTimeout = backpressureTimeout;
+
+		ThreadFactory threadFactory = new NamedThreadFactory(
+			DestinationScheduler.class.getName(), Thread.NORM_PRIORITY,
+			PortalClassLoaderUtil.getClassLoader());
+
+		for (int i = 0; i < threadCount; i++) {
+			Thread thread = threadFactory.newThread(new Worker());
+
+			_workerThreads.add(thread);
+
+			thread.start();
+		}
+	}
+
+	public void close(DestinationQueue destinationQueue, boolean force) {
+		_lock.lock();
+
+		try {
+			destinationQueue._closed = true;
+
+			if (force) {
+				destinationQueue._runnables.clear();
+			}
+
+			if (destinationQueue._runnables.isEmpty()) {
+				_destinationQueues.remove(destinationQueue);
+			}
+
+			destinationQueue._notFull.signalAll();
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	public boolean execute(
+		DestinationQueue destinationQueue, Runnable runnable) {
+
+		boolean workerThread = _workerThreads.contains(Thread.currentThread());
+
+		long nanos = TimeUnit.MILLISECONDS.toNanos(_backpressureTimeout);
+
+		_lock.lock();
+
+		try {
+			while (!workerThread &&
+				   (destinationQueue._runnables.size() >=
+					   destinationQueue._maxQueueSize) &&
+				   !destinationQueue._closed && (nanos > 0)) {
+
+				nanos = destinationQueue._notFull.awaitNanos(nanos);
+			}
+
+			if (destinationQueue._closed || _shutdown ||
+				(!workerThread &&
+				 (destinationQueue._runnables.size() >=
+					 destinationQueue._maxQueueSize))) {
+
+				destinationQueue._rejectedCount++;
+
+				return false;
+			}
+
+			destinationQueue._runnables.add(runnable);
+
+			_notEmpty.signal();
+
+			return true;
+		}
+		catch (InterruptedException ie) {
+			Thread currentThread = Thread.currentThread();
+
+			currentThread.interrupt();
+
+			destinationQueue._rejectedCount++;
+
+			return false;
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	public int getThreadCount() {
+		return _workerThreads.size();
+	}
+
+	public DestinationQueue register(
+		String destinationName, int weight, int maxConcurrency,
+		int maxQueueSize) {
+
+		DestinationQueue destinationQueue = new DestinationQueue(
+			destinationName, Math.max(weight, 1), Math.max(maxConcurrency, 1),
+			Math.max(maxQueueSize, 1), _lock.newCondition());
+
+		_lock.lock();
+
+		try {
+			if (_shutdown) {
+				throw new IllegalStateException(
+					"Destination scheduler is shutdown");
+			}
+
+			_destinationQueues.add(destinationQueue);
+		}
+		finally {
+			_lock.unlock();
+		}
+
+		return destinationQueue;
+	}
+
+	public void shutdown(boolean force) {
+		_lock.lock();
+
+		try {
+			_shutdown = true;
+
+			for (DestinationQueue destinationQueue : _destinationQueues) {
+				destinationQueue._closed = true;
+
+				if (force) {
+					destinationQueue._runnables.clear();
+				}
+
+				destinationQueue._notFull.signalAll();
+			}
+
+			_notEmpty.signalAll();
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	private DestinationQueue _nextDestinationQueue() {
+		int size = _destinationQueues.size();
+
+		if (size == 0) {
+			return null;
+		}
+
+		// Visit every destination once, starting with the one that still has
+		// turns left
+
+		for (int i = 0; i <= size; i++) {
+			if (_index >= size) {
+				_index = 0;
+				_turns = -1;
+			}
+
+			DestinationQueue destinationQueue = _destinationQueues.get(_index);
+
+			if (_turns < 0) {
+				_turns = destinationQueue._weight;
+			}
+
+			if ((_turns > 0) && destinationQueue._isReady()) {
+				_turns--;
+
+				return destinationQueue;
+			}
+
+			_index++;
+			_turns = -1;
+		}
+
+		return null;
+	}
+
+	private static final long _BACKPRESSURE_TIMEOUT = GetterUtil.getLong(
+		PropsUtil.get(
+			PropsKeys.MESSAGE_BUS_SHARED_SCHEDULER_BACKPRESSURE_TIMEOUT));
+
+	private static final boolean _ENABLED = GetterUtil.getBoolean(
+		PropsUtil.get(PropsKeys.MESSAGE_BUS_SHARED_SCHEDULER_ENABLED));
+
+	private static final Set<String> _EXCLUDED_DESTINATION_NAMES =
+		SetUtil.fromArray(
+			PropsUtil.getArray(
+				PropsKeys.MESSAGE_BUS_SHARED_SCHEDULER_EXCLUDED_DESTINATION_NAMES));
+
+	private static final int _THREAD_COUNT = GetterUtil.getInteger(
+		PropsUtil.get(PropsKeys.MESSAGE_BUS_SHARED_SCHEDULER_THREAD_COUNT));
+
+	private static Log _log = LogFactoryUtil.getLog(DestinationScheduler.class);
+
+	private static DestinationScheduler _instance;
+
+	private final long _backpressureTimeout;
+	private final List<DestinationQueue> _destinationQueues =
+		new ArrayList<DestinationQueue>();
+	private int _index;
+	private final ReentrantLock _lock = new ReentrantLock();
+	private final Condition _notEmpty = _lock.newCondition();
+	private boolean _shutdown;
+	private int _turns = -1;
+	private final Set<Thread> _workerThreads = new ConcurrentHashSet<Thread>();
+
+	public class DestinationQueue {
+
+		public int getActiveCount() {
+			_lock.lock();
+
+			try {
+				return _activeCount;
+			}
+			finally {
+				_lock.unlock();
+			}
+		}
+
+		public long getCompletedCount() {
+			_lock.lock();
+
+			try {
+				return _completedCount;
+			}
+			finally {
+				_lock.unlock();
+			}
+		}
+
+		public String getDestinationName() {
+			return _destinationName;
+		}
+
+		public int getMaxConcurrency() {
+			return _maxConcurrency;
+		}
+
+		public int getMaxQueueSize() {
+			return _maxQueueSize;
+		}
+
+		public int getPendingCount() {
+			_lock.lock();
+
+			try {
+				return _runnables.size();
+			}
+			finally {
+				_lock.unlock();
+			}
+		}
+
+		public long getRejectedCount() {
+			_lock.lock();
+
+			try {
+				return _rejectedCount;
+			}
+			finally {
+				_lock.unlock();
+			}
+		}
+
+		public int getWeight() {
+			return _weight;
+		}
+
+		public boolean isClosed() {
+			_lock.lock();
+
+			try {
+				return _closed;
+			}
+			finally {
+				_lock.unlock();
+			}
+		}
+
+		private DestinationQueue(
+			String destinationName, int weight, int maxConcurrency,
+			int maxQueueSize, Condition notFull) {
+
+			_destinationName = destinationName;
+			_weight = weight;
+			_maxConcurrency = maxConcurrency;
+			_maxQueueSize = maxQueueSize;
+			_notFull = notFull;
+		}
+
+		private boolean _isReady() {
+			if (!_runnables.isEmpty() && (_activeCount < _maxConcurrency)) {
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		private int _activeCount;
+		private boolean _closed;
+		private long _completedCount;
+		private final String _destinationName;
+		private final int _maxConcurrency;
+		private final int _maxQueueSize;
+		private final Condition _notFull;
+		private long _rejectedCount;
+		private final Queue<Runnable> _runnables = new LinkedList<Runnable>();
+		private final int _weight;
+
+	}
+
+	private class Worker implements Runnable {
+
+		public void run() {
+			while (true) {
+				DestinationQueue destinationQueue = null;
+				Runnable runnable = null;
+
+				_lock.lock();
+
+				try {
+					destinationQueue = _nextDestinationQueue();
+
+					if (destinationQueue == null) {
+						if (_shutdown) {
+							return;
+						}
+
+						_notEmpty.await();
+
+						continue;
+					}
+
+					runnable = destinationQueue._runnables.poll();
+
+					destinationQueue._activeCount++;
+
+					destinationQueue._notFull.signal();
+				}
+				catch (InterruptedException ie) {
+					continue;
+				}
+				finally {
+					_lock.unlock();
+				}
+
+				try {
+					runnable.run();
+				}
+				catch (Throwable t) {
+					_log.error(
+						"Unable to run a message of destination " +
+							destinationQueue._destinationName,
+						t);
+				}
+				finally {
+					_lock.lock();
+
+					try {
+						destinationQueue._activeCount--;
+						destinationQueue._completedCount++;
+
+						if (!destinationQueue._runnables.isEmpty()) {
+							_notEmpty.signal();
+						}
+						else if (destinationQueue._closed &&
+								 (destinationQueue._activeCount == 0)) {
+
+							_destinationQueues.remove(destinationQueue);
+						}
+					}
+					finally {
+						_lock.unlock();
+					}
+				}
+			}
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -24,6 +24,10 @@ public class DestinationStatistics {
 		return _activeThreadCount;
 	}
 
+	public long getAverageLatency() {
+		return _averageLatency;
+	}
+
 	public int getCurrentThreadCount() {
 		return _currentThreadCount;
 	}
@@ -32,6 +36,14 @@ public class DestinationStatistics {
 		return _largestThreadCount;
 	}
 
+	public long[] getLatencyHistogram() {
+		return _latencyHistogram;
+	}
+
+	public long getMaxLatency() {
+		return _maxLatency;
+	}
+
 	public int getMaxThreadPoolSize() {
 		return _maxThreadPoolSize;
 	}
@@ -44,6 +56,10 @@ public class DestinationStatistics {
 		return _pendingMessageCount;
 	}
 
+	public long getRejectedMessageCount() {
+		return _rejectedMessageCount;
+	}
+
 	public long getSentMessageCount() {
 		return _sentMessageCount;
 	}
@@ -52,6 +68,10 @@ public class DestinationStatistics {
 		_activeThreadCount = activeThreadCount;
 	}
 
+	public void setAverageLatency(long averageLatency) {
+		_averageLatency = averageLatency;
+	}
+
 	public void setCurrentThreadCount(int currentThreadCount) {
 		_currentThreadCount = currentThreadCount;
 	}
@@ -60,6 +80,14 @@ public class DestinationStatistics {
 		_largestThreadCount = largestThreadCount;
 	}
 
+	public void setLatencyHistogram(long[] latencyHistogram) {
+		_latencyHistogram = latencyHistogram;
+	}
+
+	public void setMaxLatency(long maxLatency) {
+		_maxLatency = maxLatency;
+	}
+
 	public void setMaxThreadPoolSize(int maxThreadPoolSize) {
 		_maxThreadPoolSize = maxThreadPoolSize;
 	}
@@ -72,16 +100,24 @@ public class DestinationStatistics {
 		_pendingMessageCount = pendingMessageCount;
 	}
 
+	public void setRejectedMessageCount(long rejectedMessageCount) {
+		_rejectedMessageCount = rejectedMessageCount;
+	}
+
 	public void setSentMessageCount(long sentMessageCount) {
 		_sentMessageCount = sentMessageCount;
 	}
 
 	private int _activeThreadCount;
+	private long _averageLatency;
 	private int _currentThreadCount;
 	private int _largestThreadCount;
+	private long[] _latencyHistogram = new long[0];
+	private long _maxLatency;
 	private int _maxThreadPoolSize;
 	private int _minThreadPoolSize;
 	private long _pendingMessageCount;
+	private long _rejectedMessageCount;
 	private long _sentMessageCount;
 
 }
\ No newline at end of file
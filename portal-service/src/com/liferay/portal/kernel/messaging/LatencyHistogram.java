@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.messaging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counts latencies in buckets whose upper bounds double from one millisecond
+ * up to about 65 seconds. The last bucket counts every longer latency.
+ */
+public class LatencyHistogram {
+
+	public static long[] getUpperBounds() {
+		long[] upperBounds = new long[_BUCKET_COUNT];
+
+		for (int i = 0; i < (_BUCKET_COUNT - 1); i++) {
+			upperBounds[i] = 1L << i;
+		}
+
+		upperBounds[_BUCKET_COUNT - 1] = Long.MAX_VALUE;
+
+		return upperBounds;
+	}
+
+	public long getAverageLatency() {
+		long count = 0;
+
+		for (int i = 0; i < _BUCKET_COUNT; i++) {
+			count += _counts.get(i);
+		}
+
+		if (count == 0) {
+			return 0;
+		}
+
+		return _totalLatency.get() / count;
+	}
+
+	public long[] getCounts() {
+		long[] counts = new long[_BUCKET_COUNT];
+
+		for (int i = 0; i < _BUCKET_COUNT; i++) {
+			counts[i] = _counts.get(i);
+		}
+
+		return counts;
+	}
+
+	public long getMaxLatency() {
+		return _maxLatency.get();
+	}
+
+	public void record(long latency) {
+		if (latency < 0) {
+			latency = 0;
+		}
+
+		int index = _BUCKET_COUNT - 1;
+
+		if (latency < (1L << (_BUCKET_COUNT - 2))) {
+
+			// The first bucket with an upper bound greater than the latency
+
+			index = 64 - Long.numberOfLeadingZeros(latency);
+		}
+
+		_counts.incrementAndGet(index);
+
+		_totalLatency.addAndGet(latency);
+
+		while (true) {
+			long maxLatency = _maxLatency.get();
+
+			if ((latency <= maxLatency) ||
+				_maxLatency.compareAndSet(maxLatency, latency)) {
+
+				break;
+			}
+		}
+	}
+
+	public void reset() {
+		for (int i = 0; i < _BUCKET_COUNT; i++) {
+			_counts.set(i, 0);
+		}
+
+		_maxLatency.set(0);
+		_totalLatency.set(0);
+	}
+
+	private static final int _BUCKET_COUNT = 18;
+
+	private final AtomicLongArray _counts = new AtomicLongArray(_BUCKET_COUNT);
+	private final AtomicLong _maxLatency = new AtomicLong();
+	private final AtomicLong _totalLatency = new AtomicLong();
+
+}
\ No newline at end of file
@@ -16,7 +16,6 @@ package com.liferay.portal.kernel.messaging;
 
 import com.liferay.portal.kernel.cache.Lifecycle;
 import com.liferay.portal.kernel.cache.ThreadLocalCacheManager;
-import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.CentralizedThreadLocal;
@@ -56,10 +55,8 @@ public class ParallelDestination extends BaseAsyncDestination {
 	protected void dispatch(
 		Set<MessageListener> messageListeners, final Message message) {
 
-		ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor();
-
 		for (final MessageListener messageListener : messageListeners) {
-			Runnable runnable = new MessageRunnable(message) {
+			MessageRunnable messageRunnable = new MessageRunnable(message) {
 
 				public void run() {
 					try {
@@ -79,7 +76,7 @@ public class ParallelDestination extends BaseAsyncDestination {
 
 			};
 
-			threadPoolExecutor.execute(runnable);
+			execute(messageRunnable);
 		}
 	}
 
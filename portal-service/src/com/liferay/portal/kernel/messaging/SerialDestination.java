@@ -16,7 +16,6 @@ package com.liferay.portal.kernel.messaging;
 
 import com.liferay.portal.kernel.cache.Lifecycle;
 import com.liferay.portal.kernel.cache.ThreadLocalCacheManager;
-import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.util.CentralizedThreadLocal;
@@ -51,9 +50,7 @@ public class SerialDestination extends BaseAsyncDestination {
 	protected void dispatch(
 		final Set<MessageListener> messageListeners, final Message message) {
 
-		ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor();
-
-		Runnable runnable = new MessageRunnable(message) {
+		MessageRunnable messageRunnable = new MessageRunnable(message) {
 
 			public void run() {
 				try {
@@ -78,7 +75,7 @@ public class SerialDestination extends BaseAsyncDestination {
 
 		};
 
-		threadPoolExecutor.execute(runnable);
+		execute(messageRunnable);
 	}
 
 	private static final int _WORKERS_CORE_SIZE = 1;
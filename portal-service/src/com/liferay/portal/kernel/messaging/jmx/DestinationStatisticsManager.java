@@ -16,6 +16,7 @@ package com.liferay.portal.kernel.messaging.jmx;
 
 import com.liferay.portal.kernel.messaging.Destination;
 import com.liferay.portal.kernel.messaging.DestinationStatistics;
+import com.liferay.portal.kernel.messaging.LatencyHistogram;
 
 import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
@@ -48,6 +49,14 @@ public class DestinationStatisticsManager
 		return _destinationStatistics.getActiveThreadCount();
 	}
 
+	public long getAverageLatency() {
+		if (_autoRefresh || (_destinationStatistics == null)) {
+			refresh();
+		}
+
+		return _destinationStatistics.getAverageLatency();
+	}
+
 	public int getCurrentThreadCount() {
 		if (_autoRefresh || (_destinationStatistics == null)) {
 			refresh();
@@ -68,6 +77,26 @@ public class DestinationStatisticsManager
 		return String.valueOf(_lastRefresh);
 	}
 
+	public long[] getLatencyHistogram() {
+		if (_autoRefresh || (_destinationStatistics == null)) {
+			refresh();
+		}
+
+		return _destinationStatistics.getLatencyHistogram();
+	}
+
+	public long[] getLatencyHistogramUpperBounds() {
+		return LatencyHistogram.getUpperBounds();
+	}
+
+	public long getMaxLatency() {
+		if (_autoRefresh || (_destinationStatistics == null)) {
+			refresh();
+		}
+
+		return _destinationStatistics.getMaxLatency();
+	}
+
 	public int getMaxThreadPoolSize() {
 		if (_autoRefresh || (_destinationStatistics == null)) {
 			refresh();
@@ -92,6 +121,14 @@ public class DestinationStatisticsManager
 		return _destinationStatistics.getPendingMessageCount();
 	}
 
+	public long getRejectedMessageCount() {
+		if (_autoRefresh || (_destinationStatistics == null)) {
+			refresh();
+		}
+
+		return _destinationStatistics.getRejectedMessageCount();
+	}
+
 	public long getSentMessageCount() {
 		if (_autoRefresh || (_destinationStatistics == null)) {
 			refresh();
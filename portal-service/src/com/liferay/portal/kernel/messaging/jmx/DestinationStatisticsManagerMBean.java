@@ -22,18 +22,28 @@ public interface DestinationStatisticsManagerMBean {
 
 	public int getActiveThreadCount();
 
+	public long getAverageLatency();
+
 	public int getCurrentThreadCount();
 
 	public int getLargestThreadCount();
 
 	public String getLastRefresh();
 
+	public long[] getLatencyHistogram();
+
+	public long[] getLatencyHistogramUpperBounds();
+
+	public long getMaxLatency();
+
 	public int getMaxThreadPoolSize();
 
 	public int getMinThreadPoolSize();
 
 	public long getPendingMessageCount();
 
+	public long getRejectedMessageCount();
+
 	public long getSentMessageCount();
 
 	public boolean isAutoRefresh();
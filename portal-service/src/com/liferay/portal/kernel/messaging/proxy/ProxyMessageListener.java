@@ -30,6 +30,10 @@ import com.liferay.portal.kernel.util.Validator;
  */
 public class ProxyMessageListener implements MessageListener {
 
+	public Object getManager() {
+		return _manager;
+	}
+
 	public void receive(Message message) {
 		ProxyResponse proxyResponse = new ProxyResponse();
 
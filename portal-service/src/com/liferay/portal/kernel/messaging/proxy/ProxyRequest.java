@@ -15,6 +15,7 @@
 package com.liferay.portal.kernel.messaging.proxy;
 
 import com.liferay.portal.kernel.util.MethodHandler;
+import com.liferay.portal.kernel.util.MethodKey;
 
 import java.io.Serializable;
 
@@ -72,6 +73,12 @@ public class ProxyRequest implements Serializable {
 		return _methodHandler.getArguments();
 	}
 
+	public String getMethodName() {
+		MethodKey methodKey = _methodHandler.getMethodKey();
+
+		return methodKey.getMethodName();
+	}
+
 	public boolean hasReturnValue() {
 		return _hasReturnValue;
 	}
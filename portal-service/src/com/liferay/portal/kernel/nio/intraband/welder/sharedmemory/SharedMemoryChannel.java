@@ -0,0 +1,403 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.nio.intraband.welder.sharedmemory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.GatheringByteChannel;
+import java.nio.channels.NonReadableChannelException;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.ScatteringByteChannel;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Moves bytes in one direction through a single producer, single consumer
+ * ring buffer in a memory mapped file that may be shared between processes.
+ *
+ * <p>
+ * The file starts with a header that holds the write position, the read
+ * position, and the closed flags of both ends, each on its own cache line.
+ * The positions only ever grow, so the used space is their difference. Each
+ * end only updates its own position, so no locking is needed. Reads and
+ * writes block by spinning, then yielding, then parking for increasing
+ * periods, because there is no way to signal a thread in another process.
+ * </p>
+ *
+ * <p>
+ * Stores to a mapped buffer are not covered by the Java memory model. The
+ * volatile fence field orders the data copy before the position update on
+ * the writing end, and the position read before the data copy on the reading
+ * end.
+ * </p>
+ */
+public class SharedMemoryChannel
+	implements GatheringByteChannel, ScatteringByteChannel {
+
+	public static void createFile(File file, int capacity) throws IOException {
+		if ((capacity <= 0) || ((capacity & (capacity - 1)) != 0)) {
+			throw new IllegalArgumentException(
+				"Capacity " + capacity + " is not a power of 2");
+		}
+
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+
+		try {
+			randomAccessFile.setLength(_DATA_OFFSET + capacity);
+		}
+		finally {
+			randomAccessFile.close();
+		}
+	}
+
+	public SharedMemoryChannel(File file, boolean writing) throws IOException {
+		RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+
+		try {
+			FileChannel fileChannel = randomAccessFile.getChannel();
+
+			_mappedByteBuffer = fileChannel.map(
+				FileChannel.MapMode.READ_WRITE, 0, fileChannel.size());
+		}
+		finally {
+			randomAccessFile.close();
+		}
+
+		_capacity = _mappedByteBuffer.capacity() - _DATA_OFFSET;
+
+		if ((_capacity <= 0) || ((_capacity & (_capacity - 1)) != 0)) {
+			throw new IOException(
+				"File " + file + " is not a shared memory channel file");
+		}
+
+		_dataByteBuffer = _mappedByteBuffer.duplicate();
+		_mask = _capacity - 1;
+		_writing = writing;
+
+		if (_writing) {
+			_position = _mappedByteBuffer.getLong(_WRITE_POSITION_OFFSET);
+		}
+		else {
+			_position = _mappedByteBuffer.getLong(_READ_POSITION_OFFSET);
+		}
+	}
+
+	public void close() {
+		if (!_open) {
+			return;
+		}
+
+		_open = false;
+
+		if (_writing) {
+			_mappedByteBuffer.putInt(_WRITER_CLOSED_OFFSET, 1);
+		}
+		else {
+			_mappedByteBuffer.putInt(_READER_CLOSED_OFFSET, 1);
+		}
+
+		_fence = 0;
+	}
+
+	public int getCapacity() {
+		return _capacity;
+	}
+
+	public boolean isOpen() {
+		return _open;
+	}
+
+	public int read(ByteBuffer byteBuffer) throws IOException {
+		if (_writing) {
+			throw new NonReadableChannelException();
+		}
+
+		if (!byteBuffer.hasRemaining()) {
+			return 0;
+		}
+
+		int available = _awaitAvailable();
+
+		if (available < 0) {
+			return -1;
+		}
+
+		return _read(byteBuffer, available);
+	}
+
+	public long read(ByteBuffer[] byteBuffers) throws IOException {
+		return read(byteBuffers, 0, byteBuffers.length);
+	}
+
+	public long read(ByteBuffer[] byteBuffers, int offset, int length)
+		throws IOException {
+
+		if (_writing) {
+			throw new NonReadableChannelException();
+		}
+
+		long remaining = 0;
+
+		for (int i = offset; i < (offset + length); i++) {
+			remaining += byteBuffers[i].remaining();
+		}
+
+		if (remaining == 0) {
+			return 0;
+		}
+
+		int available = _awaitAvailable();
+
+		if (available < 0) {
+			return -1;
+		}
+
+		long count = 0;
+
+		for (int i = offset; (i < (offset + length)) && (available > 0); i++) {
+			int read = _read(byteBuffers[i], available);
+
+			available -= read;
+			count += read;
+		}
+
+		return count;
+	}
+
+	public int write(ByteBuffer byteBuffer) throws IOException {
+		if (!_writing) {
+			throw new NonWritableChannelException();
+		}
+
+		int count = byteBuffer.remaining();
+
+		while (byteBuffer.hasRemaining()) {
+			_write(byteBuffer, _awaitFree());
+		}
+
+		return count;
+	}
+
+	public long write(ByteBuffer[] byteBuffers) throws IOException {
+		return write(byteBuffers, 0, byteBuffers.length);
+	}
+
+	public long write(ByteBuffer[] byteBuffers, int offset, int length)
+		throws IOException {
+
+		if (!_writing) {
+			throw new NonWritableChannelException();
+		}
+
+		long count = 0;
+
+		for (int i = offset; i < (offset + length); i++) {
+			ByteBuffer byteBuffer = byteBuffers[i];
+
+			count += byteBuffer.remaining();
+
+			while (byteBuffer.hasRemaining()) {
+				_write(byteBuffer, _awaitFree());
+			}
+		}
+
+		return count;
+	}
+
+	private int _awaitAvailable() throws IOException {
+		int idleCount = 0;
+
+		while (true) {
+			_ensureOpen();
+
+			long writePosition = _mappedByteBuffer.getLong(
+				_WRITE_POSITION_OFFSET);
+
+			_loadFence();
+
+			if (writePosition != _position) {
+				return (int)(writePosition - _position);
+			}
+
+			if (_mappedByteBuffer.getInt(_WRITER_CLOSED_OFFSET) != 0) {
+				if (_mappedByteBuffer.getLong(_WRITE_POSITION_OFFSET) ==
+						_position) {
+
+					return -1;
+				}
+			}
+
+			idleCount = _idle(idleCount);
+		}
+	}
+
+	private int _awaitFree() throws IOException {
+		int idleCount = 0;
+
+		while (true) {
+			_ensureOpen();
+
+			if (_mappedByteBuffer.getInt(_READER_CLOSED_OFFSET) != 0) {
+				close();
+
+				throw new ClosedChannelException();
+			}
+
+			long readPosition = _mappedByteBuffer.getLong(
+				_READ_POSITION_OFFSET);
+
+			_loadFence();
+
+			int free = _capacity - (int)(_position - readPosition);
+
+			if (free > 0) {
+				return free;
+			}
+
+			idleCount = _idle(idleCount);
+		}
+	}
+
+	private void _copy(
+		int index, ByteBuffer byteBuffer, int length, boolean toMapped) {
+
+		_dataByteBuffer.limit(index + length);
+		_dataByteBuffer.position(index);
+
+		if (toMapped) {
+			ByteBuffer source = byteBuffer.duplicate();
+
+			source.limit(source.position() + length);
+
+			_dataByteBuffer.put(source);
+
+			byteBuffer.position(byteBuffer.position() + length);
+		}
+		else {
+			byteBuffer.put(_dataByteBuffer);
+		}
+	}
+
+	private void _ensureOpen() throws ClosedChannelException {
+		if (!_open) {
+			throw new ClosedChannelException();
+		}
+	}
+
+	private int _idle(int idleCount) throws IOException {
+		if (Thread.interrupted()) {
+			close();
+
+			throw new ClosedByInterruptException();
+		}
+
+		if (idleCount >= (_SPIN_COUNT + _YIELD_COUNT)) {
+			int shift = Math.min(idleCount - _SPIN_COUNT - _YIELD_COUNT, 10);
+
+			LockSupport.parkNanos(
+				Math.min(_MIN_PARK_NANOS << shift, _MAX_PARK_NANOS));
+		}
+		else if (idleCount >= _SPIN_COUNT) {
+			Thread.yield();
+		}
+
+		return idleCount + 1;
+	}
+
+	private void _loadFence() {
+
+		// The volatile read keeps the following reads of the mapped buffer
+		// from moving ahead of the preceding position read
+
+		int fence = _fence;
+	}
+
+	private int _read(ByteBuffer byteBuffer, int available) {
+		int count = Math.min(byteBuffer.remaining(), available);
+
+		int index = (int)_position & _mask;
+
+		int firstCount = Math.min(count, _capacity - index);
+
+		_copy(_DATA_OFFSET + index, byteBuffer, firstCount, false);
+
+		if (firstCount < count) {
+			_copy(_DATA_OFFSET, byteBuffer, count - firstCount, false);
+		}
+
+		_position += count;
+
+		_fence = 0;
+
+		_mappedByteBuffer.putLong(_READ_POSITION_OFFSET, _position);
+
+		return count;
+	}
+
+	private void _write(ByteBuffer byteBuffer, int free) {
+		int count = Math.min(byteBuffer.remaining(), free);
+
+		int index = (int)_position & _mask;
+
+		int firstCount = Math.min(count, _capacity - index);
+
+		_copy(_DATA_OFFSET + index, byteBuffer, firstCount, true);
+
+		if (firstCount < count) {
+			_copy(_DATA_OFFSET, byteBuffer, count - firstCount, true);
+		}
+
+		_position += count;
+
+		_fence = 0;
+
+		_mappedByteBuffer.putLong(_WRITE_POSITION_OFFSET, _position);
+	}
+
+	private static final int _DATA_OFFSET = 256;
+
+	private static final long _MAX_PARK_NANOS = 1000000;
+
+	private static final long _MIN_PARK_NANOS = 1000;
+
+	private static final int _READER_CLOSED_OFFSET = 192;
+
+	private static final int _READ_POSITION_OFFSET = 64;
+
+	private static final int _SPIN_COUNT = 1000;
+
+	private static final int _WRITER_CLOSED_OFFSET = 128;
+
+	private static final int _WRITE_POSITION_OFFSET = 0;
+
+	private static final int _YIELD_COUNT = 100;
+
+	private final int _capacity;
+	private final ByteBuffer _dataByteBuffer;
+	private volatile int _fence;
+	private final int _mask;
+	private final MappedByteBuffer _mappedByteBuffer;
+	private volatile boolean _open = true;
+	private long _position;
+	private final boolean _writing;
+
+}
\ No newline at end of file
@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.nio.intraband.welder.sharedmemory;
+
+import com.liferay.portal.kernel.nio.intraband.Intraband;
+import com.liferay.portal.kernel.nio.intraband.RegistrationReference;
+import com.liferay.portal.kernel.nio.intraband.welder.BaseWelder;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+
+import java.io.File;
+import java.io.IOException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Welds two local processes with a pair of memory mapped ring buffer files,
+ * one for each direction, so datagrams are copied into shared memory instead
+ * of passing through the kernel.
+ *
+ * <p>
+ * The channels block, so they must be registered with a blocking {@link
+ * Intraband} implementation such as {@link
+ * com.liferay.portal.kernel.nio.intraband.blocking.ExecutorIntraband}.
+ * </p>
+ */
+public class SharedMemoryWelder extends BaseWelder {
+
+	public SharedMemoryWelder() throws IOException {
+		this(Configuration.bufferSize);
+	}
+
+	public SharedMemoryWelder(int bufferSize) throws IOException {
+
+		// Assignments have to stay in the constructor because we need to
+		// differentiate between a constructor created object and a
+		// deserialization created object. Only the constructor created object
+		// needs to assign values. The deserialization created object gets its
+		// values from the original object.
+
+		String tempFolderName = System.getProperty("java.io.tmpdir");
+
+		long id = idCounter.getAndIncrement();
+
+		inputFile = new File(tempFolderName, "SHARED-MEMORY-INPUT-" + id);
+		outputFile = new File(tempFolderName, "SHARED-MEMORY-OUTPUT-" + id);
+
+		int capacity = Integer.highestOneBit(bufferSize);
+
+		if (capacity < bufferSize) {
+			capacity <<= 1;
+		}
+
+		SharedMemoryChannel.createFile(inputFile, capacity);
+		SharedMemoryChannel.createFile(outputFile, capacity);
+	}
+
+	@Override
+	protected void doDestroy() throws IOException {
+		readSharedMemoryChannel.close();
+		writeSharedMemoryChannel.close();
+
+		// Both ends try to remove the files, the mappings stay valid after
+		// the removal
+
+		inputFile.delete();
+		outputFile.delete();
+	}
+
+	@Override
+	protected RegistrationReference weldClient(Intraband intraBand)
+		throws IOException {
+
+		readSharedMemoryChannel = new SharedMemoryChannel(outputFile, false);
+		writeSharedMemoryChannel = new SharedMemoryChannel(inputFile, true);
+
+		return intraBand.registerChannel(
+			readSharedMemoryChannel, writeSharedMemoryChannel);
+	}
+
+	@Override
+	protected RegistrationReference weldServer(Intraband intraBand)
+		throws IOException {
+
+		readSharedMemoryChannel = new SharedMemoryChannel(inputFile, false);
+		writeSharedMemoryChannel = new SharedMemoryChannel(outputFile, true);
+
+		return intraBand.registerChannel(
+			readSharedMemoryChannel, writeSharedMemoryChannel);
+	}
+
+	protected static final AtomicLong idCounter = new AtomicLong(
+		System.currentTimeMillis());
+
+	protected final File inputFile;
+	protected final File outputFile;
+	protected transient SharedMemoryChannel readSharedMemoryChannel;
+	protected transient SharedMemoryChannel writeSharedMemoryChannel;
+
+	protected static class Configuration {
+
+		protected static final int bufferSize = GetterUtil.getInteger(
+			PropsUtil.get(PropsKeys.INTRABAND_WELDER_SHARED_MEMORY_BUFFER_SIZE),
+			1024 * 1024);
+
+	}
+
+}
\ No newline at end of file
@@ -37,6 +37,7 @@ import java.io.OutputStream;
 
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 
 import javax.portlet.MimeResponse;
 import javax.portlet.PortletRequest;
@@ -228,8 +229,8 @@ public class PortletResponseUtil {
 				resourceResponse.setContentLength(contentLength);
 			}
 
-			fileChannel.transferTo(
-				0, contentLength,
+			transferFileChannel(
+				fileChannel, 0, contentLength,
 				Channels.newChannel(mimeResponse.getPortletOutputStream()));
 		}
 		finally {
@@ -260,7 +261,25 @@ public class PortletResponseUtil {
 			}
 		}
 
-		StreamUtil.transfer(is, mimeResponse.getPortletOutputStream());
+		if (is instanceof FileInputStream) {
+			FileInputStream fileInputStream = (FileInputStream)is;
+
+			FileChannel fileChannel = fileInputStream.getChannel();
+
+			try {
+				long position = fileChannel.position();
+
+				transferFileChannel(
+					fileChannel, position, fileChannel.size() - position,
+					Channels.newChannel(mimeResponse.getPortletOutputStream()));
+			}
+			finally {
+				fileChannel.close();
+			}
+		}
+		else {
+			StreamUtil.transfer(is, mimeResponse.getPortletOutputStream());
+		}
 	}
 
 	public static void write(MimeResponse mimeResponse, String s)
@@ -351,6 +370,25 @@ public class PortletResponseUtil {
 		}
 	}
 
+	protected static void transferFileChannel(
+			FileChannel fileChannel, long position, long length,
+			WritableByteChannel writableByteChannel)
+		throws IOException {
+
+		long end = position + length;
+
+		while (position < end) {
+			long count = fileChannel.transferTo(
+				position, end - position, writableByteChannel);
+
+			if (count <= 0) {
+				break;
+			}
+
+			position += count;
+		}
+	}
+
 	private static Log _log = LogFactoryUtil.getLog(PortletResponseUtil.class);
 
 }
\ No newline at end of file
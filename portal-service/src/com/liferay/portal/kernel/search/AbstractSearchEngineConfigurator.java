@@ -15,6 +15,7 @@
 package com.liferay.portal.kernel.search;
 
 import com.liferay.portal.kernel.cluster.messaging.ClusterBridgeMessageListener;
+import com.liferay.portal.kernel.messaging.BatchingDestination;
 import com.liferay.portal.kernel.messaging.Destination;
 import com.liferay.portal.kernel.messaging.InvokerMessageListener;
 import com.liferay.portal.kernel.messaging.MessageBus;
@@ -24,6 +25,9 @@ import com.liferay.portal.kernel.messaging.SynchronousDestination;
 import com.liferay.portal.kernel.search.messaging.BaseSearchEngineMessageListener;
 import com.liferay.portal.kernel.search.messaging.SearchReaderMessageListener;
 import com.liferay.portal.kernel.search.messaging.SearchWriterMessageListener;
+import com.liferay.portal.kernel.util.GetterUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
 import com.liferay.portal.kernel.util.Validator;
 
 import java.util.ArrayList;
@@ -195,7 +199,20 @@ public abstract class AbstractSearchEngineConfigurator {
 		Destination searchWriterDestination = messageBus.getDestination(
 			searchWriterDestinationName);
 
-		if (searchWriterDestination == null) {
+		if ((searchWriterDestination == null) && _INDEX_WRITER_BATCH_ENABLED) {
+			BatchingDestination batchingDestination = new BatchingDestination();
+
+			batchingDestination.setBatchSize(_INDEX_WRITER_BATCH_SIZE);
+			batchingDestination.setBatchWaitTime(_INDEX_WRITER_BATCH_WAIT_TIME);
+			batchingDestination.setName(searchWriterDestinationName);
+
+			batchingDestination.open();
+
+			searchWriterDestination = batchingDestination;
+
+			messageBus.addDestination(searchWriterDestination);
+		}
+		else if (searchWriterDestination == null) {
 			ParallelDestination parallelDestination = new ParallelDestination();
 
 			parallelDestination.setName(searchWriterDestinationName);
@@ -328,6 +345,17 @@ public abstract class AbstractSearchEngineConfigurator {
 		}
 	}
 
+	private static final boolean _INDEX_WRITER_BATCH_ENABLED =
+		GetterUtil.getBoolean(
+			PropsUtil.get(PropsKeys.INDEX_WRITER_BATCH_ENABLED));
+
+	private static final int _INDEX_WRITER_BATCH_SIZE = GetterUtil.getInteger(
+		PropsUtil.get(PropsKeys.INDEX_WRITER_BATCH_SIZE), 500);
+
+	private static final long _INDEX_WRITER_BATCH_WAIT_TIME =
+		GetterUtil.getLong(
+			PropsUtil.get(PropsKeys.INDEX_WRITER_BATCH_WAIT_TIME), 100);
+
 	private String _originalSearchEngineId;
 	private List<SearchEngineRegistration> _searchEngineRegistrations =
 		new ArrayList<SearchEngineRegistration>();
@@ -0,0 +1,307 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.search;
+
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
+import com.liferay.portal.kernel.dao.orm.BaseActionableDynamicQuery;
+import com.liferay.portal.kernel.dao.shard.ShardUtil;
+import com.liferay.portal.kernel.exception.PortalException;
+import com.liferay.portal.kernel.exception.SystemException;
+import com.liferay.portal.kernel.executor.CopyThreadLocalCallable;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.messaging.proxy.ProxyModeThreadLocal;
+import com.liferay.portal.kernel.util.InitialThreadLocal;
+import com.liferay.portal.kernel.util.PortalClassLoaderUtil;
+import com.liferay.portal.service.BaseLocalService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Reindexes the objects returned by an actionable dynamic query.
+ *
+ * <p>
+ * Documents passed to {@link #addDocument(Document)} are sent to the search
+ * engine in batches of the query interval. At the end of every primary key
+ * interval the remaining documents are sent synchronously, so that they are
+ * written before the interval is recorded as a checkpoint. When a checkpoint
+ * name is set and the company is being reindexed, a resumed reindex starts
+ * from the last checkpoint.
+ * </p>
+ *
+ * <p>
+ * When parallel is set, the documents of each interval are built on the
+ * portal executor of this class. Each interval is still loaded by the calling
+ * thread, and queries that run on a worker thread stay serial.
+ * </p>
+ */
+public abstract class ReindexActionableDynamicQuery
+	extends BaseActionableDynamicQuery {
+
+	public ReindexActionableDynamicQuery(
+			BaseLocalService baseLocalService, Class<?> clazz,
+			String primaryKeyPropertyName)
+		throws SystemException {
+
+		setBaseLocalService(baseLocalService);
+		setClass(clazz);
+		setClassLoader(PortalClassLoaderUtil.getClassLoader());
+		setPrimaryKeyPropertyName(primaryKeyPropertyName);
+	}
+
+	public void addDocument(Document document) throws PortalException {
+		List<Document> documents = null;
+
+		synchronized (this) {
+			_documents.add(document);
+
+			if (_documents.size() < getInterval()) {
+				return;
+			}
+
+			documents = _documents;
+
+			_documents = new ArrayList<Document>();
+		}
+
+		updateDocuments(documents);
+	}
+
+	@Override
+	public void performActions() throws PortalException, SystemException {
+		ReindexStatus reindexStatus = null;
+
+		if ((_checkpointName != null) &&
+			ReindexStatusUtil.isReindexing(getCompanyId())) {
+
+			reindexStatus = ReindexStatusUtil.getReindexStatus(
+				getCompanyId(), _checkpointName);
+
+			if (reindexStatus.isFinished()) {
+				return;
+			}
+		}
+
+		_reindexStatus = reindexStatus;
+
+		super.performActions();
+
+		flushDocuments();
+
+		if (reindexStatus != null) {
+			reindexStatus.finish();
+		}
+	}
+
+	public void setCheckpointName(String checkpointName) {
+		_checkpointName = checkpointName;
+	}
+
+	public void setParallel(boolean parallel) {
+		_parallel = parallel;
+	}
+
+	public void setSearchEngineId(String searchEngineId) {
+		_searchEngineId = searchEngineId;
+	}
+
+	protected void flushDocuments() throws PortalException {
+		List<Document> documents = null;
+
+		synchronized (this) {
+			if (_documents.isEmpty()) {
+				return;
+			}
+
+			documents = _documents;
+
+			_documents = new ArrayList<Document>();
+		}
+
+		boolean forceSync = ProxyModeThreadLocal.isForceSync();
+
+		ProxyModeThreadLocal.setForceSync(true);
+
+		try {
+			updateDocuments(documents);
+		}
+		finally {
+			ProxyModeThreadLocal.setForceSync(forceSync);
+		}
+	}
+
+	@Override
+	protected long getStartPrimaryKey(long minPrimaryKey, long maxPrimaryKey) {
+		ReindexStatus reindexStatus = _reindexStatus;
+
+		if (reindexStatus == null) {
+			return minPrimaryKey;
+		}
+
+		reindexStatus.start(minPrimaryKey, maxPrimaryKey);
+
+		return Math.max(minPrimaryKey, reindexStatus.getCheckpoint());
+	}
+
+	@Override
+	protected void intervalCompleted(long startPrimaryKey, long endPrimaryKey)
+		throws PortalException {
+
+		flushDocuments();
+
+		ReindexStatus reindexStatus = _reindexStatus;
+
+		if (reindexStatus != null) {
+			reindexStatus.setCheckpoint(endPrimaryKey);
+		}
+	}
+
+	@Override
+	protected void performActions(List<Object> objects)
+		throws PortalException, SystemException {
+
+		if (!_parallel || (objects.size() <= 1) || _parallelThread.get()) {
+			super.performActions(objects);
+
+			return;
+		}
+
+		ThreadPoolExecutor threadPoolExecutor =
+			PortalExecutorManagerUtil.getPortalExecutor(
+				ReindexActionableDynamicQuery.class.getName());
+
+		int taskCount = Math.min(
+			threadPoolExecutor.getMaxPoolSize(), objects.size());
+
+		int taskSize = (objects.size() + taskCount - 1) / taskCount;
+
+		String shardName = null;
+
+		if (ShardUtil.isEnabled()) {
+			shardName = ShardUtil.getCurrentShardName();
+		}
+
+		List<Future<Void>> futures = new ArrayList<Future<Void>>(taskCount);
+
+		for (int i = 0; i < objects.size(); i += taskSize) {
+			List<Object> taskObjects = objects.subList(
+				i, Math.min(i + taskSize, objects.size()));
+
+			futures.add(
+				threadPoolExecutor.submit(
+					new PerformActionsCallable(taskObjects, shardName)));
+		}
+
+		// Wait for every task so that no action is still running when this
+		// method returns, then report the first failure
+
+		Throwable throwable = null;
+
+		for (Future<Void> future : futures) {
+			try {
+				future.get();
+			}
+			catch (ExecutionException ee) {
+				if (throwable == null) {
+					throwable = ee.getCause();
+				}
+			}
+			catch (InterruptedException ie) {
+				if (throwable == null) {
+					throwable = ie;
+				}
+			}
+		}
+
+		if (throwable instanceof PortalException) {
+			throw (PortalException)throwable;
+		}
+		else if (throwable instanceof SystemException) {
+			throw (SystemException)throwable;
+		}
+		else if (throwable != null) {
+			throw new SystemException(throwable);
+		}
+	}
+
+	protected void updateDocuments(List<Document> documents)
+		throws PortalException {
+
+		if (_searchEngineId == null) {
+			throw new IllegalStateException("Search engine ID is not set");
+		}
+
+		SearchEngineUtil.updateDocuments(
+			_searchEngineId, getCompanyId(), documents);
+
+		ReindexStatus reindexStatus = _reindexStatus;
+
+		if (reindexStatus != null) {
+			reindexStatus.addDocumentCount(documents.size());
+		}
+	}
+
+	private static ThreadLocal<Boolean> _parallelThread =
+		new InitialThreadLocal<Boolean>(
+			ReindexActionableDynamicQuery.class + "._parallelThread",
+			Boolean.FALSE);
+
+	private String _checkpointName;
+	private List<Document> _documents = new ArrayList<Document>();
+	private boolean _parallel;
+	private volatile ReindexStatus _reindexStatus;
+	private String _searchEngineId;
+
+	private class PerformActionsCallable extends CopyThreadLocalCallable<Void> {
+
+		public PerformActionsCallable(List<Object> objects, String shardName) {
+			super(false, true);
+
+			_objects = objects;
+			_shardName = shardName;
+		}
+
+		@Override
+		public Void doCall() throws Exception {
+			_parallelThread.set(Boolean.TRUE);
+
+			if (_shardName != null) {
+				ShardUtil.pushCompanyService(_shardName);
+			}
+
+			try {
+				for (Object object : _objects) {
+					performAction(object);
+				}
+			}
+			finally {
+				if (_shardName != null) {
+					ShardUtil.popCompanyService();
+				}
+
+				_parallelThread.remove();
+			}
+
+			return null;
+		}
+
+		private final List<Object> _objects;
+		private final String _shardName;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.search;
+
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.GetterUtil;
+
+import java.io.File;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the progress of one pass of a reindex, such as the documents of one
+ * entity type within one company, that processes primary keys in ascending
+ * ranges.
+ *
+ * <p>
+ * After every completed range, the next primary key to process is written to
+ * a checkpoint file so that a reindex interrupted by a crash can continue
+ * where it stopped instead of starting over.
+ * </p>
+ *
+ * @see    ReindexStatusUtil
+ */
+public class ReindexStatus {
+
+	public ReindexStatus(
+		long companyId, String name, File checkpointFile, boolean resume) {
+
+		_companyId = companyId;
+		_name = name;
+		_checkpointFile = checkpointFile;
+
+		if (resume && (checkpointFile != null) && checkpointFile.exists()) {
+			try {
+				_checkpoint = GetterUtil.getLong(FileUtil.read(checkpointFile));
+			}
+			catch (Exception e) {
+				_log.error("Unable to read checkpoint " + checkpointFile, e);
+			}
+		}
+	}
+
+	public void addDocumentCount(int documentCount) {
+		_documentCount.addAndGet(documentCount);
+	}
+
+	public void finish() {
+		setCheckpoint(Long.MAX_VALUE);
+
+		_finishTime = System.currentTimeMillis();
+	}
+
+	public long getCheckpoint() {
+		return _checkpoint;
+	}
+
+	public long getCompanyId() {
+		return _companyId;
+	}
+
+	public long getDocumentCount() {
+		return _documentCount.get();
+	}
+
+	public long getDocumentsPerSecond() {
+		long elapsedTime = getElapsedTime();
+
+		if (elapsedTime <= 0) {
+			return 0;
+		}
+
+		return _documentCount.get() * 1000 / elapsedTime;
+	}
+
+	public long getElapsedTime() {
+		if (_startTime == 0) {
+			return 0;
+		}
+
+		long finishTime = _finishTime;
+
+		if (finishTime == 0) {
+			finishTime = System.currentTimeMillis();
+		}
+
+		return finishTime - _startTime;
+	}
+
+	public long getMaxPrimaryKey() {
+		return _maxPrimaryKey;
+	}
+
+	public long getMinPrimaryKey() {
+		return _minPrimaryKey;
+	}
+
+	public String getName() {
+		return _name;
+	}
+
+	public int getPercentage() {
+		if (isFinished()) {
+			return 100;
+		}
+
+		long checkpoint = _checkpoint;
+
+		if ((checkpoint <= _minPrimaryKey) ||
+			(_maxPrimaryKey <= _minPrimaryKey)) {
+
+			return 0;
+		}
+
+		long percentage =
+			(checkpoint - _minPrimaryKey) * 100 /
+				(_maxPrimaryKey - _minPrimaryKey + 1);
+
+		return (int)Math.min(percentage, 99);
+	}
+
+	public boolean isFinished() {
+		if (_checkpoint == Long.MAX_VALUE) {
+			return true;
+		}
+
+		return false;
+	}
+
+	public void setCheckpoint(long checkpoint) {
+		_checkpoint = checkpoint;
+
+		if (_checkpointFile == null) {
+			return;
+		}
+
+		try {
+			FileUtil.write(_checkpointFile, String.valueOf(checkpoint));
+		}
+		catch (Exception e) {
+			_log.error("Unable to write checkpoint " + _checkpointFile, e);
+		}
+	}
+
+	public void start(long minPrimaryKey, long maxPrimaryKey) {
+		_minPrimaryKey = minPrimaryKey;
+		_maxPrimaryKey = maxPrimaryKey;
+
+		if (_startTime == 0) {
+			_startTime = System.currentTimeMillis();
+		}
+	}
+
+	private static Log _log = LogFactoryUtil.getLog(ReindexStatus.class);
+
+	private volatile long _checkpoint;
+	private final File _checkpointFile;
+	private final long _companyId;
+	private final AtomicLong _documentCount = new AtomicLong();
+	private volatile long _finishTime;
+	private volatile long _maxPrimaryKey;
+	private volatile long _minPrimaryKey;
+	private final String _name;
+	private volatile long _startTime;
+
+}
\ No newline at end of file
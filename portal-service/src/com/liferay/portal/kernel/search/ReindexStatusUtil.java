@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.search;
+
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+
+import java.io.File;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Keeps the {@link ReindexStatus} of every pass of the current or last
+ * reindex of each company, and the checkpoint files that allow an
+ * interrupted reindex to be resumed.
+ *
+ * <p>
+ * Checkpoints are only read and written while a reindex of the company is in
+ * progress, between {@link #startReindex(long, boolean)} and {@link
+ * #finishReindex(long, boolean)}. They are removed once the reindex completes.
+ * </p>
+ */
+public class ReindexStatusUtil {
+
+	public static void finishReindex(long companyId, boolean completed) {
+		_resumes.remove(companyId);
+
+		if (completed) {
+			FileUtil.deltree(_getCheckpointDir(companyId));
+		}
+	}
+
+	public static Set<Long> getCompanyIds() {
+		return _reindexStatuses.keySet();
+	}
+
+	public static ReindexStatus getReindexStatus(long companyId, String name) {
+		ConcurrentMap<String, ReindexStatus> reindexStatuses =
+			_reindexStatuses.get(companyId);
+
+		if (reindexStatuses == null) {
+			reindexStatuses = new ConcurrentHashMap<String, ReindexStatus>();
+
+			ConcurrentMap<String, ReindexStatus> previousReindexStatuses =
+				_reindexStatuses.putIfAbsent(companyId, reindexStatuses);
+
+			if (previousReindexStatuses != null) {
+				reindexStatuses = previousReindexStatuses;
+			}
+		}
+
+		ReindexStatus reindexStatus = reindexStatuses.get(name);
+
+		if (reindexStatus == null) {
+			Boolean resume = _resumes.get(companyId);
+
+			File checkpointFile = null;
+
+			if (resume != null) {
+				checkpointFile = new File(_getCheckpointDir(companyId), name);
+			}
+
+			reindexStatus = new ReindexStatus(
+				companyId, name, checkpointFile, Boolean.TRUE.equals(resume));
+
+			ReindexStatus previousReindexStatus = reindexStatuses.putIfAbsent(
+				name, reindexStatus);
+
+			if (previousReindexStatus != null) {
+				reindexStatus = previousReindexStatus;
+			}
+		}
+
+		return reindexStatus;
+	}
+
+	public static Collection<ReindexStatus> getReindexStatuses(long companyId) {
+		ConcurrentMap<String, ReindexStatus> reindexStatuses =
+			_reindexStatuses.get(companyId);
+
+		if (reindexStatuses == null) {
+			return Collections.emptyList();
+		}
+
+		return reindexStatuses.values();
+	}
+
+	public static boolean hasCheckpoints(long companyId) {
+		String[] fileNames = _getCheckpointDir(companyId).list();
+
+		if ((fileNames == null) || (fileNames.length == 0)) {
+			return false;
+		}
+
+		return true;
+	}
+
+	public static boolean isReindexing(long companyId) {
+		return _resumes.containsKey(companyId);
+	}
+
+	public static void startReindex(long companyId, boolean resume) {
+		if (!resume) {
+			FileUtil.deltree(_getCheckpointDir(companyId));
+		}
+
+		_reindexStatuses.remove(companyId);
+
+		_resumes.put(companyId, resume);
+	}
+
+	private static File _getCheckpointDir(long companyId) {
+		return new File(
+			PropsUtil.get(PropsKeys.LIFERAY_HOME) + "/data/reindex/" +
+				companyId);
+	}
+
+	private static ConcurrentMap<Long, ConcurrentMap<String, ReindexStatus>>
+		_reindexStatuses =
+			new ConcurrentHashMap<Long, ConcurrentMap<String, ReindexStatus>>();
+	private static ConcurrentMap<Long, Boolean> _resumes =
+		new ConcurrentHashMap<Long, Boolean>();
+
+}
\ No newline at end of file
@@ -14,6 +14,22 @@
 
 package com.liferay.portal.kernel.search.messaging;
 
+import com.liferay.portal.kernel.log.Log;
+import com.liferay.portal.kernel.log.LogFactoryUtil;
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.messaging.MessageBatch;
+import com.liferay.portal.kernel.messaging.proxy.ProxyRequest;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.IndexWriter;
+import com.liferay.portal.kernel.search.SearchContext;
+import com.liferay.portal.kernel.util.Validator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * @author Bruno Farache
  */
@@ -24,4 +40,201 @@ public class SearchWriterMessageListener
 		setManager(searchEngine.getIndexWriter());
 	}
 
+	@Override
+	public void receive(Message message) {
+		Object payload = message.getPayload();
+
+		if (!(payload instanceof MessageBatch)) {
+			super.receive(message);
+
+			return;
+		}
+
+		List<Message> messages = new ArrayList<Message>();
+
+		_collectMessages((MessageBatch)payload, messages);
+
+		// Consecutive document updates or deletions of the same company are
+		// written in one call, and only the last update or deletion of each
+		// document is kept
+
+		DocumentBatch documentBatch = null;
+
+		for (Message batchedMessage : messages) {
+			String methodName = _getBatchableMethodName(batchedMessage);
+
+			if (methodName == null) {
+				_write(documentBatch);
+
+				documentBatch = null;
+
+				super.receive(batchedMessage);
+
+				continue;
+			}
+
+			ProxyRequest proxyRequest =
+				(ProxyRequest)batchedMessage.getPayload();
+
+			Object[] arguments = proxyRequest.getArguments();
+
+			SearchContext searchContext = (SearchContext)arguments[0];
+
+			if ((documentBatch == null) ||
+				!documentBatch.accepts(methodName, searchContext)) {
+
+				_write(documentBatch);
+
+				documentBatch = new DocumentBatch(methodName, searchContext);
+			}
+
+			if (methodName.equals(_METHOD_NAME_DELETE_DOCUMENT)) {
+				String uid = (String)arguments[1];
+
+				documentBatch._values.put(uid, uid);
+			}
+			else {
+				Document document = (Document)arguments[1];
+
+				Object key = document.get(Field.UID);
+
+				if (Validator.isNull(key)) {
+					key = new Object();
+				}
+
+				documentBatch._values.remove(key);
+
+				documentBatch._values.put(key, document);
+			}
+		}
+
+		_write(documentBatch);
+	}
+
+	private void _collectMessages(
+		MessageBatch messageBatch, List<Message> messages) {
+
+		for (Message message : messageBatch.getMessages()) {
+			Object payload = message.getPayload();
+
+			if (payload instanceof MessageBatch) {
+				_collectMessages((MessageBatch)payload, messages);
+			}
+			else {
+				messages.add(message);
+			}
+		}
+	}
+
+	private String _getBatchableMethodName(Message message) {
+		if (Validator.isNotNull(message.getResponseDestinationName())) {
+			return null;
+		}
+
+		Object payload = message.getPayload();
+
+		if (!(payload instanceof ProxyRequest)) {
+			return null;
+		}
+
+		ProxyRequest proxyRequest = (ProxyRequest)payload;
+
+		String methodName = proxyRequest.getMethodName();
+
+		if (methodName.equals(_METHOD_NAME_DELETE_DOCUMENT) ||
+			methodName.equals(_METHOD_NAME_UPDATE_DOCUMENT)) {
+
+			Object[] arguments = proxyRequest.getArguments();
+
+			if ((arguments.length == 2) &&
+				(arguments[0] instanceof SearchContext) &&
+				(arguments[1] != null)) {
+
+				return methodName;
+			}
+		}
+
+		return null;
+	}
+
+	private void _write(DocumentBatch documentBatch) {
+		if (documentBatch == null) {
+			return;
+		}
+
+		IndexWriter indexWriter = (IndexWriter)getManager();
+
+		try {
+			if (documentBatch._methodName.equals(
+					_METHOD_NAME_DELETE_DOCUMENT)) {
+
+				List<String> uids = new ArrayList<String>(
+					documentBatch._values.size());
+
+				for (Object value : documentBatch._values.values()) {
+					uids.add((String)value);
+				}
+
+				indexWriter.deleteDocuments(documentBatch._searchContext, uids);
+			}
+			else {
+				List<Document> documents = new ArrayList<Document>(
+					documentBatch._values.size());
+
+				for (Object value : documentBatch._values.values()) {
+					documents.add((Document)value);
+				}
+
+				indexWriter.updateDocuments(
+					documentBatch._searchContext, documents);
+			}
+		}
+		catch (Exception e) {
+			if (_log.isWarnEnabled()) {
+				_log.warn(
+					"Unable to write " + documentBatch._values.size() +
+						" documents",
+					e);
+			}
+		}
+	}
+
+	private static final String _METHOD_NAME_DELETE_DOCUMENT =
+		"deleteDocument";
+
+	private static final String _METHOD_NAME_UPDATE_DOCUMENT =
+		"updateDocument";
+
+	private static Log _log = LogFactoryUtil.getLog(
+		SearchWriterMessageListener.class);
+
+	private static class DocumentBatch {
+
+		public DocumentBatch(String methodName, SearchContext searchContext) {
+			_methodName = methodName;
+			_searchContext = searchContext;
+		}
+
+		public boolean accepts(String methodName, SearchContext searchContext) {
+			if (_methodName.equals(methodName) &&
+				(_searchContext.getCompanyId() ==
+					searchContext.getCompanyId()) &&
+				Validator.equals(
+					_searchContext.getSearchEngineId(),
+					searchContext.getSearchEngineId())) {
+
+				return true;
+			}
+			else {
+				return false;
+			}
+		}
+
+		private final String _methodName;
+		private final SearchContext _searchContext;
+		private final Map<Object, Object> _values =
+			new LinkedHashMap<Object, Object>();
+
+	}
+
 }
\ No newline at end of file
@@ -14,6 +14,7 @@
 
 package com.liferay.portal.kernel.servlet;
 
+import com.liferay.portal.kernel.io.LocalFileInputStream;
 import com.liferay.portal.kernel.log.Log;
 import com.liferay.portal.kernel.log.LogFactoryUtil;
 import com.liferay.portal.kernel.nio.charset.CharsetEncoderUtil;
@@ -44,12 +45,15 @@ import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
 import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.ServletResponseWrapper;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
@@ -157,6 +161,10 @@ public class ServletResponseUtil {
 
 		setHeaders(request, response, fileName, contentType);
 
+		if (sendFileWithContainer(request, response, is, 0, contentLength)) {
+			return;
+		}
+
 		write(response, is, contentLength);
 	}
 
@@ -249,6 +257,13 @@ public class ServletResponseUtil {
 
 				setHeaders(request, response, fileName, contentType, fullRange);
 
+				if (sendFileWithContainer(
+						request, response, inputStream, fullRange.getStart(),
+						fullRange.getLength())) {
+
+					return;
+				}
+
 				copyRange(
 					inputStream, outputStream, fullRange.getStart(),
 					fullRange.getLength());
@@ -266,6 +281,13 @@ public class ServletResponseUtil {
 
 				response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
 
+				if (sendFileWithContainer(
+						request, response, inputStream, range.getStart(),
+						range.getLength())) {
+
+					return;
+				}
+
 				copyRange(
 					inputStream, outputStream, range.getStart(),
 					range.getLength());
@@ -291,22 +313,42 @@ public class ServletResponseUtil {
 
 				response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
 
-				for (int i = 0; i < ranges.size(); i++) {
-					Range range = ranges.get(i);
-
-					servletOutputStream.println();
-					servletOutputStream.println(
-						StringPool.DOUBLE_DASH + boundary);
-					servletOutputStream.println(
-						HttpHeaders.CONTENT_TYPE + ": " + contentType);
-					servletOutputStream.println(
-						HttpHeaders.CONTENT_RANGE + ": " +
-							range.getContentRange());
-					servletOutputStream.println();
-
-					copyRange(
-						inputStream, outputStream, range.getStart(),
-						range.getLength());
+				// File and byte array streams are read at the position of
+				// each range. Other streams are wrapped once so that the
+				// ranges can be served in any order.
+
+				InputStream rangesInputStream = inputStream;
+
+				if (!(inputStream instanceof ByteArrayInputStream) &&
+					!(inputStream instanceof FileInputStream)) {
+
+					rangesInputStream = new RandomAccessInputStream(
+						inputStream);
+				}
+
+				try {
+					for (int i = 0; i < ranges.size(); i++) {
+						Range range = ranges.get(i);
+
+						servletOutputStream.println();
+						servletOutputStream.println(
+							StringPool.DOUBLE_DASH + boundary);
+						servletOutputStream.println(
+							HttpHeaders.CONTENT_TYPE + ": " + contentType);
+						servletOutputStream.println(
+							HttpHeaders.CONTENT_RANGE + ": " +
+								range.getContentRange());
+						servletOutputStream.println();
+
+						copyRange(
+							rangesInputStream, outputStream, range.getStart(),
+							range.getLength());
+					}
+				}
+				finally {
+					if (rangesInputStream != inputStream) {
+						rangesInputStream.close();
+					}
 				}
 
 				servletOutputStream.println();
@@ -488,14 +530,15 @@ public class ServletResponseUtil {
 			FileChannel fileChannel = fileInputStream.getChannel();
 
 			try {
-				int contentLength = (int)fileChannel.size();
+				long contentLength = fileChannel.size();
 
-				response.setContentLength(contentLength);
+				response.setHeader(
+					HttpHeaders.CONTENT_LENGTH, String.valueOf(contentLength));
 
 				response.flushBuffer();
 
-				fileChannel.transferTo(
-					0, contentLength,
+				transferFileChannel(
+					fileChannel, 0, contentLength,
 					Channels.newChannel(response.getOutputStream()));
 			}
 			finally {
@@ -553,26 +596,56 @@ public class ServletResponseUtil {
 		if (inputStream instanceof FileInputStream) {
 			FileInputStream fileInputStream = (FileInputStream)inputStream;
 
-			FileChannel fileChannel = fileInputStream.getChannel();
-
-			fileChannel.transferTo(
-				start, length, Channels.newChannel(outputStream));
+			transferFileChannel(
+				fileInputStream.getChannel(), start, length,
+				Channels.newChannel(outputStream));
 		}
 		else if (inputStream instanceof ByteArrayInputStream) {
 			ByteArrayInputStream byteArrayInputStream =
 				(ByteArrayInputStream)inputStream;
 
+			byteArrayInputStream.reset();
+
 			byteArrayInputStream.skip(start);
 
-			StreamUtil.transfer(byteArrayInputStream, outputStream, length);
+			StreamUtil.transfer(
+				byteArrayInputStream, outputStream, StreamUtil.BUFFER_SIZE,
+				false, length);
 		}
-		else {
+		else if (inputStream instanceof RandomAccessInputStream) {
 			RandomAccessInputStream randomAccessInputStream =
-				new RandomAccessInputStream(inputStream);
+				(RandomAccessInputStream)inputStream;
 
 			randomAccessInputStream.seek(start);
 
-			StreamUtil.transfer(randomAccessInputStream, outputStream, length);
+			StreamUtil.transfer(
+				randomAccessInputStream, outputStream, StreamUtil.BUFFER_SIZE,
+				false, length);
+		}
+		else {
+
+			// Skip forward instead of buffering the whole stream in a
+			// temporary file because a single range is read only once
+
+			long skipped = 0;
+
+			while (skipped < start) {
+				long count = inputStream.skip(start - skipped);
+
+				if (count > 0) {
+					skipped += count;
+				}
+				else if (inputStream.read() != -1) {
+					skipped++;
+				}
+				else {
+					break;
+				}
+			}
+
+			StreamUtil.transfer(
+				inputStream, outputStream, StreamUtil.BUFFER_SIZE, false,
+				length);
 		}
 	}
 
@@ -589,6 +662,58 @@ public class ServletResponseUtil {
 		}
 	}
 
+	protected static boolean sendFileWithContainer(
+			HttpServletRequest request, HttpServletResponse response,
+			InputStream inputStream, long start, long length)
+		throws IOException {
+
+		if (!_SENDFILE_ENABLED || (request == null) ||
+			!(inputStream instanceof LocalFileInputStream) ||
+			response.isCommitted() ||
+			!Boolean.TRUE.equals(request.getAttribute(_SENDFILE_SUPPORT))) {
+
+			return false;
+		}
+
+		// Responses that are buffered by a filter must receive the content
+
+		ServletResponse servletResponse = response;
+
+		while (servletResponse instanceof ServletResponseWrapper) {
+			if (servletResponse instanceof BufferCacheServletResponse) {
+				return false;
+			}
+
+			ServletResponseWrapper servletResponseWrapper =
+				(ServletResponseWrapper)servletResponse;
+
+			servletResponse = servletResponseWrapper.getResponse();
+		}
+
+		LocalFileInputStream localFileInputStream =
+			(LocalFileInputStream)inputStream;
+
+		File file = localFileInputStream.getFile();
+
+		if (length <= 0) {
+			length = file.length() - start;
+		}
+
+		response.setHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(length));
+
+		request.setAttribute(_SENDFILE_FILENAME, file.getAbsolutePath());
+		request.setAttribute(_SENDFILE_START, Long.valueOf(start));
+		request.setAttribute(_SENDFILE_END, Long.valueOf(start + length));
+
+		localFileInputStream.close();
+
+		if (_log.isDebugEnabled()) {
+			_log.debug("Delegating delivery of " + file + " to the container");
+		}
+
+		return true;
+	}
+
 	protected static void setHeaders(
 		HttpServletRequest request, HttpServletResponse response,
 		String fileName, String contentType) {
@@ -684,15 +809,49 @@ public class ServletResponseUtil {
 		}
 	}
 
+	protected static void transferFileChannel(
+			FileChannel fileChannel, long position, long length,
+			WritableByteChannel writableByteChannel)
+		throws IOException {
+
+		long end = position + length;
+
+		while (position < end) {
+			long count = fileChannel.transferTo(
+				position, end - position, writableByteChannel);
+
+			if (count <= 0) {
+				break;
+			}
+
+			position += count;
+		}
+	}
+
 	private static final String _CLIENT_ABORT_EXCEPTION =
 		"org.apache.catalina.connector.ClientAbortException";
 
+	private static final boolean _SENDFILE_ENABLED = GetterUtil.getBoolean(
+		PropsUtil.get(PropsKeys.WEB_SERVER_SERVLET_SENDFILE_ENABLED));
+
 	private static final int _MAX_RANGE_FIELDS = GetterUtil.getInteger(
 		PropsUtil.get(PropsKeys.WEB_SERVER_SERVLET_MAX_RANGE_FIELDS));
 
 	private static final String _RANGE_REGEX =
 		"^bytes=\\d*-\\d*(,\\s?\\d*-\\d*)*$";
 
+	private static final String _SENDFILE_END =
+		"org.apache.tomcat.sendfile.end";
+
+	private static final String _SENDFILE_FILENAME =
+		"org.apache.tomcat.sendfile.filename";
+
+	private static final String _SENDFILE_START =
+		"org.apache.tomcat.sendfile.start";
+
+	private static final String _SENDFILE_SUPPORT =
+		"org.apache.tomcat.sendfile.support";
+
 	private static Log _log = LogFactoryUtil.getLog(ServletResponseUtil.class);
 
 }
\ No newline at end of file
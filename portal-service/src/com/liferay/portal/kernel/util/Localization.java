@@ -201,6 +201,18 @@ public interface Localization {
 	public Map<Locale, String> getLocalizedParameter(
 		PortletRequest portletRequest, String parameter);
 
+	/**
+	 * Returns the parsed localizations XML. The XML is parsed once and the
+	 * result is shared by all callers that pass the same XML, so models should
+	 * keep the returned values instead of calling {@link
+	 * #getLocalization(String, String)} for every lookup.
+	 *
+	 * @param  xml the localizations XML
+	 * @return the localized values. If the string is not XML, the values
+	 *         contain the string itself as the value for the default language.
+	 */
+	public LocalizedValues getLocalizedValues(String xml);
+
 	/**
 	 * Returns the localized preferences key in the language. Generally this is
 	 * just the preferences key, followed by an underscore, and the language ID.
@@ -138,6 +138,10 @@ public class LocalizationUtil {
 			portletRequest, parameter);
 	}
 
+	public static LocalizedValues getLocalizedValues(String xml) {
+		return getLocalization().getLocalizedValues(xml);
+	}
+
 	public static List<Locale> getModifiedLocales(
 		Map<Locale, String> oldMap, Map<Locale, String> newMap) {
 
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.util;
+
+import com.liferay.portal.kernel.language.LanguageUtil;
+
+import java.util.Locale;
+
+/**
+ * Holds the values of a localized field after its XML has been parsed, so
+ * that a value can be looked up without parsing the XML again.
+ *
+ * <p>
+ * Instances are immutable and are shared by all models that hold the same
+ * XML. The values are kept in an array that is parallel to the array of
+ * language IDs.
+ * </p>
+ *
+ * @see    Localization#getLocalizedValues(String)
+ */
+public class LocalizedValues {
+
+	public LocalizedValues(String value) {
+		_defaultLanguageId = null;
+		_languageIds = null;
+		_values = null;
+		_value = value;
+	}
+
+	public LocalizedValues(
+		String defaultLanguageId, String[] languageIds, String[] values) {
+
+		if (languageIds.length != values.length) {
+			throw new IllegalArgumentException(
+				"There are " + languageIds.length + " language IDs and " +
+					values.length + " values");
+		}
+
+		_defaultLanguageId = defaultLanguageId;
+		_languageIds = languageIds;
+		_values = values;
+		_value = null;
+	}
+
+	public String getDefaultLanguageId() {
+		if (_languageIds == null) {
+			return LocaleUtil.toLanguageId(LocaleUtil.getDefault());
+		}
+
+		return _defaultLanguageId;
+	}
+
+	public String[] getLanguageIds() {
+		if (_languageIds == null) {
+			return new String[0];
+		}
+
+		return _languageIds.clone();
+	}
+
+	public String getValue(String languageId) {
+		return getValue(languageId, true);
+	}
+
+	public String getValue(String requestedLanguageId, boolean useDefault) {
+		if (_languageIds == null) {
+			if (useDefault ||
+				requestedLanguageId.equals(
+					LocaleUtil.toLanguageId(LocaleUtil.getDefault()))) {
+
+				return _value;
+			}
+
+			return StringPool.BLANK;
+		}
+
+		String value = _getValue(requestedLanguageId);
+
+		if (Validator.isNotNull(value) || !useDefault) {
+			return value;
+		}
+
+		Locale requestedLocale = LocaleUtil.fromLanguageId(requestedLanguageId);
+
+		if (LanguageUtil.isDuplicateLanguageCode(
+				requestedLocale.getLanguage())) {
+
+			Locale priorityLocale = LanguageUtil.getLocale(
+				requestedLocale.getLanguage());
+
+			value = _getValue(LocaleUtil.toLanguageId(priorityLocale));
+
+			if (Validator.isNotNull(value)) {
+				return value;
+			}
+		}
+
+		return _getValue(_defaultLanguageId);
+	}
+
+	private String _getValue(String languageId) {
+		for (int i = 0; i < _languageIds.length; i++) {
+			if (_languageIds[i].equals(languageId)) {
+				return _values[i];
+			}
+		}
+
+		return StringPool.BLANK;
+	}
+
+	private final String _defaultLanguageId;
+	private final String[] _languageIds;
+	private final String _value;
+	private final String[] _values;
+
+}
\ No newline at end of file
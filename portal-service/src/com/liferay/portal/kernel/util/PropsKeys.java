@@ -101,6 +101,10 @@ public interface PropsKeys {
 
 	public static final String ASSET_CATEGORIES_SELECTOR_MAX_ENTRIES = "asset.categories.selector.max.entries";
 
+	public static final String ASSET_ENTRY_QUERY_BITMAP_INDEX_ENABLED = "asset.entry.query.bitmap.index.enabled";
+
+	public static final String ASSET_ENTRY_QUERY_BITMAP_INDEX_MAX_ENTRY_IDS = "asset.entry.query.bitmap.index.max.entry.ids";
+
 	public static final String ASSET_ENTRY_VALIDATOR = "asset.entry.validator";
 
 	public static final String ASSET_FILTER_SEARCH_LIMIT = "asset.filter.search.limit";
@@ -477,10 +481,16 @@ public interface PropsKeys {
 
 	public static final String CONVERT_PROCESSES = "convert.processes";
 
+	public static final String COUNTER_ADAPTIVE_INCREMENT_INTERVAL = "counter.adaptive.increment.interval";
+
+	public static final String COUNTER_ADAPTIVE_INCREMENT_MAX_SIZE = "counter.adaptive.increment.max.size";
+
 	public static final String COUNTER_INCREMENT = "counter.increment";
 
 	public static final String COUNTER_INCREMENT_PREFIX = "counter.increment.";
 
+	public static final String COUNTER_PREFETCH_ENABLED = "counter.prefetch.enabled";
+
 	public static final String CUSTOM_SQL_FUNCTION_ISNOTNULL = "custom.sql.function.isnotnull";
 
 	public static final String CUSTOM_SQL_FUNCTION_ISNULL = "custom.sql.function.isnull";
@@ -727,6 +737,8 @@ public interface PropsKeys {
 
 	public static final String DL_STORE_CMIS_SYSTEM_ROOT_DIR = "dl.store.cmis.system.root.dir";
 
+	public static final String DL_STORE_DEDUPLICATING_FILE_SYSTEM_CHUNK_SIZE = "dl.store.deduplicating.file.system.chunk.size";
+
 	public static final String DL_STORE_FILE_SYSTEM_ROOT_DIR = "dl.store.file.system.root.dir";
 
 	public static final String DL_STORE_IMPL = "dl.store.impl";
@@ -777,6 +789,8 @@ public interface PropsKeys {
 
 	public static final String DYNAMIC_DATA_MAPPING_TEMPLATE_LANGUAGE_DEFAULT = "dynamic.data.mapping.template.language.default";
 
+	public static final String DYNAMIC_DATA_MAPPING_TEMPLATE_WARM_UP_ENABLED = "dynamic.data.mapping.template.warm.up.enabled";
+
 	public static final String DYNAMIC_RESOURCE_SERVLET_ALLOWED_PATHS = "dynamic.resource.servlet.allowed.paths";
 
 	public static final String EDITOR_WYSIWYG_DEFAULT = "editor.wysiwyg.default";
@@ -789,6 +803,8 @@ public interface PropsKeys {
 
 	public static final String EHCACHE_CACHE_MANAGER_PEER_PROVIDER_FACTORY = "ehcache.cache.manager.peer.provider.factory";
 
+	public static final String EHCACHE_CLUSTER_LINK_FLUSH_INTERVAL = "ehcache.cluster.link.flush.interval";
+
 	public static final String EHCACHE_CLUSTER_LINK_REPLICATION_ENABLED = "ehcache.cluster.link.replication.enabled";
 
 	public static final String EHCACHE_MULTI_VM_CONFIG_LOCATION = "ehcache.multi.vm.config.location";
@@ -865,6 +881,16 @@ public interface PropsKeys {
 
 	public static final String GOOGLE_GADGET_SERVLET_MAPPING = "google.gadget.servlet.mapping";
 
+	public static final String GZIP_CACHE_CONTENT_TYPES = "gzip.cache.content.types";
+
+	public static final String GZIP_CACHE_ENABLED = "gzip.cache.enabled";
+
+	public static final String GZIP_CACHE_EXTENSIONS = "gzip.cache.extensions";
+
+	public static final String GZIP_CACHE_FILES_MAX_SIZE = "gzip.cache.files.max.size";
+
+	public static final String GZIP_CACHE_MEMORY_MAX_SIZE = "gzip.cache.memory.max.size";
+
 	public static final String GZIP_COMPRESSION_LEVEL = "gzip.compression.level";
 
 	public static final String HIBERNATE_CACHE_USE_SECOND_LEVEL_CACHE = "hibernate.cache.use_second_level_cache";
@@ -933,6 +959,10 @@ public interface PropsKeys {
 
 	public static final String INDEX_READ_ONLY = "index.read.only";
 
+	public static final String INDEX_REINDEX_RESUME_ENABLED = "index.reindex.resume.enabled";
+
+	public static final String INDEX_REINDEX_THREAD_COUNT = "index.reindex.thread.count";
+
 	public static final String INDEX_SEARCH_ENGINE_ID = "index.search.engine.id";
 
 	public static final String INDEX_SEARCH_HIGHLIGHT_ENABLED = "index.search.highlight.enabled";
@@ -955,6 +985,12 @@ public interface PropsKeys {
 
 	public static final String INDEX_WITH_THREAD = "index.with.thread";
 
+	public static final String INDEX_WRITER_BATCH_ENABLED = "index.writer.batch.enabled";
+
+	public static final String INDEX_WRITER_BATCH_SIZE = "index.writer.batch.size";
+
+	public static final String INDEX_WRITER_BATCH_WAIT_TIME = "index.writer.batch.wait.time";
+
 	public static final String INTRABAND_IMPL = "intraband.impl";
 
 	public static final String INTRABAND_MAILBOX_REAPER_THREAD_ENABLED = "intraband.mailbox.reaper.thread.enabled";
@@ -965,6 +1001,8 @@ public interface PropsKeys {
 
 	public static final String INTRABAND_WELDER_IMPL = "intraband.welder.impl";
 
+	public static final String INTRABAND_WELDER_SHARED_MEMORY_BUFFER_SIZE = "intraband.welder.shared.memory.buffer.size";
+
 	public static final String INTRABAND_WELDER_SOCKET_BUFFER_SIZE = "intraband.welder.socket.buffer.size";
 
 	public static final String INTRABAND_WELDER_SOCKET_KEEP_ALIVE = "intraband.welder.socket.keep.alive";
@@ -1207,6 +1245,8 @@ public interface PropsKeys {
 
 	public static final String LAYOUT_PARALLEL_RENDER_ENABLE = "layout.parallel.render.enable";
 
+	public static final String LAYOUT_PARALLEL_RENDER_PORTLET_TIMEOUT = "layout.parallel.render.portlet.timeout";
+
 	public static final String LAYOUT_PARALLEL_RENDER_THREAD_POOL_ALLOW_CORE_THREAD_TIMEOUT = "layout.parallel.render.thread.pool.allow.core.thread.timeout";
 
 	public static final String LAYOUT_PARALLEL_RENDER_THREAD_POOL_CORE_THREAD_COUNT = "layout.parallel.render.thread.pool.core.thread.count";
@@ -1221,6 +1261,10 @@ public interface PropsKeys {
 
 	public static final String LAYOUT_PARENTABLE = "layout.parentable";
 
+	public static final String LAYOUT_PORTLET_FRAGMENT_CACHE_ENABLED = "layout.portlet.fragment.cache.enabled";
+
+	public static final String LAYOUT_PORTLET_FRAGMENT_CACHE_MAX_AGE = "layout.portlet.fragment.cache.max.age";
+
 	public static final String LAYOUT_PROTOTYPE_LINK_ENABLED_DEFAULT = "layout.prototype.link.enabled.default";
 
 	public static final String LAYOUT_PROTOTYPE_MERGE_FAIL_THRESHOLD = "layout.prototype.merge.fail.threshold";
@@ -1437,6 +1481,10 @@ public interface PropsKeys {
 
 	public static final String LUCENE_MERGE_POLICY = "lucene.merge.policy";
 
+	public static final String LUCENE_NRT_ENABLED = "lucene.nrt.enabled";
+
+	public static final String LUCENE_NRT_REFRESH_INTERVAL = "lucene.nrt.refresh.interval";
+
 	public static final String LUCENE_REPLICATE_WRITE = "lucene.replicate.write";
 
 	public static final String LUCENE_STORE_TYPE = "lucene.store.type";
@@ -1571,6 +1619,18 @@ public interface PropsKeys {
 
 	public static final String MESSAGE_BOARDS_THREAD_VIEWS_DEFAULT = "message.boards.thread.views.default";
 
+	public static final String MESSAGE_BUS_DESTINATION_WEIGHT = "message.bus.destination.weight";
+
+	public static final String MESSAGE_BUS_SHARED_SCHEDULER_BACKPRESSURE_TIMEOUT = "message.bus.shared.scheduler.backpressure.timeout";
+
+	public static final String MESSAGE_BUS_SHARED_SCHEDULER_ENABLED = "message.bus.shared.scheduler.enabled";
+
+	public static final String MESSAGE_BUS_SHARED_SCHEDULER_EXCLUDED_DESTINATION_NAMES = "message.bus.shared.scheduler.excluded.destination.names";
+
+	public static final String MESSAGE_BUS_SHARED_SCHEDULER_MAX_QUEUE_SIZE = "message.bus.shared.scheduler.max.queue.size";
+
+	public static final String MESSAGE_BUS_SHARED_SCHEDULER_THREAD_COUNT = "message.bus.shared.scheduler.thread.count";
+
 	public static final String MICROSOFT_TRANSLATOR_CLIENT_ID = "microsoft.translator.client.id";
 
 	public static final String MICROSOFT_TRANSLATOR_CLIENT_SECRET = "microsoft.translator.client.secret";
@@ -1855,6 +1915,10 @@ public interface PropsKeys {
 
 	public static final String PERMISSIONS_PROPAGATION_ENABLED = "permissions.propagation.enabled";
 
+	public static final String PERMISSIONS_RESULT_CACHE_CAPACITY = "permissions.result.cache.capacity";
+
+	public static final String PERMISSIONS_RESULT_CACHE_MAX_SIZE = "permissions.result.cache.max.size";
+
 	public static final String PERMISSIONS_ROLE_RESOURCE_PERMISSION_QUERY_THRESHOLD = "permissions.role.resource.permission.query.threshold";
 
 	public static final String PERMISSIONS_THREAD_LOCAL_CACHE_MAX_SIZE = "permissions.thread.local.cache.max.size";
@@ -2267,6 +2331,12 @@ public interface PropsKeys {
 
 	public static final String SQL_DATA_MAX_PARAMETERS = "sql.data.max.parameters";
 
+	public static final String STAGING_CHANGE_JOURNAL_ENABLED = "staging.change.journal.enabled";
+
+	public static final String STAGING_CHANGE_JOURNAL_IGNORED_MODEL_CLASS_NAMES = "staging.change.journal.ignored.model.class.names";
+
+	public static final String STAGING_EXPORT_PORTLETS_PARALLEL_ENABLED = "staging.export.portlets.parallel.enabled";
+
 	public static final String STAGING_LOCK_ENABLED = "staging.lock.enabled";
 
 	public static final String STRIP_CSS_SASS_ENABLED = "strip.css.sass.enabled";
@@ -2439,10 +2509,14 @@ public interface PropsKeys {
 
 	public static final String VALUE_OBJECT_ENTITY_CACHE_ENABLED = "value.object.entity.cache.enabled";
 
+	public static final String VALUE_OBJECT_ENTITY_CACHE_VERSIONED = "value.object.entity.cache.versioned";
+
 	public static final String VALUE_OBJECT_ENTITY_THREAD_LOCAL_CACHE_MAX_SIZE = "value.object.entity.thread.local.cache.max.size";
 
 	public static final String VALUE_OBJECT_FINDER_BLOCKING_CACHE = "value.object.finder.blocking.cache";
 
+	public static final String VALUE_OBJECT_FINDER_BULK_HYDRATION_ENABLED = "value.object.finder.bulk.hydration.enabled";
+
 	public static final String VALUE_OBJECT_FINDER_CACHE_ENABLED = "value.object.finder.cache.enabled";
 
 	public static final String VALUE_OBJECT_FINDER_THREAD_LOCAL_CACHE_MAX_SIZE = "value.object.finder.thread.local.cache.max.size";
@@ -2495,6 +2569,8 @@ public interface PropsKeys {
 
 	public static final String WEB_SERVER_SERVLET_MAX_RANGE_FIELDS = "web.server.servlet.max.range.fields";
 
+	public static final String WEB_SERVER_SERVLET_SENDFILE_ENABLED = "web.server.servlet.sendfile.enabled";
+
 	public static final String WEB_SERVER_SERVLET_VERSION_VERBOSITY = "web.server.servlet.version.verbosity";
 
 	public static final String WEBDAV_IGNORE = "webdav.ignore";
@@ -2599,4 +2675,6 @@ public interface PropsKeys {
 
 	public static final String YUI_COMPRESSOR_JS_VERBOSE = "yui.compressor.js.verbose";
 
+	public static final String ZIP_WRITER_STREAMING_ENABLED = "zip.writer.streaming.enabled";
+
 }
\ No newline at end of file
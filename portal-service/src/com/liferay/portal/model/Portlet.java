@@ -346,6 +346,24 @@ public interface Portlet extends PortletModel, PersistedModel {
 	*/
 	public java.util.List<java.lang.String> getFooterPortletJavaScript();
 
+	/**
+	* Returns <code>true</code> to allow the rendered portlet to be cached as
+	* a fragment of the layout and shared between requests.
+	*
+	* @return <code>true</code> if the rendered portlet can be cached as a
+	fragment of the layout
+	*/
+	public boolean getFragmentCacheable();
+
+	/**
+	* Returns the names of the request dimensions that the cached fragments of
+	* the portlet vary by.
+	*
+	* @return the names of the request dimensions that the cached fragments of
+	the portlet vary by
+	*/
+	public java.util.Set<java.lang.String> getFragmentCacheVaryBy();
+
 	/**
 	* Returns the name of the friendly URL mapper class of the portlet.
 	*
@@ -1207,6 +1225,15 @@ public interface Portlet extends PortletModel, PersistedModel {
 	*/
 	public boolean isAjaxable();
 
+	/**
+	* Returns <code>true</code> to allow the rendered portlet to be cached as
+	* a fragment of the layout and shared between requests.
+	*
+	* @return <code>true</code> if the rendered portlet can be cached as a
+	fragment of the layout
+	*/
+	public boolean isFragmentCacheable();
+
 	/**
 	* Returns <code>true</code> to include the portlet and make it available to
 	* be made active.
@@ -1616,6 +1643,25 @@ public interface Portlet extends PortletModel, PersistedModel {
 	public void setFooterPortletJavaScript(
 		java.util.List<java.lang.String> footerPortletJavaScript);
 
+	/**
+	* Set to <code>true</code> to allow the rendered portlet to be cached as a
+	* fragment of the layout and shared between requests.
+	*
+	* @param fragmentCacheable boolean value for whether the rendered portlet
+	can be cached as a fragment of the layout
+	*/
+	public void setFragmentCacheable(boolean fragmentCacheable);
+
+	/**
+	* Sets the names of the request dimensions that the cached fragments of
+	* the portlet vary by.
+	*
+	* @param fragmentCacheVaryBy the names of the request dimensions that the
+	cached fragments of the portlet vary by
+	*/
+	public void setFragmentCacheVaryBy(
+		java.util.Set<java.lang.String> fragmentCacheVaryBy);
+
 	/**
 	* Sets the name of the friendly URL mapper class of the portlet.
 	*
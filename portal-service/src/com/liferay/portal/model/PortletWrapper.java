@@ -652,6 +652,28 @@ public class PortletWrapper implements Portlet, ModelWrapper<Portlet> {
 		return _portlet.getFooterPortletJavaScript();
 	}
 
+	/**
+	* Returns <code>true</code> to allow the rendered portlet to be cached as
+	* a fragment of the layout and shared between requests.
+	*
+	* @return <code>true</code> if the rendered portlet can be cached as a
+	fragment of the layout
+	*/
+	public boolean getFragmentCacheable() {
+		return _portlet.getFragmentCacheable();
+	}
+
+	/**
+	* Returns the names of the request dimensions that the cached fragments of
+	* the portlet vary by.
+	*
+	* @return the names of the request dimensions that the cached fragments of
+	the portlet vary by
+	*/
+	public java.util.Set<java.lang.String> getFragmentCacheVaryBy() {
+		return _portlet.getFragmentCacheVaryBy();
+	}
+
 	/**
 	* Returns the name of the friendly URL mapper class of the portlet.
 	*
@@ -1733,6 +1755,17 @@ public class PortletWrapper implements Portlet, ModelWrapper<Portlet> {
 		return _portlet.isAjaxable();
 	}
 
+	/**
+	* Returns <code>true</code> to allow the rendered portlet to be cached as
+	* a fragment of the layout and shared between requests.
+	*
+	* @return <code>true</code> if the rendered portlet can be cached as a
+	fragment of the layout
+	*/
+	public boolean isFragmentCacheable() {
+		return _portlet.isFragmentCacheable();
+	}
+
 	/**
 	* Returns <code>true</code> to include the portlet and make it available to
 	* be made active.
@@ -2236,6 +2269,29 @@ public class PortletWrapper implements Portlet, ModelWrapper<Portlet> {
 		_portlet.setFooterPortletJavaScript(footerPortletJavaScript);
 	}
 
+	/**
+	* Set to <code>true</code> to allow the rendered portlet to be cached as a
+	* fragment of the layout and shared between requests.
+	*
+	* @param fragmentCacheable boolean value for whether the rendered portlet
+	can be cached as a fragment of the layout
+	*/
+	public void setFragmentCacheable(boolean fragmentCacheable) {
+		_portlet.setFragmentCacheable(fragmentCacheable);
+	}
+
+	/**
+	* Sets the names of the request dimensions that the cached fragments of
+	* the portlet vary by.
+	*
+	* @param fragmentCacheVaryBy the names of the request dimensions that the
+	cached fragments of the portlet vary by
+	*/
+	public void setFragmentCacheVaryBy(
+		java.util.Set<java.lang.String> fragmentCacheVaryBy) {
+		_portlet.setFragmentCacheVaryBy(fragmentCacheVaryBy);
+	}
+
 	/**
 	* Sets the name of the friendly URL mapper class of the portlet.
 	*
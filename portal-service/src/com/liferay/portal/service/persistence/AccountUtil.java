@@ -22,7 +22,11 @@ import com.liferay.portal.kernel.util.ReferenceRegistry;
 import com.liferay.portal.model.Account;
 import com.liferay.portal.service.ServiceContext;
 
+import java.io.Serializable;
+
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * The persistence utility for the account service. This utility wraps {@link AccountPersistenceImpl} and provides direct access to the database for CRUD operations. This utility should only be used by the service layer, as it must operate within a transaction. Never access this utility in a JSP, controller, model, or other front-end class.
@@ -65,6 +69,14 @@ public class AccountUtil {
 		return getPersistence().countWithDynamicQuery(dynamicQuery);
 	}
 
+	/**
+	 * @see com.liferay.portal.service.persistence.BasePersistence#fetchByPrimaryKeys(Set)
+	 */
+	public static Map<Serializable, Account> fetchByPrimaryKeys(
+		Set<Serializable> primaryKeys) throws SystemException {
+		return getPersistence().fetchByPrimaryKeys(primaryKeys);
+	}
+
 	/**
 	 * @see com.liferay.portal.service.persistence.BasePersistence#findWithDynamicQuery(DynamicQuery)
 	 */
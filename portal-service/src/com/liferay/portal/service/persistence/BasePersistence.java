@@ -27,6 +27,8 @@ import com.liferay.portal.service.ServiceContext;
 import java.io.Serializable;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.sql.DataSource;
 
@@ -105,6 +107,25 @@ public interface BasePersistence<T extends BaseModel<T>> {
 	 */
 	public T fetchByPrimaryKey(Serializable primaryKey) throws SystemException;
 
+	/**
+	 * Returns the model instances with the primary keys. Primary keys that
+	 * could not be found are omitted from the returned map.
+	 *
+	 * <p>
+	 * Model instances already in the {@link
+	 * com.liferay.portal.kernel.dao.orm.EntityCache} are returned without
+	 * hitting the database. The remaining ones are loaded in batches and put
+	 * into the entity cache.
+	 * </p>
+	 *
+	 * @param  primaryKeys the primary keys of the model instances
+	 * @return the model instances, keyed by their primary keys
+	 * @throws SystemException if a system exception occurred
+	 */
+	public Map<Serializable, T> fetchByPrimaryKeys(
+			Set<Serializable> primaryKeys)
+		throws SystemException;
+
 	/**
 	 * Returns the model instance with the primary key or throws a {@link
 	 * NoSuchModelException} if it could not be found.
@@ -43,7 +43,9 @@ import java.io.Serializable;
 import java.sql.Connection;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.sql.DataSource;
@@ -98,6 +100,27 @@ public class BasePersistenceImpl<T extends BaseModel<T>>
 		throw new UnsupportedOperationException();
 	}
 
+	public Map<Serializable, T> fetchByPrimaryKeys(
+			Set<Serializable> primaryKeys)
+		throws SystemException {
+
+		if (primaryKeys.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		Map<Serializable, T> map = new HashMap<Serializable, T>();
+
+		for (Serializable primaryKey : primaryKeys) {
+			T model = fetchByPrimaryKey(primaryKey);
+
+			if (model != null) {
+				map.put(primaryKey, model);
+			}
+		}
+
+		return map;
+	}
+
 	@SuppressWarnings("unused")
 	public T findByPrimaryKey(Serializable primaryKey)
 		throws NoSuchModelException, SystemException {
@@ -460,6 +483,8 @@ public class BasePersistenceImpl<T extends BaseModel<T>>
 		return updateImpl(model);
 	}
 
+	protected static final int FETCH_BY_PRIMARY_KEYS_BATCH_SIZE = 1000;
+
 	protected static final Object[] FINDER_ARGS_EMPTY = new Object[0];
 
 	protected static final String ORDER_BY_ASC = " ASC";
@@ -16,7 +16,9 @@ package com.liferay.portal.kernel.concurrent;
 
 import com.liferay.portal.kernel.test.TestCase;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -57,6 +59,30 @@ public class CoalescedPipeTest extends TestCase {
 		scheduledExecutorService.awaitTermination(120, TimeUnit.SECONDS);
 	}
 
+	public void testDrainTo() throws InterruptedException {
+		CoalescedPipe<String> coalescedPipe = new CoalescedPipe<String>();
+
+		List<String> list = new ArrayList<String>();
+
+		assertEquals(0, coalescedPipe.drainTo(list));
+		assertTrue(list.isEmpty());
+
+		coalescedPipe.put("test1");
+		coalescedPipe.put("test2");
+
+		assertEquals(2, coalescedPipe.drainTo(list));
+		assertEquals(2, list.size());
+		assertEquals("test1", list.get(0));
+		assertEquals("test2", list.get(1));
+		assertEquals(0, coalescedPipe.pendingCount());
+		assertEquals(0, coalescedPipe.takeSnapshot().length);
+
+		coalescedPipe.put("test3");
+
+		assertEquals(1, coalescedPipe.pendingCount());
+		assertEquals("test3", coalescedPipe.take());
+	}
+
 	public void testNonBlockingTake() throws InterruptedException {
 		CoalescedPipe<String> coalescedPipe = new CoalescedPipe<String>();
 
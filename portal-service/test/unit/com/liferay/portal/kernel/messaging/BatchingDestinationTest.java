@@ -0,0 +1,251 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.messaging;
+
+import com.liferay.portal.kernel.concurrent.ThreadPoolExecutor;
+import com.liferay.portal.kernel.executor.PortalExecutorManager;
+import com.liferay.portal.kernel.executor.PortalExecutorManagerUtil;
+import com.liferay.portal.kernel.util.Props;
+import com.liferay.portal.kernel.util.PropsUtil;
+import com.liferay.portal.security.auth.PrincipalThreadLocal;
+import com.liferay.portal.security.permission.PermissionChecker;
+import com.liferay.portal.security.permission.PermissionThreadLocal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.powermock.api.mockito.PowerMockito;
+
+public class BatchingDestinationTest extends PowerMockito {
+
+	@BeforeClass
+	public static void setUpClass() {
+		PropsUtil.setProps(mock(Props.class));
+
+		PortalExecutorManagerUtil portalExecutorManagerUtil =
+			new PortalExecutorManagerUtil();
+
+		portalExecutorManagerUtil.setPortalExecutorManager(
+			mock(PortalExecutorManager.class));
+	}
+
+	@Before
+	public void setUp() {
+		_batchingDestination = new BatchingDestination();
+
+		_batchingDestination.setName(BatchingDestinationTest.class.getName());
+
+		_batchingDestination.afterPropertiesSet();
+
+		_batchingDestination.register(new RecordingMessageListener());
+	}
+
+	@After
+	public void tearDown() {
+		ThreadPoolExecutor threadPoolExecutor =
+			_batchingDestination.getThreadPoolExecutor();
+
+		_batchingDestination.close(true);
+
+		threadPoolExecutor.shutdownNow();
+
+		PermissionThreadLocal.setPermissionChecker(null);
+		PrincipalThreadLocal.setName(null);
+	}
+
+	@Test
+	public void testBatchSize() throws Exception {
+		_batchingDestination.setBatchSize(3);
+		_batchingDestination.setBatchWaitTime(Long.MAX_VALUE);
+
+		for (int i = 0; i < 7; i++) {
+			_batchingDestination.send(createMessage(i));
+		}
+
+		assertPayloads(nextBatch(), 0, 1, 2);
+		assertPayloads(nextBatch(), 3, 4, 5);
+
+		Assert.assertNull(_batches.poll(100, TimeUnit.MILLISECONDS));
+
+		_batchingDestination.close(false);
+
+		assertPayloads(nextBatch(), 6);
+	}
+
+	@Test
+	public void testBatchWaitTime() throws Exception {
+		_batchingDestination.setBatchWaitTime(100);
+
+		long startTime = System.currentTimeMillis();
+
+		_batchingDestination.send(createMessage(0));
+		_batchingDestination.send(createMessage(1));
+
+		assertPayloads(nextBatch(), 0, 1);
+
+		Assert.assertTrue((System.currentTimeMillis() - startTime) >= 90);
+	}
+
+	@Test
+	public void testCoalescing() throws Exception {
+		_batchingDestination.setBatchWaitTime(Long.MAX_VALUE);
+		_batchingDestination.setCoalescingKeys(new String[] {"classPK"});
+
+		Message message = createMessage(0);
+
+		message.put("classPK", 1);
+
+		_batchingDestination.send(message);
+
+		message = createMessage(1);
+
+		message.put("classPK", 2);
+
+		_batchingDestination.send(message);
+
+		_batchingDestination.send(createMessage(2));
+
+		message = createMessage(3);
+
+		message.put("classPK", 1);
+
+		_batchingDestination.send(message);
+
+		_batchingDestination.send(createMessage(4));
+
+		_batchingDestination.close(false);
+
+		// The last message with the same key replaces the first one, in the
+		// position of the last one
+
+		assertPayloads(nextBatch(), 1, 2, 3, 4);
+
+		Assert.assertEquals(1, _batchingDestination.getCoalescedMessageCount());
+	}
+
+	@Test
+	public void testResponseExpected() throws Exception {
+		_batchingDestination.setBatchWaitTime(Long.MAX_VALUE);
+
+		_batchingDestination.send(createMessage(0));
+
+		Message message = createMessage(1);
+
+		message.setResponseDestinationName("response");
+
+		_batchingDestination.send(message);
+
+		assertPayloads(nextBatch(), 0, 1);
+	}
+
+	@Test
+	public void testThreadLocals() throws Exception {
+		_batchingDestination.setBatchWaitTime(Long.MAX_VALUE);
+
+		PermissionChecker permissionChecker = mock(PermissionChecker.class);
+
+		PermissionThreadLocal.setPermissionChecker(permissionChecker);
+		PrincipalThreadLocal.setName("principal1");
+
+		_batchingDestination.send(createMessage(0));
+		_batchingDestination.send(createMessage(1));
+
+		PrincipalThreadLocal.setName("principal2");
+
+		_batchingDestination.send(createMessage(2));
+
+		_batchingDestination.close(false);
+
+		// A batch only holds messages of the same principal
+
+		Batch batch = nextBatch();
+
+		assertPayloads(batch, 0, 1);
+
+		Assert.assertSame(permissionChecker, batch._permissionChecker);
+		Assert.assertEquals("principal1", batch._principalName);
+
+		batch = nextBatch();
+
+		assertPayloads(batch, 2);
+
+		Assert.assertSame(permissionChecker, batch._permissionChecker);
+		Assert.assertEquals("principal2", batch._principalName);
+	}
+
+	protected void assertPayloads(Batch batch, Object... payloads) {
+		List<Object> batchPayloads = new ArrayList<Object>();
+
+		for (Message message : batch._messageBatch.getMessages()) {
+			batchPayloads.add(message.getPayload());
+		}
+
+		Assert.assertEquals(Arrays.asList(payloads), batchPayloads);
+	}
+
+	protected Message createMessage(int payload) {
+		Message message = new Message();
+
+		message.setPayload(payload);
+
+		return message;
+	}
+
+	protected Batch nextBatch() throws InterruptedException {
+		Batch batch = _batches.poll(10, TimeUnit.SECONDS);
+
+		Assert.assertNotNull(batch);
+
+		return batch;
+	}
+
+	private BlockingQueue<Batch> _batches = new LinkedBlockingQueue<Batch>();
+	private BatchingDestination _batchingDestination;
+
+	private static class Batch {
+
+		public Batch(MessageBatch messageBatch) {
+			_messageBatch = messageBatch;
+
+			_permissionChecker = PermissionThreadLocal.getPermissionChecker();
+			_principalName = PrincipalThreadLocal.getName();
+		}
+
+		private MessageBatch _messageBatch;
+		private PermissionChecker _permissionChecker;
+		private String _principalName;
+
+	}
+
+	private class RecordingMessageListener implements MessageListener {
+
+		@Override
+		public void receive(Message message) {
+			_batches.add(new Batch((MessageBatch)message.getPayload()));
+		}
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,343 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.messaging;
+
+import com.liferay.portal.kernel.configuration.Filter;
+import com.liferay.portal.kernel.messaging.DestinationScheduler.DestinationQueue;
+import com.liferay.portal.kernel.util.Props;
+import com.liferay.portal.kernel.util.PropsUtil;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class DestinationSchedulerTest {
+
+	@BeforeClass
+	public static void setUpClass() {
+		PropsUtil.setProps(
+			new Props() {
+
+				public boolean contains(String key) {
+					return false;
+				}
+
+				public String get(String key) {
+					return null;
+				}
+
+				public String get(String key, Filter filter) {
+					return null;
+				}
+
+				public String[] getArray(String key) {
+					return null;
+				}
+
+				public String[] getArray(String key, Filter filter) {
+					return null;
+				}
+
+				public Properties getProperties() {
+					return null;
+				}
+
+				public Properties getProperties(
+					String prefix, boolean removePrefix) {
+
+					return null;
+				}
+
+			}
+		);
+	}
+
+	@Test
+	public void testRejectAfterBackpressureTimeout() throws Exception {
+		DestinationScheduler destinationScheduler = new DestinationScheduler(
+			1, 100);
+
+		CountDownLatch releaseCountDownLatch = new CountDownLatch(1);
+
+		try {
+			DestinationQueue destinationQueue = destinationScheduler.register(
+				"test", 1, 1, 1);
+
+			CountDownLatch startCountDownLatch = new CountDownLatch(1);
+
+			Assert.assertTrue(
+				destinationScheduler.execute(
+					destinationQueue,
+					new BlockingRunnable(
+						startCountDownLatch, releaseCountDownLatch)));
+
+			startCountDownLatch.await();
+
+			Assert.assertTrue(
+				destinationScheduler.execute(
+					destinationQueue, new CountingRunnable(null, null)));
+
+			long startTime = System.nanoTime();
+
+			Assert.assertFalse(
+				destinationScheduler.execute(
+					destinationQueue, new CountingRunnable(null, null)));
+
+			long elapsedTime = TimeUnit.NANOSECONDS.toMillis(
+				System.nanoTime() - startTime);
+
+			Assert.assertTrue(elapsedTime >= 90);
+			Assert.assertEquals(1, destinationQueue.getPendingCount());
+			Assert.assertEquals(1, destinationQueue.getRejectedCount());
+		}
+		finally {
+			releaseCountDownLatch.countDown();
+
+			destinationScheduler.shutdown(true);
+		}
+	}
+
+	@Test
+	public void testSerialDestinationStaysSerial() throws Exception {
+		DestinationScheduler destinationScheduler = new DestinationScheduler(
+			4, 1000);
+
+		try {
+			DestinationQueue destinationQueue = destinationScheduler.register(
+				"test", 1, 1, 100);
+
+			AtomicInteger activeCount = new AtomicInteger();
+			CountDownLatch countDownLatch = new CountDownLatch(50);
+			AtomicInteger maxActiveCount = new AtomicInteger();
+
+			for (int i = 0; i < 50; i++) {
+				Assert.assertTrue(
+					destinationScheduler.execute(
+						destinationQueue,
+						new ConcurrencyRunnable(
+							activeCount, countDownLatch, maxActiveCount)));
+			}
+
+			Assert.assertTrue(countDownLatch.await(10, TimeUnit.SECONDS));
+			Assert.assertEquals(1, maxActiveCount.get());
+		}
+		finally {
+			destinationScheduler.shutdown(true);
+		}
+	}
+
+	@Test
+	public void testWeightedRoundRobin() throws Exception {
+		DestinationScheduler destinationScheduler = new DestinationScheduler(
+			1, 1000);
+
+		CountDownLatch releaseCountDownLatch = new CountDownLatch(1);
+
+		try {
+			DestinationQueue blockingDestinationQueue =
+				destinationScheduler.register("blocking", 1, 1, 1);
+			DestinationQueue heavyDestinationQueue =
+				destinationScheduler.register("heavy", 3, 1, 100);
+			DestinationQueue lightDestinationQueue =
+				destinationScheduler.register("light", 1, 1, 100);
+
+			CountDownLatch startCountDownLatch = new CountDownLatch(1);
+
+			destinationScheduler.execute(
+				blockingDestinationQueue,
+				new BlockingRunnable(
+					startCountDownLatch, releaseCountDownLatch));
+
+			startCountDownLatch.await();
+
+			CountDownLatch countDownLatch = new CountDownLatch(24);
+			List<String> destinationNames = Collections.synchronizedList(
+				new ArrayList<String>());
+
+			for (int i = 0; i < 12; i++) {
+				destinationScheduler.execute(
+					heavyDestinationQueue,
+					new CountingRunnable(
+						countDownLatch, destinationNames, "heavy"));
+				destinationScheduler.execute(
+					lightDestinationQueue,
+					new CountingRunnable(
+						countDownLatch, destinationNames, "light"));
+			}
+
+			releaseCountDownLatch.countDown();
+
+			Assert.assertTrue(countDownLatch.await(10, TimeUnit.SECONDS));
+
+			Assert.assertEquals(
+				"[heavy, heavy, heavy, light, heavy, heavy, heavy, light]",
+				String.valueOf(destinationNames.subList(0, 8)));
+		}
+		finally {
+			releaseCountDownLatch.countDown();
+
+			destinationScheduler.shutdown(true);
+		}
+	}
+
+	@Test
+	public void testWorkerThreadBypassesQueueBound() throws Exception {
+		final DestinationScheduler destinationScheduler =
+			new DestinationScheduler(1, TimeUnit.MINUTES.toMillis(1));
+
+		try {
+			final DestinationQueue destinationQueue =
+				destinationScheduler.register("test", 1, 1, 1);
+
+			final CountDownLatch countDownLatch = new CountDownLatch(3);
+			final AtomicBoolean executed = new AtomicBoolean(true);
+
+			destinationScheduler.execute(
+				destinationQueue,
+				new Runnable() {
+
+					public void run() {
+						for (int i = 0; i < 3; i++) {
+							if (!destinationScheduler.execute(
+									destinationQueue,
+									new CountingRunnable(
+										countDownLatch, null))) {
+
+								executed.set(false);
+							}
+						}
+					}
+
+				});
+
+			Assert.assertTrue(countDownLatch.await(10, TimeUnit.SECONDS));
+			Assert.assertTrue(executed.get());
+			Assert.assertEquals(0, destinationQueue.getRejectedCount());
+		}
+		finally {
+			destinationScheduler.shutdown(true);
+		}
+	}
+
+	private static class BlockingRunnable implements Runnable {
+
+		public BlockingRunnable(
+			CountDownLatch startCountDownLatch,
+			CountDownLatch releaseCountDownLatch) {
+
+			_startCountDownLatch = startCountDownLatch;
+			_releaseCountDownLatch = releaseCountDownLatch;
+		}
+
+		public void run() {
+			_startCountDownLatch.countDown();
+
+			try {
+				_releaseCountDownLatch.await();
+			}
+			catch (InterruptedException ie) {
+			}
+		}
+
+		private final CountDownLatch _releaseCountDownLatch;
+		private final CountDownLatch _startCountDownLatch;
+
+	}
+
+	private static class ConcurrencyRunnable implements Runnable {
+
+		public ConcurrencyRunnable(
+			AtomicInteger activeCount, CountDownLatch countDownLatch,
+			AtomicInteger maxActiveCount) {
+
+			_activeCount = activeCount;
+			_countDownLatch = countDownLatch;
+			_maxActiveCount = maxActiveCount;
+		}
+
+		public void run() {
+			int activeCount = _activeCount.incrementAndGet();
+
+			while (true) {
+				int maxActiveCount = _maxActiveCount.get();
+
+				if ((activeCount <= maxActiveCount) ||
+					_maxActiveCount.compareAndSet(
+						maxActiveCount, activeCount)) {
+
+					break;
+				}
+			}
+
+			try {
+				Thread.sleep(1);
+			}
+			catch (InterruptedException ie) {
+			}
+
+			_activeCount.decrementAndGet();
+
+			_countDownLatch.countDown();
+		}
+
+		private final AtomicInteger _activeCount;
+		private final CountDownLatch _countDownLatch;
+		private final AtomicInteger _maxActiveCount;
+
+	}
+
+	private static class CountingRunnable implements Runnable {
+
+		public CountingRunnable(
+			CountDownLatch countDownLatch, List<String> destinationNames) {
+
+			this(countDownLatch, destinationNames, null);
+		}
+
+		public CountingRunnable(
+			CountDownLatch countDownLatch, List<String> destinationNames,
+			String destinationName) {
+
+			_countDownLatch = countDownLatch;
+			_destinationNames = destinationNames;
+			_destinationName = destinationName;
+		}
+
+		public void run() {
+			if (_destinationNames != null) {
+				_destinationNames.add(_destinationName);
+			}
+
+			if (_countDownLatch != null) {
+				_countDownLatch.countDown();
+			}
+		}
+
+		private final CountDownLatch _countDownLatch;
+		private final String _destinationName;
+		private final List<String> _destinationNames;
+
+	}
+
+}
\ No newline at end of file
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.messaging;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testAverageAndMaxLatency() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		Assert.assertEquals(0, latencyHistogram.getAverageLatency());
+		Assert.assertEquals(0, latencyHistogram.getMaxLatency());
+
+		latencyHistogram.record(10);
+		latencyHistogram.record(30);
+		latencyHistogram.record(20);
+
+		Assert.assertEquals(20, latencyHistogram.getAverageLatency());
+		Assert.assertEquals(30, latencyHistogram.getMaxLatency());
+
+		latencyHistogram.reset();
+
+		Assert.assertEquals(0, latencyHistogram.getAverageLatency());
+		Assert.assertEquals(0, latencyHistogram.getMaxLatency());
+
+		for (long count : latencyHistogram.getCounts()) {
+			Assert.assertEquals(0, count);
+		}
+	}
+
+	@Test
+	public void testBucketBoundaries() {
+		long[] upperBounds = LatencyHistogram.getUpperBounds();
+
+		for (int i = 0; i < (upperBounds.length - 1); i++) {
+			LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+			latencyHistogram.record(upperBounds[i] - 1);
+			latencyHistogram.record(upperBounds[i]);
+
+			long[] counts = latencyHistogram.getCounts();
+
+			Assert.assertEquals(1, counts[i]);
+			Assert.assertEquals(1, counts[i + 1]);
+		}
+	}
+
+	@Test
+	public void testRecord() {
+		LatencyHistogram latencyHistogram = new LatencyHistogram();
+
+		latencyHistogram.record(-1);
+		latencyHistogram.record(0);
+		latencyHistogram.record(1);
+		latencyHistogram.record(3);
+		latencyHistogram.record(65535);
+		latencyHistogram.record(65536);
+		latencyHistogram.record(Long.MAX_VALUE);
+
+		long[] counts = latencyHistogram.getCounts();
+
+		Assert.assertEquals(2, counts[0]);
+		Assert.assertEquals(1, counts[1]);
+		Assert.assertEquals(1, counts[2]);
+		Assert.assertEquals(1, counts[16]);
+		Assert.assertEquals(2, counts[17]);
+		Assert.assertEquals(Long.MAX_VALUE, latencyHistogram.getMaxLatency());
+	}
+
+	@Test
+	public void testUpperBounds() {
+		long[] upperBounds = LatencyHistogram.getUpperBounds();
+
+		Assert.assertEquals(18, upperBounds.length);
+		Assert.assertEquals(1, upperBounds[0]);
+		Assert.assertEquals(2, upperBounds[1]);
+		Assert.assertEquals(65536, upperBounds[16]);
+		Assert.assertEquals(Long.MAX_VALUE, upperBounds[17]);
+	}
+
+}
\ No newline at end of file
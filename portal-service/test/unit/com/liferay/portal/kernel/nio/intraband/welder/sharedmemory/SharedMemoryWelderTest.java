@@ -0,0 +1,255 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.nio.intraband.welder.sharedmemory;
+
+import com.liferay.portal.kernel.nio.intraband.Datagram;
+import com.liferay.portal.kernel.nio.intraband.DatagramReceiveHandler;
+import com.liferay.portal.kernel.nio.intraband.Intraband;
+import com.liferay.portal.kernel.nio.intraband.MockIntraband;
+import com.liferay.portal.kernel.nio.intraband.MockRegistrationReference;
+import com.liferay.portal.kernel.nio.intraband.RegistrationReference;
+import com.liferay.portal.kernel.nio.intraband.blocking.ExecutorIntraband;
+import com.liferay.portal.kernel.nio.intraband.welder.WelderTestUtil;
+
+import java.io.File;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SharedMemoryWelderTest {
+
+	@After
+	public void tearDown() {
+		File tempFolder = new File(System.getProperty("java.io.tmpdir"));
+
+		File[] files = tempFolder.listFiles();
+
+		for (File file : files) {
+			if (file.isFile() && file.getName().startsWith("SHARED-MEMORY-")) {
+				file.delete();
+			}
+		}
+	}
+
+	@Test
+	public void testClose() throws Exception {
+		SharedMemoryWelder sharedMemoryWelder = new SharedMemoryWelder(16);
+
+		SharedMemoryChannel writeSharedMemoryChannel = new SharedMemoryChannel(
+			sharedMemoryWelder.inputFile, true);
+		SharedMemoryChannel readSharedMemoryChannel = new SharedMemoryChannel(
+			sharedMemoryWelder.inputFile, false);
+
+		Assert.assertEquals(16, writeSharedMemoryChannel.getCapacity());
+
+		writeSharedMemoryChannel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+
+		writeSharedMemoryChannel.close();
+
+		Assert.assertFalse(writeSharedMemoryChannel.isOpen());
+
+		ByteBuffer byteBuffer = ByteBuffer.allocate(8);
+
+		Assert.assertEquals(3, readSharedMemoryChannel.read(byteBuffer));
+		Assert.assertEquals(-1, readSharedMemoryChannel.read(byteBuffer));
+
+		writeSharedMemoryChannel = new SharedMemoryChannel(
+			sharedMemoryWelder.outputFile, true);
+		readSharedMemoryChannel = new SharedMemoryChannel(
+			sharedMemoryWelder.outputFile, false);
+
+		readSharedMemoryChannel.close();
+
+		try {
+			writeSharedMemoryChannel.write(ByteBuffer.allocate(1));
+
+			Assert.fail();
+		}
+		catch (ClosedChannelException cce) {
+		}
+
+		Assert.assertFalse(writeSharedMemoryChannel.isOpen());
+
+		try {
+			SharedMemoryChannel.createFile(sharedMemoryWelder.inputFile, 100);
+
+			Assert.fail();
+		}
+		catch (IllegalArgumentException iae) {
+			Assert.assertEquals(
+				"Capacity 100 is not a power of 2", iae.getMessage());
+		}
+	}
+
+	@Test
+	public void testSendDatagrams() throws Exception {
+		final SharedMemoryWelder serverSharedMemoryWelder =
+			new SharedMemoryWelder(1024);
+		SharedMemoryWelder clientSharedMemoryWelder = WelderTestUtil.transform(
+			serverSharedMemoryWelder);
+
+		final Intraband serverIntraband = new ExecutorIntraband(10000);
+		final Intraband clientIntraband = new ExecutorIntraband(10000);
+
+		FutureTask<RegistrationReference> futureTask =
+			new FutureTask<RegistrationReference>(
+				new Callable<RegistrationReference>() {
+
+					@Override
+					public RegistrationReference call() throws Exception {
+						return serverSharedMemoryWelder.weld(serverIntraband);
+					}
+
+				});
+
+		Thread thread = new Thread(futureTask);
+
+		thread.start();
+
+		clientSharedMemoryWelder.weld(clientIntraband);
+
+		RegistrationReference registrationReference = futureTask.get();
+
+		clientIntraband.registerDatagramReceiveHandler(
+			_TYPE_ECHO,
+			new DatagramReceiveHandler() {
+
+				@Override
+				public void receive(
+					RegistrationReference registrationReference,
+					Datagram datagram) {
+
+					clientIntraband.sendDatagram(
+						registrationReference,
+						Datagram.createResponseDatagram(
+							datagram, datagram.getDataByteBuffer()));
+				}
+
+			});
+
+		final byte[] data = new byte[64 * 1024];
+
+		Random random = new Random();
+
+		random.nextBytes(data);
+
+		final CountDownLatch countDownLatch = new CountDownLatch(
+			_DATAGRAM_COUNT);
+
+		clientIntraband.registerDatagramReceiveHandler(
+			_TYPE_SINK,
+			new DatagramReceiveHandler() {
+
+				@Override
+				public void receive(
+					RegistrationReference registrationReference,
+					Datagram datagram) {
+
+					ByteBuffer byteBuffer = datagram.getDataByteBuffer();
+
+					if (byteBuffer.equals(ByteBuffer.wrap(data))) {
+						countDownLatch.countDown();
+					}
+				}
+
+			});
+
+		try {
+
+			// Datagrams that are much larger than the shared memory wrap
+			// around it many times
+
+			for (int i = 0; i < _DATAGRAM_COUNT; i++) {
+				Datagram responseDatagram = serverIntraband.sendSyncDatagram(
+					registrationReference,
+					Datagram.createRequestDatagram(_TYPE_ECHO, data));
+
+				ByteBuffer byteBuffer = responseDatagram.getDataByteBuffer();
+
+				byte[] responseData = new byte[byteBuffer.remaining()];
+
+				byteBuffer.get(responseData);
+
+				Assert.assertTrue(Arrays.equals(data, responseData));
+			}
+
+			for (int i = 0; i < _DATAGRAM_COUNT; i++) {
+				serverIntraband.sendDatagram(
+					registrationReference,
+					Datagram.createRequestDatagram(_TYPE_SINK, data));
+			}
+
+			Assert.assertTrue(countDownLatch.await(1, TimeUnit.MINUTES));
+		}
+		finally {
+			serverSharedMemoryWelder.destroy();
+			clientSharedMemoryWelder.destroy();
+
+			serverIntraband.close();
+			clientIntraband.close();
+		}
+	}
+
+	@Test
+	public void testWeld() throws Exception {
+		SharedMemoryWelder serverSharedMemoryWelder = new SharedMemoryWelder(
+			1000);
+		SharedMemoryWelder clientSharedMemoryWelder = WelderTestUtil.transform(
+			serverSharedMemoryWelder);
+
+		MockRegistrationReference serverMockRegistrationReference =
+			(MockRegistrationReference)serverSharedMemoryWelder.weld(
+				new MockIntraband());
+		MockRegistrationReference clientMockRegistrationReference =
+			(MockRegistrationReference)clientSharedMemoryWelder.weld(
+				new MockIntraband());
+
+		SharedMemoryChannel sharedMemoryChannel =
+			serverSharedMemoryWelder.readSharedMemoryChannel;
+
+		Assert.assertEquals(1024, sharedMemoryChannel.getCapacity());
+
+		WelderTestUtil.assertConnectted(
+			serverMockRegistrationReference.getScatteringByteChannel(),
+			clientMockRegistrationReference.getGatheringByteChannel());
+		WelderTestUtil.assertConnectted(
+			clientMockRegistrationReference.getScatteringByteChannel(),
+			serverMockRegistrationReference.getGatheringByteChannel());
+
+		serverSharedMemoryWelder.destroy();
+		clientSharedMemoryWelder.destroy();
+
+		Assert.assertFalse(serverSharedMemoryWelder.inputFile.exists());
+		Assert.assertFalse(serverSharedMemoryWelder.outputFile.exists());
+	}
+
+	private static final int _DATAGRAM_COUNT = 100;
+
+	private static final byte _TYPE_ECHO = 1;
+
+	private static final byte _TYPE_SINK = 2;
+
+}
\ No newline at end of file
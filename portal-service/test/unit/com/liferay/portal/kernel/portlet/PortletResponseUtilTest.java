@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.portlet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+
+import java.nio.channels.FileChannel;
+
+import javax.portlet.ResourceResponse;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+import org.powermock.api.mockito.PowerMockito;
+
+public class PortletResponseUtilTest extends PowerMockito {
+
+	@Before
+	public void setUp() throws Exception {
+		_file = File.createTempFile(
+			PortletResponseUtilTest.class.getSimpleName(), null);
+
+		FileOutputStream fileOutputStream = new FileOutputStream(_file);
+
+		try {
+			fileOutputStream.write(_BYTES);
+		}
+		finally {
+			fileOutputStream.close();
+		}
+
+		_byteArrayOutputStream = new ByteArrayOutputStream();
+
+		_resourceResponse = mock(ResourceResponse.class);
+
+		when(
+			_resourceResponse.getPortletOutputStream()
+		).thenReturn(
+			_byteArrayOutputStream
+		);
+	}
+
+	@After
+	public void tearDown() {
+		_file.delete();
+	}
+
+	@Test
+	public void testWriteFile() throws Exception {
+		PortletResponseUtil.write(_resourceResponse, _file);
+
+		Mockito.verify(
+			_resourceResponse
+		).setContentLength(
+			_BYTES.length
+		);
+
+		Assert.assertArrayEquals(_BYTES, _byteArrayOutputStream.toByteArray());
+	}
+
+	@Test
+	public void testWriteFileInputStream() throws Exception {
+		FileInputStream fileInputStream = new FileInputStream(_file);
+
+		// The stream is written from its current position
+
+		Assert.assertEquals(2, fileInputStream.skip(2));
+
+		PortletResponseUtil.write(_resourceResponse, fileInputStream, 8);
+
+		Mockito.verify(
+			_resourceResponse
+		).setContentLength(
+			8
+		);
+
+		Assert.assertEquals("23456789", _byteArrayOutputStream.toString());
+
+		FileChannel fileChannel = fileInputStream.getChannel();
+
+		Assert.assertFalse(fileChannel.isOpen());
+	}
+
+	private static final byte[] _BYTES = "0123456789".getBytes();
+
+	private ByteArrayOutputStream _byteArrayOutputStream;
+	private File _file;
+	private ResourceResponse _resourceResponse;
+
+}
\ No newline at end of file
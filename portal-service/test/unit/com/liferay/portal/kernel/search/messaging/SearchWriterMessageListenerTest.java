@@ -0,0 +1,287 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.search.messaging;
+
+import com.liferay.portal.kernel.messaging.Message;
+import com.liferay.portal.kernel.messaging.MessageBatch;
+import com.liferay.portal.kernel.messaging.proxy.ProxyRequest;
+import com.liferay.portal.kernel.search.Document;
+import com.liferay.portal.kernel.search.Field;
+import com.liferay.portal.kernel.search.IndexWriter;
+import com.liferay.portal.kernel.search.SearchContext;
+import com.liferay.portal.kernel.util.Props;
+import com.liferay.portal.kernel.util.PropsUtil;
+
+import java.lang.reflect.Method;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+
+import org.powermock.api.mockito.PowerMockito;
+
+public class SearchWriterMessageListenerTest extends PowerMockito {
+
+	@BeforeClass
+	public static void setUpClass() {
+		PropsUtil.setProps(mock(Props.class));
+	}
+
+	@Before
+	public void setUp() {
+		_indexWriter = mock(IndexWriter.class);
+
+		_searchWriterMessageListener = new SearchWriterMessageListener();
+
+		_searchWriterMessageListener.setManager(_indexWriter);
+	}
+
+	@Test
+	public void testCompanies() throws Exception {
+		SearchContext searchContext1 = createSearchContext(1);
+		SearchContext searchContext2 = createSearchContext(2);
+
+		Document document1 = createDocument("1");
+		Document document2 = createDocument("2");
+
+		receive(
+			createUpdateDocumentMessage(searchContext1, document1),
+			createUpdateDocumentMessage(searchContext2, document2));
+
+		InOrder inOrder = Mockito.inOrder(_indexWriter);
+
+		inOrder.verify(
+			_indexWriter
+		).updateDocuments(
+			searchContext1, Arrays.asList(document1)
+		);
+
+		inOrder.verify(
+			_indexWriter
+		).updateDocuments(
+			searchContext2, Arrays.asList(document2)
+		);
+	}
+
+	@Test
+	public void testDeleteDocuments() throws Exception {
+		SearchContext searchContext = createSearchContext(1);
+
+		receive(
+			createDeleteDocumentMessage(searchContext, "1"),
+			createDeleteDocumentMessage(searchContext, "2"),
+			createDeleteDocumentMessage(searchContext, "1"));
+
+		Mockito.verify(
+			_indexWriter
+		).deleteDocuments(
+			searchContext, Arrays.asList("1", "2")
+		);
+	}
+
+	@Test
+	public void testLastUpdateWins() throws Exception {
+		SearchContext searchContext = createSearchContext(1);
+
+		Document document1 = createDocument("1");
+		Document document2 = createDocument("2");
+		Document document3 = createDocument("1");
+
+		receive(
+			createUpdateDocumentMessage(searchContext, document1),
+			createUpdateDocumentMessage(searchContext, document2),
+			createUpdateDocumentMessage(searchContext, document3));
+
+		Mockito.verify(
+			_indexWriter
+		).updateDocuments(
+			searchContext, Arrays.asList(document2, document3)
+		);
+	}
+
+	@Test
+	public void testNestedBatches() throws Exception {
+		SearchContext searchContext = createSearchContext(1);
+
+		Document document1 = createDocument("1");
+		Document document2 = createDocument("2");
+
+		Message message = new Message();
+
+		message.setPayload(
+			createMessageBatch(
+				createUpdateDocumentMessage(searchContext, document1)));
+
+		receive(message, createUpdateDocumentMessage(searchContext, document2));
+
+		Mockito.verify(
+			_indexWriter
+		).updateDocuments(
+			searchContext, Arrays.asList(document1, document2)
+		);
+	}
+
+	@Test
+	public void testOtherRequests() throws Exception {
+		SearchContext searchContext = createSearchContext(1);
+
+		Document document1 = createDocument("1");
+		Document document2 = createDocument("2");
+		Document document3 = createDocument("3");
+
+		Method method = IndexWriter.class.getMethod(
+			"addDocument", SearchContext.class, Document.class);
+
+		receive(
+			createUpdateDocumentMessage(searchContext, document1),
+			createMessage(method, searchContext, document2),
+			createUpdateDocumentMessage(searchContext, document3));
+
+		// Other requests are executed on their own and in order, so that the
+		// update of the first document is written before them
+
+		InOrder inOrder = Mockito.inOrder(_indexWriter);
+
+		inOrder.verify(
+			_indexWriter
+		).updateDocuments(
+			searchContext, Arrays.asList(document1)
+		);
+
+		inOrder.verify(
+			_indexWriter
+		).addDocument(
+			searchContext, document2
+		);
+
+		inOrder.verify(
+			_indexWriter
+		).updateDocuments(
+			searchContext, Arrays.asList(document3)
+		);
+	}
+
+	@Test
+	public void testUpdateDocumentsWithoutUID() throws Exception {
+		SearchContext searchContext = createSearchContext(1);
+
+		Document document1 = createDocument(null);
+		Document document2 = createDocument(null);
+
+		receive(
+			createUpdateDocumentMessage(searchContext, document1),
+			createUpdateDocumentMessage(searchContext, document2));
+
+		// Documents without a UID are never coalesced
+
+		Mockito.verify(
+			_indexWriter
+		).updateDocuments(
+			searchContext, Arrays.asList(document1, document2)
+		);
+	}
+
+	protected Message createDeleteDocumentMessage(
+			SearchContext searchContext, String uid)
+		throws Exception {
+
+		Method method = IndexWriter.class.getMethod(
+			"deleteDocument", SearchContext.class, String.class);
+
+		return createMessage(method, searchContext, uid);
+	}
+
+	protected Document createDocument(String uid) {
+		Document document = mock(Document.class);
+
+		when(
+			document.get(Field.UID)
+		).thenReturn(
+			uid
+		);
+
+		if (uid == null) {
+			when(
+				document.getUID()
+			).thenThrow(
+				new RuntimeException("UID is not set")
+			);
+		}
+		else {
+			when(
+				document.getUID()
+			).thenReturn(
+				uid
+			);
+		}
+
+		return document;
+	}
+
+	protected Message createMessage(Method method, Object... arguments)
+		throws Exception {
+
+		Message message = new Message();
+
+		message.setPayload(new ProxyRequest(method, arguments));
+
+		return message;
+	}
+
+	protected MessageBatch createMessageBatch(Message... messages) {
+		MessageBatch messageBatch = new MessageBatch(messages.length);
+
+		for (Message message : messages) {
+			messageBatch.addMessage(message);
+		}
+
+		return messageBatch;
+	}
+
+	protected SearchContext createSearchContext(long companyId) {
+		SearchContext searchContext = new SearchContext();
+
+		searchContext.setCompanyId(companyId);
+
+		return searchContext;
+	}
+
+	protected Message createUpdateDocumentMessage(
+			SearchContext searchContext, Document document)
+		throws Exception {
+
+		Method method = IndexWriter.class.getMethod(
+			"updateDocument", SearchContext.class, Document.class);
+
+		return createMessage(method, searchContext, document);
+	}
+
+	protected void receive(Message... messages) {
+		Message message = new Message();
+
+		message.setPayload(createMessageBatch(messages));
+
+		_searchWriterMessageListener.receive(message);
+	}
+
+	private IndexWriter _indexWriter;
+	private SearchWriterMessageListener _searchWriterMessageListener;
+
+}
\ No newline at end of file
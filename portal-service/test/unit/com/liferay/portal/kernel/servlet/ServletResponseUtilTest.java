@@ -0,0 +1,357 @@
+/**
+ * Copyright (c) 2000-2013 Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.portal.kernel.servlet;
+
+import com.liferay.portal.kernel.io.LocalFileInputStream;
+import com.liferay.portal.kernel.util.FileUtil;
+import com.liferay.portal.kernel.util.Props;
+import com.liferay.portal.kernel.util.PropsKeys;
+import com.liferay.portal.kernel.util.PropsUtil;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import org.powermock.api.mockito.PowerMockito;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+public class ServletResponseUtilTest extends PowerMockito {
+
+	@BeforeClass
+	public static void setUpClass() {
+		Props props = mock(Props.class);
+
+		when(
+			props.get(PropsKeys.WEB_SERVER_SERVLET_MAX_RANGE_FIELDS)
+		).thenReturn(
+			"10"
+		);
+
+		when(
+			props.get(PropsKeys.WEB_SERVER_SERVLET_SENDFILE_ENABLED)
+		).thenReturn(
+			"true"
+		);
+
+		PropsUtil.setProps(props);
+	}
+
+	@Before
+	public void setUp() throws Exception {
+		_file = File.createTempFile(
+			ServletResponseUtilTest.class.getSimpleName(), null);
+
+		FileOutputStream fileOutputStream = new FileOutputStream(_file);
+
+		try {
+			fileOutputStream.write(_BYTES);
+		}
+		finally {
+			fileOutputStream.close();
+		}
+
+		// Streams that are neither file nor byte array streams are buffered
+		// in a temporary file to serve multiple ranges
+
+		_tempFile = File.createTempFile(
+			ServletResponseUtilTest.class.getSimpleName(), null);
+
+		com.liferay.portal.kernel.util.File file = mock(
+			com.liferay.portal.kernel.util.File.class);
+
+		when(
+			file.createTempFile()
+		).thenReturn(
+			_tempFile
+		);
+
+		FileUtil fileUtil = new FileUtil();
+
+		fileUtil.setFile(file);
+	}
+
+	@After
+	public void tearDown() {
+		_file.delete();
+		_tempFile.delete();
+	}
+
+	@Test
+	public void testMultipleRanges() throws Exception {
+		InputStream[] inputStreams = {
+			new ByteArrayInputStream(_BYTES), new FileInputStream(_file),
+			new BufferedInputStream(new ByteArrayInputStream(_BYTES))
+		};
+
+		for (InputStream inputStream : inputStreams) {
+			MockHttpServletRequest mockHttpServletRequest =
+				new MockHttpServletRequest();
+
+			mockHttpServletRequest.addHeader(
+				HttpHeaders.RANGE, "bytes=5-7,0-1");
+
+			MockHttpServletResponse mockHttpServletResponse =
+				new MockHttpServletResponse();
+
+			write(mockHttpServletRequest, mockHttpServletResponse, inputStream);
+
+			Assert.assertEquals(
+				HttpServletResponse.SC_PARTIAL_CONTENT,
+				mockHttpServletResponse.getStatus());
+
+			String contentType = mockHttpServletResponse.getContentType();
+
+			Assert.assertTrue(
+				contentType.startsWith("multipart/byteranges; boundary="));
+
+			String boundary = contentType.substring(
+				contentType.indexOf('=') + 1);
+
+			StringBuilder sb = new StringBuilder();
+
+			sb.append("\r\n--");
+			sb.append(boundary);
+			sb.append("\r\nContent-Type: text/plain\r\n");
+			sb.append("Content-Range: bytes 5-7/10\r\n\r\n");
+			sb.append("567");
+			sb.append("\r\n--");
+			sb.append(boundary);
+			sb.append("\r\nContent-Type: text/plain\r\n");
+			sb.append("Content-Range: bytes 0-1/10\r\n\r\n");
+			sb.append("01");
+			sb.append("\r\n--");
+			sb.append(boundary);
+			sb.append("--\r\n");
+
+			Assert.assertEquals(
+				sb.toString(), mockHttpServletResponse.getContentAsString());
+		}
+	}
+
+	@Test
+	public void testSendFileWithContainer() throws Exception {
+		MockHttpServletRequest mockHttpServletRequest =
+			new MockHttpServletRequest();
+
+		mockHttpServletRequest.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+		mockHttpServletRequest.setAttribute(
+			"org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		write(
+			mockHttpServletRequest, mockHttpServletResponse,
+			new LocalFileInputStream(_file));
+
+		Assert.assertEquals(
+			HttpServletResponse.SC_PARTIAL_CONTENT,
+			mockHttpServletResponse.getStatus());
+		Assert.assertEquals(
+			"4", mockHttpServletResponse.getHeader(HttpHeaders.CONTENT_LENGTH));
+		Assert.assertEquals(
+			_file.getAbsolutePath(),
+			mockHttpServletRequest.getAttribute(
+				"org.apache.tomcat.sendfile.filename"));
+		Assert.assertEquals(
+			Long.valueOf(2),
+			mockHttpServletRequest.getAttribute(
+				"org.apache.tomcat.sendfile.start"));
+		Assert.assertEquals(
+			Long.valueOf(6),
+			mockHttpServletRequest.getAttribute(
+				"org.apache.tomcat.sendfile.end"));
+		Assert.assertEquals(
+			0, mockHttpServletResponse.getContentAsByteArray().length);
+	}
+
+	@Test
+	public void testSendFileWithContainerBufferedResponse() throws Exception {
+		MockHttpServletRequest mockHttpServletRequest =
+			new MockHttpServletRequest();
+
+		mockHttpServletRequest.setAttribute(
+			"org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		BufferCacheServletResponse bufferCacheServletResponse =
+			new BufferCacheServletResponse(mockHttpServletResponse);
+
+		Assert.assertFalse(
+			ServletResponseUtil.sendFileWithContainer(
+				mockHttpServletRequest, bufferCacheServletResponse,
+				new LocalFileInputStream(_file), 0, _BYTES.length));
+		Assert.assertNull(
+			mockHttpServletRequest.getAttribute(
+				"org.apache.tomcat.sendfile.filename"));
+	}
+
+	@Test
+	public void testSendFileWithoutContainerSupport() throws Exception {
+		MockHttpServletRequest mockHttpServletRequest =
+			new MockHttpServletRequest();
+
+		MockHttpServletResponse mockHttpServletResponse =
+			new MockHttpServletResponse();
+
+		write(
+			mockHttpServletRequest, mockHttpServletResponse,
+			new LocalFileInputStream(_file));
+
+		Assert.assertNull(
+			mockHttpServletRequest.getAttribute(
+				"org.apache.tomcat.sendfile.filename"));
+		Assert.assertArrayEquals(
+			_BYTES, mockHttpServletResponse.getContentAsByteArray());
+	}
+
+	@Test
+	public void testSingleRange() throws Exception {
+		InputStream[] inputStreams = {
+			new ByteArrayInputStream(_BYTES), new FileInputStream(_file),
+			new BufferedInputStream(new ByteArrayInputStream(_BYTES))
+		};
+
+		for (InputStream inputStream : inputStreams) {
+			MockHttpServletRequest mockHttpServletRequest =
+				new MockHttpServletRequest();
+
+			mockHttpServletRequest.addHeader(HttpHeaders.RANGE, "bytes=2-5");
+
+			MockHttpServletResponse mockHttpServletResponse =
+				new MockHttpServletResponse();
+
+			write(mockHttpServletRequest, mockHttpServletResponse, inputStream);
+
+			Assert.assertEquals(
+				HttpServletResponse.SC_PARTIAL_CONTENT,
+				mockHttpServletResponse.getStatus());
+			Assert.assertEquals(
+				"bytes 2-5/10",
+				mockHttpServletResponse.getHeader(HttpHeaders.CONTENT_RANGE));
+			Assert.assertEquals(
+				"4",
+				mockHttpServletResponse.getHeader(HttpHeaders.CONTENT_LENGTH));
+			Assert.assertEquals(
+				"2345", mockHttpServletResponse.getContentAsString());
+		}
+	}
+
+	@Test
+	public void testTransferFileChannel() throws Exception {
+		FileInputStream fileInputStream = new FileInputStream(_file);
+
+		FileChannel fileChannel = fileInputStream.getChannel();
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		try {
+
+			// A channel that accepts only a few bytes at a time makes a
+			// single transfer return early
+
+			ServletResponseUtil.transferFileChannel(
+				fileChannel, 1, 8,
+				new ThrottledWritableByteChannel(byteArrayOutputStream, 3));
+		}
+		finally {
+			fileChannel.close();
+		}
+
+		Assert.assertArrayEquals(
+			Arrays.copyOfRange(_BYTES, 1, 9),
+			byteArrayOutputStream.toByteArray());
+	}
+
+	protected void write(
+			MockHttpServletRequest mockHttpServletRequest,
+			MockHttpServletResponse mockHttpServletResponse,
+			InputStream inputStream)
+		throws IOException {
+
+		List<Range> ranges = ServletResponseUtil.getRanges(
+			mockHttpServletRequest, mockHttpServletResponse, _BYTES.length);
+
+		ServletResponseUtil.write(
+			mockHttpServletRequest, mockHttpServletResponse, null, ranges,
+			inputStream, _BYTES.length, "text/plain");
+	}
+
+	private static final byte[] _BYTES = "0123456789".getBytes();
+
+	private File _file;
+	private File _tempFile;
+
+	private static class ThrottledWritableByteChannel
+		implements WritableByteChannel {
+
+		public ThrottledWritableByteChannel(
+			ByteArrayOutputStream byteArrayOutputStream, int maxCount) {
+
+			_byteArrayOutputStream = byteArrayOutputStream;
+			_maxCount = maxCount;
+		}
+
+		@Override
+		public void close() {
+		}
+
+		@Override
+		public boolean isOpen() {
+			return true;
+		}
+
+		@Override
+		public int write(ByteBuffer byteBuffer) {
+			int count = Math.min(byteBuffer.remaining(), _maxCount);
+
+			for (int i = 0; i < count; i++) {
+				_byteArrayOutputStream.write(byteBuffer.get());
+			}
+
+			return count;
+		}
+
+		private final ByteArrayOutputStream _byteArrayOutputStream;
+		private final int _maxCount;
+
+	}
+
+}
\ No newline at end of file
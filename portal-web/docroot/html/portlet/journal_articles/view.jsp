@@ -80,6 +80,8 @@ double version = ParamUtil.getDouble(request, "version");
 
 		List<JournalArticle> results = null;
 		int total = 0;
+
+		CacheUtil.addSurrogateKey(AssetEntry.class.getName(), groupId);
 		%>
 
 		<c:choose>
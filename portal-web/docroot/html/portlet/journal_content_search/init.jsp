@@ -24,6 +24,8 @@ page import="com.liferay.portal.kernel.search.QueryConfig" %><%@
 page import="com.liferay.portal.kernel.search.SearchContext" %><%@
 page import="com.liferay.portal.kernel.search.SearchContextFactory" %><%@
 page import="com.liferay.portal.kernel.search.Summary" %><%@
+page import="com.liferay.portal.servlet.filters.cache.CacheUtil" %><%@
+page import="com.liferay.portlet.asset.model.AssetEntry" %><%@
 page import="com.liferay.portlet.journal.model.JournalArticle" %><%@
 page import="com.liferay.portlet.journal.model.JournalArticleConstants" %><%@
 page import="com.liferay.portlet.journal.service.JournalContentSearchLocalServiceUtil" %><%@
@@ -70,6 +70,8 @@
 
 				searchContext.setQueryConfig(queryConfig);
 
+				CacheUtil.addSurrogateKey(AssetEntry.class.getName(), 0);
+
 				Hits results = indexer.search(searchContext);
 
 				String[] queryTerms = results.getQueryTerms();